@@ -0,0 +1,100 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.model.benchmark;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.daanse.odc.simple.canonical.OdcCanonicalForm;
+import org.eclipse.daanse.odc.simple.canonical.OdcHash;
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Deduplicates a catalog in which every table is described by ten equivalent
+ * files that differ in connection string key order and case, once by the
+ * streamed content hash and once by the canonical form as a string.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CanonicalHashBenchmark {
+
+    @Param({ "10000", "100000" })
+    public int files;
+
+    private List<OdcFile> catalog;
+
+    @Setup
+    public void setUp() {
+        catalog = IntStream.range(0, files).mapToObj(CanonicalHashBenchmark::table).toList();
+        if (dedupByHash() != files / 10) {
+            throw new IllegalStateException("Unexpected number of distinct files");
+        }
+    }
+
+    private static OdcFile table(int i) {
+        int table = i / 10;
+        String connectionString = i % 2 == 0
+                ? "Provider=SQLOLEDB;Data Source=sqlserver" + table % 8 + ";Initial Catalog=Sales"
+                : "initial catalog=Sales; DATA SOURCE=sqlserver" + table % 8 + "; provider=SQLOLEDB";
+        Connection connection = new Connection(ConnectionType.OLEDB, connectionString, Optional.of(CommandType.Table),
+                List.of(), Optional.of(TextSource.of("\"Sales\".\"dbo\".\"Table" + table + "\"")), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty());
+        return new OdcFile(Optional.of("Table" + table), DocumentProperties.of("Table" + table),
+                OfficeDataConnection.of(connection), Optional.of("Sales"), Optional.of("dbo"),
+                Optional.of("Table" + table));
+    }
+
+    @Benchmark
+    public int dedupByHash() {
+        Set<OdcHash> distinct = new HashSet<>();
+        for (OdcFile odcFile : catalog) {
+            distinct.add(OdcHash.of(odcFile));
+        }
+        return distinct.size();
+    }
+
+    @Benchmark
+    public int dedupByCanonicalForm() {
+        Set<String> distinct = new HashSet<>();
+        for (OdcFile odcFile : catalog) {
+            distinct.add(OdcCanonicalForm.of(odcFile));
+        }
+        return distinct.size();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.model.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.daanse.odc.simple.connectionstring.ConnectionString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Looks up the data source of a catalog of connection strings, as rewrite and
+ * indexing jobs do for every file: with the {@link ConnectionString} views,
+ * and by splitting the text into a map of lower-cased keys, which ignores
+ * quoting. The GC profiler shows the allocation per lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ConnectionStringBenchmark {
+
+    private static final int FILES = 1024;
+
+    private List<String> connectionStrings;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        connectionStrings = IntStream.range(0, FILES)
+                .mapToObj(i -> "Provider=MSOLAP.8;Integrated Security=SSPI;Persist Security Info=True;"
+                        + "Initial Catalog=Sales" + i + ";Data Source=olap" + i % 8
+                        + ".example.org;MDX Compatibility=1;Safety Options=2;MDX Missing Member Mode=Error")
+                .toList();
+    }
+
+    private String nextConnectionString() {
+        String connectionString = connectionStrings.get(next);
+        next = (next + 1) & (FILES - 1);
+        return connectionString;
+    }
+
+    @Benchmark
+    public boolean view() {
+        ConnectionString cs = ConnectionString.parse(nextConnectionString());
+        int index = cs.indexOf("Data Source");
+        return index >= 0 && cs.valueEqualsIgnoreCase(index, "olap0.example.org");
+    }
+
+    @Benchmark
+    public boolean split() {
+        Map<String, String> entries = new HashMap<>();
+        for (String entry : nextConnectionString().split(";")) {
+            int separator = entry.indexOf('=');
+            entries.put(entry.substring(0, separator).trim().toLowerCase(Locale.ROOT),
+                    entry.substring(separator + 1).trim());
+        }
+        return "olap0.example.org".equalsIgnoreCase(entries.get("data source"));
+    }
+
+    @Benchmark
+    public String normalized() {
+        return ConnectionString.parse(nextConnectionString()).normalized();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.model.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.odc.model.converter.EmfConverter;
+import org.eclipse.daanse.odc.model.converter.JaxbConverter;
+import org.eclipse.daanse.odc.model.converter.JaxbEmfConverter;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.OfficeDataConnection;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.service.OdcJaxbService;
+import org.eclipse.daanse.odc.reader.simple.OdcParseException;
+import org.eclipse.daanse.odc.reader.simple.OdcReader;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.writer.simple.OdcWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.xml.bind.JAXBException;
+import odc.OfficeDataConnectionType;
+
+/**
+ * Converts an office data connection between the simple, JAXB and EMF models
+ * with the direct converters, and between the simple and JAXB models by
+ * serializing and parsing again, which is what callers did without the
+ * converters: the simple model is written as an ODC file whose data island is
+ * unmarshalled, and the JAXB model is marshalled and read by the
+ * {@link OdcReader}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ConverterBenchmark {
+
+    private static final String OFFICE_DATA_CONNECTION = "odc:OfficeDataConnection";
+
+    @Param({ "1", "64" })
+    public int parameters;
+
+    private final OdcJaxbService service = new OdcJaxbService(1);
+
+    private final OdcWriter writer = new OdcWriter();
+
+    private final OdcReader reader = new OdcReader();
+
+    private org.eclipse.daanse.odc.simple.model.OfficeDataConnection simple;
+
+    private OfficeDataConnection jaxb;
+
+    private OfficeDataConnectionType emf;
+
+    @Setup
+    public void setUp() {
+        jaxb = ModelFixtures.jaxbOfficeDataConnection(parameters);
+        emf = ModelFixtures.emfOfficeDataConnection(parameters);
+        simple = JaxbConverter.toSimple(jaxb);
+    }
+
+    @Benchmark
+    public OfficeDataConnection simpleToJaxb() {
+        return JaxbConverter.toJaxb(simple);
+    }
+
+    @Benchmark
+    public OfficeDataConnection simpleToJaxbReparse() throws JAXBException {
+        String html = new String(writer.writeBytes(OdcFile.of("Northwind", simple)), StandardCharsets.UTF_8);
+        int start = html.indexOf('<' + OFFICE_DATA_CONNECTION);
+        String endTag = "</" + OFFICE_DATA_CONNECTION + '>';
+        int end = html.indexOf(endTag, start) + endTag.length();
+        byte[] island = html.substring(start, end).getBytes(StandardCharsets.UTF_8);
+        return service.unmarshal(new ByteArrayInputStream(island), OfficeDataConnection.class);
+    }
+
+    @Benchmark
+    public org.eclipse.daanse.odc.simple.model.OfficeDataConnection jaxbToSimple() {
+        return JaxbConverter.toSimple(jaxb);
+    }
+
+    @Benchmark
+    public org.eclipse.daanse.odc.simple.model.OfficeDataConnection jaxbToSimpleReparse()
+            throws JAXBException, OdcParseException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.marshal(jaxb, out);
+        return reader.read(out.toByteArray()).officeDataConnection();
+    }
+
+    @Benchmark
+    public OfficeDataConnectionType simpleToEmf() {
+        return EmfConverter.toEmf(simple);
+    }
+
+    @Benchmark
+    public org.eclipse.daanse.odc.simple.model.OfficeDataConnection emfToSimple() {
+        return EmfConverter.toSimple(emf);
+    }
+
+    @Benchmark
+    public OfficeDataConnectionType jaxbToEmf() {
+        return JaxbEmfConverter.toEmf(jaxb);
+    }
+
+    @Benchmark
+    public OfficeDataConnection emfToJaxb() {
+        return JaxbEmfConverter.toJaxb(emf);
+    }
+}
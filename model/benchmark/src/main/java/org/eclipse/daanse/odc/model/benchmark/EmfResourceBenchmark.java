@@ -0,0 +1,95 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.model.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.odc.model.emf.resource.OdcBinaryResourceFactory;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import odc.OdcPackage;
+
+/**
+ * Saves and loads an EMF office data connection as XMI and in the binary
+ * format. The size of the saved model is printed during setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EmfResourceBenchmark {
+
+    @Param({ "xmi", OdcBinaryResourceFactory.FILE_EXTENSION })
+    public String format;
+
+    @Param({ "1", "64" })
+    public int parameters;
+
+    private ResourceSet resourceSet;
+
+    private URI uri;
+
+    private Resource source;
+
+    private byte[] saved;
+
+    @Setup
+    public void setUp() throws IOException {
+        OdcPackage.eINSTANCE.getNsURI();
+        resourceSet = new ResourceSetImpl();
+        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("xmi", new XMIResourceFactoryImpl());
+        OdcBinaryResourceFactory.register(resourceSet);
+        uri = URI.createURI("memory:/model." + format);
+        source = resourceSet.createResource(uri);
+        source.getContents().add(ModelFixtures.emfOfficeDataConnection(parameters));
+        saved = save();
+        System.out.println(format + " with " + parameters + " parameters: " + saved.length + " bytes");
+    }
+
+    @Benchmark
+    public byte[] save() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        source.save(out, Map.of());
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public Resource load() throws IOException {
+        Resource resource = resourceSet.createResource(uri);
+        resource.load(new ByteArrayInputStream(saved), Map.of());
+        resourceSet.getResources().remove(resource);
+        return resource;
+    }
+}
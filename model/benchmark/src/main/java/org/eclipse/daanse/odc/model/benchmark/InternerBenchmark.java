@@ -0,0 +1,92 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.model.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.daanse.odc.simple.intern.OdcInterner;
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.Parameter;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Interns a catalog of simple models, one file per table on a few servers, as
+ * a parser would produce it with new strings for every value. The estimated
+ * memory saved is printed during setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class InternerBenchmark {
+
+    @Param({ "10000", "100000" })
+    public int files;
+
+    private List<OdcFile> catalog;
+
+    @Setup
+    public void setUp() {
+        catalog = IntStream.range(0, files).mapToObj(InternerBenchmark::table).toList();
+        OdcInterner interner = new OdcInterner();
+        catalog.forEach(interner::intern);
+        System.out.println();
+        System.out.println(files + " files: " + interner.stats());
+    }
+
+    private static OdcFile table(int i) {
+        String server = "sqlserver" + i % 8;
+        Connection connection = new Connection(ConnectionType.ODBC,
+                "DRIVER=SQL Server;SERVER=" + server + ";APP=2007 Microsoft Office system;Trusted_Connection=Yes",
+                Optional.of(CommandType.SQL), List.of(Parameter.of("Country" + "", 12)),
+                Optional.of(TextSource.of("SELECT * FROM \"Sales\".\"dbo\".\"Table" + i + "\" WHERE Country = ?")),
+                Optional.of(new String("SalesSSO")), Optional.of(CredentialsMethod.Stored),
+                Optional.of(Boolean.TRUE), Optional.of("en-" + (i % 2 == 0 ? "US" : "GB")));
+        return new OdcFile(Optional.of("Table" + i),
+                new DocumentProperties(Optional.empty(), Optional.of("Table" + i), Optional.of("sales " + server)),
+                OfficeDataConnection.of(connection), Optional.of("Sales" + ""), Optional.of(new String("dbo")),
+                Optional.of("Table" + i));
+    }
+
+    @Benchmark
+    public OdcInterner.Stats intern() {
+        OdcInterner interner = new OdcInterner();
+        for (OdcFile odcFile : catalog) {
+            interner.intern(odcFile);
+        }
+        return interner.stats();
+    }
+}
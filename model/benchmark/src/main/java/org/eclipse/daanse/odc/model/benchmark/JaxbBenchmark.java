@@ -0,0 +1,101 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.model.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.ObjectFactory;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.OfficeDataConnection;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.service.OdcJaxbService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+
+/**
+ * Marshals and unmarshals an office data connection through the pooled
+ * service and naively, with a new context or at least a new marshaller per
+ * call. The state is shared, run with {@code -t} to let threads contend for
+ * the pools.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JaxbBenchmark {
+
+    private final OdcJaxbService service = new OdcJaxbService(OdcJaxbService.DEFAULT_POOL_SIZE);
+
+    private JAXBContext sharedContext;
+
+    private OfficeDataConnection odc;
+
+    private byte[] xml;
+
+    @Setup
+    public void setUp() throws JAXBException {
+        odc = ModelFixtures.jaxbOfficeDataConnection(4);
+        sharedContext = JAXBContext.newInstance(ObjectFactory.class);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.marshal(odc, out);
+        xml = out.toByteArray();
+    }
+
+    @Benchmark
+    public void marshalNewContext() throws JAXBException {
+        Marshaller marshaller = JAXBContext.newInstance(ObjectFactory.class).createMarshaller();
+        marshaller.marshal(odc, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void marshalNewMarshaller() throws JAXBException {
+        sharedContext.createMarshaller().marshal(odc, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void marshalPooled() throws JAXBException {
+        service.marshal(odc, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public Object unmarshalNewContext() throws JAXBException {
+        return JAXBContext.newInstance(ObjectFactory.class).createUnmarshaller()
+                .unmarshal(new ByteArrayInputStream(xml));
+    }
+
+    @Benchmark
+    public Object unmarshalNewUnmarshaller() throws JAXBException {
+        return sharedContext.createUnmarshaller().unmarshal(new ByteArrayInputStream(xml));
+    }
+
+    @Benchmark
+    public OfficeDataConnection unmarshalPooled() throws JAXBException {
+        return service.unmarshal(new ByteArrayInputStream(xml), OfficeDataConnection.class);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.model.benchmark;
+
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.CTConnection;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.CTParameter;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.OfficeDataConnection;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.STCommandType;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.STConnectionType;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.STCredentialsMethod;
+
+import odc.OdcFactory;
+import odc.OfficeDataConnectionType;
+
+/**
+ * Model instances used by the benchmarks, following the SQL example of the
+ * [MS-ODCFF] specification.
+ */
+public final class ModelFixtures {
+
+    private static final String NORTHWIND_CONNECTION_STRING = "DRIVER=SQL Server;SERVER=mysqlserver;"
+            + "APP=2007 Microsoft Office system;Trusted_Connection=Yes";
+
+    private static final String NORTHWIND_COMMAND_TEXT = "SELECT * FROM \"Northwind\".\"dbo\".\"Customers\""
+            + " WHERE Country = ?";
+
+    private static final String NORTHWIND_SOURCE_FILE = "\\\\server\\share\\Northwind.odc";
+
+    private ModelFixtures() {
+    }
+
+    /**
+     * Creates the office data connection of the Northwind SQL example with the
+     * given number of parameters.
+     *
+     * @param parameters The number of parameters
+     * @return The JAXB office data connection
+     */
+    public static OfficeDataConnection jaxbOfficeDataConnection(int parameters) {
+        CTConnection connection = new CTConnection();
+        connection.setType(STConnectionType.ODBC);
+        connection.setConnectionString(NORTHWIND_CONNECTION_STRING);
+        connection.setCommandType(STCommandType.SQL);
+        for (int i = 0; i < parameters; i++) {
+            CTParameter parameter = new CTParameter();
+            parameter.setName("Parameter" + i);
+            parameter.setDataType(i % 12);
+            connection.getParameter().add(parameter);
+        }
+        connection.setCommandText(NORTHWIND_COMMAND_TEXT);
+        connection.setCredentialsMethod(STCredentialsMethod.INTEGRATED);
+        connection.setAlwaysUseConnectionFile(Boolean.TRUE);
+        connection.setCulture("en-US");
+
+        OfficeDataConnection odc = new OfficeDataConnection();
+        odc.setSourceFile(NORTHWIND_SOURCE_FILE);
+        odc.getConnection().add(connection);
+        return odc;
+    }
+
+    /**
+     * Creates the office data connection of the Northwind SQL example with the
+     * given number of parameters.
+     *
+     * @param parameters The number of parameters
+     * @return The EMF office data connection
+     */
+    public static OfficeDataConnectionType emfOfficeDataConnection(int parameters) {
+        odc.CTConnection connection = OdcFactory.eINSTANCE.createCTConnection();
+        connection.setType(odc.STConnectionType.ODBC);
+        connection.setConnectionString(NORTHWIND_CONNECTION_STRING);
+        connection.setCommandType(odc.STCommandType.SQL);
+        for (int i = 0; i < parameters; i++) {
+            odc.CTParameter parameter = OdcFactory.eINSTANCE.createCTParameter();
+            parameter.setName("Parameter" + i);
+            parameter.setDataType(i % 12);
+            connection.getParameter().add(parameter);
+        }
+        connection.setCommandText(NORTHWIND_COMMAND_TEXT);
+        connection.setCredentialsMethod(odc.STCredentialsMethod.INTEGRATED);
+        connection.setAlwaysUseConnectionFile(true);
+        connection.setCulture("en-US");
+
+        OfficeDataConnectionType officeDataConnection = OdcFactory.eINSTANCE.createOfficeDataConnectionType();
+        officeDataConnection.setSourceFile(NORTHWIND_SOURCE_FILE);
+        officeDataConnection.getConnection().add(connection);
+        return officeDataConnection;
+    }
+}
@@ -0,0 +1,261 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.model.converter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.Parameter;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.emf.common.util.EList;
+
+import odc.CTConnection;
+import odc.CTParameter;
+import odc.CTPowerQueryConnection;
+import odc.OdcFactory;
+import odc.OfficeDataConnectionType;
+import odc.STCommandType;
+import odc.STConnectionType;
+import odc.STCredentialsMethod;
+import office.DocumentPropertiesType;
+import office.OfficeFactory;
+
+/**
+ * Converts between the simple model and the EMF model.
+ * <p>
+ * Optional values of the simple model map to the unsettable features of the
+ * EMF model, so an absent value stays unset. Text sources are read into strings
+ * and escaped sources are unescaped, as EMF escapes on save.
+ */
+public final class EmfConverter {
+
+    private EmfConverter() {
+    }
+
+    /**
+     * Converts an office data connection to EMF.
+     *
+     * @param odc The simple office data connection
+     * @return The EMF office data connection
+     * @throws java.io.UncheckedIOException if a text source fails to read
+     */
+    public static OfficeDataConnectionType toEmf(OfficeDataConnection odc) {
+        OfficeDataConnectionType emf = OdcFactory.eINSTANCE.createOfficeDataConnectionType();
+        odc.sourceFile().ifPresent(emf::setSourceFile);
+        EList<CTConnection> connections = emf.getConnection();
+        for (Connection connection : odc.connections()) {
+            connections.add(toEmf(connection));
+        }
+        odc.powerQueryConnection().ifPresent(connection -> emf.setPowerQueryConnection(toEmf(connection)));
+        odc.powerQueryMashupData().ifPresent(data -> emf.setPowerQueryMashupData(XmlText.toString(data)));
+        return emf;
+    }
+
+    /**
+     * Converts an EMF office data connection to the simple model.
+     *
+     * @param emf The EMF office data connection
+     * @return The simple office data connection
+     */
+    public static OfficeDataConnection toSimple(OfficeDataConnectionType emf) {
+        EList<CTConnection> emfConnections = emf.getConnection();
+        List<Connection> connections = new ArrayList<>(emfConnections.size());
+        for (CTConnection connection : emfConnections) {
+            connections.add(toSimple(connection));
+        }
+        return new OfficeDataConnection(Optional.ofNullable(emf.getSourceFile()), List.copyOf(connections),
+                Optional.ofNullable(emf.getPowerQueryConnection()).map(EmfConverter::toSimple),
+                Optional.ofNullable(XmlText.toSource(emf.getPowerQueryMashupData())));
+    }
+
+    /**
+     * Converts document properties to EMF.
+     *
+     * @param properties The simple document properties
+     * @return The EMF document properties
+     */
+    public static DocumentPropertiesType toEmf(DocumentProperties properties) {
+        DocumentPropertiesType emf = OfficeFactory.eINSTANCE.createDocumentPropertiesType();
+        properties.description().ifPresent(emf::setDescription);
+        properties.name().ifPresent(emf::setName);
+        properties.keywords().ifPresent(emf::setKeywords);
+        return emf;
+    }
+
+    /**
+     * Converts EMF document properties to the simple model.
+     *
+     * @param emf The EMF document properties
+     * @return The simple document properties
+     */
+    public static DocumentProperties toSimple(DocumentPropertiesType emf) {
+        return new DocumentProperties(Optional.ofNullable(emf.getDescription()), Optional.ofNullable(emf.getName()),
+                Optional.ofNullable(emf.getKeywords()));
+    }
+
+    /**
+     * Converts a connection to EMF.
+     *
+     * @param connection The simple connection
+     * @return The EMF connection
+     * @throws java.io.UncheckedIOException if the command text fails to read
+     */
+    public static CTConnection toEmf(Connection connection) {
+        CTConnection emf = OdcFactory.eINSTANCE.createCTConnection();
+        if (connection.type() != null) {
+            emf.setType(toEmf(connection.type()));
+        }
+        emf.setConnectionString(connection.connectionString());
+        connection.commandType().ifPresent(type -> emf.setCommandType(toEmf(type)));
+        EList<CTParameter> parameters = emf.getParameter();
+        for (Parameter parameter : connection.parameters()) {
+            parameters.add(toEmf(parameter));
+        }
+        connection.commandText().ifPresent(text -> emf.setCommandText(XmlText.toString(text)));
+        connection.ssoApplicationId().ifPresent(emf::setSSOApplicationID);
+        connection.credentialsMethod().ifPresent(method -> emf.setCredentialsMethod(toEmf(method)));
+        connection.alwaysUseConnectionFile().ifPresent(emf::setAlwaysUseConnectionFile);
+        connection.culture().ifPresent(emf::setCulture);
+        return emf;
+    }
+
+    /**
+     * Converts an EMF connection to the simple model.
+     *
+     * @param emf The EMF connection
+     * @return The simple connection
+     */
+    public static Connection toSimple(CTConnection emf) {
+        EList<CTParameter> emfParameters = emf.getParameter();
+        List<Parameter> parameters = new ArrayList<>(emfParameters.size());
+        for (CTParameter parameter : emfParameters) {
+            parameters.add(toSimple(parameter));
+        }
+        return new Connection(emf.isSetType() ? toSimple(emf.getType()) : null, emf.getConnectionString(),
+                emf.isSetCommandType() ? Optional.of(toSimple(emf.getCommandType())) : Optional.empty(),
+                List.copyOf(parameters), Optional.ofNullable(XmlText.toSource(emf.getCommandText())),
+                Optional.ofNullable(emf.getSSOApplicationID()),
+                emf.isSetCredentialsMethod() ? Optional.of(toSimple(emf.getCredentialsMethod())) : Optional.empty(),
+                emf.isSetAlwaysUseConnectionFile() ? Optional.of(emf.isAlwaysUseConnectionFile()) : Optional.empty(),
+                Optional.ofNullable(emf.getCulture()));
+    }
+
+    /**
+     * Converts a power query connection to EMF.
+     *
+     * @param connection The simple power query connection
+     * @return The EMF power query connection
+     * @throws java.io.UncheckedIOException if the command text fails to read
+     */
+    public static CTPowerQueryConnection toEmf(PowerQueryConnection connection) {
+        CTPowerQueryConnection emf = OdcFactory.eINSTANCE.createCTPowerQueryConnection();
+        if (connection.type() != null) {
+            emf.setType(toEmf(connection.type()));
+        }
+        emf.setConnectionString(connection.connectionString());
+        connection.commandType().ifPresent(type -> emf.setCommandType(toEmf(type)));
+        connection.commandText().ifPresent(text -> emf.setCommandText(XmlText.toString(text)));
+        connection.ssoApplicationId().ifPresent(emf::setSSOApplicationID);
+        connection.credentialsMethod().ifPresent(method -> emf.setCredentialsMethod(toEmf(method)));
+        connection.alwaysUseConnectionFile().ifPresent(emf::setAlwaysUseConnectionFile);
+        return emf;
+    }
+
+    /**
+     * Converts an EMF power query connection to the simple model.
+     *
+     * @param emf The EMF power query connection
+     * @return The simple power query connection
+     */
+    public static PowerQueryConnection toSimple(CTPowerQueryConnection emf) {
+        return new PowerQueryConnection(emf.isSetType() ? toSimple(emf.getType()) : null, emf.getConnectionString(),
+                emf.isSetCommandType() ? Optional.of(toSimple(emf.getCommandType())) : Optional.empty(),
+                Optional.ofNullable(XmlText.toSource(emf.getCommandText())),
+                Optional.ofNullable(emf.getSSOApplicationID()),
+                emf.isSetCredentialsMethod() ? Optional.of(toSimple(emf.getCredentialsMethod())) : Optional.empty(),
+                emf.isSetAlwaysUseConnectionFile() ? Optional.of(emf.isAlwaysUseConnectionFile()) : Optional.empty());
+    }
+
+    private static CTParameter toEmf(Parameter parameter) {
+        CTParameter emf = OdcFactory.eINSTANCE.createCTParameter();
+        emf.setName(parameter.name());
+        parameter.dataType().ifPresent(emf::setDataType);
+        return emf;
+    }
+
+    private static Parameter toSimple(CTParameter emf) {
+        return emf.isSetDataType() ? Parameter.of(emf.getName(), emf.getDataType()) : Parameter.of(emf.getName());
+    }
+
+    private static STConnectionType toEmf(ConnectionType type) {
+        return switch (type) {
+        case OLEDB -> STConnectionType.OLEDB;
+        case ODBC -> STConnectionType.ODBC;
+        case DATAFEED -> STConnectionType.DATAFEED;
+        };
+    }
+
+    private static ConnectionType toSimple(STConnectionType type) {
+        return switch (type) {
+        case OLEDB -> ConnectionType.OLEDB;
+        case ODBC -> ConnectionType.ODBC;
+        case DATAFEED -> ConnectionType.DATAFEED;
+        };
+    }
+
+    private static STCommandType toEmf(CommandType type) {
+        return switch (type) {
+        case Table -> STCommandType.TABLE;
+        case SQL -> STCommandType.SQL;
+        case Cube -> STCommandType.CUBE;
+        case List -> STCommandType.LIST;
+        case Default -> STCommandType.DEFAULT;
+        case TableCollection -> STCommandType.TABLE_COLLECTION;
+        };
+    }
+
+    private static CommandType toSimple(STCommandType type) {
+        return switch (type) {
+        case TABLE -> CommandType.Table;
+        case SQL -> CommandType.SQL;
+        case CUBE -> CommandType.Cube;
+        case LIST -> CommandType.List;
+        case DEFAULT -> CommandType.Default;
+        case TABLE_COLLECTION -> CommandType.TableCollection;
+        };
+    }
+
+    private static STCredentialsMethod toEmf(CredentialsMethod method) {
+        return switch (method) {
+        case Integrated -> STCredentialsMethod.INTEGRATED;
+        case None -> STCredentialsMethod.NONE;
+        case Stored -> STCredentialsMethod.STORED;
+        };
+    }
+
+    private static CredentialsMethod toSimple(STCredentialsMethod method) {
+        return switch (method) {
+        case INTEGRATED -> CredentialsMethod.Integrated;
+        case NONE -> CredentialsMethod.None;
+        case STORED -> CredentialsMethod.Stored;
+        };
+    }
+}
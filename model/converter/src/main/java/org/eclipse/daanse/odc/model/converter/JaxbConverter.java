@@ -0,0 +1,262 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.model.converter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.CTConnection;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.CTParameter;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.CTPowerQueryConnection;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.STCommandType;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.STConnectionType;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.STCredentialsMethod;
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.Parameter;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+
+/**
+ * Converts between the simple model and the JAXB model.
+ * <p>
+ * Text sources of the simple model are read into strings, escaped sources are
+ * unescaped, as JAXB escapes on marshalling. The JAXB parameter data type is a
+ * required {@code int}, so a parameter without data type is converted to 0.
+ */
+public final class JaxbConverter {
+
+    private JaxbConverter() {
+    }
+
+    /**
+     * Converts an office data connection to JAXB.
+     *
+     * @param odc The simple office data connection
+     * @return The JAXB office data connection
+     * @throws java.io.UncheckedIOException if a text source fails to read
+     */
+    public static org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.OfficeDataConnection toJaxb(
+            OfficeDataConnection odc) {
+        org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.OfficeDataConnection jaxb =
+                new org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.OfficeDataConnection();
+        jaxb.setSourceFile(odc.sourceFile().orElse(null));
+        List<CTConnection> connections = jaxb.getConnection();
+        for (Connection connection : odc.connections()) {
+            connections.add(toJaxb(connection));
+        }
+        jaxb.setPowerQueryConnection(odc.powerQueryConnection().map(JaxbConverter::toJaxb).orElse(null));
+        jaxb.setPowerQueryMashupData(XmlText.toString(odc.powerQueryMashupData().orElse(null)));
+        return jaxb;
+    }
+
+    /**
+     * Converts a JAXB office data connection to the simple model.
+     *
+     * @param jaxb The JAXB office data connection
+     * @return The simple office data connection
+     */
+    public static OfficeDataConnection toSimple(
+            org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.OfficeDataConnection jaxb) {
+        List<CTConnection> jaxbConnections = jaxb.getConnection();
+        List<Connection> connections = new ArrayList<>(jaxbConnections.size());
+        for (CTConnection connection : jaxbConnections) {
+            connections.add(toSimple(connection));
+        }
+        return new OfficeDataConnection(Optional.ofNullable(jaxb.getSourceFile()), List.copyOf(connections),
+                Optional.ofNullable(jaxb.getPowerQueryConnection()).map(JaxbConverter::toSimple),
+                Optional.ofNullable(XmlText.toSource(jaxb.getPowerQueryMashupData())));
+    }
+
+    /**
+     * Converts document properties to JAXB.
+     *
+     * @param properties The simple document properties
+     * @return The JAXB document properties
+     */
+    public static org.eclipse.daanse.odc.model.jakarta.xml.bind.office.DocumentProperties toJaxb(
+            DocumentProperties properties) {
+        org.eclipse.daanse.odc.model.jakarta.xml.bind.office.DocumentProperties jaxb =
+                new org.eclipse.daanse.odc.model.jakarta.xml.bind.office.DocumentProperties();
+        jaxb.setDescription(properties.description().orElse(null));
+        jaxb.setName(properties.name().orElse(null));
+        jaxb.setKeywords(properties.keywords().orElse(null));
+        return jaxb;
+    }
+
+    /**
+     * Converts JAXB document properties to the simple model.
+     *
+     * @param jaxb The JAXB document properties
+     * @return The simple document properties
+     */
+    public static DocumentProperties toSimple(
+            org.eclipse.daanse.odc.model.jakarta.xml.bind.office.DocumentProperties jaxb) {
+        return new DocumentProperties(Optional.ofNullable(jaxb.getDescription()), Optional.ofNullable(jaxb.getName()),
+                Optional.ofNullable(jaxb.getKeywords()));
+    }
+
+    /**
+     * Converts a connection to JAXB.
+     *
+     * @param connection The simple connection
+     * @return The JAXB connection
+     * @throws java.io.UncheckedIOException if the command text fails to read
+     */
+    public static CTConnection toJaxb(Connection connection) {
+        CTConnection jaxb = new CTConnection();
+        jaxb.setType(toJaxb(connection.type()));
+        jaxb.setConnectionString(connection.connectionString());
+        jaxb.setCommandType(connection.commandType().map(JaxbConverter::toJaxb).orElse(null));
+        List<CTParameter> parameters = jaxb.getParameter();
+        for (Parameter parameter : connection.parameters()) {
+            parameters.add(toJaxb(parameter));
+        }
+        jaxb.setCommandText(XmlText.toString(connection.commandText().orElse(null)));
+        jaxb.setSSOApplicationID(connection.ssoApplicationId().orElse(null));
+        jaxb.setCredentialsMethod(connection.credentialsMethod().map(JaxbConverter::toJaxb).orElse(null));
+        jaxb.setAlwaysUseConnectionFile(connection.alwaysUseConnectionFile().orElse(null));
+        jaxb.setCulture(connection.culture().orElse(null));
+        return jaxb;
+    }
+
+    /**
+     * Converts a JAXB connection to the simple model.
+     *
+     * @param jaxb The JAXB connection
+     * @return The simple connection
+     */
+    public static Connection toSimple(CTConnection jaxb) {
+        List<CTParameter> jaxbParameters = jaxb.getParameter();
+        List<Parameter> parameters = new ArrayList<>(jaxbParameters.size());
+        for (CTParameter parameter : jaxbParameters) {
+            parameters.add(toSimple(parameter));
+        }
+        return new Connection(toSimple(jaxb.getType()), jaxb.getConnectionString(),
+                Optional.ofNullable(jaxb.getCommandType()).map(JaxbConverter::toSimple), List.copyOf(parameters),
+                Optional.ofNullable(XmlText.toSource(jaxb.getCommandText())),
+                Optional.ofNullable(jaxb.getSSOApplicationID()),
+                Optional.ofNullable(jaxb.getCredentialsMethod()).map(JaxbConverter::toSimple),
+                Optional.ofNullable(jaxb.isAlwaysUseConnectionFile()), Optional.ofNullable(jaxb.getCulture()));
+    }
+
+    /**
+     * Converts a power query connection to JAXB.
+     *
+     * @param connection The simple power query connection
+     * @return The JAXB power query connection
+     * @throws java.io.UncheckedIOException if the command text fails to read
+     */
+    public static CTPowerQueryConnection toJaxb(PowerQueryConnection connection) {
+        CTPowerQueryConnection jaxb = new CTPowerQueryConnection();
+        jaxb.setType(toJaxb(connection.type()));
+        jaxb.setConnectionString(connection.connectionString());
+        jaxb.setCommandType(connection.commandType().map(JaxbConverter::toJaxb).orElse(null));
+        jaxb.setCommandText(XmlText.toString(connection.commandText().orElse(null)));
+        jaxb.setSSOApplicationID(connection.ssoApplicationId().orElse(null));
+        jaxb.setCredentialsMethod(connection.credentialsMethod().map(JaxbConverter::toJaxb).orElse(null));
+        jaxb.setAlwaysUseConnectionFile(connection.alwaysUseConnectionFile().orElse(null));
+        return jaxb;
+    }
+
+    /**
+     * Converts a JAXB power query connection to the simple model.
+     *
+     * @param jaxb The JAXB power query connection
+     * @return The simple power query connection
+     */
+    public static PowerQueryConnection toSimple(CTPowerQueryConnection jaxb) {
+        return new PowerQueryConnection(toSimple(jaxb.getType()), jaxb.getConnectionString(),
+                Optional.ofNullable(jaxb.getCommandType()).map(JaxbConverter::toSimple),
+                Optional.ofNullable(XmlText.toSource(jaxb.getCommandText())),
+                Optional.ofNullable(jaxb.getSSOApplicationID()),
+                Optional.ofNullable(jaxb.getCredentialsMethod()).map(JaxbConverter::toSimple),
+                Optional.ofNullable(jaxb.isAlwaysUseConnectionFile()));
+    }
+
+    private static CTParameter toJaxb(Parameter parameter) {
+        CTParameter jaxb = new CTParameter();
+        jaxb.setName(parameter.name());
+        jaxb.setDataType(parameter.dataType().orElse(0));
+        return jaxb;
+    }
+
+    private static Parameter toSimple(CTParameter jaxb) {
+        return Parameter.of(jaxb.getName(), jaxb.getDataType());
+    }
+
+    private static STConnectionType toJaxb(ConnectionType type) {
+        if (type == null) {
+            return null;
+        }
+        return switch (type) {
+        case OLEDB -> STConnectionType.OLEDB;
+        case ODBC -> STConnectionType.ODBC;
+        case DATAFEED -> STConnectionType.DATAFEED;
+        };
+    }
+
+    private static ConnectionType toSimple(STConnectionType type) {
+        if (type == null) {
+            return null;
+        }
+        return switch (type) {
+        case OLEDB -> ConnectionType.OLEDB;
+        case ODBC -> ConnectionType.ODBC;
+        case DATAFEED -> ConnectionType.DATAFEED;
+        };
+    }
+
+    private static STCommandType toJaxb(CommandType type) {
+        return switch (type) {
+        case Table -> STCommandType.TABLE;
+        case SQL -> STCommandType.SQL;
+        case Cube -> STCommandType.CUBE;
+        case List -> STCommandType.LIST;
+        case Default -> STCommandType.DEFAULT;
+        case TableCollection -> STCommandType.TABLE_COLLECTION;
+        };
+    }
+
+    private static CommandType toSimple(STCommandType type) {
+        return switch (type) {
+        case TABLE -> CommandType.Table;
+        case SQL -> CommandType.SQL;
+        case CUBE -> CommandType.Cube;
+        case LIST -> CommandType.List;
+        case DEFAULT -> CommandType.Default;
+        case TABLE_COLLECTION -> CommandType.TableCollection;
+        };
+    }
+
+    private static STCredentialsMethod toJaxb(CredentialsMethod method) {
+        return switch (method) {
+        case Integrated -> STCredentialsMethod.INTEGRATED;
+        case None -> STCredentialsMethod.NONE;
+        case Stored -> STCredentialsMethod.STORED;
+        };
+    }
+
+    private static CredentialsMethod toSimple(STCredentialsMethod method) {
+        return switch (method) {
+        case INTEGRATED -> CredentialsMethod.Integrated;
+        case NONE -> CredentialsMethod.None;
+        case STORED -> CredentialsMethod.Stored;
+        };
+    }
+}
@@ -0,0 +1,283 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.model.converter;
+
+import java.util.List;
+
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.CTConnection;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.CTParameter;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.CTPowerQueryConnection;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.OfficeDataConnection;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.STCommandType;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.STConnectionType;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.STCredentialsMethod;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.office.DocumentProperties;
+import org.eclipse.emf.common.util.EList;
+
+import odc.OdcFactory;
+import odc.OfficeDataConnectionType;
+import office.DocumentPropertiesType;
+import office.OfficeFactory;
+
+/**
+ * Converts between the JAXB model and the EMF model without going through the
+ * simple model. Null JAXB values map to unset EMF features and back.
+ */
+public final class JaxbEmfConverter {
+
+    private JaxbEmfConverter() {
+    }
+
+    /**
+     * Converts a JAXB office data connection to EMF.
+     *
+     * @param jaxb The JAXB office data connection
+     * @return The EMF office data connection
+     */
+    public static OfficeDataConnectionType toEmf(OfficeDataConnection jaxb) {
+        OfficeDataConnectionType emf = OdcFactory.eINSTANCE.createOfficeDataConnectionType();
+        emf.setSourceFile(jaxb.getSourceFile());
+        EList<odc.CTConnection> connections = emf.getConnection();
+        for (CTConnection connection : jaxb.getConnection()) {
+            connections.add(toEmf(connection));
+        }
+        if (jaxb.getPowerQueryConnection() != null) {
+            emf.setPowerQueryConnection(toEmf(jaxb.getPowerQueryConnection()));
+        }
+        emf.setPowerQueryMashupData(jaxb.getPowerQueryMashupData());
+        return emf;
+    }
+
+    /**
+     * Converts an EMF office data connection to JAXB.
+     *
+     * @param emf The EMF office data connection
+     * @return The JAXB office data connection
+     */
+    public static OfficeDataConnection toJaxb(OfficeDataConnectionType emf) {
+        OfficeDataConnection jaxb = new OfficeDataConnection();
+        jaxb.setSourceFile(emf.getSourceFile());
+        List<CTConnection> connections = jaxb.getConnection();
+        for (odc.CTConnection connection : emf.getConnection()) {
+            connections.add(toJaxb(connection));
+        }
+        if (emf.getPowerQueryConnection() != null) {
+            jaxb.setPowerQueryConnection(toJaxb(emf.getPowerQueryConnection()));
+        }
+        jaxb.setPowerQueryMashupData(emf.getPowerQueryMashupData());
+        return jaxb;
+    }
+
+    /**
+     * Converts JAXB document properties to EMF.
+     *
+     * @param jaxb The JAXB document properties
+     * @return The EMF document properties
+     */
+    public static DocumentPropertiesType toEmf(DocumentProperties jaxb) {
+        DocumentPropertiesType emf = OfficeFactory.eINSTANCE.createDocumentPropertiesType();
+        emf.setDescription(jaxb.getDescription());
+        emf.setName(jaxb.getName());
+        emf.setKeywords(jaxb.getKeywords());
+        return emf;
+    }
+
+    /**
+     * Converts EMF document properties to JAXB.
+     *
+     * @param emf The EMF document properties
+     * @return The JAXB document properties
+     */
+    public static DocumentProperties toJaxb(DocumentPropertiesType emf) {
+        DocumentProperties jaxb = new DocumentProperties();
+        jaxb.setDescription(emf.getDescription());
+        jaxb.setName(emf.getName());
+        jaxb.setKeywords(emf.getKeywords());
+        return jaxb;
+    }
+
+    /**
+     * Converts a JAXB connection to EMF.
+     *
+     * @param jaxb The JAXB connection
+     * @return The EMF connection
+     */
+    public static odc.CTConnection toEmf(CTConnection jaxb) {
+        odc.CTConnection emf = OdcFactory.eINSTANCE.createCTConnection();
+        if (jaxb.getType() != null) {
+            emf.setType(toEmf(jaxb.getType()));
+        }
+        emf.setConnectionString(jaxb.getConnectionString());
+        if (jaxb.getCommandType() != null) {
+            emf.setCommandType(toEmf(jaxb.getCommandType()));
+        }
+        EList<odc.CTParameter> parameters = emf.getParameter();
+        for (CTParameter parameter : jaxb.getParameter()) {
+            odc.CTParameter emfParameter = OdcFactory.eINSTANCE.createCTParameter();
+            emfParameter.setName(parameter.getName());
+            emfParameter.setDataType(parameter.getDataType());
+            parameters.add(emfParameter);
+        }
+        emf.setCommandText(jaxb.getCommandText());
+        emf.setSSOApplicationID(jaxb.getSSOApplicationID());
+        if (jaxb.getCredentialsMethod() != null) {
+            emf.setCredentialsMethod(toEmf(jaxb.getCredentialsMethod()));
+        }
+        if (jaxb.isAlwaysUseConnectionFile() != null) {
+            emf.setAlwaysUseConnectionFile(jaxb.isAlwaysUseConnectionFile());
+        }
+        emf.setCulture(jaxb.getCulture());
+        return emf;
+    }
+
+    /**
+     * Converts an EMF connection to JAXB.
+     *
+     * @param emf The EMF connection
+     * @return The JAXB connection
+     */
+    public static CTConnection toJaxb(odc.CTConnection emf) {
+        CTConnection jaxb = new CTConnection();
+        if (emf.isSetType()) {
+            jaxb.setType(toJaxb(emf.getType()));
+        }
+        jaxb.setConnectionString(emf.getConnectionString());
+        if (emf.isSetCommandType()) {
+            jaxb.setCommandType(toJaxb(emf.getCommandType()));
+        }
+        List<CTParameter> parameters = jaxb.getParameter();
+        for (odc.CTParameter parameter : emf.getParameter()) {
+            CTParameter jaxbParameter = new CTParameter();
+            jaxbParameter.setName(parameter.getName());
+            jaxbParameter.setDataType(parameter.getDataType());
+            parameters.add(jaxbParameter);
+        }
+        jaxb.setCommandText(emf.getCommandText());
+        jaxb.setSSOApplicationID(emf.getSSOApplicationID());
+        if (emf.isSetCredentialsMethod()) {
+            jaxb.setCredentialsMethod(toJaxb(emf.getCredentialsMethod()));
+        }
+        if (emf.isSetAlwaysUseConnectionFile()) {
+            jaxb.setAlwaysUseConnectionFile(emf.isAlwaysUseConnectionFile());
+        }
+        jaxb.setCulture(emf.getCulture());
+        return jaxb;
+    }
+
+    /**
+     * Converts a JAXB power query connection to EMF.
+     *
+     * @param jaxb The JAXB power query connection
+     * @return The EMF power query connection
+     */
+    public static odc.CTPowerQueryConnection toEmf(CTPowerQueryConnection jaxb) {
+        odc.CTPowerQueryConnection emf = OdcFactory.eINSTANCE.createCTPowerQueryConnection();
+        if (jaxb.getType() != null) {
+            emf.setType(toEmf(jaxb.getType()));
+        }
+        emf.setConnectionString(jaxb.getConnectionString());
+        if (jaxb.getCommandType() != null) {
+            emf.setCommandType(toEmf(jaxb.getCommandType()));
+        }
+        emf.setCommandText(jaxb.getCommandText());
+        emf.setSSOApplicationID(jaxb.getSSOApplicationID());
+        if (jaxb.getCredentialsMethod() != null) {
+            emf.setCredentialsMethod(toEmf(jaxb.getCredentialsMethod()));
+        }
+        if (jaxb.isAlwaysUseConnectionFile() != null) {
+            emf.setAlwaysUseConnectionFile(jaxb.isAlwaysUseConnectionFile());
+        }
+        return emf;
+    }
+
+    /**
+     * Converts an EMF power query connection to JAXB.
+     *
+     * @param emf The EMF power query connection
+     * @return The JAXB power query connection
+     */
+    public static CTPowerQueryConnection toJaxb(odc.CTPowerQueryConnection emf) {
+        CTPowerQueryConnection jaxb = new CTPowerQueryConnection();
+        if (emf.isSetType()) {
+            jaxb.setType(toJaxb(emf.getType()));
+        }
+        jaxb.setConnectionString(emf.getConnectionString());
+        if (emf.isSetCommandType()) {
+            jaxb.setCommandType(toJaxb(emf.getCommandType()));
+        }
+        jaxb.setCommandText(emf.getCommandText());
+        jaxb.setSSOApplicationID(emf.getSSOApplicationID());
+        if (emf.isSetCredentialsMethod()) {
+            jaxb.setCredentialsMethod(toJaxb(emf.getCredentialsMethod()));
+        }
+        if (emf.isSetAlwaysUseConnectionFile()) {
+            jaxb.setAlwaysUseConnectionFile(emf.isAlwaysUseConnectionFile());
+        }
+        return jaxb;
+    }
+
+    private static odc.STConnectionType toEmf(STConnectionType type) {
+        return switch (type) {
+        case OLEDB -> odc.STConnectionType.OLEDB;
+        case ODBC -> odc.STConnectionType.ODBC;
+        case DATAFEED -> odc.STConnectionType.DATAFEED;
+        };
+    }
+
+    private static STConnectionType toJaxb(odc.STConnectionType type) {
+        return switch (type) {
+        case OLEDB -> STConnectionType.OLEDB;
+        case ODBC -> STConnectionType.ODBC;
+        case DATAFEED -> STConnectionType.DATAFEED;
+        };
+    }
+
+    private static odc.STCommandType toEmf(STCommandType type) {
+        return switch (type) {
+        case TABLE -> odc.STCommandType.TABLE;
+        case SQL -> odc.STCommandType.SQL;
+        case CUBE -> odc.STCommandType.CUBE;
+        case LIST -> odc.STCommandType.LIST;
+        case DEFAULT -> odc.STCommandType.DEFAULT;
+        case TABLE_COLLECTION -> odc.STCommandType.TABLE_COLLECTION;
+        };
+    }
+
+    private static STCommandType toJaxb(odc.STCommandType type) {
+        return switch (type) {
+        case TABLE -> STCommandType.TABLE;
+        case SQL -> STCommandType.SQL;
+        case CUBE -> STCommandType.CUBE;
+        case LIST -> STCommandType.LIST;
+        case DEFAULT -> STCommandType.DEFAULT;
+        case TABLE_COLLECTION -> STCommandType.TABLE_COLLECTION;
+        };
+    }
+
+    private static odc.STCredentialsMethod toEmf(STCredentialsMethod method) {
+        return switch (method) {
+        case INTEGRATED -> odc.STCredentialsMethod.INTEGRATED;
+        case NONE -> odc.STCredentialsMethod.NONE;
+        case STORED -> odc.STCredentialsMethod.STORED;
+        };
+    }
+
+    private static STCredentialsMethod toJaxb(odc.STCredentialsMethod method) {
+        return switch (method) {
+        case INTEGRATED -> STCredentialsMethod.INTEGRATED;
+        case NONE -> STCredentialsMethod.NONE;
+        case STORED -> STCredentialsMethod.STORED;
+        };
+    }
+}
@@ -0,0 +1,54 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.model.converter;
+
+import org.eclipse.daanse.odc.simple.model.TextSource;
+import org.eclipse.daanse.odc.simple.model.XmlUnescaper;
+
+/**
+ * Text conversion between {@link TextSource}s of the simple model and the plain
+ * strings of the JAXB and EMF models.
+ */
+final class XmlText {
+
+    private XmlText() {
+    }
+
+    /**
+     * Reads the text of a source, resolving the XML references of escaped
+     * sources with {@link XmlUnescaper}. Unknown references are kept.
+     *
+     * @param source The source, may be null
+     * @return The plain text, or null if the source is null
+     * @throws java.io.UncheckedIOException if a streamed or file source fails to
+     *                                      read
+     */
+    static String toString(TextSource source) {
+        if (source == null) {
+            return null;
+        }
+        String text = source.asString();
+        return source.escaped() ? XmlUnescaper.unescape(text) : text;
+    }
+
+    /**
+     * Wraps a plain string as an unescaped source.
+     *
+     * @param text The text, may be null
+     * @return The source, or null if the text is null
+     */
+    static TextSource toSource(String text) {
+        return text == null ? null : TextSource.of(text);
+    }
+}
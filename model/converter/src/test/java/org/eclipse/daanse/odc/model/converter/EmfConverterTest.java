@@ -0,0 +1,68 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.model.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.Parameter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.jupiter.api.Test;
+
+import odc.CTConnection;
+import odc.OfficeDataConnectionType;
+
+class EmfConverterTest {
+
+    @Test
+    void testRoundTrip() {
+        OfficeDataConnection odc = JaxbConverterTest.officeDataConnection();
+
+        OfficeDataConnectionType emf = EmfConverter.toEmf(odc);
+
+        assertThat(emf.getConnection()).hasSize(1);
+        assertThat(emf.getPowerQueryConnection().isSetAlwaysUseConnectionFile()).isTrue();
+        assertThat(EmfConverter.toSimple(emf)).isEqualTo(odc);
+    }
+
+    @Test
+    void testAbsentValuesStayUnset() {
+        Connection connection = new Connection(ConnectionType.OLEDB, "Provider=MSOLAP", Optional.empty(),
+                List.of(Parameter.of("Year")), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty());
+
+        CTConnection emf = EmfConverter.toEmf(connection);
+
+        assertThat(emf.isSetCommandType()).isFalse();
+        assertThat(emf.isSetCredentialsMethod()).isFalse();
+        assertThat(emf.isSetAlwaysUseConnectionFile()).isFalse();
+        assertThat(emf.getParameter().get(0).isSetDataType()).isFalse();
+        assertThat(EmfConverter.toSimple(emf)).isEqualTo(connection);
+    }
+
+    @Test
+    void testJaxbToEmfMatchesConversionThroughSimpleModel() {
+        OfficeDataConnection odc = JaxbConverterTest.officeDataConnection();
+
+        OfficeDataConnectionType direct = JaxbEmfConverter.toEmf(JaxbConverter.toJaxb(odc));
+
+        assertThat(EcoreUtil.equals(direct, EmfConverter.toEmf(odc))).isTrue();
+        assertThat(JaxbConverter.toSimple(JaxbEmfConverter.toJaxb(direct))).isEqualTo(odc);
+    }
+}
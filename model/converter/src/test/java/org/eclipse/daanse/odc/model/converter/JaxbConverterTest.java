@@ -0,0 +1,86 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.model.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.CTConnection;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.STCommandType;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.STConnectionType;
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.Parameter;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+import org.junit.jupiter.api.Test;
+
+class JaxbConverterTest {
+
+    static OfficeDataConnection officeDataConnection() {
+        Connection connection = new Connection(ConnectionType.ODBC,
+                "DRIVER=SQL Server;SERVER=mysqlserver;Trusted_Connection=Yes", Optional.of(CommandType.SQL),
+                List.of(Parameter.of("Country", 12), Parameter.of("City", 4)),
+                Optional.of(TextSource.of("SELECT * FROM Customers WHERE Country = ? AND City = ?")),
+                Optional.of("sso"), Optional.of(CredentialsMethod.Integrated), Optional.of(true),
+                Optional.of("en-US"));
+        PowerQueryConnection powerQueryConnection = new PowerQueryConnection(ConnectionType.OLEDB,
+                "Provider=Microsoft.Mashup.OleDb.1", Optional.of(CommandType.Default),
+                Optional.of(TextSource.of("SELECT * FROM [Query1]")), Optional.empty(),
+                Optional.of(CredentialsMethod.None), Optional.of(false));
+        return new OfficeDataConnection(Optional.of("Northwind.odc"), List.of(connection),
+                Optional.of(powerQueryConnection), Optional.of(TextSource.of("UEsDBBQAAgAIAA==")));
+    }
+
+    @Test
+    void testRoundTrip() {
+        OfficeDataConnection odc = officeDataConnection();
+
+        org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.OfficeDataConnection jaxb = JaxbConverter.toJaxb(odc);
+
+        CTConnection connection = jaxb.getConnection().get(0);
+        assertThat(connection.getType()).isEqualTo(STConnectionType.ODBC);
+        assertThat(connection.getCommandType()).isEqualTo(STCommandType.SQL);
+        assertThat(connection.getParameter().get(1).getDataType()).isEqualTo(4);
+        assertThat(jaxb.getPowerQueryConnection().getSSOApplicationID()).isNull();
+        assertThat(JaxbConverter.toSimple(jaxb)).isEqualTo(odc);
+    }
+
+    @Test
+    void testEscapedTextIsUnescaped() {
+        Connection connection = new Connection(ConnectionType.OLEDB, "Provider=MSOLAP", Optional.empty(), List.of(),
+                Optional.of(TextSource.ofEscaped("a &lt; b &amp;&amp; c &#62; &#x44;")), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty());
+
+        CTConnection jaxb = JaxbConverter.toJaxb(connection);
+
+        assertThat(jaxb.getCommandText()).isEqualTo("a < b && c > D");
+        assertThat(jaxb.getCommandType()).isNull();
+        assertThat(jaxb.isAlwaysUseConnectionFile()).isNull();
+    }
+
+    @Test
+    void testDocumentProperties() {
+        DocumentProperties properties = new DocumentProperties(Optional.empty(), Optional.of("Northwind"),
+                Optional.of("sql"));
+
+        assertThat(JaxbConverter.toSimple(JaxbConverter.toJaxb(properties))).isEqualTo(properties);
+    }
+}
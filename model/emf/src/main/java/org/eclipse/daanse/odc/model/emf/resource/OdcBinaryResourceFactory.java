@@ -0,0 +1,59 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.model.emf.resource;
+
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceFactoryImpl;
+
+/**
+ * Factory of resources that persist ODC models in the binary format of EMF.
+ * Compared to XMI, features are written in the order of the model without
+ * names, strings are written once and enum values as their ordinal, so files
+ * are smaller and loading needs neither an XML parser nor name lookups.
+ * <p>
+ * The format references classes by the namespace URI of their package, so
+ * the ODC, Office and HTML packages must be registered in the package registry
+ * used for loading, as they are when the generated packages are initialized.
+ */
+public class OdcBinaryResourceFactory extends ResourceFactoryImpl {
+
+    /** File extension of binary ODC model files. */
+    public static final String FILE_EXTENSION = "odcbin";
+
+    private static final Map<Object, Object> SAVE_OPTIONS = Map.of(BinaryResourceImpl.OPTION_VERSION,
+            BinaryResourceImpl.BinaryIO.Version.VERSION_1_1, BinaryResourceImpl.OPTION_STYLE_BINARY_ENUMERATOR,
+            Boolean.TRUE);
+
+    /**
+     * Registers a factory for the {@link #FILE_EXTENSION} in a resource set.
+     *
+     * @param resourceSet The resource set
+     */
+    public static void register(ResourceSet resourceSet) {
+        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put(FILE_EXTENSION,
+                new OdcBinaryResourceFactory());
+    }
+
+    @Override
+    public Resource createResource(URI uri) {
+        BinaryResourceImpl resource = new BinaryResourceImpl(uri);
+        resource.getDefaultSaveOptions().putAll(SAVE_OPTIONS);
+        return resource;
+    }
+}
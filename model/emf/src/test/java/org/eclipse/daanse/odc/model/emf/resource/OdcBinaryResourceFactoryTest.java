@@ -0,0 +1,106 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.model.emf.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import odc.CTConnection;
+import odc.CTParameter;
+import odc.OdcFactory;
+import odc.OdcPackage;
+import odc.OfficeDataConnectionType;
+import odc.STCommandType;
+import odc.STConnectionType;
+import odc.STCredentialsMethod;
+
+class OdcBinaryResourceFactoryTest {
+
+    private ResourceSet resourceSet;
+
+    @BeforeEach
+    void setUp() {
+        OdcPackage.eINSTANCE.getNsURI();
+        resourceSet = new ResourceSetImpl();
+        OdcBinaryResourceFactory.register(resourceSet);
+        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("xmi", new XMIResourceFactoryImpl());
+    }
+
+    private static OfficeDataConnectionType officeDataConnection() {
+        CTConnection connection = OdcFactory.eINSTANCE.createCTConnection();
+        connection.setType(STConnectionType.OLEDB);
+        connection.setConnectionString("Provider=MSOLAP;Data Source=olap01;Initial Catalog=Adventure Works DW");
+        connection.setCommandType(STCommandType.CUBE);
+        connection.setCommandText("Adventure Works");
+        connection.setCredentialsMethod(STCredentialsMethod.NONE);
+        connection.setAlwaysUseConnectionFile(false);
+        for (int i = 0; i < 3; i++) {
+            CTParameter parameter = OdcFactory.eINSTANCE.createCTParameter();
+            parameter.setName("Parameter" + i);
+            parameter.setDataType(i);
+            connection.getParameter().add(parameter);
+        }
+        OfficeDataConnectionType odc = OdcFactory.eINSTANCE.createOfficeDataConnectionType();
+        odc.setSourceFile("Adventure Works.odc");
+        odc.getConnection().add(connection);
+        return odc;
+    }
+
+    private byte[] save(String fileExtension, EObject root) throws IOException {
+        Resource resource = resourceSet.createResource(URI.createURI("memory:/model." + fileExtension));
+        resource.getContents().add(root);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        resource.save(out, Map.of());
+        return out.toByteArray();
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        OfficeDataConnectionType odc = officeDataConnection();
+        byte[] bytes = save(OdcBinaryResourceFactory.FILE_EXTENSION, EcoreUtil.copy(odc));
+
+        ResourceSet loadSet = new ResourceSetImpl();
+        OdcBinaryResourceFactory.register(loadSet);
+        Resource loaded = loadSet.createResource(URI.createURI("memory:/loaded.odcbin"));
+        loaded.load(new ByteArrayInputStream(bytes), Map.of());
+
+        assertThat(loaded.getContents()).hasSize(1);
+        assertThat(EcoreUtil.equals(odc, loaded.getContents().get(0))).isTrue();
+        OfficeDataConnectionType read = (OfficeDataConnectionType) loaded.getContents().get(0);
+        assertThat(read.getConnection().get(0).isSetAlwaysUseConnectionFile()).isTrue();
+        assertThat(read.getConnection().get(0).getCredentialsMethod()).isEqualTo(STCredentialsMethod.NONE);
+    }
+
+    @Test
+    void testSmallerThanXmi() throws IOException {
+        byte[] binary = save(OdcBinaryResourceFactory.FILE_EXTENSION, officeDataConnection());
+        byte[] xmi = save("xmi", officeDataConnection());
+
+        assertThat(binary.length).isLessThan(xmi.length);
+    }
+}
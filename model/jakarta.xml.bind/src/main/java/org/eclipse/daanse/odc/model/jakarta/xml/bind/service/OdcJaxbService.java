@@ -0,0 +1,208 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.model.jakarta.xml.bind.service;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
+
+/**
+ * Thread-safe access to JAXB for the classes generated from the ODC, Office
+ * and HTML schemas. The {@link JAXBContext} is built once, on first use, and
+ * shared. Marshallers and unmarshallers are not thread-safe; they are borrowed
+ * from a bounded pool for the duration of a call and returned afterwards, so
+ * concurrent callers never share an instance and idle instances are reused.
+ * <p>
+ * Use {@link #shared()} unless a separate pool size is needed; building a
+ * context per consumer is what this class avoids.
+ */
+public final class OdcJaxbService {
+
+    /** Default number of idle marshallers and unmarshallers kept per pool. */
+    public static final int DEFAULT_POOL_SIZE = 2 * Runtime.getRuntime().availableProcessors();
+
+    private static final Class<?>[] OBJECT_FACTORIES = {
+            org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.ObjectFactory.class,
+            org.eclipse.daanse.odc.model.jakarta.xml.bind.office.ObjectFactory.class,
+            org.eclipse.daanse.odc.model.jakarta.xml.bind.html.ObjectFactory.class };
+
+    private static final class SharedHolder {
+        static final OdcJaxbService INSTANCE = new OdcJaxbService(DEFAULT_POOL_SIZE);
+    }
+
+    private final BlockingQueue<Marshaller> marshallers;
+
+    private final BlockingQueue<Unmarshaller> unmarshallers;
+
+    private volatile JAXBContext context;
+
+    private volatile XMLInputFactory inputFactory;
+
+    /**
+     * Creates a service with its own context and pools.
+     *
+     * @param poolSize The maximum number of idle marshallers and unmarshallers
+     *                 kept for reuse, each
+     */
+    public OdcJaxbService(int poolSize) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("poolSize must be positive: " + poolSize);
+        }
+        this.marshallers = new ArrayBlockingQueue<>(poolSize);
+        this.unmarshallers = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    /**
+     * @return The service shared by all consumers of this bundle
+     */
+    public static OdcJaxbService shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Returns the context, building it on the first call.
+     *
+     * @return The JAXB context of the generated classes
+     * @throws JAXBException if the context cannot be built
+     */
+    public JAXBContext context() throws JAXBException {
+        JAXBContext result = context;
+        if (result == null) {
+            synchronized (this) {
+                result = context;
+                if (result == null) {
+                    result = JAXBContext.newInstance(OBJECT_FACTORIES);
+                    context = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Marshals an element as a complete UTF-8 encoded document.
+     *
+     * @param element The root element, e.g. an {@code OfficeDataConnection}
+     * @param out     The stream to write to, it is not closed
+     * @throws JAXBException if the element cannot be marshalled
+     */
+    public void marshal(Object element, OutputStream out) throws JAXBException {
+        Marshaller marshaller = borrowMarshaller();
+        try {
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.FALSE);
+            marshaller.marshal(element, out);
+        } finally {
+            marshallers.offer(marshaller);
+        }
+    }
+
+    /**
+     * Marshals an element into a stream writer as a fragment, without the start
+     * and end of a document. This allows to embed the element into a document
+     * written by the caller.
+     *
+     * @param element The element, e.g. an {@code OfficeDataConnection}
+     * @param writer  The writer to write to, it is neither flushed nor closed
+     * @throws JAXBException if the element cannot be marshalled
+     */
+    public void marshal(Object element, XMLStreamWriter writer) throws JAXBException {
+        Marshaller marshaller = borrowMarshaller();
+        try {
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+            marshaller.marshal(element, writer);
+        } finally {
+            marshallers.offer(marshaller);
+        }
+    }
+
+    /**
+     * Unmarshals the element at the current position of a stream reader. The
+     * reader must be positioned at the start of the document or at a start
+     * element; afterwards it is positioned after the end of the element.
+     *
+     * @param <T>    The type of the element
+     * @param reader The reader to read from, it is not closed
+     * @param type   The class the element is bound to
+     * @return The element
+     * @throws JAXBException if the element cannot be unmarshalled
+     */
+    public <T> T unmarshal(XMLStreamReader reader, Class<T> type) throws JAXBException {
+        Unmarshaller unmarshaller = borrowUnmarshaller();
+        try {
+            return unmarshaller.unmarshal(reader, type).getValue();
+        } finally {
+            unmarshallers.offer(unmarshaller);
+        }
+    }
+
+    /**
+     * Unmarshals a document. External entities and DTDs are not processed.
+     *
+     * @param <T>  The type of the root element
+     * @param in   The stream to read from, it is not closed
+     * @param type The class the root element is bound to
+     * @return The root element
+     * @throws JAXBException if the document cannot be read or unmarshalled
+     */
+    public <T> T unmarshal(InputStream in, Class<T> type) throws JAXBException {
+        XMLStreamReader reader;
+        try {
+            reader = inputFactory().createXMLStreamReader(in);
+        } catch (XMLStreamException e) {
+            throw new JAXBException(e);
+        }
+        try {
+            return unmarshal(reader, type);
+        } finally {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                // the stream is owned by the caller, nothing left to release
+            }
+        }
+    }
+
+    private Marshaller borrowMarshaller() throws JAXBException {
+        Marshaller marshaller = marshallers.poll();
+        return marshaller != null ? marshaller : context().createMarshaller();
+    }
+
+    private Unmarshaller borrowUnmarshaller() throws JAXBException {
+        Unmarshaller unmarshaller = unmarshallers.poll();
+        return unmarshaller != null ? unmarshaller : context().createUnmarshaller();
+    }
+
+    private XMLInputFactory inputFactory() {
+        XMLInputFactory result = inputFactory;
+        if (result == null) {
+            // a race only creates a second, equally configured factory
+            result = XMLInputFactory.newFactory();
+            result.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+            result.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+            inputFactory = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.model.jakarta.xml.bind.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.CTConnection;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.OfficeDataConnection;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.STCommandType;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.STConnectionType;
+import org.junit.jupiter.api.Test;
+
+class OdcJaxbServiceTest {
+
+    private final OdcJaxbService service = new OdcJaxbService(2);
+
+    private static OfficeDataConnection officeDataConnection(String connectionString) {
+        CTConnection connection = new CTConnection();
+        connection.setType(STConnectionType.OLEDB);
+        connection.setConnectionString(connectionString);
+        connection.setCommandType(STCommandType.CUBE);
+        connection.setCommandText("Adventure Works");
+        OfficeDataConnection odc = new OfficeDataConnection();
+        odc.getConnection().add(connection);
+        return odc;
+    }
+
+    @Test
+    void testRoundTripThroughStream() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.marshal(officeDataConnection("Provider=MSOLAP;Data Source=a&b"), out);
+
+        OfficeDataConnection read = service.unmarshal(new ByteArrayInputStream(out.toByteArray()),
+                OfficeDataConnection.class);
+
+        assertThat(read.getConnection()).hasSize(1);
+        assertThat(read.getConnection().get(0).getConnectionString()).isEqualTo("Provider=MSOLAP;Data Source=a&b");
+        assertThat(read.getConnection().get(0).getCommandType()).isEqualTo(STCommandType.CUBE);
+    }
+
+    @Test
+    void testEmbedsFragmentInStreamWriter() throws Exception {
+        StringWriter xml = new StringWriter();
+        XMLStreamWriter writer = XMLOutputFactory.newFactory().createXMLStreamWriter(xml);
+        writer.writeStartDocument();
+        writer.writeStartElement("xml");
+        service.marshal(officeDataConnection("Data Source=olap01"), writer);
+        writer.writeEndElement();
+        writer.writeEndDocument();
+        writer.close();
+
+        XMLStreamReader reader = XMLInputFactory.newFactory().createXMLStreamReader(new StringReader(xml.toString()));
+        reader.nextTag();
+        reader.nextTag();
+        OfficeDataConnection read = service.unmarshal(reader, OfficeDataConnection.class);
+
+        assertThat(xml.toString()).startsWith("<?xml");
+        assertThat(read.getConnection().get(0).getConnectionString()).isEqualTo("Data Source=olap01");
+    }
+
+    @Test
+    void testConcurrentUse() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String connectionString = "Data Source=olap" + i;
+                results.add(executor.submit(() -> {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    service.marshal(officeDataConnection(connectionString), out);
+                    return service.unmarshal(new ByteArrayInputStream(out.toByteArray()), OfficeDataConnection.class)
+                            .getConnection().get(0).getConnectionString();
+                }));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).get()).isEqualTo("Data Source=olap" + i);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.simple.canonical;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Streaming MurmurHash3 x64 128-bit with seed 0 over the UTF-8 encoding of the
+ * appended text. Unpaired surrogates are encoded as '?'. The encoded bytes are
+ * collected in a small buffer and mixed in block by block whenever it is full,
+ * so memory use does not depend on the length of the text.
+ */
+final class Murmur3Sink implements Appendable {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class,
+            ByteOrder.LITTLE_ENDIAN);
+
+    /** Size of the byte buffer, a multiple of the block size. */
+    private static final int BUFFER_SIZE = 256;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    /** Bytes in the buffer. */
+    private int count;
+
+    private long h1;
+
+    private long h2;
+
+    /** Bytes mixed in so far. */
+    private long length;
+
+    private char highSurrogate;
+
+    @Override
+    public Murmur3Sink append(CharSequence text) {
+        return append(text, 0, text.length());
+    }
+
+    @Override
+    public Murmur3Sink append(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            append(text.charAt(i));
+        }
+        return this;
+    }
+
+    /**
+     * Appends a range of a char array.
+     *
+     * @param chars The characters
+     * @param start The start index (inclusive)
+     * @param end   The end index (exclusive)
+     * @return This sink
+     */
+    Murmur3Sink append(char[] chars, int start, int end) {
+        for (int i = start; i < end; i++) {
+            append(chars[i]);
+        }
+        return this;
+    }
+
+    @Override
+    public Murmur3Sink append(char c) {
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                add(0xF0 | codePoint >>> 18);
+                add(0x80 | codePoint >>> 12 & 0x3F);
+                add(0x80 | codePoint >>> 6 & 0x3F);
+                add(0x80 | codePoint & 0x3F);
+                return this;
+            }
+            add('?');
+        }
+        if (c < 0x80) {
+            add(c);
+        } else if (c < 0x800) {
+            add(0xC0 | c >>> 6);
+            add(0x80 | c & 0x3F);
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            add('?');
+        } else {
+            add(0xE0 | c >>> 12);
+            add(0x80 | c >>> 6 & 0x3F);
+            add(0x80 | c & 0x3F);
+        }
+        return this;
+    }
+
+    private void add(int b) {
+        buffer[count] = (byte) b;
+        if (++count == BUFFER_SIZE) {
+            mixBlocks();
+        }
+    }
+
+    /** Mixes in all complete blocks of the buffer and keeps the rest. */
+    private void mixBlocks() {
+        int blocks = count & ~15;
+        for (int i = 0; i < blocks; i += 16) {
+            h1 ^= mixK1((long) LONG.get(buffer, i));
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+            h2 ^= mixK2((long) LONG.get(buffer, i + 8));
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+        length += blocks;
+        count -= blocks;
+        System.arraycopy(buffer, blocks, buffer, 0, count);
+    }
+
+    /**
+     * Finishes the hash. The sink must not be used afterwards.
+     *
+     * @return The hash
+     */
+    OdcHash finish() {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            add('?');
+        }
+        mixBlocks();
+        long k1 = 0;
+        long k2 = 0;
+        for (int i = count - 1; i >= 8; i--) {
+            k2 = k2 << 8 | buffer[i] & 0xFFL;
+        }
+        for (int i = Math.min(count, 8) - 1; i >= 0; i--) {
+            k1 = k1 << 8 | buffer[i] & 0xFFL;
+        }
+        if (count > 8) {
+            h2 ^= mixK2(k2);
+        }
+        if (count > 0) {
+            h1 ^= mixK1(k1);
+        }
+        length += count;
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+        return new OdcHash(h1, h2);
+    }
+
+    private static long mixK1(long k) {
+        return Long.rotateLeft(k * C1, 31) * C2;
+    }
+
+    private static long mixK2(long k) {
+        return Long.rotateLeft(k * C2, 33) * C1;
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,268 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.simple.canonical;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.simple.connectionstring.ConnectionString;
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.Parameter;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+import org.eclipse.daanse.odc.simple.model.XmlUnescaper;
+
+/**
+ * Canonical serialization of an ODC file. Two files that a consumer cannot tell
+ * apart have the same canonical form:
+ * <ul>
+ * <li>fields are written in a fixed order, one {@code name=value} line each,
+ * with backslash, CR and LF escaped as {@code \\}, {@code \r} and
+ * {@code \n};</li>
+ * <li>absent and empty optional texts are omitted;</li>
+ * <li>connection strings are {@link ConnectionString#normalized()
+ * normalized}, so key case, key order and repeated keys do not matter;
+ * connection strings that cannot be parsed are kept as they are;</li>
+ * <li>CredentialsMethod defaults to Integrated, AlwaysUseConnectionFile to
+ * true for a Connection and to false for a PowerQueryConnection, as in the
+ * schema;</li>
+ * <li>escaped text sources are unescaped with {@link XmlUnescaper}, so it
+ * does not matter whether a
+ * command text or the mashup data was given plain or XML escaped.</li>
+ * </ul>
+ * The order of connections and parameters is kept, as it is significant. The
+ * first line names the version of the format.
+ */
+public final class OdcCanonicalForm {
+
+    /** The first line of the canonical form. */
+    public static final String VERSION = "odc-canonical 1";
+
+    private final Appendable out;
+
+    private OdcCanonicalForm(Appendable out) {
+        this.out = out;
+    }
+
+    /**
+     * Returns the canonical form of an ODC file.
+     *
+     * @param odcFile The ODC file model
+     * @return The canonical form
+     * @throws UncheckedIOException if a text source cannot be read
+     */
+    public static String of(OdcFile odcFile) {
+        StringBuilder sb = new StringBuilder(512);
+        try {
+            write(odcFile, sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes the canonical form of an ODC file.
+     *
+     * @param odcFile The ODC file model
+     * @param out     The target to append to
+     * @throws IOException if a text source cannot be read or the target fails
+     *                     to append
+     */
+    public static void write(OdcFile odcFile, Appendable out) throws IOException {
+        new OdcCanonicalForm(out).odcFile(odcFile);
+    }
+
+    private void odcFile(OdcFile odcFile) throws IOException {
+        out.append(VERSION).append('\n');
+        text("title", odcFile.title());
+        DocumentProperties properties = odcFile.documentProperties();
+        text("description", properties.description());
+        text("name", properties.name());
+        text("keywords", properties.keywords());
+        text("catalog", odcFile.catalog());
+        text("schema", odcFile.schema());
+        text("table", odcFile.table());
+        OfficeDataConnection odc = odcFile.officeDataConnection();
+        text("sourceFile", odc.sourceFile());
+        List<Connection> connections = odc.connections();
+        for (int i = 0; i < connections.size(); i++) {
+            connection(i, connections.get(i));
+        }
+        if (odc.powerQueryConnection().isPresent()) {
+            powerQueryConnection(odc.powerQueryConnection().get());
+        }
+        source("powerQueryMashupData", odc.powerQueryMashupData());
+    }
+
+    private void connection(int index, Connection connection) throws IOException {
+        out.append("connection").append('.').append(Integer.toString(index)).append('\n');
+        connectionFields(connection.type(), connection.connectionString(), connection.commandType(),
+                connection.commandText());
+        List<Parameter> parameters = connection.parameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            Parameter parameter = parameters.get(i);
+            out.append("parameter").append('.').append(Integer.toString(i)).append('\n');
+            field("parameterName", parameter.name());
+            if (parameter.dataType().isPresent()) {
+                field("parameterDataType", parameter.dataType().get().toString());
+            }
+        }
+        securityFields(connection.ssoApplicationId(), connection.credentialsMethod(),
+                connection.alwaysUseConnectionFile(), Boolean.TRUE);
+        text("culture", connection.culture());
+    }
+
+    private void powerQueryConnection(PowerQueryConnection connection) throws IOException {
+        out.append("powerQueryConnection").append('\n');
+        connectionFields(connection.type(), connection.connectionString(), connection.commandType(),
+                connection.commandText());
+        securityFields(connection.ssoApplicationId(), connection.credentialsMethod(),
+                connection.alwaysUseConnectionFile(), Boolean.FALSE);
+    }
+
+    private void connectionFields(ConnectionType type, String connectionString, Optional<CommandType> commandType,
+            Optional<TextSource> commandText) throws IOException {
+        field("type", type.name());
+        field("connectionString", normalize(connectionString));
+        if (commandType.isPresent()) {
+            field("commandType", commandType.get().name());
+        }
+        source("commandText", commandText);
+    }
+
+    private void securityFields(Optional<String> ssoApplicationId, Optional<CredentialsMethod> credentialsMethod,
+            Optional<Boolean> alwaysUseConnectionFile, Boolean alwaysUseConnectionFileDefault) throws IOException {
+        text("ssoApplicationId", ssoApplicationId);
+        field("credentialsMethod", credentialsMethod.orElse(CredentialsMethod.Integrated).name());
+        field("alwaysUseConnectionFile", alwaysUseConnectionFile.orElse(alwaysUseConnectionFileDefault).toString());
+    }
+
+    private static String normalize(String connectionString) {
+        try {
+            return ConnectionString.parse(connectionString).normalized();
+        } catch (IllegalArgumentException e) {
+            return connectionString;
+        }
+    }
+
+    private void text(String name, Optional<String> value) throws IOException {
+        if (value.isPresent() && !value.get().isEmpty()) {
+            field(name, value.get());
+        }
+    }
+
+    private void field(String name, CharSequence value) throws IOException {
+        out.append(name).append('=');
+        escape(value, 0, value.length());
+        out.append('\n');
+    }
+
+    private void source(String name, Optional<TextSource> source) throws IOException {
+        if (source.isEmpty()) {
+            return;
+        }
+        TextSource textSource = source.get();
+        if (textSource instanceof TextSource.Literal literal && !literal.escaped()) {
+            text(name, Optional.of(literal.text()));
+            return;
+        }
+        if (textSource instanceof TextSource.Supplied supplied && !supplied.escaped()) {
+            CharSequence text = supplied.supplier().get();
+            if (!text.isEmpty()) {
+                field(name, text);
+            }
+            return;
+        }
+        FieldValue value = new FieldValue(name);
+        try (Reader reader = textSource.openReader()) {
+            if (textSource.escaped()) {
+                XmlUnescaper.unescape(reader, value);
+            } else {
+                char[] buffer = new char[8192];
+                int n;
+                while ((n = reader.read(buffer)) >= 0) {
+                    for (int i = 0; i < n; i++) {
+                        value.append(buffer[i]);
+                    }
+                }
+            }
+        }
+        if (value.started) {
+            out.append('\n');
+        }
+    }
+
+    private void escape(CharSequence text, int start, int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            escape(text.charAt(i));
+        }
+    }
+
+    private void escape(char c) throws IOException {
+        switch (c) {
+        case '\\' -> out.append('\\').append('\\');
+        case '\n' -> out.append('\\').append('n');
+        case '\r' -> out.append('\\').append('r');
+        default -> out.append(c);
+        }
+    }
+
+    /**
+     * The value of a streamed field, the name is written with the first
+     * character so that an empty text produces no field.
+     */
+    private final class FieldValue implements Appendable {
+
+        private final String name;
+
+        private boolean started;
+
+        private FieldValue(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            if (!started) {
+                out.append(name).append('=');
+                started = true;
+            }
+            escape(c);
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            return append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            for (int i = start; i < end; i++) {
+                append(csq.charAt(i));
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.simple.canonical;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HexFormat;
+
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+
+/**
+ * A 128-bit content hash of an ODC file: MurmurHash3 x64 128-bit with seed 0
+ * over the UTF-8 encoding of the {@link OdcCanonicalForm canonical form}. The
+ * hash is computed while the model is walked, without building the canonical
+ * text, and is stable across JVM runs and platforms. Equivalent files have the
+ * same hash. It is not a cryptographic hash and must not be used where
+ * collisions could be provoked on purpose.
+ *
+ * @param high The first 64 bits
+ * @param low  The second 64 bits
+ */
+public record OdcHash(long high, long low) {
+
+    /**
+     * Computes the hash of an ODC file.
+     *
+     * @param odcFile The ODC file model
+     * @return The hash
+     * @throws UncheckedIOException if a text source cannot be read
+     */
+    public static OdcHash of(OdcFile odcFile) {
+        Murmur3Sink sink = new Murmur3Sink();
+        try {
+            OdcCanonicalForm.write(odcFile, sink);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sink.finish();
+    }
+
+    /**
+     * Computes the hash of a text, e.g. of a stored canonical form.
+     *
+     * @param text The text
+     * @return The hash
+     */
+    public static OdcHash of(CharSequence text) {
+        return new Murmur3Sink().append(text).finish();
+    }
+
+    /**
+     * Parses the hexadecimal form returned by {@link #toString()}.
+     *
+     * @param hex 32 hexadecimal digits
+     * @return The hash
+     * @throws IllegalArgumentException if the text is not 32 hexadecimal digits
+     */
+    public static OdcHash parse(CharSequence hex) {
+        if (hex.length() != 32) {
+            throw new IllegalArgumentException("Expected 32 hexadecimal digits: " + hex);
+        }
+        try {
+            return new OdcHash(HexFormat.fromHexDigitsToLong(hex, 0, 16), HexFormat.fromHexDigitsToLong(hex, 16, 32));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Expected 32 hexadecimal digits: " + hex, e);
+        }
+    }
+
+    /**
+     * Returns the first 64 bits, for keys where 64 bits are enough.
+     *
+     * @return The 64-bit hash
+     */
+    public long asLong() {
+        return high;
+    }
+
+    /**
+     * Returns the hash as 32 lowercase hexadecimal digits, high bits first.
+     *
+     * @return The hexadecimal form
+     */
+    @Override
+    public String toString() {
+        HexFormat hex = HexFormat.of();
+        return hex.toHexDigits(high) + hex.toHexDigits(low);
+    }
+}
@@ -0,0 +1,278 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.simple.compact;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
+import org.eclipse.daanse.odc.simple.model.Parameter;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+
+/**
+ * Flat variant of {@link Connection} and {@link PowerQueryConnection}. Absent
+ * values are stored as null instead of an empty {@link Optional}, the
+ * parameters are kept in an array and the optional boolean is packed into a
+ * presence bitmask. The same class represents both kinds of connections, a
+ * Power Query connection has no parameters and no culture.
+ * <p>
+ * Instances are immutable as long as the parameter array handed to the
+ * constructor is not shared.
+ */
+public final class CompactConnection {
+
+    private static final CompactParameter[] NO_PARAMETERS = {};
+
+    /** Set if the always use connection file flag is present. */
+    private static final byte ALWAYS_USE_CONNECTION_FILE_PRESENT = 1;
+
+    /** Set if the always use connection file flag is present and true. */
+    private static final byte ALWAYS_USE_CONNECTION_FILE = 2;
+
+    private final ConnectionType type;
+
+    private final String connectionString;
+
+    private final CommandType commandType;
+
+    private final CompactParameter[] parameters;
+
+    private final TextSource commandText;
+
+    private final String ssoApplicationId;
+
+    private final CredentialsMethod credentialsMethod;
+
+    private final String culture;
+
+    private final byte flags;
+
+    /**
+     * Creates a connection. All arguments except the type and the connection
+     * string may be null if the value is absent.
+     *
+     * @param type                    The type of connection
+     * @param connectionString        The database connection string
+     * @param commandType             The command type, or null
+     * @param parameters              The connection parameters, or null for none
+     * @param commandText             The command text, or null
+     * @param ssoApplicationId        The single sign-on application ID, or null
+     * @param credentialsMethod       The credentials method, or null
+     * @param alwaysUseConnectionFile The always use connection file flag, or null
+     * @param culture                 The culture setting, or null
+     */
+    public CompactConnection(ConnectionType type, String connectionString, CommandType commandType,
+            CompactParameter[] parameters, TextSource commandText, String ssoApplicationId,
+            CredentialsMethod credentialsMethod, Boolean alwaysUseConnectionFile, String culture) {
+        this.type = Objects.requireNonNull(type, "type");
+        this.connectionString = Objects.requireNonNull(connectionString, "connectionString");
+        this.commandType = commandType;
+        this.parameters = parameters == null || parameters.length == 0 ? NO_PARAMETERS : parameters;
+        this.commandText = commandText;
+        this.ssoApplicationId = ssoApplicationId;
+        this.credentialsMethod = credentialsMethod;
+        this.culture = culture;
+        this.flags = alwaysUseConnectionFile == null ? 0
+                : alwaysUseConnectionFile ? (byte) (ALWAYS_USE_CONNECTION_FILE_PRESENT | ALWAYS_USE_CONNECTION_FILE)
+                        : ALWAYS_USE_CONNECTION_FILE_PRESENT;
+    }
+
+    /**
+     * Creates a basic connection with type and connection string, all other
+     * values are absent.
+     *
+     * @param type             The connection type
+     * @param connectionString The database connection string
+     * @return A new connection instance
+     */
+    public static CompactConnection of(ConnectionType type, String connectionString) {
+        return new CompactConnection(type, connectionString, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Converts a database connection. Text sources are shared, not copied.
+     *
+     * @param connection The connection to convert
+     * @return The compact connection
+     */
+    public static CompactConnection of(Connection connection) {
+        List<Parameter> list = connection.parameters();
+        CompactParameter[] params = NO_PARAMETERS;
+        if (!list.isEmpty()) {
+            params = new CompactParameter[list.size()];
+            for (int i = 0; i < params.length; i++) {
+                params[i] = CompactParameter.of(list.get(i));
+            }
+        }
+        return new CompactConnection(connection.type(), connection.connectionString(),
+                connection.commandType().orElse(null), params, connection.commandText().orElse(null),
+                connection.ssoApplicationId().orElse(null), connection.credentialsMethod().orElse(null),
+                connection.alwaysUseConnectionFile().orElse(null), connection.culture().orElse(null));
+    }
+
+    /**
+     * Converts a Power Query connection.
+     *
+     * @param connection The Power Query connection to convert
+     * @return The compact connection
+     */
+    public static CompactConnection of(PowerQueryConnection connection) {
+        return new CompactConnection(connection.type(), connection.connectionString(),
+                connection.commandType().orElse(null), NO_PARAMETERS, connection.commandText().orElse(null),
+                connection.ssoApplicationId().orElse(null), connection.credentialsMethod().orElse(null),
+                connection.alwaysUseConnectionFile().orElse(null), null);
+    }
+
+    /**
+     * Converts back to a database connection.
+     *
+     * @return The model connection
+     */
+    public Connection toConnection() {
+        List<Parameter> params = List.of();
+        if (parameters.length > 0) {
+            List<Parameter> list = new ArrayList<>(parameters.length);
+            for (CompactParameter parameter : parameters) {
+                list.add(parameter.toParameter());
+            }
+            params = List.copyOf(list);
+        }
+        return new Connection(type, connectionString, Optional.ofNullable(commandType), params,
+                Optional.ofNullable(commandText), Optional.ofNullable(ssoApplicationId),
+                Optional.ofNullable(credentialsMethod), Optional.ofNullable(alwaysUseConnectionFile()),
+                Optional.ofNullable(culture));
+    }
+
+    /**
+     * Converts back to a Power Query connection. Parameters and culture are not
+     * part of a Power Query connection and are dropped.
+     *
+     * @return The model Power Query connection
+     */
+    public PowerQueryConnection toPowerQueryConnection() {
+        return new PowerQueryConnection(type, connectionString, Optional.ofNullable(commandType),
+                Optional.ofNullable(commandText), Optional.ofNullable(ssoApplicationId),
+                Optional.ofNullable(credentialsMethod), Optional.ofNullable(alwaysUseConnectionFile()));
+    }
+
+    /**
+     * @return The type of connection
+     */
+    public ConnectionType type() {
+        return type;
+    }
+
+    /**
+     * @return The database connection string
+     */
+    public String connectionString() {
+        return connectionString;
+    }
+
+    /**
+     * @return The command type, or null if absent
+     */
+    public CommandType commandType() {
+        return commandType;
+    }
+
+    /**
+     * @return The number of connection parameters
+     */
+    public int parameterCount() {
+        return parameters.length;
+    }
+
+    /**
+     * @param index The index of the parameter
+     * @return The connection parameter at the index
+     */
+    public CompactParameter parameter(int index) {
+        return parameters[index];
+    }
+
+    /**
+     * @return The command text, or null if absent
+     */
+    public TextSource commandText() {
+        return commandText;
+    }
+
+    /**
+     * @return The single sign-on application ID, or null if absent
+     */
+    public String ssoApplicationId() {
+        return ssoApplicationId;
+    }
+
+    /**
+     * @return The credentials method, or null if absent
+     */
+    public CredentialsMethod credentialsMethod() {
+        return credentialsMethod;
+    }
+
+    /**
+     * @return Whether the always use connection file flag is present
+     */
+    public boolean hasAlwaysUseConnectionFile() {
+        return (flags & ALWAYS_USE_CONNECTION_FILE_PRESENT) != 0;
+    }
+
+    /**
+     * @return The always use connection file flag, or null if absent
+     */
+    public Boolean alwaysUseConnectionFile() {
+        return hasAlwaysUseConnectionFile() ? (flags & ALWAYS_USE_CONNECTION_FILE) != 0 : null;
+    }
+
+    /**
+     * @return The culture setting, or null if absent
+     */
+    public String culture() {
+        return culture;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof CompactConnection other && type == other.type
+                && connectionString.equals(other.connectionString) && commandType == other.commandType
+                && Arrays.equals(parameters, other.parameters) && Objects.equals(commandText, other.commandText)
+                && Objects.equals(ssoApplicationId, other.ssoApplicationId)
+                && credentialsMethod == other.credentialsMethod && flags == other.flags
+                && Objects.equals(culture, other.culture);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Objects.hash(type, connectionString, commandType, commandText, ssoApplicationId, credentialsMethod,
+                culture, flags);
+        return 31 * hash + Arrays.hashCode(parameters);
+    }
+
+    @Override
+    public String toString() {
+        return "CompactConnection[type=" + type + ", connectionString=" + connectionString + ", commandType="
+                + commandType + ", parameters=" + Arrays.toString(parameters) + ", commandText=" + commandText
+                + ", ssoApplicationId=" + ssoApplicationId + ", credentialsMethod=" + credentialsMethod
+                + ", alwaysUseConnectionFile=" + alwaysUseConnectionFile() + ", culture=" + culture + "]";
+    }
+}
@@ -0,0 +1,266 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.simple.compact;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+
+/**
+ * Flat variant of {@link OdcFile} for pipelines that hold many files in
+ * memory. The document properties and the office data connection are inlined
+ * into one object, absent values are stored as null instead of an empty
+ * {@link Optional} and the connections are kept in an array.
+ * <p>
+ * {@link #of(OdcFile)} and {@link #toOdcFile()} convert in a single pass,
+ * strings and text sources are shared and not copied.
+ */
+public final class CompactOdcFile {
+
+    private static final CompactConnection[] NO_CONNECTIONS = {};
+
+    private final String title;
+
+    private final String description;
+
+    private final String name;
+
+    private final String keywords;
+
+    private final String catalog;
+
+    private final String schema;
+
+    private final String table;
+
+    private final String sourceFile;
+
+    private final CompactConnection[] connections;
+
+    private final CompactConnection powerQueryConnection;
+
+    private final TextSource powerQueryMashupData;
+
+    /**
+     * Creates a file. All arguments may be null if the value is absent.
+     *
+     * @param title                The document title, or null
+     * @param description          The document description, or null
+     * @param name                 The document name, or null
+     * @param keywords             The document keywords, or null
+     * @param catalog              The catalog name, or null
+     * @param schema               The schema name, or null
+     * @param table                The table name, or null
+     * @param sourceFile           The source file, or null
+     * @param connections          The database connections, or null for none
+     * @param powerQueryConnection The Power Query connection, or null
+     * @param powerQueryMashupData The Power Query mashup data, or null
+     */
+    public CompactOdcFile(String title, String description, String name, String keywords, String catalog,
+            String schema, String table, String sourceFile, CompactConnection[] connections,
+            CompactConnection powerQueryConnection, TextSource powerQueryMashupData) {
+        this.title = title;
+        this.description = description;
+        this.name = name;
+        this.keywords = keywords;
+        this.catalog = catalog;
+        this.schema = schema;
+        this.table = table;
+        this.sourceFile = sourceFile;
+        this.connections = connections == null || connections.length == 0 ? NO_CONNECTIONS : connections;
+        this.powerQueryConnection = powerQueryConnection;
+        this.powerQueryMashupData = powerQueryMashupData;
+    }
+
+    /**
+     * Creates a file with a title and a single connection, the title is also
+     * used as document name. This matches {@link OdcFile#of(String,
+     * OfficeDataConnection)} with {@link OfficeDataConnection#of(Connection)}.
+     *
+     * @param title      The document title and name
+     * @param connection The database connection
+     * @return A new file instance
+     */
+    public static CompactOdcFile of(String title, CompactConnection connection) {
+        return new CompactOdcFile(title, null, title, null, null, null, null, null,
+                new CompactConnection[] { connection }, null, null);
+    }
+
+    /**
+     * Converts an ODC file model.
+     *
+     * @param odcFile The file to convert
+     * @return The compact file
+     */
+    public static CompactOdcFile of(OdcFile odcFile) {
+        DocumentProperties props = odcFile.documentProperties();
+        OfficeDataConnection odc = odcFile.officeDataConnection();
+        List<Connection> list = odc.connections();
+        CompactConnection[] conns = NO_CONNECTIONS;
+        if (!list.isEmpty()) {
+            conns = new CompactConnection[list.size()];
+            for (int i = 0; i < conns.length; i++) {
+                conns[i] = CompactConnection.of(list.get(i));
+            }
+        }
+        return new CompactOdcFile(odcFile.title().orElse(null), props.description().orElse(null),
+                props.name().orElse(null), props.keywords().orElse(null), odcFile.catalog().orElse(null),
+                odcFile.schema().orElse(null), odcFile.table().orElse(null), odc.sourceFile().orElse(null), conns,
+                odc.powerQueryConnection().map(CompactConnection::of).orElse(null),
+                odc.powerQueryMashupData().orElse(null));
+    }
+
+    /**
+     * Converts back to the ODC file model.
+     *
+     * @return The model file
+     */
+    public OdcFile toOdcFile() {
+        List<Connection> conns = List.of();
+        if (connections.length > 0) {
+            List<Connection> list = new ArrayList<>(connections.length);
+            for (CompactConnection connection : connections) {
+                list.add(connection.toConnection());
+            }
+            conns = List.copyOf(list);
+        }
+        OfficeDataConnection odc = new OfficeDataConnection(Optional.ofNullable(sourceFile), conns,
+                powerQueryConnection == null ? Optional.empty()
+                        : Optional.of(powerQueryConnection.toPowerQueryConnection()),
+                Optional.ofNullable(powerQueryMashupData));
+        DocumentProperties props = new DocumentProperties(Optional.ofNullable(description),
+                Optional.ofNullable(name), Optional.ofNullable(keywords));
+        return new OdcFile(Optional.ofNullable(title), props, odc, Optional.ofNullable(catalog),
+                Optional.ofNullable(schema), Optional.ofNullable(table));
+    }
+
+    /**
+     * @return The document title, or null if absent
+     */
+    public String title() {
+        return title;
+    }
+
+    /**
+     * @return The document description, or null if absent
+     */
+    public String description() {
+        return description;
+    }
+
+    /**
+     * @return The document name, or null if absent
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return The document keywords, or null if absent
+     */
+    public String keywords() {
+        return keywords;
+    }
+
+    /**
+     * @return The catalog name, or null if absent
+     */
+    public String catalog() {
+        return catalog;
+    }
+
+    /**
+     * @return The schema name, or null if absent
+     */
+    public String schema() {
+        return schema;
+    }
+
+    /**
+     * @return The table name, or null if absent
+     */
+    public String table() {
+        return table;
+    }
+
+    /**
+     * @return The source file, or null if absent
+     */
+    public String sourceFile() {
+        return sourceFile;
+    }
+
+    /**
+     * @return The number of database connections
+     */
+    public int connectionCount() {
+        return connections.length;
+    }
+
+    /**
+     * @param index The index of the connection
+     * @return The database connection at the index
+     */
+    public CompactConnection connection(int index) {
+        return connections[index];
+    }
+
+    /**
+     * @return The Power Query connection, or null if absent
+     */
+    public CompactConnection powerQueryConnection() {
+        return powerQueryConnection;
+    }
+
+    /**
+     * @return The Power Query mashup data, or null if absent
+     */
+    public TextSource powerQueryMashupData() {
+        return powerQueryMashupData;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof CompactOdcFile other && Objects.equals(title, other.title)
+                && Objects.equals(description, other.description) && Objects.equals(name, other.name)
+                && Objects.equals(keywords, other.keywords) && Objects.equals(catalog, other.catalog)
+                && Objects.equals(schema, other.schema) && Objects.equals(table, other.table)
+                && Objects.equals(sourceFile, other.sourceFile) && Arrays.equals(connections, other.connections)
+                && Objects.equals(powerQueryConnection, other.powerQueryConnection)
+                && Objects.equals(powerQueryMashupData, other.powerQueryMashupData);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Objects.hash(title, description, name, keywords, catalog, schema, table, sourceFile,
+                powerQueryConnection, powerQueryMashupData);
+        return 31 * hash + Arrays.hashCode(connections);
+    }
+
+    @Override
+    public String toString() {
+        return "CompactOdcFile[title=" + title + ", description=" + description + ", name=" + name + ", keywords="
+                + keywords + ", catalog=" + catalog + ", schema=" + schema + ", table=" + table + ", sourceFile="
+                + sourceFile + ", connections=" + Arrays.toString(connections) + ", powerQueryConnection="
+                + powerQueryConnection + ", powerQueryMashupData=" + powerQueryMashupData + "]";
+    }
+}
@@ -0,0 +1,77 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.simple.compact;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.simple.model.Parameter;
+
+/**
+ * A connection parameter with a primitive data type.
+ *
+ * @param name        The parameter name
+ * @param dataType    The data type identifier, set to 0 if absent
+ * @param hasDataType Whether the data type is present
+ */
+public record CompactParameter(String name, int dataType, boolean hasDataType) {
+
+    public CompactParameter {
+        Objects.requireNonNull(name, "name");
+        if (!hasDataType) {
+            dataType = 0;
+        }
+    }
+
+    /**
+     * Creates a parameter with a name and a data type.
+     *
+     * @param name     The parameter name
+     * @param dataType The data type identifier
+     * @return A new parameter
+     */
+    public static CompactParameter of(String name, int dataType) {
+        return new CompactParameter(name, dataType, true);
+    }
+
+    /**
+     * Creates a parameter without data type.
+     *
+     * @param name The parameter name
+     * @return A new parameter
+     */
+    public static CompactParameter of(String name) {
+        return new CompactParameter(name, 0, false);
+    }
+
+    /**
+     * Converts a model parameter.
+     *
+     * @param parameter The model parameter
+     * @return The compact parameter
+     */
+    public static CompactParameter of(Parameter parameter) {
+        return parameter.dataType().isPresent() ? of(parameter.name(), parameter.dataType().get())
+                : of(parameter.name());
+    }
+
+    /**
+     * Converts the parameter to the model record.
+     *
+     * @return The model parameter
+     */
+    public Parameter toParameter() {
+        return new Parameter(name, hasDataType ? Optional.of(dataType) : Optional.empty());
+    }
+}
@@ -0,0 +1,456 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.simple.connectionstring;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * A parsed OLE DB or ODBC connection string, e.g.
+ * {@code Provider=MSOLAP;Data Source="srv;1";Initial Catalog={Sales}}.
+ * <p>
+ * The syntax is a list of {@code key=value} pairs separated by {@code ;}.
+ * Whitespace around keys and values is ignored, keys compare
+ * case-insensitive and a {@code =} in a key is written as {@code ==}. A value
+ * may be enclosed in {@code "} or {@code '}, in which the enclosing quote is
+ * doubled, or in ODBC braces {@code {}}, in which {@code }} is doubled; a
+ * {@code ;} in an enclosed value is part of the value. If a key occurs more
+ * than once, the last occurrence counts.
+ * <p>
+ * Parsing records the offsets of the keys and values in a single array, the
+ * text is not copied. {@link #key(int)} and {@link #value(int)} return views
+ * of the text, and the lookups {@link #indexOf(CharSequence)},
+ * {@link #valueEquals(int, CharSequence)} and
+ * {@link #valueEqualsIgnoreCase(int, CharSequence)} do not allocate. Instances
+ * are immutable if the parsed text is.
+ */
+public final class ConnectionString {
+
+    private static final int KEY_START = 0;
+
+    private static final int KEY_END = 1;
+
+    private static final int VALUE_START = 2;
+
+    private static final int VALUE_END = 3;
+
+    private static final int QUOTE = 4;
+
+    /** Index of the separating {@code ;} after the entry, or the text length. */
+    private static final int END = 5;
+
+    private static final int STRIDE = 6;
+
+    private static final int KEY_ESCAPED = 1 << 16;
+
+    private static final int VALUE_ESCAPED = 1 << 17;
+
+    private static final int QUOTE_MASK = 0xFFFF;
+
+    private final CharSequence text;
+
+    private final int[] entries;
+
+    private final int size;
+
+    private ConnectionString(CharSequence text, int[] entries, int size) {
+        this.text = text;
+        this.entries = entries;
+        this.size = size;
+    }
+
+    /**
+     * Parses a connection string. The text is referenced, not copied.
+     *
+     * @param text The connection string
+     * @return The parsed connection string
+     * @throws IllegalArgumentException if a key has no {@code =}, is empty, or
+     *                                  an enclosed value is not terminated or
+     *                                  followed by other characters than
+     *                                  whitespace
+     */
+    public static ConnectionString parse(CharSequence text) {
+        int length = text.length();
+        int separators = 1;
+        for (int i = 0; i < length; i++) {
+            if (text.charAt(i) == ';') {
+                separators++;
+            }
+        }
+        int[] entries = new int[separators * STRIDE];
+        int size = 0;
+        int pos = 0;
+        while (pos < length) {
+            pos = skipWhitespace(text, pos, length);
+            if (pos == length) {
+                break;
+            }
+            if (text.charAt(pos) == ';') {
+                pos++;
+                continue;
+            }
+            int flags = 0;
+            int keyStart = pos;
+            while (pos < length) {
+                char c = text.charAt(pos);
+                if (c == '=') {
+                    if (pos + 1 < length && text.charAt(pos + 1) == '=') {
+                        flags |= KEY_ESCAPED;
+                        pos += 2;
+                        continue;
+                    }
+                    break;
+                }
+                if (c == ';') {
+                    break;
+                }
+                pos++;
+            }
+            if (pos == length || text.charAt(pos) == ';') {
+                throw new IllegalArgumentException("Missing '=' after key at index " + keyStart);
+            }
+            int keyEnd = trimEnd(text, keyStart, pos);
+            if (keyEnd == keyStart) {
+                throw new IllegalArgumentException("Empty key at index " + keyStart);
+            }
+            pos = skipWhitespace(text, pos + 1, length);
+
+            int valueStart;
+            int valueEnd;
+            char open = pos < length ? text.charAt(pos) : 0;
+            if (open == '"' || open == '\'' || open == '{') {
+                char close = open == '{' ? '}' : open;
+                valueStart = ++pos;
+                while (true) {
+                    if (pos == length) {
+                        throw new IllegalArgumentException("Unterminated value at index " + (valueStart - 1));
+                    }
+                    if (text.charAt(pos) == close) {
+                        if (pos + 1 < length && text.charAt(pos + 1) == close) {
+                            flags |= VALUE_ESCAPED;
+                            pos += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    pos++;
+                }
+                valueEnd = pos;
+                pos = skipWhitespace(text, pos + 1, length);
+                if (pos < length && text.charAt(pos) != ';') {
+                    throw new IllegalArgumentException("Unexpected character after value at index " + pos);
+                }
+                flags |= open;
+            } else {
+                valueStart = pos;
+                while (pos < length && text.charAt(pos) != ';') {
+                    pos++;
+                }
+                valueEnd = trimEnd(text, valueStart, pos);
+            }
+            int base = size++ * STRIDE;
+            entries[base + KEY_START] = keyStart;
+            entries[base + KEY_END] = keyEnd;
+            entries[base + VALUE_START] = valueStart;
+            entries[base + VALUE_END] = valueEnd;
+            entries[base + QUOTE] = flags;
+            entries[base + END] = pos;
+            pos++;
+        }
+        return new ConnectionString(text, entries, size);
+    }
+
+    /**
+     * @return The parsed text
+     */
+    public CharSequence text() {
+        return text;
+    }
+
+    /**
+     * @return The number of entries including repeated keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index The index of the entry
+     * @return A view of the unescaped key as written, without surrounding
+     *         whitespace
+     */
+    public CharSequence key(int index) {
+        int base = base(index);
+        return new Span(text, entries[base + KEY_START], entries[base + KEY_END],
+                (entries[base + QUOTE] & KEY_ESCAPED) != 0 ? '=' : 0);
+    }
+
+    /**
+     * @param index The index of the entry
+     * @return A view of the unescaped value without enclosing quotes or braces
+     */
+    public CharSequence value(int index) {
+        int base = base(index);
+        return new Span(text, entries[base + VALUE_START], entries[base + VALUE_END], valueEscape(base));
+    }
+
+    /**
+     * Looks up a key without allocating.
+     *
+     * @param key The key, compared case-insensitive and without escaping
+     * @return The index of the last entry with the key, or -1
+     */
+    public int indexOf(CharSequence key) {
+        for (int index = size - 1; index >= 0; index--) {
+            int base = index * STRIDE;
+            if (Span.regionEquals(text, entries[base + KEY_START], entries[base + KEY_END],
+                    (entries[base + QUOTE] & KEY_ESCAPED) != 0 ? '=' : 0, key, true)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param key The key, compared case-insensitive
+     * @return Whether the connection string contains the key
+     */
+    public boolean contains(CharSequence key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Returns the value of a key as a string.
+     *
+     * @param key The key, compared case-insensitive
+     * @return The unescaped value, or empty if the key is absent
+     */
+    public Optional<String> get(CharSequence key) {
+        int index = indexOf(key);
+        return index < 0 ? Optional.empty() : Optional.of(value(index).toString());
+    }
+
+    /**
+     * Compares a value without allocating.
+     *
+     * @param index    The index of the entry
+     * @param expected The expected unescaped value
+     * @return Whether the value equals the expected value
+     */
+    public boolean valueEquals(int index, CharSequence expected) {
+        int base = base(index);
+        return Span.regionEquals(text, entries[base + VALUE_START], entries[base + VALUE_END], valueEscape(base),
+                expected, false);
+    }
+
+    /**
+     * Compares a value case-insensitive without allocating.
+     *
+     * @param index    The index of the entry
+     * @param expected The expected unescaped value
+     * @return Whether the value equals the expected value ignoring case
+     */
+    public boolean valueEqualsIgnoreCase(int index, CharSequence expected) {
+        int base = base(index);
+        return Span.regionEquals(text, entries[base + VALUE_START], entries[base + VALUE_END], valueEscape(base),
+                expected, true);
+    }
+
+    /**
+     * Returns the canonical form, suitable for comparing connection strings and
+     * as a cache key. Repeated keys are reduced to their last occurrence, keys
+     * are lower-cased and sorted, whitespace outside of values is removed and
+     * values are enclosed only where the syntax requires it; values in braces
+     * keep their braces, as ODBC drivers may require them. Values keep their
+     * case.
+     *
+     * @return The normalized connection string
+     */
+    public String normalized() {
+        String[] keys = new String[size];
+        int[] indexes = new int[size];
+        int count = 0;
+        for (int index = 0; index < size; index++) {
+            if (indexOf(key(index)) == index) {
+                keys[count] = key(index).toString().toLowerCase(Locale.ROOT);
+                indexes[count++] = index;
+            }
+        }
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> keys[a].compareTo(keys[b]));
+        StringBuilder sb = new StringBuilder(text.length());
+        for (Integer i : order) {
+            if (!sb.isEmpty()) {
+                sb.append(';');
+            }
+            appendKey(sb, keys[i]);
+            sb.append('=');
+            int index = indexes[i];
+            appendValue(sb, value(index), (entries[index * STRIDE + QUOTE] & QUOTE_MASK) == '{');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Sets the value of a key. The value of the last occurrence is replaced and
+     * the rest of the text is kept as is; an absent key is appended. A value
+     * that was in braces stays in braces.
+     *
+     * @param key   The key
+     * @param value The unescaped value
+     * @return The edited connection string
+     */
+    public String with(CharSequence key, CharSequence value) {
+        int index = indexOf(key);
+        StringBuilder sb = new StringBuilder(text.length() + key.length() + value.length() + 8);
+        if (index < 0) {
+            sb.append(text);
+            int last = trimEnd(text, 0, text.length());
+            if (last > 0 && text.charAt(last - 1) != ';') {
+                sb.append(';');
+            }
+            appendKey(sb, key);
+            sb.append('=');
+            appendValue(sb, value, false);
+            return sb.toString();
+        }
+        int base = index * STRIDE;
+        int quote = entries[base + QUOTE] & QUOTE_MASK;
+        int from = entries[base + VALUE_START] - (quote == 0 ? 0 : 1);
+        int to = entries[base + VALUE_END] + (quote == 0 ? 0 : 1);
+        sb.append(text, 0, from);
+        appendValue(sb, value, quote == '{');
+        sb.append(text, to, text.length());
+        return sb.toString();
+    }
+
+    /**
+     * Removes all occurrences of a key together with their separators. The rest
+     * of the text is kept as is.
+     *
+     * @param key The key
+     * @return The edited connection string, the parsed text if the key is
+     *         absent
+     */
+    public String without(CharSequence key) {
+        if (indexOf(key) < 0) {
+            return text.toString();
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        int copied = 0;
+        for (int index = 0; index < size; index++) {
+            int base = index * STRIDE;
+            if (Span.regionEquals(text, entries[base + KEY_START], entries[base + KEY_END],
+                    (entries[base + QUOTE] & KEY_ESCAPED) != 0 ? '=' : 0, key, true)) {
+                sb.append(text, copied, entries[base + KEY_START]);
+                copied = skipWhitespace(text, Math.min(entries[base + END] + 1, text.length()), text.length());
+            }
+        }
+        sb.append(text, copied, text.length());
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+
+    private int base(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return index * STRIDE;
+    }
+
+    private char valueEscape(int base) {
+        int flags = entries[base + QUOTE];
+        if ((flags & VALUE_ESCAPED) == 0) {
+            return 0;
+        }
+        int quote = flags & QUOTE_MASK;
+        return quote == '{' ? '}' : (char) quote;
+    }
+
+    private static void appendKey(StringBuilder sb, CharSequence key) {
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            sb.append(c);
+            if (c == '=') {
+                sb.append('=');
+            }
+        }
+    }
+
+    private static void appendValue(StringBuilder sb, CharSequence value, boolean braces) {
+        if (braces) {
+            appendEnclosed(sb, value, '{', '}');
+        } else if (needsQuotes(value)) {
+            appendEnclosed(sb, value, '"', '"');
+        } else {
+            sb.append(value);
+        }
+    }
+
+    private static void appendEnclosed(StringBuilder sb, CharSequence value, char open, char close) {
+        sb.append(open);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            sb.append(c);
+            if (c == close) {
+                sb.append(close);
+            }
+        }
+        sb.append(close);
+    }
+
+    private static boolean needsQuotes(CharSequence value) {
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        char first = value.charAt(0);
+        if (first == '"' || first == '\'' || first == '{' || isWhitespace(first)
+                || isWhitespace(value.charAt(length - 1))) {
+            return true;
+        }
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) == ';') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int skipWhitespace(CharSequence text, int pos, int end) {
+        while (pos < end && isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int trimEnd(CharSequence text, int start, int end) {
+        while (end > start && isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+    }
+}
@@ -0,0 +1,130 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.simple.connectionstring;
+
+/**
+ * A view of a key or value in the text of a connection string. The characters
+ * are not copied; a region containing doubled escape characters is unescaped
+ * into a string on the first access.
+ */
+final class Span implements CharSequence {
+
+    private final CharSequence text;
+
+    private final int start;
+
+    private final int end;
+
+    private final char escape;
+
+    private String unescaped;
+
+    Span(CharSequence text, int start, int end, char escape) {
+        this.text = text;
+        this.start = start;
+        this.end = end;
+        this.escape = escape;
+    }
+
+    @Override
+    public int length() {
+        return escape == 0 ? end - start : unescaped().length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (escape != 0) {
+            return unescaped().charAt(index);
+        }
+        if (index < 0 || index >= end - start) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return text.charAt(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        if (escape != 0) {
+            return unescaped().subSequence(from, to);
+        }
+        if (from < 0 || to > end - start || from > to) {
+            throw new IndexOutOfBoundsException("from " + from + ", to " + to + ", length " + (end - start));
+        }
+        return new Span(text, start + from, start + to, (char) 0);
+    }
+
+    @Override
+    public String toString() {
+        return escape == 0 ? text.subSequence(start, end).toString() : unescaped();
+    }
+
+    private String unescaped() {
+        String value = unescaped;
+        if (value == null) {
+            StringBuilder sb = new StringBuilder(end - start);
+            for (int i = start; i < end; i++) {
+                char c = text.charAt(i);
+                sb.append(c);
+                if (c == escape) {
+                    i++;
+                }
+            }
+            value = sb.toString();
+            unescaped = value;
+        }
+        return value;
+    }
+
+    /**
+     * Compares a region of a text with a character sequence without allocating.
+     *
+     * @param text       The text
+     * @param start      The start of the region
+     * @param end        The end of the region
+     * @param escape     The character that is doubled in the region, or 0
+     * @param other      The sequence to compare with
+     * @param ignoreCase Whether to compare case-insensitive
+     * @return Whether the unescaped region equals the sequence
+     */
+    static boolean regionEquals(CharSequence text, int start, int end, char escape, CharSequence other,
+            boolean ignoreCase) {
+        int length = other.length();
+        if (escape == 0 && end - start != length) {
+            return false;
+        }
+        int j = 0;
+        for (int i = start; i < end; i++, j++) {
+            char c = text.charAt(i);
+            if (j == length || !equals(c, other.charAt(j), ignoreCase)) {
+                return false;
+            }
+            if (c == escape) {
+                i++;
+            }
+        }
+        return j == length;
+    }
+
+    private static boolean equals(char a, char b, boolean ignoreCase) {
+        if (a == b) {
+            return true;
+        }
+        if (!ignoreCase) {
+            return false;
+        }
+        char upperA = Character.toUpperCase(a);
+        char upperB = Character.toUpperCase(b);
+        return upperA == upperB || Character.toLowerCase(upperA) == Character.toLowerCase(upperB);
+    }
+}
@@ -0,0 +1,341 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.simple.intern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.Parameter;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+
+/**
+ * Returns canonical instances of model values, so that equal strings,
+ * optionals, parameter lists and records are held only once. The model records
+ * are immutable and compare by value, so a canonical instance can be shared by
+ * any number of files.
+ * <p>
+ * Values are interned bottom up: the strings and optionals of a record first,
+ * then the record itself. A record is only copied if one of its components was
+ * replaced. Text sources are interned only if they are
+ * {@link TextSource.Literal literals}; other sources are kept as they are.
+ * <p>
+ * The interner is thread-safe and holds its instances until it is
+ * {@link #clear() cleared}, so it should live as long as the catalog it
+ * deduplicates. The saved memory reported by {@link #stats()} is an estimate
+ * for a 64-bit JVM with compressed references: the shallow sizes of the
+ * instances that were replaced by an already pooled equal instance.
+ */
+public final class OdcInterner {
+
+    private static final int OPTIONAL_SIZE = 16;
+
+    private static final int LITERAL_SIZE = 24;
+
+    private static final int PARAMETER_SIZE = 24;
+
+    private static final int DOCUMENT_PROPERTIES_SIZE = 24;
+
+    private static final int CONNECTION_SIZE = 48;
+
+    private static final int POWER_QUERY_CONNECTION_SIZE = 40;
+
+    private static final int OFFICE_DATA_CONNECTION_SIZE = 32;
+
+    private static final int ODC_FILE_SIZE = 40;
+
+    /**
+     * Statistics of an interner.
+     *
+     * @param lookups    Number of values looked up in the pool
+     * @param hits       Number of lookups that found an equal pooled value
+     * @param entries    Number of pooled values
+     * @param bytesSaved Estimated number of bytes no longer needed, as the
+     *                   looked up value was replaced by the pooled one
+     */
+    public record Stats(long lookups, long hits, int entries, long bytesSaved) {
+
+        /**
+         * Returns the share of lookups that found a pooled value.
+         *
+         * @return The hit rate between 0 and 1, 0 if nothing was looked up
+         */
+        public double hitRate() {
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+
+    private final ConcurrentHashMap<Object, Object> pool = new ConcurrentHashMap<>();
+
+    private final LongAdder lookups = new LongAdder();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /**
+     * Interns a string.
+     *
+     * @param value The string, may be null
+     * @return The canonical string, or null
+     */
+    public String intern(String value) {
+        return value == null ? null : canonical(value, value, stringSize(value));
+    }
+
+    /**
+     * Interns the document properties and their strings.
+     *
+     * @param properties The document properties
+     * @return The canonical document properties
+     */
+    public DocumentProperties intern(DocumentProperties properties) {
+        Optional<String> description = internString(properties.description());
+        Optional<String> name = internString(properties.name());
+        Optional<String> keywords = internString(properties.keywords());
+        DocumentProperties candidate = description == properties.description() && name == properties.name()
+                && keywords == properties.keywords() ? properties
+                        : new DocumentProperties(description, name, keywords);
+        return canonical(candidate, properties, DOCUMENT_PROPERTIES_SIZE);
+    }
+
+    /**
+     * Interns a connection, its strings, its command text and its parameters.
+     *
+     * @param connection The connection
+     * @return The canonical connection
+     */
+    public Connection intern(Connection connection) {
+        String connectionString = intern(connection.connectionString());
+        Optional<?> commandType = internOptional(connection.commandType());
+        List<Parameter> parameters = internParameters(connection.parameters());
+        Optional<TextSource> commandText = internText(connection.commandText());
+        Optional<String> ssoApplicationId = internString(connection.ssoApplicationId());
+        Optional<?> credentialsMethod = internOptional(connection.credentialsMethod());
+        Optional<?> alwaysUseConnectionFile = internOptional(connection.alwaysUseConnectionFile());
+        Optional<String> culture = internString(connection.culture());
+        Connection candidate = connection;
+        if (connectionString != connection.connectionString() || commandType != connection.commandType()
+                || parameters != connection.parameters() || commandText != connection.commandText()
+                || ssoApplicationId != connection.ssoApplicationId()
+                || credentialsMethod != connection.credentialsMethod()
+                || alwaysUseConnectionFile != connection.alwaysUseConnectionFile()
+                || culture != connection.culture()) {
+            candidate = new Connection(connection.type(), connectionString, cast(commandType), parameters,
+                    commandText, ssoApplicationId, cast(credentialsMethod), cast(alwaysUseConnectionFile), culture);
+        }
+        return canonical(candidate, connection, CONNECTION_SIZE);
+    }
+
+    /**
+     * Interns a Power Query connection, its strings and its command text.
+     *
+     * @param connection The Power Query connection
+     * @return The canonical Power Query connection
+     */
+    public PowerQueryConnection intern(PowerQueryConnection connection) {
+        String connectionString = intern(connection.connectionString());
+        Optional<?> commandType = internOptional(connection.commandType());
+        Optional<TextSource> commandText = internText(connection.commandText());
+        Optional<String> ssoApplicationId = internString(connection.ssoApplicationId());
+        Optional<?> credentialsMethod = internOptional(connection.credentialsMethod());
+        Optional<?> alwaysUseConnectionFile = internOptional(connection.alwaysUseConnectionFile());
+        PowerQueryConnection candidate = connection;
+        if (connectionString != connection.connectionString() || commandType != connection.commandType()
+                || commandText != connection.commandText() || ssoApplicationId != connection.ssoApplicationId()
+                || credentialsMethod != connection.credentialsMethod()
+                || alwaysUseConnectionFile != connection.alwaysUseConnectionFile()) {
+            candidate = new PowerQueryConnection(connection.type(), connectionString, cast(commandType), commandText,
+                    ssoApplicationId, cast(credentialsMethod), cast(alwaysUseConnectionFile));
+        }
+        return canonical(candidate, connection, POWER_QUERY_CONNECTION_SIZE);
+    }
+
+    /**
+     * Interns an office data connection and everything it contains.
+     *
+     * @param odc The office data connection
+     * @return The canonical office data connection
+     */
+    public OfficeDataConnection intern(OfficeDataConnection odc) {
+        Optional<String> sourceFile = internString(odc.sourceFile());
+        List<Connection> connections = odc.connections();
+        List<Connection> internedConnections = null;
+        for (int i = 0; i < connections.size(); i++) {
+            Connection connection = connections.get(i);
+            Connection interned = intern(connection);
+            if (interned != connection && internedConnections == null) {
+                internedConnections = new ArrayList<>(connections.subList(0, i));
+            }
+            if (internedConnections != null) {
+                internedConnections.add(interned);
+            }
+        }
+        Optional<PowerQueryConnection> powerQueryConnection = odc.powerQueryConnection();
+        if (powerQueryConnection.isPresent()) {
+            PowerQueryConnection interned = intern(powerQueryConnection.get());
+            powerQueryConnection = interned == powerQueryConnection.get() ? powerQueryConnection
+                    : Optional.of(interned);
+            powerQueryConnection = canonical(powerQueryConnection, odc.powerQueryConnection(), OPTIONAL_SIZE);
+        }
+        Optional<TextSource> powerQueryMashupData = internText(odc.powerQueryMashupData());
+        OfficeDataConnection candidate = odc;
+        if (sourceFile != odc.sourceFile() || internedConnections != null
+                || powerQueryConnection != odc.powerQueryConnection()
+                || powerQueryMashupData != odc.powerQueryMashupData()) {
+            candidate = new OfficeDataConnection(sourceFile,
+                    internedConnections == null ? connections : List.copyOf(internedConnections),
+                    powerQueryConnection, powerQueryMashupData);
+        }
+        return canonical(candidate, odc, OFFICE_DATA_CONNECTION_SIZE);
+    }
+
+    /**
+     * Interns an ODC file and everything it contains.
+     *
+     * @param odcFile The ODC file model
+     * @return The canonical ODC file model
+     */
+    public OdcFile intern(OdcFile odcFile) {
+        Optional<String> title = internString(odcFile.title());
+        DocumentProperties documentProperties = intern(odcFile.documentProperties());
+        OfficeDataConnection officeDataConnection = intern(odcFile.officeDataConnection());
+        Optional<String> catalog = internString(odcFile.catalog());
+        Optional<String> schema = internString(odcFile.schema());
+        Optional<String> table = internString(odcFile.table());
+        OdcFile candidate = odcFile;
+        if (title != odcFile.title() || documentProperties != odcFile.documentProperties()
+                || officeDataConnection != odcFile.officeDataConnection() || catalog != odcFile.catalog()
+                || schema != odcFile.schema() || table != odcFile.table()) {
+            candidate = new OdcFile(title, documentProperties, officeDataConnection, catalog, schema, table);
+        }
+        return canonical(candidate, odcFile, ODC_FILE_SIZE);
+    }
+
+    /**
+     * @return The current statistics
+     */
+    public Stats stats() {
+        return new Stats(lookups.sum(), hits.sum(), pool.size(), bytesSaved.sum());
+    }
+
+    /**
+     * Removes all pooled instances and resets the statistics. Instances handed
+     * out before stay valid.
+     */
+    public void clear() {
+        pool.clear();
+        lookups.reset();
+        hits.reset();
+        bytesSaved.reset();
+    }
+
+    private Optional<String> internString(Optional<String> value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        String interned = intern(value.get());
+        return canonical(interned == value.get() ? value : Optional.of(interned), value, OPTIONAL_SIZE);
+    }
+
+    private Optional<TextSource> internText(Optional<TextSource> value) {
+        if (value.isEmpty() || !(value.get() instanceof TextSource.Literal literal)) {
+            return value;
+        }
+        String text = intern(literal.text());
+        TextSource interned = canonical(text == literal.text() ? literal : new TextSource.Literal(text,
+                literal.escaped()), literal, LITERAL_SIZE);
+        return canonical(interned == literal ? value : Optional.of(interned), value, OPTIONAL_SIZE);
+    }
+
+    /**
+     * Interns an optional whose value needs no interning, e.g. an enum constant.
+     */
+    private Optional<?> internOptional(Optional<?> value) {
+        return value.isEmpty() ? value : canonical(value, value, OPTIONAL_SIZE);
+    }
+
+    private List<Parameter> internParameters(List<Parameter> parameters) {
+        if (parameters.isEmpty()) {
+            return parameters;
+        }
+        Parameter[] interned = new Parameter[parameters.size()];
+        boolean changed = false;
+        for (int i = 0; i < interned.length; i++) {
+            Parameter parameter = parameters.get(i);
+            String name = intern(parameter.name());
+            Optional<?> dataType = internOptional(parameter.dataType());
+            Parameter candidate = name == parameter.name() && dataType == parameter.dataType() ? parameter
+                    : new Parameter(name, cast(dataType));
+            interned[i] = canonical(candidate, parameter, PARAMETER_SIZE);
+            changed |= interned[i] != parameter;
+        }
+        List<Parameter> candidate = changed ? List.of(interned) : List.copyOf(parameters);
+        return canonical(candidate, parameters, listSize(interned.length));
+    }
+
+    /**
+     * Looks up the pooled instance equal to a candidate, pooling the candidate if
+     * there is none.
+     *
+     * @param candidate The value to pool, with interned components
+     * @param original  The value passed by the caller, used to decide whether
+     *                  memory was saved
+     * @param size      The estimated shallow size of the original
+     * @return The pooled instance
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T canonical(T candidate, T original, long size) {
+        lookups.increment();
+        Object pooled = pool.putIfAbsent(candidate, candidate);
+        if (pooled == null) {
+            return candidate;
+        }
+        hits.increment();
+        if (pooled != original) {
+            bytesSaved.add(size);
+        }
+        return (T) pooled;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Optional<T> cast(Optional<?> value) {
+        return (Optional<T>) value;
+    }
+
+    /** Size of a string with its compact (Latin-1) or UTF-16 array. */
+    private static long stringSize(String value) {
+        boolean latin1 = true;
+        for (int i = 0; i < value.length() && latin1; i++) {
+            latin1 = value.charAt(i) <= 0xFF;
+        }
+        return 24 + align(16 + (latin1 ? value.length() : 2L * value.length()));
+    }
+
+    /** Size of an immutable list with its element array. */
+    private static long listSize(int elements) {
+        return elements <= 2 ? 24 : 24 + align(16 + 4L * elements);
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
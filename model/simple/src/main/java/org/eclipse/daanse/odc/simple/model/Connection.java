@@ -24,14 +24,14 @@ import java.util.Optional;
  * @param connectionString        The database connection string
  * @param commandType             Optional command type for the connection
  * @param parameters              List of connection parameters
- * @param commandText             Optional SQL command text
+ * @param commandText             Optional SQL command text, possibly read lazily
  * @param ssoApplicationId        Optional single sign-on application ID
  * @param credentialsMethod       Optional credentials authentication method
  * @param alwaysUseConnectionFile Optional flag to always use connection file
  * @param culture                 Optional culture/locale setting
  */
 public record Connection(ConnectionType type, String connectionString, Optional<CommandType> commandType,
-        List<Parameter> parameters, Optional<String> commandText, Optional<String> ssoApplicationId,
+        List<Parameter> parameters, Optional<TextSource> commandText, Optional<String> ssoApplicationId,
         Optional<CredentialsMethod> credentialsMethod, Optional<Boolean> alwaysUseConnectionFile,
         Optional<String> culture) {
     /**
@@ -24,10 +24,10 @@ import java.util.Optional;
  * @param sourceFile           Optional path to the source file
  * @param connections          List of database connections
  * @param powerQueryConnection Optional Power Query connection configuration
- * @param powerQueryMashupData Optional Power Query mashup data
+ * @param powerQueryMashupData Optional Power Query mashup data, possibly read lazily
  */
 public record OfficeDataConnection(Optional<String> sourceFile, List<Connection> connections,
-        Optional<PowerQueryConnection> powerQueryConnection, Optional<String> powerQueryMashupData) {
+        Optional<PowerQueryConnection> powerQueryConnection, Optional<TextSource> powerQueryMashupData) {
     /**
      * Creates an office data connection with a single database connection. Other
      * fields are set to empty defaults.
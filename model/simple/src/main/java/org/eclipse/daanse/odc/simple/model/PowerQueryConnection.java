@@ -22,14 +22,14 @@ import java.util.Optional;
  * @param type                    The type of connection (OLEDB, ODBC, DATAFEED)
  * @param connectionString        The database connection string
  * @param commandType             Optional command type for the connection
- * @param commandText             Optional query command text
+ * @param commandText             Optional query command text, possibly read lazily
  * @param ssoApplicationId        Optional single sign-on application ID
  * @param credentialsMethod       Optional credentials authentication method
  * @param alwaysUseConnectionFile Optional flag to always use connection file
  */
 public record PowerQueryConnection(ConnectionType type, String connectionString, Optional<CommandType> commandType,
-        Optional<String> commandText, Optional<String> ssoApplicationId, Optional<CredentialsMethod> credentialsMethod,
-        Optional<Boolean> alwaysUseConnectionFile) {
+        Optional<TextSource> commandText, Optional<String> ssoApplicationId,
+        Optional<CredentialsMethod> credentialsMethod, Optional<Boolean> alwaysUseConnectionFile) {
     /**
      * Creates a basic Power Query connection with type and connection string.
      * Optional fields are set to empty defaults.
@@ -0,0 +1,240 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.simple.model;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Text content of an element that can be provided lazily. Large values such as
+ * Power Query mashup data or command texts do not need to be loaded into
+ * memory before a file is written, they are read from their source while the
+ * file is written.
+ *
+ * <p>
+ * A source is either plain text, which is escaped when written, or already XML
+ * escaped text, which is written as is.
+ * </p>
+ */
+public sealed interface TextSource
+        permits TextSource.Literal, TextSource.Supplied, TextSource.Streamed, TextSource.FromFile {
+
+    /**
+     * Opens a reader on a text source.
+     */
+    @FunctionalInterface
+    interface ReaderOpener {
+        /**
+         * Opens a new reader. The caller closes the reader.
+         *
+         * @return A new reader on the text
+         * @throws IOException if the reader cannot be opened
+         */
+        Reader open() throws IOException;
+    }
+
+    /**
+     * Text held in memory.
+     *
+     * @param text    The text
+     * @param escaped Whether the text is already XML escaped
+     */
+    record Literal(String text, boolean escaped) implements TextSource {
+        public Literal {
+            Objects.requireNonNull(text, "text");
+        }
+
+        @Override
+        public Reader openReader() {
+            return new StringReader(text);
+        }
+
+        @Override
+        public String asString() {
+            return text;
+        }
+    }
+
+    /**
+     * Text produced on demand by a supplier. The supplier is called each time the
+     * text is read.
+     *
+     * @param supplier The supplier of the text
+     * @param escaped  Whether the text is already XML escaped
+     */
+    record Supplied(Supplier<? extends CharSequence> supplier, boolean escaped) implements TextSource {
+        public Supplied {
+            Objects.requireNonNull(supplier, "supplier");
+        }
+
+        @Override
+        public Reader openReader() {
+            return new StringReader(supplier.get().toString());
+        }
+
+        @Override
+        public String asString() {
+            return supplier.get().toString();
+        }
+    }
+
+    /**
+     * Text read from a reader. A new reader is opened each time the text is read.
+     *
+     * @param opener  Opens a reader on the text
+     * @param escaped Whether the text is already XML escaped
+     */
+    record Streamed(ReaderOpener opener, boolean escaped) implements TextSource {
+        public Streamed {
+            Objects.requireNonNull(opener, "opener");
+        }
+
+        @Override
+        public Reader openReader() throws IOException {
+            return opener.open();
+        }
+    }
+
+    /**
+     * Text read from a file.
+     *
+     * @param path    The file containing the text
+     * @param charset The charset of the file
+     * @param escaped Whether the content of the file is already XML escaped
+     */
+    record FromFile(Path path, Charset charset, boolean escaped) implements TextSource {
+        public FromFile {
+            Objects.requireNonNull(path, "path");
+            Objects.requireNonNull(charset, "charset");
+        }
+
+        @Override
+        public Reader openReader() throws IOException {
+            return Files.newBufferedReader(path, charset);
+        }
+    }
+
+    /**
+     * Returns whether the text is already XML escaped and is written as is.
+     *
+     * @return true if the text is already escaped
+     */
+    boolean escaped();
+
+    /**
+     * Opens a new reader on the text. The caller closes the reader.
+     *
+     * @return A reader on the text
+     * @throws IOException if the source cannot be read
+     */
+    Reader openReader() throws IOException;
+
+    /**
+     * Reads the complete text into memory. Escaped sources return the escaped
+     * text.
+     *
+     * @return The text
+     * @throws UncheckedIOException if the source cannot be read
+     */
+    default String asString() {
+        try (Reader reader = openReader()) {
+            StringWriter sw = new StringWriter();
+            reader.transferTo(sw);
+            return sw.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a source for plain text held in memory.
+     *
+     * @param text The text
+     * @return A new text source
+     */
+    static TextSource of(String text) {
+        return new Literal(text, false);
+    }
+
+    /**
+     * Creates a source for already XML escaped text held in memory.
+     *
+     * @param text The escaped text
+     * @return A new text source
+     */
+    static TextSource ofEscaped(String text) {
+        return new Literal(text, true);
+    }
+
+    /**
+     * Creates a source for plain text produced on demand.
+     *
+     * @param supplier The supplier of the text
+     * @return A new text source
+     */
+    static TextSource of(Supplier<? extends CharSequence> supplier) {
+        return new Supplied(supplier, false);
+    }
+
+    /**
+     * Creates a source for plain text read from a reader.
+     *
+     * @param opener Opens a reader on the text
+     * @return A new text source
+     */
+    static TextSource ofReader(ReaderOpener opener) {
+        return new Streamed(opener, false);
+    }
+
+    /**
+     * Creates a source for plain text read from a UTF-8 encoded file.
+     *
+     * @param path The file containing the text
+     * @return A new text source
+     */
+    static TextSource of(Path path) {
+        return new FromFile(path, StandardCharsets.UTF_8, false);
+    }
+
+    /**
+     * Creates a source for plain text read from a file.
+     *
+     * @param path    The file containing the text
+     * @param charset The charset of the file
+     * @return A new text source
+     */
+    static TextSource of(Path path, Charset charset) {
+        return new FromFile(path, charset, false);
+    }
+
+    /**
+     * Creates a source for already XML escaped text read from a UTF-8 encoded
+     * file. Writers can copy such a file to a byte target without decoding it.
+     *
+     * @param path The file containing the escaped text
+     * @return A new text source
+     */
+    static TextSource ofEscaped(Path path) {
+        return new FromFile(path, StandardCharsets.UTF_8, true);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.simple.model;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Resolves the references of escaped XML text, as held by an escaped
+ * {@link TextSource}. The five predefined entities ({@code &amp;},
+ * {@code &lt;}, {@code &gt;}, {@code &quot;}, {@code &apos;}) and decimal or
+ * hexadecimal character references of valid code points are replaced.
+ * <p>
+ * Everything else is kept as it is, nothing fails: unknown entities such as
+ * the HTML {@code &nbsp;}, malformed or unterminated references and references
+ * longer than {@value #MAX_REFERENCE} characters between {@code &} and
+ * {@code ;}. ODC files are written by HTML tools that do not always produce
+ * well-formed XML, and their text is still worth reading.
+ */
+public final class XmlUnescaper {
+
+    /** Maximum number of characters between {@code &} and {@code ;}. */
+    public static final int MAX_REFERENCE = 10;
+
+    private XmlUnescaper() {
+    }
+
+    /**
+     * Resolves the references of a text. Text without {@code &} is returned as
+     * is.
+     *
+     * @param text The escaped text
+     * @return The plain text
+     */
+    public static String unescape(String text) {
+        int amp = text.indexOf('&');
+        if (amp < 0) {
+            return text;
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        int start = 0;
+        while (amp >= 0) {
+            int semicolon = text.indexOf(';', amp + 1);
+            if (semicolon < 0) {
+                break;
+            }
+            int codePoint = semicolon - amp - 1 <= MAX_REFERENCE ? resolve(text, amp + 1, semicolon) : -1;
+            if (codePoint >= 0) {
+                sb.append(text, start, amp).appendCodePoint(codePoint);
+                start = semicolon + 1;
+            }
+            amp = text.indexOf('&', codePoint >= 0 ? start : amp + 1);
+        }
+        return sb.append(text, start, text.length()).toString();
+    }
+
+    /**
+     * Resolves the references of a streamed text. The text is read in chunks,
+     * a reference split between two reads is resolved like any other.
+     *
+     * @param in  The escaped text, read to its end but not closed
+     * @param out The target of the plain text
+     * @throws IOException if reading or appending fails
+     */
+    public static void unescape(Reader in, Appendable out) throws IOException {
+        char[] buffer = new char[8192];
+        char[] reference = new char[MAX_REFERENCE];
+        int length = -1;
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+            for (int i = 0; i < read; i++) {
+                char c = buffer[i];
+                if (length < 0) {
+                    if (c == '&') {
+                        length = 0;
+                    } else {
+                        out.append(c);
+                    }
+                } else if (c == ';') {
+                    int codePoint = resolve(new String(reference, 0, length), 0, length);
+                    if (codePoint < 0) {
+                        out.append('&').append(new String(reference, 0, length)).append(';');
+                    } else if (Character.isBmpCodePoint(codePoint)) {
+                        out.append((char) codePoint);
+                    } else {
+                        out.append(Character.highSurrogate(codePoint)).append(Character.lowSurrogate(codePoint));
+                    }
+                    length = -1;
+                } else if (c == '&') {
+                    out.append('&').append(new String(reference, 0, length));
+                    length = 0;
+                } else if (length == MAX_REFERENCE) {
+                    out.append('&').append(new String(reference, 0, length)).append(c);
+                    length = -1;
+                } else {
+                    reference[length++] = c;
+                }
+            }
+        }
+        if (length >= 0) {
+            out.append('&').append(new String(reference, 0, length));
+        }
+    }
+
+    /**
+     * Resolves the reference between {@code &} and {@code ;}.
+     *
+     * @return The code point, or -1 if the reference is unknown or malformed
+     */
+    private static int resolve(String text, int start, int end) {
+        if (end - start < 2) {
+            return -1;
+        }
+        if (text.charAt(start) == '#') {
+            boolean hex = text.charAt(start + 1) == 'x' || text.charAt(start + 1) == 'X';
+            int digits = hex ? start + 2 : start + 1;
+            if (digits == end || Character.digit(text.charAt(digits), hex ? 16 : 10) < 0) {
+                // parseInt would accept a sign
+                return -1;
+            }
+            try {
+                int codePoint = Integer.parseInt(text, digits, end, hex ? 16 : 10);
+                return Character.isValidCodePoint(codePoint) ? codePoint : -1;
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        return switch (text.substring(start, end)) {
+        case "amp" -> '&';
+        case "lt" -> '<';
+        case "gt" -> '>';
+        case "quot" -> '"';
+        case "apos" -> '\'';
+        default -> -1;
+        };
+    }
+}
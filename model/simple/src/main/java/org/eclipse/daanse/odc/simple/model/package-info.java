@@ -12,5 +12,5 @@
 *   Stefan Bischof (bipolis.org) - initial
 */
 @org.osgi.annotation.bundle.Export
-@org.osgi.annotation.versioning.Version("0.0.1")
+@org.osgi.annotation.versioning.Version("1.0.0")
 package org.eclipse.daanse.odc.simple.model;
@@ -0,0 +1,136 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.simple.canonical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.Parameter;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+import org.junit.jupiter.api.Test;
+
+class OdcCanonicalFormTest {
+
+    private static OdcFile file(String connectionString, Optional<CredentialsMethod> credentialsMethod,
+            TextSource commandText, Optional<String> description) {
+        Connection connection = new Connection(ConnectionType.OLEDB, connectionString, Optional.of(CommandType.SQL),
+                List.of(Parameter.of("year", 3)), Optional.of(commandText), Optional.empty(), credentialsMethod,
+                Optional.empty(), Optional.empty());
+        return new OdcFile(Optional.of("Sales"), new DocumentProperties(description, Optional.of("Sales"),
+                Optional.empty()), OfficeDataConnection.of(connection), Optional.of("Cube"), Optional.empty(),
+                Optional.empty());
+    }
+
+    @Test
+    void testWritesFixedFieldOrderWithResolvedDefaults() {
+        OdcFile odcFile = file("Provider=MSOLAP;Data Source=srv", Optional.empty(),
+                TextSource.of("SELECT 1\nFROM \\dual"), Optional.empty());
+
+        assertThat(OdcCanonicalForm.of(odcFile)).isEqualTo("""
+                odc-canonical 1
+                title=Sales
+                name=Sales
+                catalog=Cube
+                connection.0
+                type=OLEDB
+                connectionString=data source=srv;provider=MSOLAP
+                commandType=SQL
+                commandText=SELECT 1\\nFROM \\\\dual
+                parameter.0
+                parameterName=year
+                parameterDataType=3
+                credentialsMethod=Integrated
+                alwaysUseConnectionFile=true
+                """);
+    }
+
+    @Test
+    void testEquivalentFilesHaveTheSameHash() {
+        OdcFile plain = file("Provider=MSOLAP;Data Source=srv", Optional.empty(),
+                TextSource.of("SELECT * FROM t WHERE a < 1 & b > \"x\" €"), Optional.empty());
+        OdcFile equivalent = file("data source=OLD;PROVIDER=MSOLAP; Data Source = srv ;",
+                Optional.of(CredentialsMethod.Integrated),
+                TextSource.ofEscaped("SELECT * FROM t WHERE a &lt; 1 &amp; b &gt; &quot;x&quot; &#x20AC;"),
+                Optional.of(""));
+        OdcFile other = file("Provider=MSOLAP;Data Source=srv2", Optional.empty(),
+                TextSource.of("SELECT * FROM t WHERE a < 1 & b > \"x\" €"), Optional.empty());
+
+        assertThat(OdcCanonicalForm.of(equivalent)).isEqualTo(OdcCanonicalForm.of(plain));
+        assertThat(OdcHash.of(equivalent)).isEqualTo(OdcHash.of(plain));
+        assertThat(OdcHash.of(plain)).isEqualTo(OdcHash.of(OdcCanonicalForm.of(plain)));
+        assertThat(OdcHash.of(other)).isNotEqualTo(OdcHash.of(plain));
+        assertThat(OdcHash.of(other).asLong()).isNotEqualTo(OdcHash.of(plain).asLong());
+    }
+
+    private static OdcFile connectionFile(Optional<Boolean> alwaysUseConnectionFile) {
+        Connection connection = new Connection(ConnectionType.OLEDB, "Provider=MSOLAP", Optional.empty(), List.of(),
+                Optional.empty(), Optional.empty(), Optional.empty(), alwaysUseConnectionFile, Optional.empty());
+        return OdcFile.of("Sales", OfficeDataConnection.of(connection));
+    }
+
+    private static OdcFile powerQueryFile(Optional<Boolean> alwaysUseConnectionFile) {
+        PowerQueryConnection connection = new PowerQueryConnection(ConnectionType.OLEDB,
+                "Provider=Microsoft.Mashup.OleDb.1", Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), alwaysUseConnectionFile);
+        return OdcFile.of("Sales", OfficeDataConnection.of(connection));
+    }
+
+    @Test
+    void testConnectionDefaultsAlwaysUseConnectionFileToTrue() {
+        OdcFile missing = connectionFile(Optional.empty());
+
+        assertThat(OdcHash.of(missing)).isEqualTo(OdcHash.of(connectionFile(Optional.of(Boolean.TRUE))));
+        assertThat(OdcHash.of(missing)).isNotEqualTo(OdcHash.of(connectionFile(Optional.of(Boolean.FALSE))));
+    }
+
+    @Test
+    void testPowerQueryConnectionDefaultsAlwaysUseConnectionFileToFalse() {
+        OdcFile missing = powerQueryFile(Optional.empty());
+
+        assertThat(OdcHash.of(missing)).isEqualTo(OdcHash.of(powerQueryFile(Optional.of(Boolean.FALSE))));
+        assertThat(OdcHash.of(missing)).isNotEqualTo(OdcHash.of(powerQueryFile(Optional.of(Boolean.TRUE))));
+    }
+
+    @Test
+    void testKeepsUnknownReferencesLikeTheScanner() {
+        OdcFile escaped = file("Provider=MSOLAP", Optional.empty(), TextSource.ofEscaped("a&nbsp;b &#xZZ; &amp"),
+                Optional.empty());
+        OdcFile plain = file("Provider=MSOLAP", Optional.empty(), TextSource.of("a&nbsp;b &#xZZ; &amp"),
+                Optional.empty());
+
+        assertThat(OdcCanonicalForm.of(escaped)).isEqualTo(OdcCanonicalForm.of(plain));
+    }
+
+    @Test
+    void testHashIsMurmur3Over128Bits() {
+        assertThat(OdcHash.of("")).isEqualTo(new OdcHash(0, 0));
+        OdcHash hash = OdcHash.of("The quick brown fox jumps over the lazy dog");
+        assertThat(hash).isEqualTo(new OdcHash(0xe34bbc7bbc071b6cL, 0x7a433ca9c49a9347L));
+        assertThat(OdcHash.parse(hash.toString())).isEqualTo(hash);
+        assertThat(OdcHash.of("\uD83D\uDE00")).isNotEqualTo(OdcHash.of("??"));
+        assertThat(OdcHash.of("\uD83D")).isEqualTo(OdcHash.of("?"));
+        assertThatThrownBy(() -> OdcHash.parse("xyz")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.simple.compact;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.Parameter;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+import org.junit.jupiter.api.Test;
+
+class CompactOdcFileTest {
+
+    @Test
+    void testRoundTripsFullyPopulatedFile() {
+        Connection first = new Connection(ConnectionType.OLEDB, "Provider=MSOLAP;Data Source=srv",
+                Optional.of(CommandType.Cube), List.of(Parameter.of("year", 3), Parameter.of("region")),
+                Optional.of(TextSource.of("Sales")), Optional.of("app"), Optional.of(CredentialsMethod.Stored),
+                Optional.of(false), Optional.of("de-DE"));
+        Connection second = Connection.of(ConnectionType.ODBC, "DSN=sales");
+        PowerQueryConnection pq = new PowerQueryConnection(ConnectionType.OLEDB,
+                "Provider=Microsoft.Mashup.OleDb.1;Location=Sales", Optional.of(CommandType.SQL), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.of(true));
+        OfficeDataConnection odc = new OfficeDataConnection(Optional.of("sales.odc"), List.of(first, second),
+                Optional.of(pq), Optional.of(TextSource.ofEscaped("&lt;Mashup/&gt;")));
+        OdcFile odcFile = new OdcFile(Optional.of("Sales"),
+                new DocumentProperties(Optional.of("All sales"), Optional.of("Sales"), Optional.of("cube")), odc,
+                Optional.of("DW"), Optional.of("dbo"), Optional.of("Fact"));
+
+        CompactOdcFile compact = CompactOdcFile.of(odcFile);
+
+        assertThat(compact.toOdcFile()).isEqualTo(odcFile);
+        assertThat(CompactOdcFile.of(compact.toOdcFile())).isEqualTo(compact);
+        assertThat(CompactOdcFile.of(compact.toOdcFile()).hashCode()).isEqualTo(compact.hashCode());
+        assertThat(compact.connectionCount()).isEqualTo(2);
+        assertThat(compact.connection(0).parameter(0)).isEqualTo(CompactParameter.of("year", 3));
+        assertThat(compact.connection(0).parameter(1).hasDataType()).isFalse();
+        assertThat(compact.connection(0).alwaysUseConnectionFile()).isFalse();
+        assertThat(compact.connection(1).alwaysUseConnectionFile()).isNull();
+        assertThat(compact.powerQueryConnection().alwaysUseConnectionFile()).isTrue();
+        assertThat(compact.table()).isEqualTo("Fact");
+    }
+
+    @Test
+    void testAbsentValuesAreNull() {
+        OdcFile odcFile = OdcFile.of("Sales", OfficeDataConnection.of(Connection.of(ConnectionType.OLEDB, "x")));
+
+        CompactOdcFile compact = CompactOdcFile.of(odcFile);
+
+        assertThat(compact).isEqualTo(CompactOdcFile.of("Sales", CompactConnection.of(ConnectionType.OLEDB, "x")));
+        assertThat(compact.description()).isNull();
+        assertThat(compact.powerQueryConnection()).isNull();
+        assertThat(compact.connection(0).commandType()).isNull();
+        assertThat(compact.connection(0).parameterCount()).isZero();
+        assertThat(compact.connection(0).hasAlwaysUseConnectionFile()).isFalse();
+        assertThat(compact.toOdcFile()).isEqualTo(odcFile);
+    }
+
+    @Test
+    void testPresenceIsPartOfEquality() {
+        CompactConnection absent = CompactConnection.of(ConnectionType.OLEDB, "x");
+        CompactConnection unset = new CompactConnection(ConnectionType.OLEDB, "x", null, null, null, null, null,
+                false, null);
+
+        assertThat(absent).isNotEqualTo(unset);
+        assertThat(CompactParameter.of("p")).isNotEqualTo(CompactParameter.of("p", 0));
+        assertThat(CompactParameter.of("p").toParameter()).isEqualTo(Parameter.of("p"));
+        assertThat(new CompactParameter("p", 7, false)).isEqualTo(CompactParameter.of("p"));
+        assertThat(new CompactParameter("p", 7, false).dataType()).isZero();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.simple.connectionstring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class ConnectionStringTest {
+
+    @Test
+    void testParsesQuotedBracedAndEscapedEntries() {
+        ConnectionString cs = ConnectionString.parse(
+                " Provider = MSOLAP ;Data Source=\"srv;1 \"\"a\"\"\";;Initial Catalog={Sa}}les};a==b='x''y';Empty=");
+
+        assertThat(cs.size()).isEqualTo(5);
+        assertThat(cs.key(0).toString()).isEqualTo("Provider");
+        assertThat(cs.value(0).toString()).isEqualTo("MSOLAP");
+        assertThat(cs.value(1).toString()).isEqualTo("srv;1 \"a\"");
+        assertThat(cs.value(2).toString()).isEqualTo("Sa}les");
+        assertThat(cs.key(3).toString()).isEqualTo("a=b");
+        assertThat(cs.value(3).toString()).isEqualTo("x'y");
+        assertThat(cs.value(4).length()).isZero();
+
+        assertThat(cs.indexOf("data source")).isEqualTo(1);
+        assertThat(cs.indexOf("A=B")).isEqualTo(3);
+        assertThat(cs.indexOf("Data")).isEqualTo(-1);
+        assertThat(cs.valueEquals(1, "srv;1 \"a\"")).isTrue();
+        assertThat(cs.valueEquals(2, "sa}les")).isFalse();
+        assertThat(cs.valueEqualsIgnoreCase(2, "sa}les")).isTrue();
+        assertThat(cs.get("initial catalog")).isPresent();
+        assertThat(cs.get("Password")).isEmpty();
+    }
+
+    @Test
+    void testNormalizedFormIsCanonical() {
+        String a = ConnectionString.parse("Provider=MSOLAP; Data Source=srv; Initial Catalog=Sales; provider=MSOLAP.8")
+                .normalized();
+        String b = ConnectionString.parse("INITIAL CATALOG='Sales';data source=\"srv\";PROVIDER = MSOLAP.8;")
+                .normalized();
+
+        assertThat(a).isEqualTo("data source=srv;initial catalog=Sales;provider=MSOLAP.8");
+        assertThat(b).isEqualTo(a);
+        assertThat(ConnectionString.parse("Pwd={a;b};X=' y'").normalized()).isEqualTo("pwd={a;b};x=\" y\"");
+        assertThat(ConnectionString.parse(ConnectionString.parse("k= \"v\"\"; \" ").normalized()).value(0).toString())
+                .isEqualTo("v\"; ");
+    }
+
+    @Test
+    void testEditsSingleKeys() {
+        ConnectionString cs = ConnectionString.parse("Provider=MSOLAP; Data Source=\"old\"; Pwd={x}");
+
+        assertThat(cs.with("data source", "new;srv")).isEqualTo("Provider=MSOLAP; Data Source=\"new;srv\"; Pwd={x}");
+        assertThat(cs.with("Pwd", "a}b")).isEqualTo("Provider=MSOLAP; Data Source=\"old\"; Pwd={a}}b}");
+        assertThat(cs.with("Initial Catalog", "Sales"))
+                .isEqualTo("Provider=MSOLAP; Data Source=\"old\"; Pwd={x};Initial Catalog=Sales");
+        assertThat(cs.without("data source")).isEqualTo("Provider=MSOLAP; Pwd={x}");
+        assertThat(cs.without("pwd")).isEqualTo("Provider=MSOLAP; Data Source=\"old\"; ");
+        assertThat(cs.without("Missing")).isEqualTo(cs.toString());
+    }
+
+    @Test
+    void testRejectsMalformedText() {
+        assertThatThrownBy(() -> ConnectionString.parse("Provider")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Missing '='");
+        assertThatThrownBy(() -> ConnectionString.parse("a=\"open")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unterminated");
+        assertThatThrownBy(() -> ConnectionString.parse("a=\"x\"y")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unexpected character");
+        assertThatThrownBy(() -> ConnectionString.parse(" =x")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Empty key");
+    }
+}
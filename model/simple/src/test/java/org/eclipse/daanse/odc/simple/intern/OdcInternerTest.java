@@ -0,0 +1,85 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.simple.intern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.Parameter;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+import org.junit.jupiter.api.Test;
+
+class OdcInternerTest {
+
+    /** Builds every value from new strings, like a parser does. */
+    private static OdcFile table(int i) {
+        Connection connection = new Connection(ConnectionType.ODBC,
+                new StringBuilder("DRIVER=SQL Server;SERVER=").append("mysqlserver").toString(),
+                Optional.of(CommandType.SQL),
+                new ArrayList<>(List.of(Parameter.of(new String("Country"), 12), Parameter.of("Year" + "", 3))),
+                Optional.of(TextSource.of("SELECT * FROM Table" + i)), Optional.empty(), Optional.empty(),
+                Optional.of(Boolean.TRUE), Optional.of(new String("en-US")));
+        return new OdcFile(Optional.of("Table " + i),
+                new DocumentProperties(Optional.empty(), Optional.of("Table " + i), Optional.of(new String("sales"))),
+                OfficeDataConnection.of(connection), Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    @Test
+    void testEqualValuesAreShared() {
+        OdcInterner interner = new OdcInterner();
+
+        OdcFile first = interner.intern(table(1));
+        OdcFile second = interner.intern(table(2));
+
+        assertThat(first).isEqualTo(table(1));
+        assertThat(second).isEqualTo(table(2));
+        Connection a = first.officeDataConnection().connections().get(0);
+        Connection b = second.officeDataConnection().connections().get(0);
+        assertThat(b.connectionString()).isSameAs(a.connectionString());
+        assertThat(b.culture()).isSameAs(a.culture());
+        assertThat(b.parameters()).isSameAs(a.parameters());
+        assertThat(second.documentProperties().keywords()).isSameAs(first.documentProperties().keywords());
+        assertThat(b.commandText()).isNotSameAs(a.commandText());
+    }
+
+    @Test
+    void testEqualFilesAreSharedAndSavingsReported() {
+        OdcInterner interner = new OdcInterner();
+
+        OdcFile first = interner.intern(table(1));
+        OdcInterner.Stats before = interner.stats();
+        OdcFile again = interner.intern(table(1));
+        OdcInterner.Stats after = interner.stats();
+
+        assertThat(again).isSameAs(first);
+        assertThat(interner.intern(first)).isSameAs(first);
+        assertThat(after.entries()).isEqualTo(before.entries());
+        assertThat(after.hits()).isGreaterThan(before.hits());
+        assertThat(after.bytesSaved()).isGreaterThan(before.bytesSaved());
+        assertThat(interner.stats().bytesSaved()).isEqualTo(after.bytesSaved());
+
+        interner.clear();
+        assertThat(interner.stats().entries()).isZero();
+        assertThat(interner.stats().lookups()).isZero();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.simple.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+class XmlUnescaperTest {
+
+    private static String stream(String text, int chunk) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        Reader reader = new StringReader(text) {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                return super.read(buffer, offset, Math.min(length, chunk));
+            }
+        };
+        XmlUnescaper.unescape(reader, sb);
+        return sb.toString();
+    }
+
+    @Test
+    void testResolvesPredefinedAndCharacterReferences() throws IOException {
+        String text = "a &lt; b &amp;&amp; c &gt; &quot;d&quot; &apos;e&apos; &#8364; &#x1F600; &#X41;";
+        String expected = "a < b && c > \"d\" 'e' € 😀 A";
+
+        assertThat(XmlUnescaper.unescape(text)).isEqualTo(expected);
+        assertThat(stream(text, 1)).isEqualTo(expected);
+        assertThat(stream(text, 8192)).isEqualTo(expected);
+    }
+
+    @Test
+    void testKeepsUnknownAndMalformedReferences() throws IOException {
+        String[] kept = { "&nbsp;", "a & b", "&amp", "&;", "&#;", "&#x;", "&#-1;", "&#+65;", "&#x110000;",
+                "&#00000000065;", "&verylongname;", "&&lt", "x&" };
+        for (String text : kept) {
+            assertThat(XmlUnescaper.unescape(text)).isEqualTo(text);
+            assertThat(stream(text, 1)).isEqualTo(text);
+        }
+        assertThat(XmlUnescaper.unescape("&a&lt;&nbsp;&gt")).isEqualTo("&a<&nbsp;&gt");
+        assertThat(stream("&a&lt;&nbsp;&gt", 3)).isEqualTo("&a<&nbsp;&gt");
+        assertThat(XmlUnescaper.unescape("plain")).isSameAs("plain");
+    }
+}
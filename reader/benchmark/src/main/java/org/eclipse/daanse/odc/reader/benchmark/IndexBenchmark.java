@@ -0,0 +1,117 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.reader.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.eclipse.daanse.odc.reader.index.OdcIndex;
+import org.eclipse.daanse.odc.reader.index.OdcIndexer;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.writer.simple.OdcBatchWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Indexes a directory tree of generated ODC files spread over 100 servers and
+ * catalogs, then measures lookups in the index and a rescan of the unchanged
+ * tree, which only compares file attributes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IndexBenchmark {
+
+    @Param({ "1000", "10000" })
+    public int files;
+
+    private Path directory;
+
+    private OdcIndexer indexer;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        directory = Files.createTempDirectory("odc-index");
+        List<OdcFile> odcFiles = IntStream.range(0, files).mapToObj(IndexBenchmark::odcFile).toList();
+        OdcBatchWriter.Result written = new OdcBatchWriter().writeAll(odcFiles,
+                odcFile -> directory.resolve(odcFile.catalog().orElseThrow())
+                        .resolve(odcFile.title().orElseThrow() + ".odc"));
+        if (!written.isSuccessful()) {
+            throw new IllegalStateException("Cannot write fixtures: " + written.failures());
+        }
+        indexer = new OdcIndexer(directory, new OdcIndex());
+        OdcIndexer.Result scanned = indexer.scan();
+        if (!scanned.isSuccessful() || indexer.index().size() != files) {
+            throw new IllegalStateException("Cannot index fixtures: " + scanned);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static OdcFile odcFile(int i) {
+        String name = "file" + i;
+        String catalog = "Catalog" + (i % 100);
+        Connection connection = Connection.of(ConnectionType.OLEDB,
+                "Provider=MSOLAP;Data Source=server" + (i % 100) + ";Initial Catalog=" + catalog);
+        return new OdcFile(Optional.of(name), DocumentProperties.of(name), OfficeDataConnection.of(connection),
+                Optional.of(catalog), Optional.empty(), Optional.of("Table" + i));
+    }
+
+    @Benchmark
+    public Set<Path> findByMeta() {
+        return indexer.index().find(OdcIndex.Meta.CATALOG, "catalog42");
+    }
+
+    @Benchmark
+    public Set<Path> findByConnection() {
+        return indexer.index().findByConnection("Data Source", "Server42");
+    }
+
+    @Benchmark
+    public OdcIndexer.Result rescanUnchanged() throws IOException, InterruptedException {
+        return indexer.scan();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.reader.benchmark;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.transform.stream.StreamSource;
+
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.odc.OfficeDataConnection;
+import org.eclipse.daanse.odc.model.jakarta.xml.bind.office.DocumentProperties;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
+
+/**
+ * The JAXB based way of loading an ODC file the reader is compared against.
+ * ODC files are HTML and not well-formed XML, so the file is decoded to a
+ * string, the XML data islands are cut out and each island is unmarshalled on
+ * its own. The meta tags and the title are not read.
+ */
+final class JaxbOdcLoader {
+
+    private static final String DOCUMENT_PROPERTIES = "o:DocumentProperties";
+
+    private static final String OFFICE_DATA_CONNECTION = "odc:OfficeDataConnection";
+
+    private final JAXBContext context;
+
+    JaxbOdcLoader() throws JAXBException {
+        context = JAXBContext.newInstance(OfficeDataConnection.class, DocumentProperties.class);
+    }
+
+    /**
+     * The data islands of a loaded ODC file.
+     *
+     * @param documentProperties   The document properties, or null if absent
+     * @param officeDataConnection The office data connection
+     */
+    record Loaded(DocumentProperties documentProperties, OfficeDataConnection officeDataConnection) {
+    }
+
+    Loaded load(byte[] bytes) throws JAXBException {
+        String html = new String(bytes, StandardCharsets.UTF_8);
+        Unmarshaller unmarshaller = context.createUnmarshaller();
+        String documentProperties = island(html, DOCUMENT_PROPERTIES);
+        return new Loaded(
+                documentProperties == null ? null : (DocumentProperties) unmarshal(unmarshaller, documentProperties),
+                (OfficeDataConnection) unmarshal(unmarshaller, island(html, OFFICE_DATA_CONNECTION)));
+    }
+
+    private static Object unmarshal(Unmarshaller unmarshaller, String island) throws JAXBException {
+        return unmarshaller.unmarshal(new StreamSource(new StringReader(island)));
+    }
+
+    private static String island(String html, String element) {
+        int start = html.indexOf('<' + element);
+        if (start < 0) {
+            return null;
+        }
+        String endTag = "</" + element + '>';
+        int end = html.indexOf(endTag, start);
+        return html.substring(start, end + endTag.length());
+    }
+}
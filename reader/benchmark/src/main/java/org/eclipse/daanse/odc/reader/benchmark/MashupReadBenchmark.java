@@ -0,0 +1,86 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.reader.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.odc.reader.simple.OdcFileView;
+import org.eclipse.daanse.odc.reader.simple.OdcReader;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.writer.benchmark.OdcFixtures;
+import org.eclipse.daanse.odc.writer.simple.OdcWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.xml.bind.JAXBException;
+
+/**
+ * Reads Power Query files with mashup data from 1 KB up to 50 MB with the
+ * single-pass reader and with the JAXB based load of the data islands, and
+ * reads the title and connection string through a lazy view that does not scan
+ * the mashup data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MashupReadBenchmark {
+
+    @Param({ "1024", "65536", "1048576", "52428800" })
+    public int mashupLength;
+
+    private final OdcReader reader = new OdcReader();
+
+    private JaxbOdcLoader jaxbLoader;
+
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() throws JAXBException {
+        bytes = new OdcWriter().write(OdcFixtures.powerQueryWithMashupOfLength(mashupLength))
+                .getBytes(StandardCharsets.UTF_8);
+        jaxbLoader = new JaxbOdcLoader();
+    }
+
+    @Benchmark
+    public OdcFile readSimple() throws IOException {
+        return reader.read(bytes);
+    }
+
+    @Benchmark
+    public String readView() throws IOException {
+        OdcFileView view = reader.view(ByteBuffer.wrap(bytes));
+        return view.title().orElseThrow()
+                + view.officeDataConnection().powerQueryConnection().orElseThrow().connectionString();
+    }
+
+    @Benchmark
+    public Object readJaxb() throws JAXBException {
+        return jaxbLoader.load(bytes);
+    }
+}
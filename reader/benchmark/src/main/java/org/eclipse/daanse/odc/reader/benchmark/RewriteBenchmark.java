@@ -0,0 +1,89 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.reader.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.odc.reader.simple.OdcReader;
+import org.eclipse.daanse.odc.reader.simple.OdcRewriter;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.writer.benchmark.OdcFixtures;
+import org.eclipse.daanse.odc.writer.simple.OdcWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Repoints the connection string of Power Query files with mashup data from
+ * 1 KB up to 8 MB, once by splicing the bytes with the rewriter and once by a
+ * round trip through the model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RewriteBenchmark {
+
+    @Param({ "1024", "65536", "8388608" })
+    public int mashupLength;
+
+    private final OdcReader reader = new OdcReader();
+
+    private final OdcWriter writer = new OdcWriter();
+
+    private final OdcRewriter rewriter = new OdcRewriter(
+            OdcRewriter.Edit.connectionValue("Data Source", "$Workbook$", "$Other$"));
+
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        bytes = writer.write(OdcFixtures.powerQueryWithMashupOfLength(mashupLength))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] rewrite() throws IOException {
+        return rewriter.rewrite(bytes).orElseThrow();
+    }
+
+    @Benchmark
+    public byte[] roundTrip() throws IOException {
+        OdcFile odcFile = reader.read(bytes);
+        OfficeDataConnection odc = odcFile.officeDataConnection();
+        PowerQueryConnection pq = odc.powerQueryConnection().orElseThrow();
+        PowerQueryConnection repointed = new PowerQueryConnection(pq.type(),
+                pq.connectionString().replace("$Workbook$", "$Other$"), pq.commandType(), pq.commandText(),
+                pq.ssoApplicationId(), pq.credentialsMethod(), pq.alwaysUseConnectionFile());
+        OfficeDataConnection repointedOdc = new OfficeDataConnection(odc.sourceFile(), odc.connections(),
+                Optional.of(repointed), odc.powerQueryMashupData());
+        return writer.writeBytes(new OdcFile(odcFile.title(), odcFile.documentProperties(), repointedOdc,
+                odcFile.catalog(), odcFile.schema(), odcFile.table()));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.reader.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.odc.reader.simple.OdcReader;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.writer.benchmark.OdcFixtures.SpecExample;
+import org.eclipse.daanse.odc.writer.simple.OdcWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.xml.bind.JAXBException;
+
+/**
+ * Reads the spec examples with the single-pass reader and with the JAXB based
+ * load of the data islands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SpecExampleReadBenchmark {
+
+    @Param
+    public SpecExample example;
+
+    private final OdcReader reader = new OdcReader();
+
+    private JaxbOdcLoader jaxbLoader;
+
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() throws JAXBException {
+        bytes = new OdcWriter().write(example.odcFile()).getBytes(StandardCharsets.UTF_8);
+        jaxbLoader = new JaxbOdcLoader();
+    }
+
+    @Benchmark
+    public OdcFile readSimple() throws IOException {
+        return reader.read(bytes);
+    }
+
+    @Benchmark
+    public Object readJaxb() throws JAXBException {
+        return jaxbLoader.load(bytes);
+    }
+}
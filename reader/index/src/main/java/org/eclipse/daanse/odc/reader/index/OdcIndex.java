@@ -0,0 +1,245 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.reader.index;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.daanse.odc.simple.connectionstring.ConnectionString;
+
+/**
+ * Thread-safe in-memory inverted index of ODC files. Every indexed file
+ * contributes one term per meta tag (Catalog, Schema, Table) and one term per
+ * key/value pair of each of its connection strings. Keys and values are
+ * compared case-insensitively; connection string keys are not aliased, so
+ * {@code Server} and {@code Data Source} are different keys.
+ * <p>
+ * Lookups are a single hash lookup and return live, unmodifiable views of the
+ * posting sets. A view stays live only while its term has files: once the last
+ * file of a term is removed the set is dropped, and a set created when the term
+ * is indexed again is not seen by an earlier view. A lookup of a term without
+ * files returns an empty set that never changes. Repeat the lookup instead of
+ * holding on to a view. Updates of one path are serialized; updates of different
+ * paths run concurrently.
+ */
+public final class OdcIndex {
+
+    /**
+     * The meta tags of an ODC file that are indexed.
+     */
+    public enum Meta {
+        CATALOG, SCHEMA, TABLE
+    }
+
+    /**
+     * The indexed data of one file.
+     *
+     * @param path              The absolute, normalized path of the file
+     * @param lastModified      The last modification time in milliseconds
+     * @param size              The size of the file in bytes
+     * @param catalog           Optional catalog meta tag
+     * @param schema            Optional schema meta tag
+     * @param table             Optional table meta tag
+     * @param connectionStrings The connection strings of all connections,
+     *                          including the Power Query connection
+     */
+    public record Entry(Path path, long lastModified, long size, Optional<String> catalog, Optional<String> schema,
+            Optional<String> table, List<String> connectionStrings) {
+
+        /**
+         * Returns the value of a meta tag.
+         *
+         * @param meta The meta tag
+         * @return The value, if present
+         */
+        public Optional<String> meta(Meta meta) {
+            return switch (meta) {
+            case CATALOG -> catalog;
+            case SCHEMA -> schema;
+            case TABLE -> table;
+            };
+        }
+    }
+
+    private static final char SEPARATOR = '\u0000';
+
+    private final ConcurrentHashMap<Path, Entry> entries = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, Set<Path>> postings = new ConcurrentHashMap<>();
+
+    /**
+     * Adds or replaces the entry of a file. Only the terms that differ from the
+     * previous entry of the same path are touched.
+     *
+     * @param entry The entry
+     */
+    public void put(Entry entry) {
+        Objects.requireNonNull(entry, "entry");
+        entries.compute(entry.path(), (path, previous) -> {
+            Set<String> added = terms(entry);
+            if (previous != null) {
+                Set<String> removed = terms(previous);
+                for (String term : removed) {
+                    if (!added.remove(term)) {
+                        unpost(term, path);
+                    }
+                }
+            }
+            for (String term : added) {
+                post(term, path);
+            }
+            return entry;
+        });
+    }
+
+    /**
+     * Removes the entry of a file.
+     *
+     * @param path The path of the file
+     * @return true if the file was indexed
+     */
+    public boolean remove(Path path) {
+        boolean[] removed = new boolean[1];
+        entries.computeIfPresent(path, (p, previous) -> {
+            for (String term : terms(previous)) {
+                unpost(term, p);
+            }
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Removes the entries of all files below a directory.
+     *
+     * @param directory The directory
+     * @return The number of removed entries
+     */
+    public int removeAll(Path directory) {
+        int count = 0;
+        for (Path path : entries.keySet()) {
+            if (path.startsWith(directory) && remove(path)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the entry of a file.
+     *
+     * @param path The path of the file
+     * @return The entry, if the file is indexed
+     */
+    public Optional<Entry> get(Path path) {
+        return Optional.ofNullable(entries.get(path));
+    }
+
+    /**
+     * Returns the paths of all indexed files.
+     *
+     * @return An unmodifiable live view
+     */
+    public Set<Path> paths() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Returns the number of indexed files.
+     *
+     * @return The number of files
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Finds the files with a meta tag value.
+     *
+     * @param meta  The meta tag
+     * @param value The value, compared case-insensitively
+     * @return An unmodifiable view of the matching paths, live until the
+     *         term has no files
+     */
+    public Set<Path> find(Meta meta, String value) {
+        return lookup(term(meta.name(), value));
+    }
+
+    /**
+     * Finds the files with a connection string that contains a key/value pair.
+     *
+     * @param key   The connection string key, compared case-insensitively
+     * @param value The value, compared case-insensitively
+     * @return An unmodifiable view of the matching paths, live until the
+     *         term has no files
+     */
+    public Set<Path> findByConnection(String key, String value) {
+        return lookup(term("=" + key, value));
+    }
+
+    private Set<Path> lookup(String term) {
+        Set<Path> paths = postings.get(term);
+        return paths == null ? Set.of() : Collections.unmodifiableSet(paths);
+    }
+
+    private void post(String term, Path path) {
+        // add within the map operation, a concurrent unpost could otherwise
+        // drop the set before the path is added
+        postings.compute(term, (t, paths) -> {
+            if (paths == null) {
+                paths = ConcurrentHashMap.newKeySet();
+            }
+            paths.add(path);
+            return paths;
+        });
+    }
+
+    private void unpost(String term, Path path) {
+        postings.computeIfPresent(term, (t, paths) -> {
+            paths.remove(path);
+            return paths.isEmpty() ? null : paths;
+        });
+    }
+
+    private static Set<String> terms(Entry entry) {
+        Set<String> terms = new HashSet<>();
+        for (Meta meta : Meta.values()) {
+            entry.meta(meta).ifPresent(value -> terms.add(term(meta.name(), value)));
+        }
+        for (String connectionString : entry.connectionStrings()) {
+            ConnectionString parsed;
+            try {
+                parsed = ConnectionString.parse(connectionString);
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            for (int i = 0; i < parsed.size(); i++) {
+                terms.add(term("=" + parsed.key(i), parsed.value(i)));
+            }
+        }
+        return terms;
+    }
+
+    private static String term(String field, CharSequence value) {
+        return (field + SEPARATOR + value).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,380 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.reader.index;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.eclipse.daanse.odc.reader.simple.OdcFileView;
+import org.eclipse.daanse.odc.reader.simple.OdcReader;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+
+/**
+ * Keeps an {@link OdcIndex} current with the {@code .odc} files of a directory
+ * tree.
+ * <p>
+ * {@link #scan()} walks the tree and reads new and changed files in parallel,
+ * each on its own virtual thread, through memory-mapped {@link OdcFileView}s;
+ * only the head of a file up to the Power Query mashup is decoded. Files whose
+ * size and modification time match their entry are skipped, and entries of
+ * vanished files are removed, so a rescan touches only what changed.
+ * <p>
+ * {@link #watch(Consumer)} additionally follows file system change
+ * notifications. Call it before the initial scan so no change falls between the
+ * two. Network shares often deliver no notifications; for them, call
+ * {@link #scan()} periodically instead.
+ */
+public final class OdcIndexer implements Closeable {
+
+    /**
+     * A file that could not be indexed. Its previous entry has been removed.
+     *
+     * @param path  The path of the file
+     * @param error The cause of the failure
+     */
+    public record Failure(Path path, Exception error) {
+    }
+
+    /**
+     * Summary of a scan.
+     *
+     * @param indexed   Number of new or changed files read
+     * @param unchanged Number of files skipped because they did not change
+     * @param removed   Number of entries removed because their file vanished
+     * @param elapsed   Wall clock time of the scan
+     * @param failures  Files that could not be read
+     */
+    public record Result(long indexed, long unchanged, long removed, Duration elapsed, List<Failure> failures) {
+
+        /**
+         * Checks whether all files were read.
+         *
+         * @return true if no file failed
+         */
+        public boolean isSuccessful() {
+            return failures.isEmpty();
+        }
+    }
+
+    private final Path root;
+
+    private final OdcIndex index;
+
+    private final OdcReader reader;
+
+    private final int maxConcurrency;
+
+    private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+
+    private WatchService watchService;
+
+    private Thread watcher;
+
+    /**
+     * Creates an indexer with a default reader and at most four files per
+     * available processor in flight.
+     *
+     * @param root  The root directory
+     * @param index The index to maintain
+     */
+    public OdcIndexer(Path root, OdcIndex index) {
+        this(root, index, new OdcReader(), Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Creates an indexer.
+     *
+     * @param root           The root directory
+     * @param index          The index to maintain
+     * @param reader         The reader used to open the files
+     * @param maxConcurrency The maximum number of files read at the same time
+     */
+    public OdcIndexer(Path root, OdcIndex index, OdcReader reader, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.root = root.toAbsolutePath().normalize();
+        this.index = Objects.requireNonNull(index, "index");
+        this.reader = Objects.requireNonNull(reader, "reader");
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Returns the maintained index.
+     *
+     * @return The index
+     */
+    public OdcIndex index() {
+        return index;
+    }
+
+    /**
+     * Brings the index up to date with the directory tree.
+     *
+     * @return The summary of the scan
+     * @throws IOException          if the root directory cannot be walked
+     * @throws InterruptedException if the calling thread is interrupted while
+     *                              waiting for a free slot
+     */
+    public Result scan() throws IOException, InterruptedException {
+        return scan(root);
+    }
+
+    private Result scan(Path directory) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Semaphore slots = new Semaphore(maxConcurrency);
+        LongAdder indexed = new LongAdder();
+        LongAdder unchanged = new LongAdder();
+        List<Failure> failures = Collections.synchronizedList(new ArrayList<>());
+        Set<Path> seen = ConcurrentHashMap.newKeySet();
+        boolean[] interrupted = new boolean[1];
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (!attributes.isRegularFile() || !isOdc(file)) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    seen.add(file);
+                    if (isUnchanged(file, attributes)) {
+                        unchanged.increment();
+                        return FileVisitResult.CONTINUE;
+                    }
+                    try {
+                        slots.acquire();
+                    } catch (InterruptedException e) {
+                        interrupted[0] = true;
+                        return FileVisitResult.TERMINATE;
+                    }
+                    executor.execute(() -> {
+                        try {
+                            update(file, attributes);
+                            indexed.increment();
+                        } catch (Exception e) {
+                            failures.add(new Failure(file, e));
+                        } finally {
+                            slots.release();
+                        }
+                    });
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    if (!file.equals(directory)) {
+                        failures.add(new Failure(file, e));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+        if (interrupted[0]) {
+            throw new InterruptedException("Scan of " + directory + " interrupted");
+        }
+
+        long removed = 0;
+        for (Path path : index.paths()) {
+            if (path.startsWith(directory) && !seen.contains(path) && index.remove(path)) {
+                removed++;
+            }
+        }
+        return new Result(indexed.sum(), unchanged.sum(), removed, Duration.ofNanos(System.nanoTime() - start),
+                List.copyOf(failures));
+    }
+
+    /**
+     * Starts following file system change notifications on a daemon thread.
+     * Created and modified files are re-read, deleted files and directories are
+     * removed, and new directories are registered and scanned. If notifications
+     * were lost, the whole tree is rescanned.
+     *
+     * @param failures Receives the files that could not be indexed
+     * @throws IOException           if the directories cannot be registered
+     * @throws IllegalStateException if the indexer is already watching
+     */
+    public synchronized void watch(Consumer<? super Failure> failures) throws IOException {
+        Objects.requireNonNull(failures, "failures");
+        if (watchService != null) {
+            throw new IllegalStateException("Already watching " + root);
+        }
+        watchService = root.getFileSystem().newWatchService();
+        register(root);
+        WatchService service = watchService;
+        watcher = Thread.ofPlatform().daemon().name("odc-indexer " + root)
+                .start(() -> processEvents(service, failures));
+    }
+
+    /**
+     * Stops following change notifications. The index keeps its entries.
+     *
+     * @throws IOException if the watch service cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+            watcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            directories.clear();
+            watchService = null;
+            watcher = null;
+        }
+    }
+
+    private void register(Path directory) throws IOException {
+        Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) throws IOException {
+                directories.put(dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY), dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void processEvents(WatchService service, Consumer<? super Failure> failures) {
+        while (true) {
+            WatchKey key;
+            try {
+                key = service.take();
+            } catch (ClosedWatchServiceException | InterruptedException e) {
+                return;
+            }
+            Path directory = directories.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                try {
+                    if (event.kind() == OVERFLOW || directory == null) {
+                        scan().failures().forEach(failures);
+                    } else {
+                        handle(event.kind(), directory.resolve((Path) event.context()), failures);
+                    }
+                } catch (ClosedWatchServiceException | InterruptedException e) {
+                    return;
+                } catch (Exception e) {
+                    failures.accept(new Failure(directory == null ? root : directory, e));
+                }
+            }
+            if (!key.reset()) {
+                directories.remove(key);
+            }
+        }
+    }
+
+    private void handle(WatchEvent.Kind<?> kind, Path path, Consumer<? super Failure> failures)
+            throws IOException, InterruptedException {
+        if (kind == ENTRY_DELETE) {
+            if (!index.remove(path)) {
+                index.removeAll(path);
+            }
+            return;
+        }
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (NoSuchFileException e) {
+            index.remove(path);
+            return;
+        }
+        if (attributes.isDirectory()) {
+            if (kind == ENTRY_CREATE) {
+                synchronized (this) {
+                    register(path);
+                }
+                scan(path).failures().forEach(failures);
+            }
+        } else if (attributes.isRegularFile() && isOdc(path) && !isUnchanged(path, attributes)) {
+            if (attributes.size() == 0) {
+                // just created, the content follows with a modify event
+                index.remove(path);
+                return;
+            }
+            try {
+                update(path, attributes);
+            } catch (Exception e) {
+                failures.accept(new Failure(path, e));
+            }
+        }
+    }
+
+    private boolean isUnchanged(Path path, BasicFileAttributes attributes) {
+        Optional<OdcIndex.Entry> entry = index.get(path);
+        return entry.isPresent() && entry.get().size() == attributes.size()
+                && entry.get().lastModified() == attributes.lastModifiedTime().toMillis();
+    }
+
+    private void update(Path path, BasicFileAttributes attributes) throws IOException {
+        try {
+            index.put(read(path, attributes));
+        } catch (IOException | RuntimeException e) {
+            index.remove(path);
+            throw e;
+        }
+    }
+
+    private OdcIndex.Entry read(Path path, BasicFileAttributes attributes) throws IOException {
+        OdcFileView view = reader.view(path);
+        OfficeDataConnection odc = view.officeDataConnection();
+        List<String> connectionStrings = new ArrayList<>(odc.connections().size() + 1);
+        for (Connection connection : odc.connections()) {
+            connectionStrings.add(connection.connectionString());
+        }
+        odc.powerQueryConnection().ifPresent(pq -> connectionStrings.add(pq.connectionString()));
+        return new OdcIndex.Entry(path, attributes.lastModifiedTime().toMillis(), attributes.size(), view.catalog(),
+                view.schema(), view.table(), List.copyOf(connectionStrings));
+    }
+
+    private static boolean isOdc(Path path) {
+        Path name = path.getFileName();
+        return name != null && name.toString().toLowerCase(Locale.ROOT).endsWith(".odc");
+    }
+}
@@ -0,0 +1,64 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.reader.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.eclipse.daanse.odc.reader.index.OdcIndex.Meta;
+import org.junit.jupiter.api.Test;
+
+class OdcIndexTest {
+
+    private static OdcIndex.Entry entry(Path path) {
+        return new OdcIndex.Entry(path, 0, 0, Optional.of("Cube"), Optional.empty(), Optional.empty(),
+                List.of("Data Source=srv"));
+    }
+
+    @Test
+    void testConcurrentPutAndRemoveKeepPostings() throws Exception {
+        OdcIndex index = new OdcIndex();
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> misses = IntStream.range(0, threads).mapToObj(t -> executor.submit(() -> {
+                Path path = Path.of("/odc/" + t + ".odc");
+                int missed = 0;
+                for (int i = 0; i < 20_000; i++) {
+                    index.put(entry(path));
+                    if (!index.find(Meta.CATALOG, "Cube").contains(path)
+                            || !index.findByConnection("Data Source", "srv").contains(path)) {
+                        missed++;
+                    }
+                    index.remove(path);
+                }
+                return missed;
+            })).toList();
+            for (Future<Integer> missed : misses) {
+                assertThat(missed.get()).isZero();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(index.size()).isZero();
+        assertThat(index.find(Meta.CATALOG, "Cube")).isEmpty();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.reader.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.daanse.odc.reader.index.OdcIndex.Meta;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.writer.simple.OdcWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OdcIndexerTest {
+
+    private final OdcWriter writer = new OdcWriter();
+
+    @TempDir
+    Path tempDir;
+
+    private Path write(String name, String catalog, String connectionString) throws IOException {
+        OdcFile odcFile = new OdcFile(Optional.of(name), DocumentProperties.of(name),
+                OfficeDataConnection.of(Connection.of(ConnectionType.OLEDB, connectionString)), Optional.of(catalog),
+                Optional.empty(), Optional.of("Sales"));
+        Path path = tempDir.resolve(name).toAbsolutePath().normalize();
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, writer.write(odcFile));
+        return path;
+    }
+
+    @Test
+    void testScanIndexesMetaAndConnectionKeys() throws Exception {
+        Path a = write("a.odc", "Cube", "Provider=MSOLAP;Data Source=srv1;Initial Catalog=Cube");
+        Path b = write("sub/b.ODC", "Other", "Provider=MSOLAP;Data Source=SRV1");
+        Files.writeString(tempDir.resolve("readme.txt"), "not an odc file");
+        Files.writeString(tempDir.resolve("broken.odc"), "<html><body>");
+
+        OdcIndexer indexer = new OdcIndexer(tempDir, new OdcIndex());
+        OdcIndexer.Result result = indexer.scan();
+
+        assertThat(result.indexed()).isEqualTo(2L);
+        assertThat(result.failures()).hasSize(1);
+        OdcIndex index = indexer.index();
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.find(Meta.CATALOG, "cube")).containsExactly(a);
+        assertThat(index.find(Meta.TABLE, "Sales")).hasSize(2);
+        assertThat(index.findByConnection("data source", "srv1")).hasSize(2);
+        assertThat(index.findByConnection("Initial Catalog", "Cube")).containsExactly(a);
+        assertThat(index.findByConnection("Provider", "none")).isEmpty();
+        assertThat(index.get(b).get().connectionStrings()).containsExactly("Provider=MSOLAP;Data Source=SRV1");
+    }
+
+    @Test
+    void testRescanTouchesOnlyChangedFiles() throws Exception {
+        Path a = write("a.odc", "Cube", "Data Source=srv1");
+        Path b = write("b.odc", "Cube", "Data Source=srv1");
+        write("c.odc", "Cube", "Data Source=srv1");
+        OdcIndexer indexer = new OdcIndexer(tempDir, new OdcIndex());
+        indexer.scan();
+
+        write("a.odc", "Moved", "Data Source=srv2");
+        Files.setLastModifiedTime(a, FileTime.fromMillis(Files.getLastModifiedTime(a).toMillis() + 2000));
+        Files.delete(b);
+        OdcIndexer.Result result = indexer.scan();
+
+        assertThat(result.indexed()).isEqualTo(1L);
+        assertThat(result.unchanged()).isEqualTo(1L);
+        assertThat(result.removed()).isEqualTo(1L);
+        OdcIndex index = indexer.index();
+        assertThat(index.find(Meta.CATALOG, "Cube")).hasSize(1);
+        assertThat(index.find(Meta.CATALOG, "Moved")).containsExactly(a);
+        assertThat(index.findByConnection("Data Source", "srv2")).containsExactly(a);
+        assertThat(index.findByConnection("Data Source", "srv1")).hasSize(1);
+    }
+
+    @Test
+    void testWatchFollowsChanges() throws Exception {
+        List<OdcIndexer.Failure> failures = new CopyOnWriteArrayList<>();
+        try (OdcIndexer indexer = new OdcIndexer(tempDir, new OdcIndex())) {
+            indexer.watch(failures::add);
+            indexer.scan();
+            OdcIndex index = indexer.index();
+
+            Path a = write("a.odc", "Cube", "Data Source=srv1");
+            awaitTrue(() -> index.find(Meta.CATALOG, "Cube").contains(a));
+
+            Path b = write("new/b.odc", "Nested", "Data Source=srv1");
+            awaitTrue(() -> index.find(Meta.CATALOG, "Nested").contains(b));
+
+            Files.delete(a);
+            awaitTrue(() -> index.get(a).isEmpty());
+            assertThat(index.findByConnection("Data Source", "srv1")).containsExactly(b);
+        }
+        assertThat(failures).isEmpty();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.reader.simple;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+
+/**
+ * Detects the charset of ODC file bytes and provides the bytes in an ASCII
+ * compatible encoding for scanning. Detection order is byte order mark, the
+ * charset declared in the Content-Type meta tag, UTF-8 if the bytes are valid
+ * UTF-8 and Windows-1252 otherwise, as used by legacy files.
+ */
+final class CharsetDetector {
+
+    /** Number of bytes searched for a charset declaration. */
+    private static final int DECLARATION_SEARCH_LIMIT = 4096;
+
+    /** Charset of legacy files without declaration. */
+    static final Charset WINDOWS_1252 = Charset.forName("windows-1252");
+
+    /**
+     * Bytes prepared for scanning.
+     *
+     * @param buffer  The bytes to scan, positioned after any byte order mark
+     * @param charset The ASCII compatible charset of the bytes
+     * @param source  The charset of the original bytes, differs from charset if
+     *                the input was transcoded
+     */
+    record Detected(ByteBuffer buffer, Charset charset, Charset source) {
+
+        /**
+         * Returns whether the bytes to scan are a transcoded copy of the input.
+         *
+         * @return true for UTF-16 input
+         */
+        boolean isTranscoded() {
+            return !charset.equals(source);
+        }
+    }
+
+    private CharsetDetector() {
+    }
+
+    /**
+     * Detects the charset of the remaining bytes of a buffer. UTF-16 input is
+     * transcoded to UTF-8. The position of the given buffer is not changed.
+     *
+     * @param buffer The bytes of an ODC file
+     * @return The bytes to scan and their charset
+     */
+    static Detected detect(ByteBuffer buffer) {
+        int start = buffer.position();
+        int limit = buffer.limit();
+        int b0 = limit - start > 0 ? buffer.get(start) & 0xFF : -1;
+        int b1 = limit - start > 1 ? buffer.get(start + 1) & 0xFF : -1;
+        int b2 = limit - start > 2 ? buffer.get(start + 2) & 0xFF : -1;
+
+        if (b0 == 0xEF && b1 == 0xBB && b2 == 0xBF) {
+            return new Detected(buffer.duplicate().position(start + 3), StandardCharsets.UTF_8,
+                    StandardCharsets.UTF_8);
+        }
+        if (b0 == 0xFE && b1 == 0xFF) {
+            return transcode(buffer, start + 2, StandardCharsets.UTF_16BE);
+        }
+        if (b0 == 0xFF && b1 == 0xFE) {
+            return transcode(buffer, start + 2, StandardCharsets.UTF_16LE);
+        }
+        if (b0 == 0 && b1 > 0) {
+            return transcode(buffer, start, StandardCharsets.UTF_16BE);
+        }
+        if (b0 > 0 && b1 == 0) {
+            return transcode(buffer, start, StandardCharsets.UTF_16LE);
+        }
+
+        Charset declared = declaredCharset(buffer, start, Math.min(limit, start + DECLARATION_SEARCH_LIMIT));
+        if (declared != null) {
+            return new Detected(buffer.duplicate(), declared, declared);
+        }
+        Charset charset = isValidUtf8(buffer, start, limit) ? StandardCharsets.UTF_8 : WINDOWS_1252;
+        return new Detected(buffer.duplicate(), charset, charset);
+    }
+
+    private static Detected transcode(ByteBuffer buffer, int start, Charset charset) {
+        ByteBuffer source = buffer.duplicate().position(start);
+        String text = charset.decode(source).toString();
+        return new Detected(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8,
+                charset);
+    }
+
+    /**
+     * Finds a "charset=" declaration and resolves it, ignoring declarations of
+     * charsets that are not ASCII compatible.
+     */
+    private static Charset declaredCharset(ByteBuffer buffer, int start, int end) {
+        outer: for (int i = start; i + 8 < end; i++) {
+            for (int j = 0; j < 8; j++) {
+                int b = buffer.get(i + j) | 0x20;
+                if (b != "charset=".charAt(j)) {
+                    continue outer;
+                }
+            }
+            int nameStart = i + 8;
+            int nameEnd = nameStart;
+            while (nameEnd < end && isCharsetNameChar(buffer.get(nameEnd))) {
+                nameEnd++;
+            }
+            StringBuilder name = new StringBuilder(nameEnd - nameStart);
+            for (int k = nameStart; k < nameEnd; k++) {
+                name.append((char) buffer.get(k));
+            }
+            try {
+                Charset charset = Charset.forName(name.toString());
+                return charset.name().startsWith("UTF-16") || charset.name().startsWith("UTF-32") ? null : charset;
+            } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isCharsetNameChar(byte b) {
+        return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || (b >= '0' && b <= '9') || b == '-' || b == '_'
+                || b == '.' || b == ':';
+    }
+
+    /**
+     * Checks whether a range of bytes is well-formed UTF-8.
+     */
+    static boolean isValidUtf8(ByteBuffer buffer, int start, int end) {
+        int i = start;
+        while (i < end) {
+            int b = buffer.get(i) & 0xFF;
+            if (b < 0x80) {
+                i++;
+                continue;
+            }
+            int continuations;
+            int min;
+            if (b >= 0xC2 && b <= 0xDF) {
+                continuations = 1;
+                min = 0x80;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                continuations = 2;
+                min = 0x800;
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                continuations = 3;
+                min = 0x10000;
+            } else {
+                return false;
+            }
+            if (i + continuations >= end) {
+                return false;
+            }
+            int codePoint = b & (0x3F >> continuations);
+            for (int k = 1; k <= continuations; k++) {
+                int c = buffer.get(i + k) & 0xFF;
+                if ((c & 0xC0) != 0x80) {
+                    return false;
+                }
+                codePoint = (codePoint << 6) | (c & 0x3F);
+            }
+            if (codePoint < min || codePoint > 0x10FFFF || (codePoint >= 0xD800 && codePoint <= 0xDFFF)) {
+                return false;
+            }
+            i += continuations + 1;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,283 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.reader.simple;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.reader.simple.OdcScanner.Token;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+
+/**
+ * Lazy view of an ODC file over its bytes, with the accessors of
+ * {@link OdcFile}. Opening a view scans the bytes once and records the offsets
+ * of the elements; a value is decoded only when its accessor is called, and on
+ * every call, the view keeps no decoded values.
+ * <p>
+ * The scan stops at the start of the {@code PowerQueryMashupData} element,
+ * which the schema places last in the {@code OfficeDataConnection}, so the
+ * bytes of the mashup data are not read unless its text is; for a memory
+ * mapped file its pages are not loaded. Files without a charset declaration
+ * are an exception, all their bytes are checked for UTF-8 first. Elements
+ * following the mashup data are ignored, use {@link OdcReader#read(ByteBuffer)}
+ * for files that deviate from the layout written by Office.
+ * <p>
+ * Values are decoded with the rules of the {@link OdcReader}. A value that
+ * cannot be mapped to the model fails when it is accessed, with an
+ * {@link UncheckedIOException} wrapping the {@link OdcParseException}.
+ * Instances are thread-safe as long as the bytes are not modified.
+ */
+public final class OdcFileView {
+
+    private static final int ABSENT = -1;
+
+    private final OdcReader reader;
+
+    private final ByteBuffer buffer;
+
+    private final Charset charset;
+
+    private final int title;
+
+    private final int catalog;
+
+    private final int schema;
+
+    private final int table;
+
+    private final int documentProperties;
+
+    private final int sourceFile;
+
+    private final int[] connections;
+
+    private final int powerQueryConnection;
+
+    private final int powerQueryMashupData;
+
+    private OdcFileView(OdcReader reader, ByteBuffer buffer, Charset charset, int[] offsets, int[] connections) {
+        this.reader = reader;
+        this.buffer = buffer;
+        this.charset = charset;
+        this.title = offsets[0];
+        this.catalog = offsets[1];
+        this.schema = offsets[2];
+        this.table = offsets[3];
+        this.documentProperties = offsets[4];
+        this.sourceFile = offsets[5];
+        this.powerQueryConnection = offsets[6];
+        this.powerQueryMashupData = offsets[7];
+        this.connections = connections;
+    }
+
+    /**
+     * Scans the bytes and records the offsets of the start tags.
+     *
+     * @param reader  The reader decoding the elements
+     * @param buffer  The bytes to scan, as prepared by the
+     *                {@link CharsetDetector}
+     * @param charset The charset of the bytes
+     * @return The view
+     * @throws OdcParseException if there is no OfficeDataConnection element
+     */
+    static OdcFileView index(OdcReader reader, ByteBuffer buffer, Charset charset) throws OdcParseException {
+        OdcScanner scanner = new OdcScanner(buffer, charset);
+        int[] offsets = new int[8];
+        Arrays.fill(offsets, ABSENT);
+        int[] connections = new int[1];
+        int connectionCount = 0;
+        boolean officeDataConnection = false;
+        scan: while (scanner.next() != Token.EOF) {
+            if (scanner.token() != Token.START_TAG) {
+                continue;
+            }
+            int start = scanner.tokenStart();
+            if (scanner.isElement("meta")) {
+                String name = scanner.attribute("name");
+                if ("Catalog".equalsIgnoreCase(name)) {
+                    offsets[1] = start;
+                } else if ("Schema".equalsIgnoreCase(name)) {
+                    offsets[2] = start;
+                } else if ("Table".equalsIgnoreCase(name)) {
+                    offsets[3] = start;
+                }
+            } else if (scanner.isElement("title")) {
+                offsets[0] = start;
+                scanner.skipElement();
+            } else if (scanner.isElement("DocumentProperties")) {
+                offsets[4] = start;
+                scanner.skipElement();
+            } else if (scanner.isElement("OfficeDataConnection")) {
+                officeDataConnection = true;
+                offsets[5] = ABSENT;
+                offsets[6] = ABSENT;
+                connectionCount = 0;
+                while (reader.nextChild(scanner, "OfficeDataConnection")) {
+                    start = scanner.tokenStart();
+                    if (scanner.isElement("PowerQueryMashupData")) {
+                        offsets[7] = start;
+                        break scan;
+                    }
+                    if (scanner.isElement("SourceFile")) {
+                        offsets[5] = start;
+                    } else if (scanner.isElement("Connection")) {
+                        if (connectionCount == connections.length) {
+                            connections = Arrays.copyOf(connections, connectionCount * 2);
+                        }
+                        connections[connectionCount++] = start;
+                    } else if (scanner.isElement("PowerQueryConnection")) {
+                        offsets[6] = start;
+                    }
+                    scanner.skipElement();
+                }
+            }
+        }
+        if (!officeDataConnection) {
+            throw new OdcParseException("Missing OfficeDataConnection element", scanner.tokenStart());
+        }
+        return new OdcFileView(reader, buffer, charset, offsets, Arrays.copyOf(connections, connectionCount));
+    }
+
+    /**
+     * @return The decoded title, see {@link OdcFile#title()}
+     */
+    public Optional<String> title() {
+        return title == ABSENT ? Optional.empty() : Optional.of(scannerAt(title).readElementText());
+    }
+
+    /**
+     * @return The decoded catalog, see {@link OdcFile#catalog()}
+     */
+    public Optional<String> catalog() {
+        return metaContent(catalog);
+    }
+
+    /**
+     * @return The decoded schema, see {@link OdcFile#schema()}
+     */
+    public Optional<String> schema() {
+        return metaContent(schema);
+    }
+
+    /**
+     * @return The decoded table, see {@link OdcFile#table()}
+     */
+    public Optional<String> table() {
+        return metaContent(table);
+    }
+
+    /**
+     * @return The decoded document properties, see
+     *         {@link OdcFile#documentProperties()}
+     */
+    public DocumentProperties documentProperties() {
+        if (documentProperties == ABSENT) {
+            return DocumentProperties.empty();
+        }
+        try {
+            return reader.readDocumentProperties(scannerAt(documentProperties));
+        } catch (OdcParseException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Decodes the office data connection. The mashup data is a
+     * {@link TextSource} that decodes the element each time its text is read.
+     *
+     * @return The office data connection, see
+     *         {@link OdcFile#officeDataConnection()}
+     */
+    public OfficeDataConnection officeDataConnection() {
+        Optional<String> source = sourceFile == ABSENT ? Optional.empty()
+                : Optional.of(scannerAt(sourceFile).readElementText());
+        Optional<PowerQueryConnection> powerQuery;
+        try {
+            powerQuery = powerQueryConnection == ABSENT ? Optional.empty()
+                    : Optional.of(reader.readPowerQueryConnection(scannerAt(powerQueryConnection)));
+        } catch (OdcParseException e) {
+            throw new UncheckedIOException(e);
+        }
+        Optional<TextSource> mashupData = powerQueryMashupData == ABSENT ? Optional.empty()
+                : Optional.of(TextSource.of(() -> scannerAt(powerQueryMashupData).readElementText()));
+        return new OfficeDataConnection(source, connections(), powerQuery, mashupData);
+    }
+
+    /**
+     * @return The number of connections, without decoding them
+     */
+    public int connectionCount() {
+        return connections.length;
+    }
+
+    /**
+     * Decodes a single connection, e.g. the first one of a file to read its
+     * connection string.
+     *
+     * @param index The index of the connection
+     * @return The connection
+     * @throws IndexOutOfBoundsException if there is no such connection
+     */
+    public Connection connection(int index) {
+        try {
+            return reader.readConnection(scannerAt(connections[index]));
+        } catch (OdcParseException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return The decoded connections, see
+     *         {@link OfficeDataConnection#connections()}
+     */
+    public List<Connection> connections() {
+        Connection[] decoded = new Connection[connections.length];
+        for (int i = 0; i < decoded.length; i++) {
+            decoded[i] = connection(i);
+        }
+        return List.of(decoded);
+    }
+
+    /**
+     * Decodes the complete model. The mashup data stays lazy and reads from the
+     * bytes of this view.
+     *
+     * @return The ODC file model
+     */
+    public OdcFile toOdcFile() {
+        return new OdcFile(title(), documentProperties(), officeDataConnection(), catalog(), schema(), table());
+    }
+
+    private Optional<String> metaContent(int offset) {
+        return offset == ABSENT ? Optional.empty() : Optional.ofNullable(scannerAt(offset).attribute("content"));
+    }
+
+    /**
+     * Creates a scanner positioned on the start tag at an offset.
+     */
+    private OdcScanner scannerAt(int offset) {
+        OdcScanner scanner = new OdcScanner(buffer.duplicate().position(offset), charset);
+        scanner.next();
+        return scanner;
+    }
+}
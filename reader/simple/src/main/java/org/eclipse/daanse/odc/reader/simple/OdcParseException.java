@@ -0,0 +1,46 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.reader.simple;
+
+import java.io.IOException;
+
+/**
+ * Signals that the content of an ODC file cannot be mapped to the model.
+ */
+public class OdcParseException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long offset;
+
+    /**
+     * Creates an exception for a problem at a byte offset of the input.
+     *
+     * @param message The description of the problem
+     * @param offset  The byte offset in the scanned input
+     */
+    public OdcParseException(String message, long offset) {
+        super(message + " (at offset " + offset + ")");
+        this.offset = offset;
+    }
+
+    /**
+     * Returns the byte offset of the problem in the scanned input.
+     *
+     * @return The byte offset
+     */
+    public long offset() {
+        return offset;
+    }
+}
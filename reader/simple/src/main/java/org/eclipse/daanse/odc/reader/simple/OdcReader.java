@@ -0,0 +1,378 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.reader.simple;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.reader.simple.OdcScanner.Token;
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.Parameter;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+
+/**
+ * Reader class for parsing Office Data Connection (ODC) files. The bytes are
+ * scanned in a single pass directly into the model records, without building a
+ * DOM and without reflection. The HTML wrapper of ODC files is read leniently;
+ * the charset is detected from byte order marks and the Content-Type meta tag,
+ * falling back to Windows-1252 for legacy files that are not valid UTF-8.
+ */
+public class OdcReader {
+
+    /**
+     * Reads an ODC file from bytes.
+     *
+     * @param bytes The content of the ODC file
+     * @return The ODC file model
+     * @throws OdcParseException if the content cannot be mapped to the model
+     */
+    public OdcFile read(byte[] bytes) throws OdcParseException {
+        return read(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Reads an ODC file from the remaining bytes of a buffer. The position of the
+     * buffer is not changed.
+     *
+     * @param buffer The content of the ODC file
+     * @return The ODC file model
+     * @throws OdcParseException if the content cannot be mapped to the model
+     */
+    public OdcFile read(ByteBuffer buffer) throws OdcParseException {
+        CharsetDetector.Detected detected = CharsetDetector.detect(buffer);
+        return read(new OdcScanner(detected.buffer(), detected.charset()));
+    }
+
+    /**
+     * Reads an ODC file from a stream. The stream is read to its end but not
+     * closed.
+     *
+     * @param in The stream to read from
+     * @return The ODC file model
+     * @throws IOException if the stream cannot be read or the content cannot be
+     *                     mapped to the model
+     */
+    public OdcFile read(InputStream in) throws IOException {
+        return read(in.readAllBytes());
+    }
+
+    /**
+     * Reads an ODC file from the file system.
+     *
+     * @param path The path of the ODC file
+     * @return The ODC file model
+     * @throws IOException if the file cannot be read or the content cannot be
+     *                     mapped to the model
+     */
+    public OdcFile read(Path path) throws IOException {
+        return read(Files.readAllBytes(path));
+    }
+
+    /**
+     * Opens a lazy view of an ODC file over the remaining bytes of a buffer. The
+     * buffer is referenced by the view and must not be modified while it is
+     * used; its position is not changed.
+     *
+     * @param buffer The content of the ODC file
+     * @return The view
+     * @throws OdcParseException if the content has no OfficeDataConnection
+     *                           element
+     */
+    public OdcFileView view(ByteBuffer buffer) throws OdcParseException {
+        CharsetDetector.Detected detected = CharsetDetector.detect(buffer);
+        return OdcFileView.index(this, detected.buffer(), detected.charset());
+    }
+
+    /**
+     * Opens a lazy view of an ODC file that is mapped into memory. Only the pages
+     * holding the accessed values are read from the file.
+     *
+     * @param path The path of the ODC file
+     * @return The view
+     * @throws IOException if the file cannot be mapped or has no
+     *                     OfficeDataConnection element
+     */
+    public OdcFileView view(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large to be mapped: " + path);
+            }
+            return view(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    private OdcFile read(OdcScanner scanner) throws OdcParseException {
+        Optional<String> title = Optional.empty();
+        Optional<String> catalog = Optional.empty();
+        Optional<String> schema = Optional.empty();
+        Optional<String> table = Optional.empty();
+        DocumentProperties documentProperties = DocumentProperties.empty();
+        OfficeDataConnection officeDataConnection = null;
+
+        while (scanner.next() != Token.EOF) {
+            if (scanner.token() != Token.START_TAG) {
+                continue;
+            }
+            if (scanner.isElement("meta")) {
+                String name = scanner.attribute("name");
+                if ("Catalog".equalsIgnoreCase(name)) {
+                    catalog = Optional.ofNullable(scanner.attribute("content"));
+                } else if ("Schema".equalsIgnoreCase(name)) {
+                    schema = Optional.ofNullable(scanner.attribute("content"));
+                } else if ("Table".equalsIgnoreCase(name)) {
+                    table = Optional.ofNullable(scanner.attribute("content"));
+                }
+            } else if (scanner.isElement("title")) {
+                title = Optional.of(scanner.readElementText());
+            } else if (scanner.isElement("DocumentProperties")) {
+                documentProperties = readDocumentProperties(scanner);
+            } else if (scanner.isElement("OfficeDataConnection")) {
+                officeDataConnection = readOfficeDataConnection(scanner);
+            }
+        }
+        if (officeDataConnection == null) {
+            throw new OdcParseException("Missing OfficeDataConnection element", scanner.tokenStart());
+        }
+        return new OdcFile(title, documentProperties, officeDataConnection, catalog, schema, table);
+    }
+
+    DocumentProperties readDocumentProperties(OdcScanner scanner) throws OdcParseException {
+        Optional<String> description = Optional.empty();
+        Optional<String> name = Optional.empty();
+        Optional<String> keywords = Optional.empty();
+        while (nextChild(scanner, "DocumentProperties")) {
+            if (scanner.isElement("Description")) {
+                description = Optional.of(scanner.readElementText());
+            } else if (scanner.isElement("Name")) {
+                name = Optional.of(scanner.readElementText());
+            } else if (scanner.isElement("Keywords")) {
+                keywords = Optional.of(scanner.readElementText());
+            } else {
+                scanner.readElementText();
+            }
+        }
+        return new DocumentProperties(description, name, keywords);
+    }
+
+    private OfficeDataConnection readOfficeDataConnection(OdcScanner scanner) throws OdcParseException {
+        Optional<String> sourceFile = Optional.empty();
+        List<Connection> connections = new ArrayList<>(2);
+        Optional<PowerQueryConnection> powerQueryConnection = Optional.empty();
+        Optional<TextSource> powerQueryMashupData = Optional.empty();
+        while (nextChild(scanner, "OfficeDataConnection")) {
+            if (scanner.isElement("SourceFile")) {
+                sourceFile = Optional.of(scanner.readElementText());
+            } else if (scanner.isElement("Connection")) {
+                connections.add(readConnection(scanner));
+            } else if (scanner.isElement("PowerQueryConnection")) {
+                powerQueryConnection = Optional.of(readPowerQueryConnection(scanner));
+            } else if (scanner.isElement("PowerQueryMashupData")) {
+                powerQueryMashupData = Optional.of(TextSource.of(scanner.readElementText()));
+            } else {
+                scanner.readElementText();
+            }
+        }
+        return new OfficeDataConnection(sourceFile, List.copyOf(connections), powerQueryConnection,
+                powerQueryMashupData);
+    }
+
+    Connection readConnection(OdcScanner scanner) throws OdcParseException {
+        ConnectionType type = connectionType(scanner);
+        String connectionString = null;
+        Optional<CommandType> commandType = Optional.empty();
+        List<Parameter> parameters = new ArrayList<>();
+        Optional<TextSource> commandText = Optional.empty();
+        Optional<String> ssoApplicationId = Optional.empty();
+        Optional<CredentialsMethod> credentialsMethod = Optional.empty();
+        Optional<Boolean> alwaysUseConnectionFile = Optional.empty();
+        Optional<String> culture = Optional.empty();
+        while (nextChild(scanner, "Connection")) {
+            if (scanner.isElement("ConnectionString")) {
+                connectionString = scanner.readElementText();
+            } else if (scanner.isElement("CommandType")) {
+                commandType = Optional.of(commandType(scanner));
+            } else if (scanner.isElement("Parameter")) {
+                parameters.add(readParameter(scanner));
+            } else if (scanner.isElement("CommandText")) {
+                commandText = Optional.of(TextSource.of(scanner.readElementText()));
+            } else if (scanner.isElement("SSOApplicationID")) {
+                ssoApplicationId = Optional.of(scanner.readElementText());
+            } else if (scanner.isElement("CredentialsMethod")) {
+                credentialsMethod = Optional.of(credentialsMethod(scanner));
+            } else if (scanner.isElement("AlwaysUseConnectionFile")) {
+                alwaysUseConnectionFile = Optional.of(booleanValue(scanner));
+            } else if (scanner.isElement("Culture")) {
+                culture = Optional.of(scanner.readElementText());
+            } else {
+                scanner.readElementText();
+            }
+        }
+        if (connectionString == null) {
+            throw new OdcParseException("Connection without ConnectionString", scanner.tokenStart());
+        }
+        return new Connection(type, connectionString, commandType, List.copyOf(parameters), commandText,
+                ssoApplicationId, credentialsMethod, alwaysUseConnectionFile, culture);
+    }
+
+    PowerQueryConnection readPowerQueryConnection(OdcScanner scanner) throws OdcParseException {
+        ConnectionType type = connectionType(scanner);
+        String connectionString = null;
+        Optional<CommandType> commandType = Optional.empty();
+        Optional<TextSource> commandText = Optional.empty();
+        Optional<String> ssoApplicationId = Optional.empty();
+        Optional<CredentialsMethod> credentialsMethod = Optional.empty();
+        Optional<Boolean> alwaysUseConnectionFile = Optional.empty();
+        while (nextChild(scanner, "PowerQueryConnection")) {
+            if (scanner.isElement("ConnectionString")) {
+                connectionString = scanner.readElementText();
+            } else if (scanner.isElement("CommandType")) {
+                commandType = Optional.of(commandType(scanner));
+            } else if (scanner.isElement("CommandText")) {
+                commandText = Optional.of(TextSource.of(scanner.readElementText()));
+            } else if (scanner.isElement("SSOApplicationID")) {
+                ssoApplicationId = Optional.of(scanner.readElementText());
+            } else if (scanner.isElement("CredentialsMethod")) {
+                credentialsMethod = Optional.of(credentialsMethod(scanner));
+            } else if (scanner.isElement("AlwaysUseConnectionFile")) {
+                alwaysUseConnectionFile = Optional.of(booleanValue(scanner));
+            } else {
+                scanner.readElementText();
+            }
+        }
+        if (connectionString == null) {
+            throw new OdcParseException("PowerQueryConnection without ConnectionString", scanner.tokenStart());
+        }
+        return new PowerQueryConnection(type, connectionString, commandType, commandText, ssoApplicationId,
+                credentialsMethod, alwaysUseConnectionFile);
+    }
+
+    private Parameter readParameter(OdcScanner scanner) throws OdcParseException {
+        String name = null;
+        Optional<Integer> dataType = Optional.empty();
+        while (nextChild(scanner, "Parameter")) {
+            if (scanner.isElement("Name")) {
+                name = scanner.readElementText();
+            } else if (scanner.isElement("DataType")) {
+                int offset = scanner.tokenStart();
+                String value = scanner.readElementText().trim();
+                try {
+                    dataType = Optional.of(Integer.valueOf(value));
+                } catch (NumberFormatException e) {
+                    throw new OdcParseException("Invalid DataType '" + value + "'", offset);
+                }
+            } else {
+                scanner.readElementText();
+            }
+        }
+        if (name == null) {
+            throw new OdcParseException("Parameter without Name", scanner.tokenStart());
+        }
+        return new Parameter(name, dataType);
+    }
+
+    /**
+     * Advances to the next child start tag of an element.
+     *
+     * @param scanner The scanner positioned inside the element
+     * @param parent  The local name of the element
+     * @return true if positioned on a child start tag, false at the end tag of the
+     *         element
+     * @throws OdcParseException if the input ends before the end tag
+     */
+    boolean nextChild(OdcScanner scanner, String parent) throws OdcParseException {
+        while (true) {
+            switch (scanner.next()) {
+            case START_TAG:
+                return true;
+            case END_TAG:
+                if (scanner.isElement(parent)) {
+                    return false;
+                }
+                break;
+            case EOF:
+                throw new OdcParseException("Unexpected end of input in " + parent, scanner.tokenStart());
+            default:
+                break;
+            }
+        }
+    }
+
+    private ConnectionType connectionType(OdcScanner scanner) throws OdcParseException {
+        String type = scanner.attribute("Type");
+        if (type == null) {
+            throw new OdcParseException("Missing Type attribute", scanner.tokenStart());
+        }
+        return switch (type.trim()) {
+        case "OLEDB" -> ConnectionType.OLEDB;
+        case "ODBC" -> ConnectionType.ODBC;
+        case "DATAFEED" -> ConnectionType.DATAFEED;
+        default -> throw new OdcParseException("Unknown connection type '" + type + "'", scanner.tokenStart());
+        };
+    }
+
+    private CommandType commandType(OdcScanner scanner) throws OdcParseException {
+        int offset = scanner.tokenStart();
+        String value = scanner.readElementText().trim();
+        return switch (value) {
+        case "Table" -> CommandType.Table;
+        case "SQL" -> CommandType.SQL;
+        case "Cube" -> CommandType.Cube;
+        case "List" -> CommandType.List;
+        case "Default" -> CommandType.Default;
+        case "TableCollection" -> CommandType.TableCollection;
+        default -> throw new OdcParseException("Unknown command type '" + value + "'", offset);
+        };
+    }
+
+    private CredentialsMethod credentialsMethod(OdcScanner scanner) throws OdcParseException {
+        int offset = scanner.tokenStart();
+        String value = scanner.readElementText().trim();
+        return switch (value) {
+        case "Integrated" -> CredentialsMethod.Integrated;
+        case "None" -> CredentialsMethod.None;
+        case "Stored" -> CredentialsMethod.Stored;
+        default -> throw new OdcParseException("Unknown credentials method '" + value + "'", offset);
+        };
+    }
+
+    /**
+     * Reads an xs:boolean element. An empty element means true, as written for
+     * AlwaysUseConnectionFile.
+     */
+    private boolean booleanValue(OdcScanner scanner) throws OdcParseException {
+        int offset = scanner.tokenStart();
+        String value = scanner.readElementText().trim();
+        return switch (value) {
+        case "", "true", "1" -> true;
+        case "false", "0" -> false;
+        default -> throw new OdcParseException("Invalid boolean '" + value + "'", offset);
+        };
+    }
+}
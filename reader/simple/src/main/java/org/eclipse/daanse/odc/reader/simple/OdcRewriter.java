@@ -0,0 +1,469 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.reader.simple;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.eclipse.daanse.odc.reader.simple.OdcScanner.Token;
+import org.eclipse.daanse.odc.simple.connectionstring.ConnectionString;
+import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
+
+/**
+ * Rewrites selected elements of the connections of existing ODC files in
+ * place. The scanner only records the offsets of the targeted elements; all
+ * other bytes of a file, including the HTML wrapper, its formatting and the
+ * Power Query mashup data, are copied through unchanged without being decoded.
+ * UTF-16 files are edited in a transcoded copy and written back in their
+ * original encoding.
+ * <p>
+ * Files are replaced by writing a temporary file next to them and renaming it
+ * over the original, atomically where the file system supports atomic moves.
+ * Elsewhere the rewriter falls back to a plain replacing move, during which a
+ * concurrent reader may briefly find the file missing. The directory is
+ * synced after the rename where the platform allows to open directories, so
+ * the rename survives a crash. Elements that a file does not contain are not
+ * added. Batches run each file on its own virtual thread with a bounded number
+ * of files in flight; failures of single files are collected and leave the
+ * files untouched.
+ */
+public class OdcRewriter {
+
+    /**
+     * Elements of Connection and PowerQueryConnection that can be rewritten.
+     */
+    public enum Field {
+        CONNECTION_STRING, SSO_APPLICATION_ID, CREDENTIALS_METHOD
+    }
+
+    /**
+     * Computes the new content of a targeted element.
+     */
+    @FunctionalInterface
+    public interface Edit {
+
+        /**
+         * Computes the new content of an element.
+         *
+         * @param field The element
+         * @param value The current unescaped content
+         * @return The new unescaped content, or the current value or null to keep
+         *         the element as is
+         */
+        String apply(Field field, String value);
+
+        /**
+         * Creates an edit that sets a key of all connection strings in which the
+         * key has a given value, e.g. to repoint {@code Data Source} from an old
+         * to a new server. Keys and values are compared case-insensitively; the
+         * rest of each connection string is kept as is.
+         *
+         * @param key      The connection string key
+         * @param oldValue The value to replace
+         * @param newValue The new value
+         * @return The edit
+         */
+        static Edit connectionValue(String key, String oldValue, String newValue) {
+            Objects.requireNonNull(key, "key");
+            Objects.requireNonNull(oldValue, "oldValue");
+            Objects.requireNonNull(newValue, "newValue");
+            return (field, value) -> {
+                if (field != Field.CONNECTION_STRING) {
+                    return null;
+                }
+                ConnectionString connectionString = ConnectionString.parse(value);
+                int index = connectionString.indexOf(key);
+                return index >= 0 && connectionString.valueEqualsIgnoreCase(index, oldValue)
+                        ? connectionString.with(key, newValue)
+                        : null;
+            };
+        }
+    }
+
+    /**
+     * A file that could not be rewritten. The file is left unchanged.
+     *
+     * @param path  The path of the file
+     * @param error The cause of the failure
+     */
+    public record Failure(Path path, Exception error) {
+    }
+
+    /**
+     * Summary of a batch run.
+     *
+     * @param files     Number of files processed successfully
+     * @param rewritten Number of files that were changed
+     * @param elapsed   Wall clock time of the batch
+     * @param failures  Files that could not be rewritten
+     */
+    public record Result(long files, long rewritten, Duration elapsed, List<Failure> failures) {
+
+        /**
+         * Checks whether all files were processed.
+         *
+         * @return true if no file failed
+         */
+        public boolean isSuccessful() {
+            return failures.isEmpty();
+        }
+    }
+
+    /** A range of the scanned bytes and the bytes that replace it. */
+    private record Splice(int start, int end, byte[] replacement) {
+    }
+
+    private final OdcReader reader = new OdcReader();
+
+    private final Edit edit;
+
+    private final int maxConcurrency;
+
+    /**
+     * Creates a rewriter with at most four files per available processor in
+     * flight.
+     *
+     * @param edit The edit applied to the targeted elements
+     */
+    public OdcRewriter(Edit edit) {
+        this(edit, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Creates a rewriter.
+     *
+     * @param edit           The edit applied to the targeted elements
+     * @param maxConcurrency The maximum number of files in flight
+     */
+    public OdcRewriter(Edit edit, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.edit = Objects.requireNonNull(edit, "edit");
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Rewrites the content of an ODC file.
+     *
+     * @param content The content of the ODC file
+     * @return The rewritten content, or empty if no element was changed
+     * @throws OdcParseException        if the content has no valid
+     *                                  OfficeDataConnection element
+     * @throws IllegalArgumentException if the edit fails or returns an unknown
+     *                                  credentials method
+     */
+    public Optional<byte[]> rewrite(byte[] content) throws OdcParseException {
+        ByteBuffer[] parts = parts(content);
+        if (parts == null) {
+            return Optional.empty();
+        }
+        int length = 0;
+        for (ByteBuffer part : parts) {
+            length += part.remaining();
+        }
+        ByteBuffer result = ByteBuffer.allocate(length);
+        for (ByteBuffer part : parts) {
+            result.put(part);
+        }
+        return Optional.of(result.array());
+    }
+
+    /**
+     * Rewrites an ODC file on the file system. The file is only replaced if an
+     * element was changed.
+     *
+     * @param path The path of the ODC file
+     * @return true if the file was changed
+     * @throws IOException              if the file cannot be read, parsed or
+     *                                  replaced
+     * @throws IllegalArgumentException if the edit fails or returns an unknown
+     *                                  credentials method
+     */
+    public boolean rewrite(Path path) throws IOException {
+        ByteBuffer[] parts = parts(Files.readAllBytes(path));
+        if (parts == null) {
+            return false;
+        }
+        replace(path, parts);
+        return true;
+    }
+
+    /**
+     * Rewrites all files of a stream. The stream is consumed on the calling
+     * thread and closed afterwards.
+     *
+     * @param paths The paths of the ODC files
+     * @return The summary of the batch
+     * @throws InterruptedException if the calling thread is interrupted while
+     *                              waiting for a free slot
+     */
+    public Result rewriteAll(Stream<Path> paths) throws InterruptedException {
+        try (paths) {
+            return rewriteAll(paths.iterator());
+        }
+    }
+
+    /**
+     * Rewrites all files of an iterable.
+     *
+     * @param paths The paths of the ODC files
+     * @return The summary of the batch
+     * @throws InterruptedException if the calling thread is interrupted while
+     *                              waiting for a free slot
+     */
+    public Result rewriteAll(Iterable<Path> paths) throws InterruptedException {
+        return rewriteAll(paths.iterator());
+    }
+
+    private Result rewriteAll(Iterator<Path> paths) throws InterruptedException {
+        long start = System.nanoTime();
+        Semaphore slots = new Semaphore(maxConcurrency);
+        LongAdder files = new LongAdder();
+        LongAdder rewritten = new LongAdder();
+        List<Failure> failures = Collections.synchronizedList(new ArrayList<>());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (paths.hasNext()) {
+                Path path = paths.next();
+                slots.acquire();
+                executor.execute(() -> {
+                    try {
+                        if (rewrite(path)) {
+                            rewritten.increment();
+                        }
+                        files.increment();
+                    } catch (Exception e) {
+                        failures.add(new Failure(path, e));
+                    } finally {
+                        slots.release();
+                    }
+                });
+            }
+        }
+        return new Result(files.sum(), rewritten.sum(), Duration.ofNanos(System.nanoTime() - start),
+                List.copyOf(failures));
+    }
+
+    /**
+     * Splits the rewritten content into unchanged ranges of the input and
+     * replacements.
+     *
+     * @return The parts in order, or null if no element was changed
+     */
+    private ByteBuffer[] parts(byte[] content) throws OdcParseException {
+        CharsetDetector.Detected detected = CharsetDetector.detect(ByteBuffer.wrap(content));
+        List<Splice> splices = splices(detected);
+        if (splices.isEmpty()) {
+            return null;
+        }
+        ByteBuffer scanned = detected.buffer();
+        byte[] bytes = scanned.array();
+        ByteBuffer[] parts = new ByteBuffer[splices.size() * 2 + 1];
+        int copied = 0;
+        int i = 0;
+        for (Splice splice : splices) {
+            parts[i++] = ByteBuffer.wrap(bytes, copied, splice.start() - copied);
+            parts[i++] = ByteBuffer.wrap(splice.replacement());
+            copied = splice.end();
+        }
+        parts[i] = ByteBuffer.wrap(bytes, copied, scanned.limit() - copied);
+        if (!detected.isTranscoded()) {
+            return parts;
+        }
+        ByteBuffer utf8 = ByteBuffer.allocate(bytes.length + splices.stream()
+                .mapToInt(s -> s.replacement().length - (s.end() - s.start())).sum());
+        for (ByteBuffer part : parts) {
+            utf8.put(part);
+        }
+        int bom = hasUtf16ByteOrderMark(content) ? 2 : 0;
+        return new ByteBuffer[] { ByteBuffer.wrap(content, 0, bom),
+                ByteBuffer.wrap(new String(utf8.array(), StandardCharsets.UTF_8).getBytes(detected.source())) };
+    }
+
+    private List<Splice> splices(CharsetDetector.Detected detected) throws OdcParseException {
+        OdcScanner scanner = new OdcScanner(detected.buffer(), detected.charset());
+        List<Splice> splices = new ArrayList<>(2);
+        boolean found = false;
+        while (scanner.next() != Token.EOF) {
+            if (scanner.token() != Token.START_TAG || !scanner.isElement("OfficeDataConnection")) {
+                continue;
+            }
+            found = true;
+            while (reader.nextChild(scanner, "OfficeDataConnection")) {
+                String parent = scanner.isElement("Connection") ? "Connection"
+                        : scanner.isElement("PowerQueryConnection") ? "PowerQueryConnection" : null;
+                if (parent == null || scanner.isSelfClosing()) {
+                    scanner.skipElement();
+                    continue;
+                }
+                while (reader.nextChild(scanner, parent)) {
+                    Field field = field(scanner);
+                    if (field == null) {
+                        scanner.skipElement();
+                    } else {
+                        splice(scanner, field, detected.charset(), splices);
+                    }
+                }
+            }
+        }
+        if (!found) {
+            throw new OdcParseException("Missing OfficeDataConnection element", scanner.tokenStart());
+        }
+        return splices;
+    }
+
+    private static Field field(OdcScanner scanner) {
+        if (scanner.isElement("ConnectionString")) {
+            return Field.CONNECTION_STRING;
+        }
+        if (scanner.isElement("SSOApplicationID")) {
+            return Field.SSO_APPLICATION_ID;
+        }
+        if (scanner.isElement("CredentialsMethod")) {
+            return Field.CREDENTIALS_METHOD;
+        }
+        return null;
+    }
+
+    private void splice(OdcScanner scanner, Field field, Charset charset, List<Splice> splices) {
+        int contentStart = scanner.tokenEnd();
+        boolean selfClosing = scanner.isSelfClosing();
+        String name = selfClosing ? scanner.qualifiedName() : null;
+        String value = scanner.readElementText();
+        String replacement = edit.apply(field, value);
+        if (replacement == null || replacement.equals(value)) {
+            return;
+        }
+        if (field == Field.CREDENTIALS_METHOD) {
+            CredentialsMethod.valueOf(replacement.trim());
+        }
+        if (selfClosing) {
+            // "/>" becomes ">content</name>", attributes are kept
+            String element = ">" + escape(replacement, charset) + "</" + name + ">";
+            splices.add(new Splice(contentStart - 2, contentStart, element.getBytes(charset)));
+        } else {
+            splices.add(new Splice(contentStart, scanner.tokenStart(), escape(replacement, charset).getBytes(charset)));
+        }
+    }
+
+    /**
+     * Escapes XML special characters and replaces characters the charset cannot
+     * encode with numeric character references.
+     */
+    private static String escape(String text, Charset charset) {
+        CharsetEncoder encoder = StandardCharsets.UTF_8.equals(charset) ? null : charset.newEncoder();
+        StringBuilder sb = new StringBuilder(text.length() + 16);
+        text.codePoints().forEach(c -> {
+            switch (c) {
+            case '&' -> sb.append("&amp;");
+            case '<' -> sb.append("&lt;");
+            case '>' -> sb.append("&gt;");
+            case '"' -> sb.append("&quot;");
+            case '\'' -> sb.append("&apos;");
+            default -> {
+                if (encoder == null || encoder.canEncode(Character.toString(c))) {
+                    sb.appendCodePoint(c);
+                } else {
+                    sb.append("&#").append(c).append(';');
+                }
+            }
+            }
+        });
+        return sb.toString();
+    }
+
+    private static boolean hasUtf16ByteOrderMark(byte[] content) {
+        if (content.length < 2) {
+            return false;
+        }
+        int b0 = content[0] & 0xFF;
+        int b1 = content[1] & 0xFF;
+        return b0 == 0xFE && b1 == 0xFF || b0 == 0xFF && b1 == 0xFE;
+    }
+
+    /**
+     * Writes the parts to a temporary file in the directory of the target and
+     * renames it over the target. The permissions of the target are kept. If the
+     * file system rejects an atomic move, the temporary file is moved with
+     * {@link StandardCopyOption#REPLACE_EXISTING} instead, which is not atomic
+     * on every platform.
+     */
+    private static void replace(Path path, ByteBuffer[] parts) throws IOException {
+        Path target = path.toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString() + ".", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                long remaining = 0;
+                for (ByteBuffer part : parts) {
+                    remaining += part.remaining();
+                }
+                while (remaining > 0) {
+                    remaining -= channel.write(parts);
+                }
+                channel.force(false);
+            }
+            PosixFileAttributeView posix = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+            if (posix != null) {
+                Files.getFileAttributeView(temp, PosixFileAttributeView.class)
+                        .setPermissions(posix.readAttributes().permissions());
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        syncDirectory(target.getParent());
+    }
+
+    /**
+     * Flushes the directory entry of a rename to the storage device. This is
+     * best effort: the target is already replaced, and some platforms, e.g.
+     * Windows, cannot open or force a directory, so failures are ignored.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            // the rename itself succeeded, only its durability is not guaranteed
+        }
+    }
+}
@@ -0,0 +1,505 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.reader.simple;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import org.eclipse.daanse.odc.simple.model.XmlUnescaper;
+
+/**
+ * Single-pass pull scanner over the bytes of an ODC file. The scanner works on
+ * ASCII compatible encodings and only records offsets into the buffer; text is
+ * decoded when it is requested. It understands the lenient HTML wrapper of ODC
+ * files (unquoted attribute values, comments, conditional comments, script and
+ * style blocks) as well as the embedded XML islands.
+ */
+final class OdcScanner {
+
+    /** Kinds of tokens returned by {@link #next()}. */
+    enum Token {
+        /** A start tag or an empty element tag */
+        START_TAG,
+        /** An end tag */
+        END_TAG,
+        /** Character data between tags, including CDATA sections */
+        TEXT,
+        /** The end of the input */
+        EOF
+    }
+
+    private static final byte[] COMMENT = ascii("<!--");
+    private static final byte[] COMMENT_END = ascii("-->");
+    private static final byte[] CONDITIONAL_COMMENT = ascii("<!--[if");
+    private static final byte[] CONDITIONAL_END = ascii("]>");
+    private static final byte[] CDATA = ascii("<![CDATA[");
+    private static final byte[] CDATA_END = ascii("]]>");
+    private static final byte[] SCRIPT_END = ascii("</script");
+    private static final byte[] STYLE_END = ascii("</style");
+
+    private final ByteBuffer buffer;
+
+    private final Charset charset;
+
+    private final int limit;
+
+    private int position;
+
+    private Token token;
+
+    private int tokenStart;
+
+    private int tokenEnd;
+
+    private int nameStart;
+
+    private int localNameStart;
+
+    private int nameEnd;
+
+    private boolean selfClosing;
+
+    private boolean cdata;
+
+    /** Per attribute: name start, name end, value start, value end. */
+    private int[] attributes = new int[16];
+
+    private int attributeCount;
+
+    /**
+     * Creates a scanner over the remaining bytes of a buffer. The buffer is only
+     * accessed with absolute positions, its position and limit are not changed.
+     *
+     * @param buffer  The bytes to scan
+     * @param charset The ASCII compatible charset used to decode text
+     */
+    OdcScanner(ByteBuffer buffer, Charset charset) {
+        this.buffer = buffer;
+        this.charset = charset;
+        this.position = buffer.position();
+        this.limit = buffer.limit();
+    }
+
+    /**
+     * Advances to the next token.
+     *
+     * @return The kind of the token
+     */
+    Token next() {
+        while (position < limit) {
+            if (buffer.get(position) != '<') {
+                return text(position, indexOf('<', position + 1), false);
+            }
+            if (startsWith(CONDITIONAL_COMMENT, position)) {
+                position = skipPast(CONDITIONAL_END, position + CONDITIONAL_COMMENT.length);
+            } else if (startsWith(COMMENT, position)) {
+                position = skipPast(COMMENT_END, position + COMMENT.length);
+            } else if (startsWith(CDATA, position)) {
+                int contentStart = position + CDATA.length;
+                int contentEnd = indexOf(CDATA_END, contentStart);
+                text(contentStart, contentEnd, true);
+                position = Math.min(limit, contentEnd + CDATA_END.length);
+                return token;
+            } else if (position + 1 < limit && isTagStart(buffer.get(position + 1))) {
+                return tag();
+            } else {
+                // doctype, processing instruction, <![endif]> or a stray '<'
+                byte b = position + 1 < limit ? buffer.get(position + 1) : 0;
+                if (b == '!' || b == '?') {
+                    position = skipPast('>', position + 2);
+                } else {
+                    return text(position, indexOf('<', position + 1), false);
+                }
+            }
+        }
+        token = Token.EOF;
+        tokenStart = tokenEnd = limit;
+        return token;
+    }
+
+    private Token text(int start, int end, boolean isCdata) {
+        token = Token.TEXT;
+        tokenStart = start;
+        tokenEnd = end;
+        cdata = isCdata;
+        position = end;
+        return token;
+    }
+
+    private Token tag() {
+        tokenStart = position;
+        int i = position + 1;
+        boolean end = buffer.get(i) == '/';
+        if (end) {
+            i++;
+        }
+        nameStart = i;
+        localNameStart = i;
+        while (i < limit && !isNameEnd(buffer.get(i))) {
+            if (buffer.get(i) == ':') {
+                localNameStart = i + 1;
+            }
+            i++;
+        }
+        nameEnd = i;
+        attributeCount = 0;
+        selfClosing = false;
+        i = end ? skipPast('>', i) : attributes(i);
+        position = i;
+        tokenEnd = i;
+        token = end ? Token.END_TAG : Token.START_TAG;
+        if (!end && !selfClosing && (isElement("script") || isElement("style"))) {
+            position = skipPast('>', indexOfIgnoreCase(isElement("script") ? SCRIPT_END : STYLE_END, position));
+        }
+        return token;
+    }
+
+    private int attributes(int i) {
+        while (i < limit) {
+            byte b = buffer.get(i);
+            if (isWhitespace(b)) {
+                i++;
+            } else if (b == '>') {
+                return i + 1;
+            } else if (b == '/' && i + 1 < limit && buffer.get(i + 1) == '>') {
+                selfClosing = true;
+                return i + 2;
+            } else {
+                int attrNameStart = i;
+                while (i < limit && !isNameEnd(buffer.get(i)) && buffer.get(i) != '=') {
+                    i++;
+                }
+                int attrNameEnd = i;
+                if (attrNameEnd == attrNameStart) {
+                    // stray character such as a lone '/'
+                    i++;
+                    continue;
+                }
+                i = skipWhitespace(i);
+                int valueStart = i;
+                int valueEnd = i;
+                if (i < limit && buffer.get(i) == '=') {
+                    i = skipWhitespace(i + 1);
+                    byte quote = i < limit ? buffer.get(i) : 0;
+                    if (quote == '"' || quote == '\'') {
+                        valueStart = i + 1;
+                        valueEnd = indexOf(quote, valueStart);
+                        i = Math.min(limit, valueEnd + 1);
+                    } else {
+                        valueStart = i;
+                        while (i < limit && !isWhitespace(buffer.get(i)) && buffer.get(i) != '>') {
+                            i++;
+                        }
+                        valueEnd = i;
+                    }
+                }
+                addAttribute(attrNameStart, attrNameEnd, valueStart, valueEnd);
+            }
+        }
+        return i;
+    }
+
+    private void addAttribute(int attrNameStart, int attrNameEnd, int valueStart, int valueEnd) {
+        int index = attributeCount * 4;
+        if (index + 4 > attributes.length) {
+            attributes = Arrays.copyOf(attributes, attributes.length * 2);
+        }
+        attributes[index] = attrNameStart;
+        attributes[index + 1] = attrNameEnd;
+        attributes[index + 2] = valueStart;
+        attributes[index + 3] = valueEnd;
+        attributeCount++;
+    }
+
+    /**
+     * Returns the kind of the current token.
+     *
+     * @return The current token
+     */
+    Token token() {
+        return token;
+    }
+
+    /**
+     * Returns the offset of the first byte of the current token. For tags this is
+     * the '&lt;', for text the first character.
+     *
+     * @return The start offset
+     */
+    int tokenStart() {
+        return tokenStart;
+    }
+
+    /**
+     * Returns the offset after the last byte of the current token.
+     *
+     * @return The end offset (exclusive)
+     */
+    int tokenEnd() {
+        return tokenEnd;
+    }
+
+    /**
+     * Returns whether the current start tag is an empty element tag.
+     *
+     * @return true for tags ending with '/&gt;'
+     */
+    boolean isSelfClosing() {
+        return selfClosing;
+    }
+
+    /**
+     * Returns whether the current text token is a CDATA section.
+     *
+     * @return true for CDATA sections
+     */
+    boolean isCdata() {
+        return cdata;
+    }
+
+    /**
+     * Returns the name of the current tag including any namespace prefix.
+     *
+     * @return The qualified name
+     */
+    String qualifiedName() {
+        return decode(nameStart, nameEnd);
+    }
+
+    /**
+     * Checks the local name of the current tag, ignoring any namespace prefix and
+     * ASCII case.
+     *
+     * @param localName The expected local name
+     * @return true if the current tag has the given local name
+     */
+    boolean isElement(String localName) {
+        int length = nameEnd - localNameStart;
+        if (length != localName.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (toLower(buffer.get(localNameStart + i)) != toLower((byte) localName.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the decoded value of an attribute of the current start tag. The
+     * attribute is matched by its local name, ignoring ASCII case.
+     *
+     * @param localName The local name of the attribute
+     * @return The decoded value, or null if the tag has no such attribute
+     */
+    String attribute(String localName) {
+        for (int a = 0; a < attributeCount * 4; a += 4) {
+            int start = attributes[a];
+            int end = attributes[a + 1];
+            for (int i = start; i < end; i++) {
+                if (buffer.get(i) == ':') {
+                    start = i + 1;
+                }
+            }
+            if (equalsIgnoreCase(start, end, localName)) {
+                return XmlUnescaper.unescape(decode(attributes[a + 2], attributes[a + 3]));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the decoded and unescaped content of the current text token.
+     *
+     * @return The text
+     */
+    String text() {
+        String text = decode(tokenStart, tokenEnd);
+        return cdata ? text : XmlUnescaper.unescape(text);
+    }
+
+    /**
+     * Reads the text content of the current start tag up to its end tag. Nested
+     * tags are skipped. The scanner is positioned on the end tag afterwards.
+     *
+     * @return The text content, empty for empty element tags
+     */
+    String readElementText() {
+        if (selfClosing) {
+            return "";
+        }
+        String first = null;
+        StringBuilder more = null;
+        int depth = 0;
+        while (next() != Token.EOF) {
+            if (token == Token.TEXT) {
+                if (depth > 0) {
+                    continue;
+                }
+                String text = text();
+                if (first == null) {
+                    first = text;
+                } else {
+                    if (more == null) {
+                        more = new StringBuilder(first);
+                    }
+                    more.append(text);
+                }
+            } else if (token == Token.START_TAG && !selfClosing) {
+                depth++;
+            } else if (token == Token.END_TAG && depth-- == 0) {
+                break;
+            }
+        }
+        if (more != null) {
+            return more.toString();
+        }
+        return first == null ? "" : first;
+    }
+
+    /**
+     * Skips the content of the current start tag up to its end tag without
+     * decoding it. The scanner is positioned on the end tag afterwards.
+     */
+    void skipElement() {
+        if (selfClosing) {
+            return;
+        }
+        int depth = 0;
+        while (next() != Token.EOF) {
+            if (token == Token.START_TAG && !selfClosing) {
+                depth++;
+            } else if (token == Token.END_TAG && depth-- == 0) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Decodes a range of the buffer without unescaping.
+     *
+     * @param start The start offset
+     * @param end   The end offset (exclusive)
+     * @return The decoded text
+     */
+    String decode(int start, int end) {
+        int length = end - start;
+        if (length <= 0) {
+            return "";
+        }
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + start, length, charset);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(start, bytes);
+        return new String(bytes, charset);
+    }
+
+    private static boolean isTagStart(byte b) {
+        return b == '/' || (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z');
+    }
+
+    private static boolean isNameEnd(byte b) {
+        return isWhitespace(b) || b == '>' || b == '/';
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == '\f';
+    }
+
+    private static byte toLower(byte b) {
+        return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+    }
+
+    private int skipWhitespace(int i) {
+        while (i < limit && isWhitespace(buffer.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private int indexOf(int b, int from) {
+        for (int i = from; i < limit; i++) {
+            if (buffer.get(i) == b) {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    private int indexOf(byte[] pattern, int from) {
+        byte first = pattern[0];
+        for (int i = indexOf(first, from); i < limit; i = indexOf(first, i + 1)) {
+            if (startsWith(pattern, i)) {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    private int indexOfIgnoreCase(byte[] pattern, int from) {
+        for (int i = indexOf(pattern[0], from); i < limit; i = indexOf(pattern[0], i + 1)) {
+            boolean match = i + pattern.length <= limit;
+            for (int j = 1; match && j < pattern.length; j++) {
+                match = toLower(buffer.get(i + j)) == pattern[j];
+            }
+            if (match) {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    private int skipPast(int b, int from) {
+        return Math.min(limit, indexOf(b, from) + 1);
+    }
+
+    private int skipPast(byte[] pattern, int from) {
+        return Math.min(limit, indexOf(pattern, from) + pattern.length);
+    }
+
+    private boolean startsWith(byte[] pattern, int at) {
+        if (at + pattern.length > limit) {
+            return false;
+        }
+        for (int j = 0; j < pattern.length; j++) {
+            if (buffer.get(at + j) != pattern[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean equalsIgnoreCase(int start, int end, String ascii) {
+        if (end - start != ascii.length()) {
+            return false;
+        }
+        for (int i = 0; i < ascii.length(); i++) {
+            if (toLower(buffer.get(start + i)) != toLower((byte) ascii.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] ascii(String s) {
+        byte[] bytes = new byte[s.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) s.charAt(i);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.reader.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+import org.eclipse.daanse.odc.writer.simple.OdcWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OdcFileViewTest {
+
+    private static final String MASHUP = "<Mashup>let Source = \"\u00e4\u20ac\" in Source</Mashup>".repeat(1000);
+
+    private final OdcReader reader = new OdcReader();
+
+    private final OdcWriter writer = new OdcWriter();
+
+    @TempDir
+    Path tempDir;
+
+    private static OdcFile powerQueryFile() {
+        Connection connection = new Connection(ConnectionType.OLEDB, "Provider=MSOLAP;Data Source=srv & co",
+                Optional.of(CommandType.Cube), List.of(), Optional.of(TextSource.of("Sales")), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty());
+        PowerQueryConnection pqConnection = PowerQueryConnection.of(ConnectionType.OLEDB,
+                "Provider=Microsoft.Mashup.OleDb.1;Data Source=$Workbook$;Location=DimCustomer");
+        OfficeDataConnection odc = new OfficeDataConnection(Optional.of("C:\\sales.odc"),
+                List.of(connection, Connection.of(ConnectionType.ODBC, "DSN=Second")), Optional.of(pqConnection),
+                Optional.of(TextSource.of(MASHUP)));
+        return new OdcFile(Optional.of("Sales <Query>"), DocumentProperties.of("Sales"), odc,
+                Optional.of("Catalog"), Optional.empty(), Optional.of("DimCustomer"));
+    }
+
+    private static String read(TextSource text) throws IOException {
+        StringWriter out = new StringWriter();
+        try (Reader in = text.openReader()) {
+            in.transferTo(out);
+        }
+        return out.toString();
+    }
+
+    @Test
+    void testViewDecodesLikeReader() throws IOException {
+        OdcFile odcFile = powerQueryFile();
+        Path path = tempDir.resolve("sales.odc");
+        Files.writeString(path, writer.write(odcFile), StandardCharsets.UTF_8);
+
+        OdcFileView view = reader.view(path);
+
+        assertThat(view.title()).isEqualTo(odcFile.title());
+        assertThat(view.catalog()).isEqualTo(odcFile.catalog());
+        assertThat(view.schema()).isEmpty();
+        assertThat(view.table()).isEqualTo(odcFile.table());
+        assertThat(view.documentProperties()).isEqualTo(odcFile.documentProperties());
+        assertThat(view.connectionCount()).isEqualTo(2);
+        assertThat(view.connection(0).connectionString()).isEqualTo("Provider=MSOLAP;Data Source=srv & co");
+
+        OdcFile viewed = view.toOdcFile();
+        OfficeDataConnection odc = viewed.officeDataConnection();
+        assertThat(odc.connections()).isEqualTo(odcFile.officeDataConnection().connections());
+        assertThat(odc.powerQueryConnection()).isEqualTo(odcFile.officeDataConnection().powerQueryConnection());
+        assertThat(odc.sourceFile()).isEqualTo(odcFile.officeDataConnection().sourceFile());
+        assertThat(read(odc.powerQueryMashupData().orElseThrow())).isEqualTo(MASHUP);
+        assertThat(new OdcFile(viewed.title(), viewed.documentProperties(),
+                new OfficeDataConnection(odc.sourceFile(), odc.connections(), odc.powerQueryConnection(),
+                        Optional.of(TextSource.of(MASHUP))),
+                viewed.catalog(), viewed.schema(), viewed.table())).isEqualTo(odcFile);
+    }
+
+    @Test
+    void testMashupDataIsNotScanned() throws IOException {
+        String content = writer.write(powerQueryFile());
+        int mashupStart = content.indexOf("<odc:PowerQueryMashupData>") + "<odc:PowerQueryMashupData>".length();
+        // the mashup data is cut off, a full read fails while the view never gets there
+        byte[] truncated = content.substring(0, mashupStart + 10).getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> reader.read(truncated)).isInstanceOf(OdcParseException.class);
+
+        OdcFileView view = reader.view(ByteBuffer.wrap(truncated));
+        assertThat(view.catalog()).contains("Catalog");
+        assertThat(view.connection(1).connectionString()).isEqualTo("DSN=Second");
+        assertThat(view.officeDataConnection().powerQueryMashupData()).isPresent();
+    }
+
+    @Test
+    void testRejectsFileWithoutConnection() {
+        assertThatThrownBy(() -> reader.view(ByteBuffer.wrap("<html><title>x</title></html>".getBytes())))
+                .isInstanceOf(OdcParseException.class).hasMessageContaining("OfficeDataConnection");
+    }
+}
@@ -0,0 +1,172 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.reader.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.Parameter;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+import org.eclipse.daanse.odc.writer.simple.OdcWriter;
+import org.junit.jupiter.api.Test;
+
+class OdcReaderTest {
+
+    private static final String EXCEL_FILE = """
+            <html xmlns:o="urn:schemas-microsoft-com:office:office"
+            xmlns="http://www.w3.org/TR/REC-html40">
+
+            <head>
+            <meta http-equiv=Content-Type content="text/x-ms-odc; charset=utf-8">
+            <meta name=ProgId content=ODC.Cube>
+            <meta name=SourceType content=OLEDB>
+            <meta name=Catalog content="Adventure Works DW">
+            <meta name=Table content="Adventure Works">
+            <title>myolapserver Adventure Works DW Adventure Works</title>
+            <xml id=docprops><o:DocumentProperties
+              xmlns:o="urn:schemas-microsoft-com:office:office"
+              xmlns="http://www.w3.org/TR/REC-html40">
+              <o:Name>myolapserver Adventure Works DW Adventure Works</o:Name>
+             </o:DocumentProperties>
+            </xml><xml id=msodc><odc:OfficeDataConnection
+              xmlns:odc="urn:schemas-microsoft-com:office:odc"
+              xmlns="http://www.w3.org/TR/REC-html40">
+              <odc:Connection odc:Type="OLEDB">
+               <odc:ConnectionString>Provider=MSOLAP.3;Data Source=myolapserver;Initial Catalog=Adventure Works DW</odc:ConnectionString>
+               <odc:CommandType>Cube</odc:CommandType>
+               <odc:CommandText>Adventure Works</odc:CommandText>
+               <odc:SSOApplicationID>App &amp; &#x31;</odc:SSOApplicationID>
+               <odc:CredentialsMethod>Stored</odc:CredentialsMethod>
+               <odc:AlwaysUseConnectionFile/>
+              </odc:Connection>
+             </odc:OfficeDataConnection>
+            </xml>
+            <style>
+            <!--
+                .ODCDataSource
+                {
+                behavior: url(dataconn.htc);
+                }
+            -->
+            </style>
+
+            </head>
+
+            <body onload='init()' scroll=no leftmargin=0 topmargin=0 rightmargin=0 style='border: 0px'>
+            <table style='border: solid 1px threedface; height: 100%; width: 100%' cellpadding=0 cellspacing=0>
+              <tr><td id=tdName>&nbsp;</td></tr>
+            </table>
+            <script language='javascript'>
+            function init() {
+              var i = 0;
+              if (i<2) { document.title = "<odc:Connection>"; }
+            }
+            </script>
+            </body>
+            </html>
+            """;
+
+    private final OdcReader reader = new OdcReader();
+
+    private final OdcWriter writer = new OdcWriter();
+
+    @Test
+    void testReadsExcelGeneratedFile() throws IOException {
+        OdcFile odcFile = reader.read(EXCEL_FILE.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(odcFile.title()).contains("myolapserver Adventure Works DW Adventure Works");
+        assertThat(odcFile.catalog()).contains("Adventure Works DW");
+        assertThat(odcFile.schema()).isEmpty();
+        assertThat(odcFile.table()).contains("Adventure Works");
+        assertThat(odcFile.documentProperties())
+                .isEqualTo(DocumentProperties.of("myolapserver Adventure Works DW Adventure Works"));
+
+        List<Connection> connections = odcFile.officeDataConnection().connections();
+        assertThat(connections).hasSize(1);
+        Connection connection = connections.get(0);
+        assertThat(connection.type()).isEqualTo(ConnectionType.OLEDB);
+        assertThat(connection.connectionString())
+                .isEqualTo("Provider=MSOLAP.3;Data Source=myolapserver;Initial Catalog=Adventure Works DW");
+        assertThat(connection.commandType()).contains(CommandType.Cube);
+        assertThat(connection.commandText()).contains(TextSource.of("Adventure Works"));
+        assertThat(connection.ssoApplicationId()).contains("App & 1");
+        assertThat(connection.credentialsMethod()).contains(CredentialsMethod.Stored);
+        assertThat(connection.alwaysUseConnectionFile()).contains(true);
+        assertThat(odcFile.officeDataConnection().powerQueryConnection()).isEmpty();
+    }
+
+    @Test
+    void testRoundTripWithWriter() throws IOException {
+        Connection connection = new Connection(ConnectionType.ODBC, "DRIVER=SQL Server;SERVER=<srv>&\"'",
+                Optional.of(CommandType.SQL), List.of(Parameter.of("Year", 3), Parameter.of("Region")),
+                Optional.of(TextSource.of("SELECT * FROM Sales WHERE Year = ? AND Region = '?'")), Optional.empty(),
+                Optional.of(CredentialsMethod.None), Optional.of(false), Optional.of("de-DE"));
+        PowerQueryConnection pqConnection = new PowerQueryConnection(ConnectionType.OLEDB,
+                "Provider=Microsoft.Mashup.OleDb.1;Data Source=$Workbook$;Location=DimCustomer",
+                Optional.of(CommandType.SQL), Optional.of(TextSource.of("SELECT * FROM [DimCustomer]")),
+                Optional.of("sso"), Optional.of(CredentialsMethod.Integrated), Optional.of(true));
+        OfficeDataConnection odc = new OfficeDataConnection(Optional.of("C:\\data\\sales.odc"),
+                List.of(connection), Optional.of(pqConnection),
+                Optional.of(TextSource.of("<Mashup>let Source = \"\u00e4\u20ac\" in Source</Mashup>")));
+        OdcFile odcFile = new OdcFile(Optional.of("Sales & More"),
+                new DocumentProperties(Optional.of("Description"), Optional.of("Sales"), Optional.of("k1 k2")), odc,
+                Optional.of("Catalog"), Optional.of("dbo"), Optional.of("Sales"));
+
+        assertThat(reader.read(writer.write(odcFile).getBytes(StandardCharsets.UTF_8))).isEqualTo(odcFile);
+    }
+
+    @Test
+    void testDetectsCharsets() throws IOException {
+        OdcFile odcFile = OdcFile.of("Gr\u00fc\u00dfe \u20ac",
+                OfficeDataConnection.of(Connection.of(ConnectionType.OLEDB, "Data Source=M\u00fcnchen")));
+        String content = writer.write(odcFile);
+
+        ByteArrayOutputStream utf16 = new ByteArrayOutputStream();
+        utf16.write(new byte[] { (byte) 0xFF, (byte) 0xFE });
+        utf16.write(content.getBytes(StandardCharsets.UTF_16LE));
+        assertThat(reader.read(utf16.toByteArray())).isEqualTo(odcFile);
+
+        ByteArrayOutputStream utf8Bom = new ByteArrayOutputStream();
+        utf8Bom.write(new byte[] { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF });
+        utf8Bom.write(content.getBytes(StandardCharsets.UTF_8));
+        assertThat(reader.read(ByteBuffer.wrap(utf8Bom.toByteArray()))).isEqualTo(odcFile);
+
+        String legacy = content.replace("; charset=utf-8", "");
+        assertThat(reader.read(legacy.getBytes(CharsetDetector.WINDOWS_1252))).isEqualTo(odcFile);
+    }
+
+    @Test
+    void testRejectsFileWithoutConnection() {
+        assertThatThrownBy(() -> reader.read("<html><head><title>x</title></head></html>".getBytes()))
+                .isInstanceOf(OdcParseException.class).hasMessageContaining("OfficeDataConnection");
+        assertThatThrownBy(() -> reader.read(
+                "<xml id=msodc><odc:OfficeDataConnection><odc:Connection odc:Type=\"OLEDB\">".getBytes()))
+                .isInstanceOf(OdcParseException.class).hasMessageContaining("Unexpected end");
+    }
+}
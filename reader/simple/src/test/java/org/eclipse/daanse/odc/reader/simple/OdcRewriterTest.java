@@ -0,0 +1,129 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.reader.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.daanse.odc.reader.simple.OdcRewriter.Edit;
+import org.eclipse.daanse.odc.reader.simple.OdcRewriter.Field;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OdcRewriterTest {
+
+    private static final String FILE = """
+            <html xmlns:o="urn:schemas-microsoft-com:office:office">
+            <head>
+            <meta http-equiv=Content-Type content="text/x-ms-odc; charset=utf-8">
+            <meta name=Catalog content="Sales">
+            <title>Sales  ä  &amp;</title>
+            <xml id=msodc><odc:OfficeDataConnection
+              xmlns:odc="urn:schemas-microsoft-com:office:odc">
+              <odc:Connection odc:Type="OLEDB">
+               <odc:ConnectionString>Provider=MSOLAP;  Data Source=old-srv ;Initial Catalog=Sales</odc:ConnectionString>
+               <odc:SSOApplicationID/>
+               <odc:CredentialsMethod>Stored</odc:CredentialsMethod>
+              </odc:Connection>
+              <odc:PowerQueryConnection odc:Type="OLEDB">
+               <odc:ConnectionString><![CDATA[Provider=Microsoft.Mashup.OleDb.1;Data Source=$Workbook$]]></odc:ConnectionString>
+              </odc:PowerQueryConnection>
+              <odc:PowerQueryMashupData>&lt;Mashup&gt;  Data Source=old-srv  &lt;/Mashup&gt;</odc:PowerQueryMashupData>
+             </odc:OfficeDataConnection>
+            </xml>
+            </head>
+            </html>
+            """;
+
+    private final OdcReader reader = new OdcReader();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRewritesOnlyTargetedElements() throws Exception {
+        OdcRewriter rewriter = new OdcRewriter(Edit.connectionValue("data source", "OLD-SRV", "new-srv"));
+
+        byte[] result = rewriter.rewrite(FILE.getBytes(StandardCharsets.UTF_8)).orElseThrow();
+
+        String expected = FILE.replace("Data Source=old-srv ;", "Data Source=new-srv ;");
+        assertThat(new String(result, StandardCharsets.UTF_8)).isEqualTo(expected);
+        assertThat(rewriter.rewrite(result)).isEmpty();
+    }
+
+    @Test
+    void testRewritesEmptyElementsAndKeepsTheEncoding() throws Exception {
+        OdcRewriter rewriter = new OdcRewriter((field, value) -> switch (field) {
+        case SSO_APPLICATION_ID -> "App <€\u2192>";
+        case CREDENTIALS_METHOD -> "Integrated";
+        default -> null;
+        });
+        Charset windows1252 = Charset.forName("windows-1252");
+        String legacy = FILE.replace("; charset=utf-8", "; charset=windows-1252").replace("ä", "é");
+
+        byte[] result = rewriter.rewrite(legacy.getBytes(windows1252)).orElseThrow();
+
+        assertThat(new String(result, windows1252)).isEqualTo(legacy
+                .replace("<odc:SSOApplicationID/>",
+                        "<odc:SSOApplicationID>App &lt;€&#8594;&gt;</odc:SSOApplicationID>")
+                .replace(">Stored<", ">Integrated<"));
+        Connection connection = reader.read(result).officeDataConnection().connections().get(0);
+        assertThat(connection.ssoApplicationId()).isPresent();
+        assertThat(connection.ssoApplicationId().get()).isEqualTo("App <€\u2192>");
+        assertThat(connection.credentialsMethod().get()).isEqualTo(CredentialsMethod.Integrated);
+
+        byte[] utf16 = ("\uFEFF" + FILE).getBytes(StandardCharsets.UTF_16LE);
+        byte[] rewritten = rewriter.rewrite(utf16).orElseThrow();
+        assertThat(new String(rewritten, StandardCharsets.UTF_16LE)).startsWith("\uFEFF<html");
+        assertThat(reader.read(rewritten).officeDataConnection().connections().get(0).credentialsMethod().get())
+                .isEqualTo(CredentialsMethod.Integrated);
+
+        OdcRewriter invalid = new OdcRewriter((field, value) -> field == Field.CREDENTIALS_METHOD ? "Anonymous" : null);
+        assertThatThrownBy(() -> invalid.rewrite(FILE.getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testRewritesFilesAtomically() throws Exception {
+        Path changed = tempDir.resolve("changed.odc");
+        Path unchanged = tempDir.resolve("unchanged.odc");
+        Path broken = tempDir.resolve("broken.odc");
+        Files.writeString(changed, FILE);
+        Files.writeString(unchanged, FILE.replace("old-srv", "other-srv"));
+        Files.writeString(broken, "<html><body>");
+
+        OdcRewriter rewriter = new OdcRewriter(Edit.connectionValue("Data Source", "old-srv", "new-srv"), 2);
+        OdcRewriter.Result result = rewriter.rewriteAll(List.of(changed, unchanged, broken));
+
+        assertThat(result.files()).isEqualTo(2L);
+        assertThat(result.rewritten()).isEqualTo(1L);
+        assertThat(result.failures()).hasSize(1);
+        assertThat(result.failures().get(0).path()).isEqualTo(broken);
+        OdcFile odcFile = reader.read(changed);
+        assertThat(odcFile.officeDataConnection().connections().get(0).connectionString()).contains("new-srv");
+        assertThat(Files.readString(unchanged)).isEqualTo(FILE.replace("old-srv", "other-srv"));
+        try (var files = Files.list(tempDir)) {
+            assertThat(files.count()).isEqualTo(3L);
+        }
+    }
+}
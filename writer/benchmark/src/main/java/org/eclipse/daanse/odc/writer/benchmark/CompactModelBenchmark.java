@@ -0,0 +1,159 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import org.eclipse.daanse.odc.simple.compact.CompactConnection;
+import org.eclipse.daanse.odc.simple.compact.CompactOdcFile;
+import org.eclipse.daanse.odc.simple.compact.CompactParameter;
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.Parameter;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+import org.eclipse.daanse.odc.writer.simple.OdcWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds and writes a catalog of SQL connection files, one per table, once as
+ * record models and once as compact models. The retained heap per file of
+ * both catalogs is printed during setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CompactModelBenchmark {
+
+    @Param({ "10000", "100000" })
+    public int files;
+
+    private final OdcWriter writer = new OdcWriter();
+
+    private List<OdcFile> records;
+
+    private List<CompactOdcFile> compacts;
+
+    @Setup
+    public void setUp() {
+        long recordBytes = retained(CompactModelBenchmark::record);
+        long compactBytes = retained(CompactModelBenchmark::compact);
+        System.out.println();
+        System.out.println(files + " files: record " + recordBytes / files + " bytes/file, compact "
+                + compactBytes / files + " bytes/file");
+        records = IntStream.range(0, files).mapToObj(CompactModelBenchmark::record).toList();
+        compacts = IntStream.range(0, files).mapToObj(CompactModelBenchmark::compact).toList();
+    }
+
+    /**
+     * Estimates the heap retained by a catalog from the used heap before and
+     * after building it.
+     */
+    private long retained(IntFunction<?> factory) {
+        long before = usedHeap();
+        Object[] catalog = IntStream.range(0, files).mapToObj(factory).toArray();
+        long after = usedHeap();
+        if (catalog.length != files) {
+            throw new IllegalStateException();
+        }
+        return after - before;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static OdcFile record(int i) {
+        Connection connection = new Connection(ConnectionType.ODBC, "DRIVER=SQL Server;SERVER=sqlserver" + i % 8,
+                Optional.of(CommandType.SQL), List.of(Parameter.of("Country", 12)),
+                Optional.of(TextSource.of("SELECT * FROM \"Sales\".\"dbo\".\"Table" + i + "\" WHERE Country = ?")),
+                Optional.empty(), Optional.of(CredentialsMethod.Stored), Optional.of(Boolean.TRUE),
+                Optional.empty());
+        return new OdcFile(Optional.of("Table" + i),
+                new DocumentProperties(Optional.empty(), Optional.of("Table" + i), Optional.empty()),
+                OfficeDataConnection.of(connection), Optional.of("Sales"), Optional.of("dbo"),
+                Optional.of("Table" + i));
+    }
+
+    private static CompactOdcFile compact(int i) {
+        CompactConnection connection = new CompactConnection(ConnectionType.ODBC,
+                "DRIVER=SQL Server;SERVER=sqlserver" + i % 8, CommandType.SQL,
+                new CompactParameter[] { CompactParameter.of("Country", 12) },
+                TextSource.of("SELECT * FROM \"Sales\".\"dbo\".\"Table" + i + "\" WHERE Country = ?"), null,
+                CredentialsMethod.Stored, Boolean.TRUE, null);
+        return new CompactOdcFile("Table" + i, null, "Table" + i, null, "Sales", "dbo", "Table" + i, null,
+                new CompactConnection[] { connection }, null, null);
+    }
+
+    @Benchmark
+    public List<OdcFile> buildRecords() {
+        return IntStream.range(0, files).mapToObj(CompactModelBenchmark::record).toList();
+    }
+
+    @Benchmark
+    public List<CompactOdcFile> buildCompact() {
+        return IntStream.range(0, files).mapToObj(CompactModelBenchmark::compact).toList();
+    }
+
+    @Benchmark
+    public void writeRecords() throws IOException {
+        OutputStream out = OutputStream.nullOutputStream();
+        for (OdcFile odcFile : records) {
+            writer.write(odcFile, out);
+        }
+    }
+
+    @Benchmark
+    public void writeCompact() throws IOException {
+        OutputStream out = OutputStream.nullOutputStream();
+        for (CompactOdcFile odcFile : compacts) {
+            writer.write(odcFile, out);
+        }
+    }
+
+    @Benchmark
+    public void convertAndWrite() throws IOException {
+        OutputStream out = OutputStream.nullOutputStream();
+        for (OdcFile odcFile : records) {
+            writer.write(CompactOdcFile.of(odcFile), out);
+        }
+    }
+}
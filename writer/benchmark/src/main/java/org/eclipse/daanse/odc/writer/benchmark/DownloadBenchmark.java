@@ -0,0 +1,209 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.writer.http.OdcDownloads;
+import org.eclipse.daanse.odc.writer.http.OdcResponse;
+import org.eclipse.daanse.odc.writer.simple.OdcWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Load test of ODC downloads against a local HTTP server, reported in requests
+ * per second. The server answers {@code /adhoc/} by rendering the model on
+ * every request, as a hand-written servlet calling {@link OdcWriter#write}
+ * does, and {@code /odc/} from the prepared responses of {@link OdcDownloads}.
+ * Every benchmark thread is one client cycling through the catalog over a
+ * keep-alive connection.
+ * <p>
+ * The JDK server writes the headers and the body separately; without
+ * {@code TCP_NODELAY} every response waits for the delayed acknowledgement of
+ * the client and all variants measure the same few hundred requests per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+@Threads(8)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DownloadBenchmark {
+
+    @Param({ "100", "10000" })
+    public int files;
+
+    private final OdcWriter writer = new OdcWriter();
+
+    private Map<String, OdcFile> catalog;
+
+    private OdcDownloads downloads;
+
+    private ExecutorService executor;
+
+    private HttpServer server;
+
+    private HttpClient client;
+
+    private List<URI> adHoc;
+
+    private List<URI> odc;
+
+    private List<String> etags;
+
+    /**
+     * The position of a client thread in the catalog.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int next;
+
+        int next(int files) {
+            int index = next;
+            next = index + 1 == files ? 0 : index + 1;
+            return index;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        catalog = IntStream.range(0, files).boxed().collect(Collectors.toMap(i -> "sales/table-" + i + ".odc", i -> {
+            OdcFile odcFile = OdcFixtures.withParameters(i % 16);
+            return new OdcFile(Optional.of("Table " + i), odcFile.documentProperties(),
+                    odcFile.officeDataConnection(), odcFile.catalog(), odcFile.schema(), odcFile.table());
+        }));
+        downloads = new OdcDownloads(name -> Optional.ofNullable(catalog.get(name)), files, 256L << 20, 9,
+                OdcDownloads.DEFAULT_CACHE_CONTROL);
+
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 128);
+        server.createContext("/adhoc/", this::adHoc);
+        server.createContext("/odc/", this::odc);
+        server.setExecutor(executor);
+        server.start();
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        adHoc = IntStream.range(0, files).mapToObj(i -> URI.create(base + "/adhoc/sales/table-" + i + ".odc"))
+                .toList();
+        odc = IntStream.range(0, files).mapToObj(i -> URI.create(base + "/odc/sales/table-" + i + ".odc")).toList();
+        etags = IntStream.range(0, files)
+                .mapToObj(i -> downloads.get("sales/table-" + i + ".odc", null, "gzip").headers().get("ETag"))
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+        client.close();
+    }
+
+    private void adHoc(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            OdcFile odcFile = catalog.get(exchange.getRequestURI().getPath().substring("/adhoc/".length()));
+            if (odcFile == null) {
+                exchange.sendResponseHeaders(OdcResponse.NOT_FOUND, -1);
+                return;
+            }
+            byte[] body = writer.write(odcFile).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", OdcDownloads.CONTENT_TYPE);
+            exchange.sendResponseHeaders(OdcResponse.OK, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private void odc(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            OdcResponse response = downloads.get(exchange.getRequestURI().getPath().substring("/odc/".length()),
+                    exchange.getRequestHeaders().getFirst("If-None-Match"),
+                    exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            response.headers().forEach(exchange.getResponseHeaders()::set);
+            if (response.status() != OdcResponse.OK) {
+                exchange.sendResponseHeaders(response.status(), -1);
+                return;
+            }
+            exchange.sendResponseHeaders(OdcResponse.OK, response.contentLength());
+            try (OutputStream out = exchange.getResponseBody()) {
+                response.writeTo(out);
+            }
+        }
+    }
+
+    private byte[] send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != OdcResponse.OK && response.statusCode() != OdcResponse.NOT_MODIFIED) {
+            throw new IllegalStateException("Unexpected status: " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    @Benchmark
+    public byte[] adHoc(Cursor cursor) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(adHoc.get(cursor.next(files))).build());
+    }
+
+    @Benchmark
+    public byte[] download(Cursor cursor) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(odc.get(cursor.next(files))).build());
+    }
+
+    @Benchmark
+    public byte[] downloadGzip(Cursor cursor) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(odc.get(cursor.next(files))).header("Accept-Encoding", "gzip").build());
+    }
+
+    @Benchmark
+    public byte[] notModified(Cursor cursor) throws IOException, InterruptedException {
+        int index = cursor.next(files);
+        return send(HttpRequest.newBuilder(odc.get(index)).header("Accept-Encoding", "gzip")
+                .header("If-None-Match", etags.get(index)).build());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.writer.simple.OdcWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes Power Query files with mashup data from 1 KB up to 50 MB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MashupBenchmark {
+
+    @Param({ "1024", "65536", "1048576", "52428800" })
+    public int mashupLength;
+
+    private final OdcWriter writer = new OdcWriter();
+
+    private OdcFile odcFile;
+
+    @Setup
+    public void setUp() {
+        odcFile = OdcFixtures.powerQueryWithMashupOfLength(mashupLength);
+    }
+
+    @Benchmark
+    public String writeString() {
+        return writer.write(odcFile);
+    }
+
+    @Benchmark
+    public byte[] writeBytes() {
+        return writer.writeBytes(odcFile);
+    }
+
+    @Benchmark
+    public void writeStream() throws IOException {
+        writer.write(odcFile, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,171 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.Parameter;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+
+/**
+ * Model instances used by the benchmarks. The spec examples follow the
+ * examples of the [MS-ODCFF] specification, the other fixtures scale a single
+ * dimension of the document.
+ */
+public final class OdcFixtures {
+
+    /**
+     * The examples of the [MS-ODCFF] specification.
+     */
+    public enum SpecExample {
+        /** ODBC connection with a SQL command against Northwind */
+        NORTHWIND_SQL,
+        /** OLE DB connection to the Adventure Works cube */
+        ADVENTURE_WORKS_CUBE,
+        /** Power Query connection with mashup data */
+        POWER_QUERY;
+
+        /**
+         * Creates the ODC file of this example.
+         *
+         * @return The ODC file model
+         */
+        public OdcFile odcFile() {
+            return switch (this) {
+            case NORTHWIND_SQL -> northwindSql();
+            case ADVENTURE_WORKS_CUBE -> adventureWorksCube();
+            case POWER_QUERY -> powerQuery(MASHUP_CHUNK);
+            };
+        }
+    }
+
+    private static final String MASHUP_CHUNK = "&lt;?xml version=&quot;1.0&quot; encoding=&quot;utf-16&quot;?&gt;"
+            + "&lt;Mashup xmlns=&quot;http://schemas.microsoft.com/DataMashup&quot;&gt;"
+            + "&lt;Client&gt;excel&lt;/Client&gt;&lt;Version&gt;2.32.0.0&lt;/Version&gt;"
+            + "&lt;Query Name=&quot;DimCustomer&quot;&gt;"
+            + "&lt;Formula&gt;let Source = Sql.Databases(&quot;mysqlserver&quot;) in Source&lt;/Formula&gt;"
+            + "&lt;/Query&gt;&lt;/Mashup&gt;";
+
+    private OdcFixtures() {
+    }
+
+    /**
+     * Creates the Northwind SQL example.
+     *
+     * @return The ODC file model
+     */
+    public static OdcFile northwindSql() {
+        Connection connection = new Connection(ConnectionType.ODBC,
+                "DRIVER=SQL Server;SERVER=mysqlserver;APP=2007 Microsoft Office system;Trusted_Connection=Yes",
+                Optional.empty(), List.of(),
+                Optional.of(TextSource.of("SELECT * FROM Northwind.dbo.Invoices Invoices")), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty());
+        return new OdcFile(Optional.of("Northwind"), DocumentProperties.of("Northwind"),
+                OfficeDataConnection.of(connection), Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * Creates the Adventure Works cube example.
+     *
+     * @return The ODC file model
+     */
+    public static OdcFile adventureWorksCube() {
+        Connection connection = new Connection(ConnectionType.OLEDB,
+                "Provider=MSOLAP.3;Integrated Security=SSPI;Persist Security Info=True;Data Source=myolapserver;Initial Catalog=Adventure Works DW",
+                Optional.of(CommandType.Cube), List.of(), Optional.of(TextSource.of("Adventure Works")),
+                Optional.of("Application1"), Optional.of(CredentialsMethod.Stored), Optional.of(true),
+                Optional.empty());
+        return new OdcFile(Optional.of("Adventure Works"), DocumentProperties.of("Adventure Works"),
+                OfficeDataConnection.of(connection), Optional.of("Adventure Works DW"), Optional.empty(),
+                Optional.of("Adventure Works"));
+    }
+
+    /**
+     * Creates the Power Query example with the given mashup data.
+     *
+     * @param mashupData The mashup data to embed
+     * @return The ODC file model
+     */
+    public static OdcFile powerQuery(String mashupData) {
+        PowerQueryConnection connection = new PowerQueryConnection(ConnectionType.OLEDB,
+                "Provider=Microsoft.Mashup.OleDb.1;Data Source=$Workbook$;Location=DimCustomer",
+                Optional.of(CommandType.SQL), Optional.of(TextSource.of("SELECT * FROM [DimCustomer]")),
+                Optional.empty(), Optional.empty(), Optional.empty());
+        DocumentProperties props = new DocumentProperties(
+                Optional.of("Connection to the 'DimCustomer' query in the workbook."),
+                Optional.of("Query - DimCustomer"), Optional.empty());
+        OfficeDataConnection odc = new OfficeDataConnection(Optional.empty(), List.of(), Optional.of(connection),
+                Optional.of(TextSource.of(mashupData)));
+        return new OdcFile(Optional.of("Query - DimCustomer"), props, odc, Optional.empty(), Optional.empty(),
+                Optional.empty());
+    }
+
+    /**
+     * Creates a Power Query file whose mashup data has the given length.
+     *
+     * @param length The length of the mashup data in characters
+     * @return The ODC file model
+     */
+    public static OdcFile powerQueryWithMashupOfLength(int length) {
+        return powerQuery(mashupData(length));
+    }
+
+    /**
+     * Creates mashup data of the given length by repeating the mashup of the
+     * specification example.
+     *
+     * @param length The length in characters
+     * @return The mashup data
+     */
+    public static String mashupData(int length) {
+        StringBuilder sb = new StringBuilder(length + MASHUP_CHUNK.length());
+        while (sb.length() < length) {
+            sb.append(MASHUP_CHUNK);
+        }
+        sb.setLength(length);
+        return sb.toString();
+    }
+
+    /**
+     * Creates a SQL file with a parameterized command and the given number of
+     * parameters.
+     *
+     * @param count The number of parameters
+     * @return The ODC file model
+     */
+    public static OdcFile withParameters(int count) {
+        List<Parameter> parameters = new ArrayList<>(count);
+        StringBuilder commandText = new StringBuilder("SELECT * FROM Sales WHERE 1 = 1");
+        for (int i = 0; i < count; i++) {
+            parameters.add(Parameter.of("Param" + i, 12));
+            commandText.append(" AND Column").append(i).append(" <> ?");
+        }
+        Connection connection = new Connection(ConnectionType.ODBC,
+                "DRIVER=SQL Server;SERVER=mysqlserver;Trusted_Connection=Yes", Optional.of(CommandType.SQL),
+                parameters, Optional.of(TextSource.of(commandText.toString())), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty());
+        return new OdcFile(Optional.of("Sales"), DocumentProperties.of("Sales"), OfficeDataConnection.of(connection),
+                Optional.empty(), Optional.empty(), Optional.empty());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.writer.benchmark.OdcFixtures.SpecExample;
+import org.eclipse.daanse.odc.writer.simple.OdcMetricsListener;
+import org.eclipse.daanse.odc.writer.simple.OdcRenderCache;
+import org.eclipse.daanse.odc.writer.simple.OdcWriter;
+import org.eclipse.daanse.odc.writer.simple.RenderedOdc;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes the examples of the specification, directly, with validation, with
+ * metrics, through the render cache and into an exactly sized direct buffer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SpecExampleBenchmark {
+
+    @Param
+    public SpecExample example;
+
+    private final OdcWriter writer = new OdcWriter();
+
+    private final OdcWriter validatingWriter = new OdcWriter(true);
+
+    private final OdcWriter measuringWriter = new OdcWriter(false, new OdcMetricsListener() {
+
+        @Override
+        public void increment(Counter counter, long delta) {
+        }
+
+        @Override
+        public void record(Histogram histogram, long value) {
+        }
+    });
+
+    private final OdcRenderCache cache = new OdcRenderCache(writer, 16, 1 << 20);
+
+    private OdcFile odcFile;
+
+    @Setup
+    public void setUp() {
+        odcFile = example.odcFile();
+    }
+
+    @Benchmark
+    public String writeString() {
+        return writer.write(odcFile);
+    }
+
+    @Benchmark
+    public byte[] writeBytes() {
+        return writer.writeBytes(odcFile);
+    }
+
+    @Benchmark
+    public byte[] writeBytesValidated() {
+        return validatingWriter.writeBytes(odcFile);
+    }
+
+    @Benchmark
+    public byte[] writeBytesMeasured() {
+        return measuringWriter.writeBytes(odcFile);
+    }
+
+    @Benchmark
+    public long utf8Length() {
+        return writer.utf8Length(odcFile);
+    }
+
+    @Benchmark
+    public ByteBuffer writeDirectBuffer() {
+        return writer.writeByteBuffer(odcFile, true);
+    }
+
+    @Benchmark
+    public RenderedOdc renderCached() {
+        return cache.render(odcFile);
+    }
+
+    @Benchmark
+    public void writeStream() throws IOException {
+        writer.write(odcFile, OutputStream.nullOutputStream());
+    }
+}
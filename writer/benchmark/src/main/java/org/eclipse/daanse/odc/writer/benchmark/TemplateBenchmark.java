@@ -0,0 +1,101 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+import org.eclipse.daanse.odc.writer.simple.OdcTemplate;
+import org.eclipse.daanse.odc.writer.simple.OdcWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Generates per-tenant variants of a cube connection, once by building and
+ * writing the model of every variant and once from a compiled template.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TemplateBenchmark {
+
+    private static final int TENANTS = 1024;
+
+    private final OdcWriter writer = new OdcWriter();
+
+    private OdcTemplate template;
+
+    private List<Map<String, String>> tenants;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        template = OdcTemplate
+                .compile(cube("${cube} - ${catalog}", "${server}", "${catalog}", "${cube}", "${culture}"));
+        tenants = IntStream.range(0, TENANTS)
+                .mapToObj(i -> Map.of("server", "olap" + i + ".example.com", "catalog", "Tenant " + i, "cube",
+                        "Sales & Marketing", "culture", i % 2 == 0 ? "de-DE" : "en-US"))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] writeModel() {
+        Map<String, String> tenant = nextTenant();
+        return writer.writeBytes(cube(tenant.get("cube") + " - " + tenant.get("catalog"), tenant.get("server"),
+                tenant.get("catalog"), tenant.get("cube"), tenant.get("culture")));
+    }
+
+    @Benchmark
+    public byte[] renderTemplate() {
+        return template.render(nextTenant());
+    }
+
+    private Map<String, String> nextTenant() {
+        next = (next + 1) % TENANTS;
+        return tenants.get(next);
+    }
+
+    private static OdcFile cube(String title, String server, String catalog, String cube, String culture) {
+        Connection connection = new Connection(ConnectionType.OLEDB,
+                "Provider=MSOLAP.8;Integrated Security=SSPI;Persist Security Info=True;Data Source=" + server
+                        + ";Initial Catalog=" + catalog,
+                Optional.of(CommandType.Cube), List.of(), Optional.of(TextSource.of(cube)), Optional.empty(),
+                Optional.of(CredentialsMethod.Integrated), Optional.of(true), Optional.of(culture));
+        return new OdcFile(Optional.of(title), DocumentProperties.of(title), OfficeDataConnection.of(connection),
+                Optional.of(catalog), Optional.empty(), Optional.empty());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.writer.simple.OdcWriter;
+import org.eclipse.daanse.odc.writer.simple.OdcZipWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Exports a catalog of ODC files as a ZIP archive, once sequentially through a
+ * {@link ZipOutputStream} with every file rendered to a string first, and once
+ * with the {@link OdcZipWriter} compressing in parallel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ZipBenchmark {
+
+    @Param({ "100", "5000" })
+    public int files;
+
+    private final OdcWriter writer = new OdcWriter();
+
+    private final OdcZipWriter zipWriter = new OdcZipWriter();
+
+    private List<OdcFile> catalog;
+
+    @Setup
+    public void setUp() {
+        catalog = IntStream.range(0, files).mapToObj(i -> {
+            OdcFile odcFile = OdcFixtures.withParameters(i % 16);
+            return new OdcFile(Optional.of("Table " + i), odcFile.documentProperties(),
+                    odcFile.officeDataConnection(), odcFile.catalog(), odcFile.schema(), odcFile.table());
+        }).toList();
+    }
+
+    private static String entryName(OdcFile odcFile) {
+        return "Sales/" + odcFile.title().orElseThrow() + ".odc";
+    }
+
+    @Benchmark
+    public void zipOutputStream() throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(OutputStream.nullOutputStream())) {
+            for (OdcFile odcFile : catalog) {
+                zip.putNextEntry(new ZipEntry(entryName(odcFile)));
+                zip.write(writer.write(odcFile).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+    }
+
+    @Benchmark
+    public long zipWriter() throws IOException, InterruptedException {
+        return zipWriter.write(catalog, ZipBenchmark::entryName, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,193 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.daanse.odc.writer.simple.RenderedOdc;
+
+/**
+ * The prepared responses of one served file: the encoded document, its gzip
+ * compressed form and the matching {@code 304} responses. The document is
+ * served from the rendered bytes without a copy. The compressed form is dropped
+ * if it is not smaller than the document.
+ */
+final class OdcBody {
+
+    private final RenderedOdc rendered;
+
+    private final String gzipEtag;
+
+    private final OdcResponse identity;
+
+    private final OdcResponse identityNotModified;
+
+    private final OdcResponse gzip;
+
+    private final OdcResponse gzipNotModified;
+
+    private OdcBody(RenderedOdc rendered, String gzipEtag, OdcResponse identity, OdcResponse identityNotModified,
+            OdcResponse gzip, OdcResponse gzipNotModified) {
+        this.rendered = rendered;
+        this.gzipEtag = gzipEtag;
+        this.identity = identity;
+        this.identityNotModified = identityNotModified;
+        this.gzip = gzip;
+        this.gzipNotModified = gzipNotModified;
+    }
+
+    /**
+     * Prepares the responses of a file.
+     *
+     * @param name             The requested name, its last segment becomes the
+     *                         file name of the download
+     * @param rendered         The rendered file
+     * @param compressionLevel The gzip compression level
+     * @param cacheControl     The value of the {@code Cache-Control} header
+     * @return The prepared responses
+     */
+    static OdcBody of(String name, RenderedOdc rendered, int compressionLevel, String cacheControl) {
+        String disposition = contentDisposition(name);
+        String etag = rendered.etag();
+        OdcResponse identity = new OdcResponse(OdcResponse.OK,
+                headers(etag, cacheControl, disposition, null), rendered);
+        OdcResponse identityNotModified = new OdcResponse(OdcResponse.NOT_MODIFIED,
+                headers(etag, cacheControl, null, null), new byte[0]);
+
+        byte[] compressed = gzip(rendered, compressionLevel);
+        if (compressed.length >= rendered.length()) {
+            return new OdcBody(rendered, null, identity, identityNotModified, null, null);
+        }
+        String gzipEtag = etag.substring(0, etag.length() - 1) + "-gzip\"";
+        OdcResponse gzip = new OdcResponse(OdcResponse.OK, headers(gzipEtag, cacheControl, disposition, "gzip"),
+                compressed);
+        OdcResponse gzipNotModified = new OdcResponse(OdcResponse.NOT_MODIFIED,
+                headers(gzipEtag, cacheControl, null, null), new byte[0]);
+        return new OdcBody(rendered, gzipEtag, identity, identityNotModified, gzip, gzipNotModified);
+    }
+
+    RenderedOdc rendered() {
+        return rendered;
+    }
+
+    /**
+     * @return The number of body bytes held: the document and, if kept, its
+     *         compressed form
+     */
+    long weight() {
+        return rendered.length() + (gzip == null ? 0 : gzip.contentLength());
+    }
+
+    /**
+     * Selects the response of a request.
+     *
+     * @param ifNoneMatch The {@code If-None-Match} header, may be {@code null}
+     * @param gzipAccepted Whether the client accepts a gzip content coding
+     * @return The prepared response
+     */
+    OdcResponse response(String ifNoneMatch, boolean gzipAccepted) {
+        boolean compressed = gzipAccepted && gzip != null;
+        if (ifNoneMatch != null && matches(ifNoneMatch)) {
+            return compressed ? gzipNotModified : identityNotModified;
+        }
+        return compressed ? gzip : identity;
+    }
+
+    /**
+     * Evaluates an {@code If-None-Match} header with the weak comparison. Both
+     * content codings are representations of the same document, so a tag of
+     * either matches.
+     */
+    private boolean matches(String ifNoneMatch) {
+        int start = 0;
+        int length = ifNoneMatch.length();
+        while (start < length) {
+            int end = ifNoneMatch.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            int from = start;
+            int to = end;
+            while (from < to && ifNoneMatch.charAt(from) == ' ') {
+                from++;
+            }
+            while (to > from && ifNoneMatch.charAt(to - 1) == ' ') {
+                to--;
+            }
+            if (ifNoneMatch.startsWith("W/", from)) {
+                from += 2;
+            }
+            if (to - from == 1 && ifNoneMatch.charAt(from) == '*') {
+                return true;
+            }
+            if (equalsRegion(rendered.etag(), ifNoneMatch, from, to)
+                    || gzipEtag != null && equalsRegion(gzipEtag, ifNoneMatch, from, to)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    private static boolean equalsRegion(String etag, String header, int from, int to) {
+        return etag.length() == to - from && header.regionMatches(from, etag, 0, etag.length());
+    }
+
+    private static Map<String, String> headers(String etag, String cacheControl, String disposition,
+            String contentEncoding) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        if (disposition != null) {
+            headers.put("Content-Type", OdcDownloads.CONTENT_TYPE);
+            headers.put("Content-Disposition", disposition);
+        }
+        if (contentEncoding != null) {
+            headers.put("Content-Encoding", contentEncoding);
+        }
+        headers.put("ETag", etag);
+        headers.put("Cache-Control", cacheControl);
+        headers.put("Vary", "Accept-Encoding");
+        return Collections.unmodifiableMap(headers);
+    }
+
+    private static String contentDisposition(String name) {
+        String fileName = name.substring(name.lastIndexOf('/') + 1);
+        // RFC 8187 ext-value, URLEncoder leaves '*' as is and encodes a space as '+'
+        String encoded = URLEncoder.encode(fileName, StandardCharsets.UTF_8).replace("+", "%20").replace("*",
+                "%2A");
+        return "attachment; filename*=UTF-8''" + encoded;
+    }
+
+    private static byte[] gzip(RenderedOdc document, int compressionLevel) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(document.length() / 2 + 32);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer) {
+            {
+                def.setLevel(compressionLevel);
+            }
+        }) {
+            document.writeTo(out);
+        } catch (IOException e) {
+            // a ByteArrayOutputStream does not throw
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.http;
+
+import java.io.IOException;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.Designate;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+import org.osgi.service.servlet.whiteboard.propertytypes.HttpWhiteboardServletPattern;
+
+import jakarta.servlet.Servlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Servlet whiteboard component serving the files of an
+ * {@link OdcFileProvider} below {@code /odc/}. The path below the pattern is
+ * the name passed to the provider. The pattern can be changed through the
+ * {@code osgi.http.whiteboard.servlet.pattern} property of the component
+ * configuration.
+ */
+@Component(service = Servlet.class, configurationPid = OdcDownloadServlet.PID)
+@Designate(ocd = OdcDownloadServlet.Config.class)
+@HttpWhiteboardServletPattern("/odc/*")
+public class OdcDownloadServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Configuration PID of the component. */
+    public static final String PID = "org.eclipse.daanse.odc.writer.http.OdcDownloadServlet";
+
+    /**
+     * Configuration of the servlet.
+     */
+    @ObjectClassDefinition(name = "ODC Download Servlet", description = "Serves rendered ODC files")
+    public @interface Config {
+
+        @AttributeDefinition(name = "Maximum entries", description = "Maximum number of cached files", min = "1")
+        int maxEntries() default 1024;
+
+        @AttributeDefinition(name = "Maximum bytes", description = "Maximum number of cached rendered bytes", min = "1")
+        long maxBytes() default 64L << 20;
+
+        @AttributeDefinition(name = "Compression level", description = "Level of the precompressed gzip bodies",
+                min = "1", max = "9")
+        int compressionLevel() default 9;
+
+        @AttributeDefinition(name = "Cache-Control", description = "Value of the Cache-Control header")
+        String cacheControl() default OdcDownloads.DEFAULT_CACHE_CONTROL;
+    }
+
+    private final transient OdcDownloads downloads;
+
+    /**
+     * Creates the servlet.
+     *
+     * @param provider The provider of the served models
+     * @param config   The configuration
+     */
+    @Activate
+    public OdcDownloadServlet(@Reference OdcFileProvider provider, Config config) {
+        this.downloads = new OdcDownloads(provider, config.maxEntries(), config.maxBytes(),
+                config.compressionLevel(), config.cacheControl());
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serve(request, response, true);
+    }
+
+    @Override
+    protected void doHead(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serve(request, response, false);
+    }
+
+    private void serve(HttpServletRequest request, HttpServletResponse response, boolean withBody)
+            throws IOException {
+        String path = request.getPathInfo();
+        OdcResponse odc = downloads.get(path == null ? null : path.substring(1), request.getHeader("If-None-Match"),
+                request.getHeader("Accept-Encoding"));
+        if (odc.status() == OdcResponse.NOT_FOUND) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        response.setStatus(odc.status());
+        odc.headers().forEach(response::setHeader);
+        if (odc.status() == OdcResponse.OK) {
+            response.setContentLengthLong(odc.contentLength());
+            if (withBody) {
+                odc.writeTo(response.getOutputStream());
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.http;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.zip.Deflater;
+
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.writer.simple.OdcRenderCache;
+import org.eclipse.daanse.odc.writer.simple.OdcWriter;
+import org.eclipse.daanse.odc.writer.simple.RenderedOdc;
+
+/**
+ * Serves ODC file downloads independent of a servlet container. A request is
+ * answered from prepared responses: the models are rendered through an
+ * {@link OdcRenderCache}, and for every served name the encoded document, its
+ * gzip compressed form and the {@code 304} responses are kept until the
+ * rendered bytes change. A repeated request costs the provider lookup and two
+ * map lookups, no rendering, encoding or compression.
+ * <p>
+ * The prepared responses are bounded like the render cache: the least recently
+ * requested names are evicted when either the number of names or the bytes of
+ * the held documents and their compressed forms exceed the limits. A document
+ * is shared with the render cache, not copied, so at most twice the byte limit
+ * is held. Files larger than the byte limit are served without being kept.
+ * <p>
+ * Every response carries a strong entity tag; the gzip form has a tag of its
+ * own. {@code If-None-Match} is evaluated with the weak comparison and answered
+ * with a {@code 304} if it matches either tag.
+ * <p>
+ * Instances are thread-safe.
+ */
+public final class OdcDownloads {
+
+    /** Media type of a served file. */
+    public static final String CONTENT_TYPE = "text/x-ms-odc; charset=utf-8";
+
+    /** Default {@code Cache-Control}, clients revalidate with the entity tag. */
+    public static final String DEFAULT_CACHE_CONTROL = "no-cache";
+
+    private final OdcFileProvider provider;
+
+    private final OdcRenderCache renderCache;
+
+    private final int maxEntries;
+
+    private final long maxBytes;
+
+    private final int compressionLevel;
+
+    private final String cacheControl;
+
+    private final LinkedHashMap<String, OdcBody> bodies = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long bodyBytes;
+
+    /**
+     * Creates downloads with 1024 entries, 64 MiB of rendered bytes, the best
+     * compression and the {@link #DEFAULT_CACHE_CONTROL}.
+     *
+     * @param provider The provider of the served models
+     */
+    public OdcDownloads(OdcFileProvider provider) {
+        this(provider, 1024, 64L << 20, Deflater.BEST_COMPRESSION, DEFAULT_CACHE_CONTROL);
+    }
+
+    /**
+     * Creates downloads.
+     *
+     * @param provider         The provider of the served models
+     * @param maxEntries       The maximum number of rendered files and of
+     *                         prepared responses
+     * @param maxBytes         The maximum number of cached rendered bytes and
+     *                         of bytes held by prepared responses
+     * @param compressionLevel The gzip compression level, 1 to 9
+     * @param cacheControl     The value of the {@code Cache-Control} header
+     */
+    public OdcDownloads(OdcFileProvider provider, int maxEntries, long maxBytes, int compressionLevel,
+            String cacheControl) {
+        if (compressionLevel < Deflater.BEST_SPEED || compressionLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("compressionLevel must be between 1 and 9: " + compressionLevel);
+        }
+        this.provider = provider;
+        this.renderCache = new OdcRenderCache(new OdcWriter(), maxEntries, maxBytes);
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.compressionLevel = compressionLevel;
+        this.cacheControl = cacheControl;
+    }
+
+    /**
+     * Answers a {@code GET} or {@code HEAD} request.
+     *
+     * @param name           The name of the file, passed to the provider
+     * @param ifNoneMatch    The {@code If-None-Match} header, may be {@code null}
+     * @param acceptEncoding The {@code Accept-Encoding} header, may be
+     *                       {@code null}
+     * @return The prepared response
+     * @throws java.io.UncheckedIOException if a streamed text value cannot be
+     *                                      read
+     */
+    public OdcResponse get(String name, String ifNoneMatch, String acceptEncoding) {
+        if (name == null || name.isEmpty()) {
+            return OdcResponse.UNKNOWN;
+        }
+        Optional<OdcFile> odcFile = provider.find(name);
+        if (odcFile.isEmpty()) {
+            return OdcResponse.UNKNOWN;
+        }
+        return body(name, renderCache.render(odcFile.get())).response(ifNoneMatch, acceptsGzip(acceptEncoding));
+    }
+
+    /**
+     * @return The statistics of the render cache
+     */
+    public OdcRenderCache.Stats renderStats() {
+        return renderCache.stats();
+    }
+
+    private OdcBody body(String name, RenderedOdc rendered) {
+        OdcBody body;
+        synchronized (bodies) {
+            body = bodies.get(name);
+        }
+        if (body != null && (body.rendered() == rendered || body.rendered().etag().equals(rendered.etag()))) {
+            return body;
+        }
+        body = OdcBody.of(name, rendered, compressionLevel, cacheControl);
+        if (body.weight() <= maxBytes) {
+            put(name, body);
+        }
+        return body;
+    }
+
+    private void put(String name, OdcBody body) {
+        synchronized (bodies) {
+            OdcBody previous = bodies.put(name, body);
+            if (previous != null) {
+                bodyBytes -= previous.weight();
+            }
+            bodyBytes += body.weight();
+            Iterator<OdcBody> eldest = bodies.values().iterator();
+            while (bodies.size() > maxEntries || bodyBytes > maxBytes) {
+                bodyBytes -= eldest.next().weight();
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Evaluates an {@code Accept-Encoding} header. A {@code gzip} or
+     * {@code x-gzip} coding takes precedence over {@code *}, a quality value of
+     * 0 rejects the coding.
+     *
+     * @param acceptEncoding The header, may be {@code null}
+     * @return Whether the gzip content coding is acceptable
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            int parameters = coding.indexOf(';');
+            String token = (parameters < 0 ? coding : coding.substring(0, parameters)).trim();
+            boolean accepted = parameters < 0 || !isZeroQuality(coding.substring(parameters + 1));
+            if (token.equalsIgnoreCase("gzip") || token.equalsIgnoreCase("x-gzip")) {
+                return accepted;
+            }
+            if (token.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return wildcard;
+    }
+
+    private static boolean isZeroQuality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.startsWith("q=") || trimmed.startsWith("Q=")) {
+                try {
+                    return Double.parseDouble(trimmed.substring(2)) <= 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.http;
+
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+
+/**
+ * Supplies the ODC file models served by {@link OdcDownloads}. Implementations
+ * are registered as OSGi services and called on every request, so a lookup
+ * should be cheap; returning the same model instance for an unchanged file lets
+ * the render cache answer with a map lookup.
+ */
+public interface OdcFileProvider {
+
+    /**
+     * Looks up an ODC file model.
+     *
+     * @param name The name of the file, the request path below the servlet
+     *             pattern without the leading slash, e.g. {@code sales/orders.odc}
+     * @return The model, or empty if there is no such file
+     */
+    Optional<OdcFile> find(String name);
+}
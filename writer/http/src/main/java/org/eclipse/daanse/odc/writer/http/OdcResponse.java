@@ -0,0 +1,103 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+import org.eclipse.daanse.odc.writer.simple.RenderedOdc;
+
+/**
+ * A prepared HTTP response of {@link OdcDownloads}: status, headers and body.
+ * The responses of a file are built once when it is rendered and shared by all
+ * requests, so an adapter only copies the headers and writes the body. The
+ * body length is not part of the headers, adapters set it from
+ * {@link #contentLength()}, which is exact.
+ */
+public final class OdcResponse {
+
+    /** Status of a successful download. */
+    public static final int OK = 200;
+
+    /** Status of a conditional request whose entity tag matches. */
+    public static final int NOT_MODIFIED = 304;
+
+    /** Status of a request for an unknown file. */
+    public static final int NOT_FOUND = 404;
+
+    static final OdcResponse UNKNOWN = new OdcResponse(NOT_FOUND, Map.of(), new byte[0]);
+
+    private final int status;
+
+    private final Map<String, String> headers;
+
+    private final byte[] body;
+
+    private final RenderedOdc document;
+
+    OdcResponse(int status, Map<String, String> headers, byte[] body) {
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+        this.document = null;
+    }
+
+    /**
+     * Creates a response whose body is a rendered document. The bytes are
+     * shared with the document, not copied.
+     */
+    OdcResponse(int status, Map<String, String> headers, RenderedOdc document) {
+        this.status = status;
+        this.headers = headers;
+        this.body = null;
+        this.document = document;
+    }
+
+    /**
+     * @return The HTTP status code
+     */
+    public int status() {
+        return status;
+    }
+
+    /**
+     * @return The unmodifiable response headers without {@code Content-Length},
+     *         in the order they should be sent
+     */
+    public Map<String, String> headers() {
+        return headers;
+    }
+
+    /**
+     * @return The exact length of the body in bytes, 0 if there is no body
+     */
+    public int contentLength() {
+        return document != null ? document.length() : body.length;
+    }
+
+    /**
+     * Writes the body to a stream. The stream is not flushed.
+     *
+     * @param out The stream to write to
+     * @throws IOException if writing to the stream fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        if (document != null) {
+            document.writeTo(out);
+        } else {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.writer.simple.OdcWriter;
+import org.junit.jupiter.api.Test;
+
+class OdcDownloadsTest {
+
+    private final Map<String, OdcFile> files = new HashMap<>();
+
+    private final OdcDownloads downloads = new OdcDownloads(name -> Optional.ofNullable(files.get(name)));
+
+    private static OdcFile cube(String catalog) {
+        Connection connection = Connection.of(ConnectionType.OLEDB,
+                "Provider=MSOLAP;Data Source=server;Initial Catalog=" + catalog);
+        return OdcFile.of("Cube " + catalog, OfficeDataConnection.of(connection));
+    }
+
+    private static byte[] body(OdcResponse response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.writeTo(out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void testServesIdentityAndPrecompressedBodies() throws IOException {
+        files.put("sales/orders.odc", cube("Sales"));
+        String expected = new OdcWriter().write(cube("Sales"));
+
+        OdcResponse identity = downloads.get("sales/orders.odc", null, null);
+        assertThat(identity.status()).isEqualTo(OdcResponse.OK);
+        assertThat(new String(body(identity), StandardCharsets.UTF_8)).isEqualTo(expected);
+        assertThat(identity.contentLength()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(identity.headers().get("Content-Type")).isEqualTo(OdcDownloads.CONTENT_TYPE);
+        assertThat(identity.headers().get("Content-Disposition"))
+                .isEqualTo("attachment; filename*=UTF-8''orders.odc");
+        assertThat(identity.headers().get("Content-Encoding")).isNull();
+        assertThat(identity.headers().get("Vary")).isEqualTo("Accept-Encoding");
+
+        OdcResponse gzip = downloads.get("sales/orders.odc", null, "br;q=1.0, gzip;q=0.8");
+        assertThat(gzip.headers().get("Content-Encoding")).isEqualTo("gzip");
+        assertThat(gzip.headers().get("ETag")).isNotEqualTo(identity.headers().get("ETag"));
+        assertThat(gzip.contentLength()).isLessThan(identity.contentLength());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body(gzip)))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(expected);
+        }
+
+        assertThat(downloads.get("sales/orders.odc", null, "gzip;q=0, *")).isSameAs(identity);
+        assertThat(downloads.get("sales/orders.odc", null, "*")).isSameAs(gzip);
+        assertThat(downloads.get("sales/orders.odc", null, "gzip")).isSameAs(gzip);
+        assertThat(downloads.renderStats().misses()).isEqualTo(1L);
+    }
+
+    @Test
+    void testAnswersMatchingEntityTagWithNotModified() {
+        files.put("orders.odc", cube("Sales"));
+        String etag = downloads.get("orders.odc", null, null).headers().get("ETag");
+        String gzipEtag = downloads.get("orders.odc", null, "gzip").headers().get("ETag");
+
+        OdcResponse notModified = downloads.get("orders.odc", "\"other\", W/" + etag, "gzip");
+        assertThat(notModified.status()).isEqualTo(OdcResponse.NOT_MODIFIED);
+        assertThat(notModified.contentLength()).isZero();
+        assertThat(notModified.headers().get("ETag")).isEqualTo(gzipEtag);
+        assertThat(downloads.get("orders.odc", gzipEtag, null).status()).isEqualTo(OdcResponse.NOT_MODIFIED);
+        assertThat(downloads.get("orders.odc", "*", null).status()).isEqualTo(OdcResponse.NOT_MODIFIED);
+
+        files.put("orders.odc", cube("Finance"));
+        OdcResponse changed = downloads.get("orders.odc", etag, null);
+        assertThat(changed.status()).isEqualTo(OdcResponse.OK);
+        assertThat(changed.headers().get("ETag")).isNotEqualTo(etag);
+    }
+
+    @Test
+    void testEvictsLeastRecentlyRequestedResponses() {
+        files.put("a.odc", cube("A"));
+        files.put("b.odc", cube("B"));
+        files.put("c.odc", cube("C"));
+        OdcDownloads bounded = new OdcDownloads(name -> Optional.ofNullable(files.get(name)), 2, 1L << 20,
+                Deflater.BEST_COMPRESSION, OdcDownloads.DEFAULT_CACHE_CONTROL);
+
+        OdcResponse a = bounded.get("a.odc", null, null);
+        OdcResponse b = bounded.get("b.odc", null, null);
+        assertThat(bounded.get("a.odc", null, null)).isSameAs(a);
+        bounded.get("c.odc", null, null);
+
+        assertThat(bounded.get("a.odc", null, null)).isSameAs(a);
+        assertThat(bounded.get("b.odc", null, null)).isNotSameAs(b);
+    }
+
+    @Test
+    void testDoesNotKeepResponsesLargerThanTheByteLimit() throws IOException {
+        files.put("a.odc", cube("A"));
+        OdcDownloads bounded = new OdcDownloads(name -> Optional.ofNullable(files.get(name)), 16, 64,
+                Deflater.BEST_COMPRESSION, OdcDownloads.DEFAULT_CACHE_CONTROL);
+
+        OdcResponse first = bounded.get("a.odc", null, null);
+        OdcResponse second = bounded.get("a.odc", null, null);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(body(second)).isEqualTo(body(first));
+        assertThat(bounded.renderStats().entries()).isZero();
+    }
+
+    @Test
+    void testUnknownFileIsNotFound() {
+        assertThat(downloads.get("missing.odc", null, "gzip").status()).isEqualTo(OdcResponse.NOT_FOUND);
+        assertThat(downloads.get("", null, null).status()).isEqualTo(OdcResponse.NOT_FOUND);
+        assertThat(OdcDownloads.acceptsGzip("identity")).isFalse();
+        assertThat(OdcDownloads.acceptsGzip("GZIP; q=0.5")).isTrue();
+    }
+}
@@ -0,0 +1,408 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.jdbc;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+import org.eclipse.daanse.odc.writer.simple.OdcWriter;
+
+/**
+ * Generates one {@link CommandType#Table Table} ODC file per table or view
+ * listed by {@link DatabaseMetaData#getTables}. Each row of the metadata cursor
+ * is turned into a file and written before the next row is fetched, so memory
+ * use does not depend on the number of tables. The files carry the catalog,
+ * schema and table meta tags and the ODC.Table ProgId; the command text is the
+ * quoted qualified name of the table.
+ * <p>
+ * {@link #generateParallel(DataSource, TableQuery, Function)} lists the
+ * schemas first and reads the tables of each schema on its own virtual thread
+ * with its own JDBC connection. Failures of single files or schemas are
+ * collected and do not stop the run.
+ */
+public class OdcJdbcGenerator {
+
+    /**
+     * A table or view as listed by the database metadata.
+     *
+     * @param catalog The catalog, may be null
+     * @param schema  The schema, may be null
+     * @param name    The table name, null if a whole schema failed
+     * @param type    The table type, e.g. TABLE or VIEW
+     * @param remarks The comment on the table, may be null
+     */
+    public record Table(String catalog, String schema, String name, String type, String remarks) {
+    }
+
+    /**
+     * Selects the tables to generate files for. The patterns use the JDBC
+     * search pattern syntax; null catalog or schema patterns do not filter. The
+     * type TABLE also selects BASE TABLE, as databases that follow the SQL
+     * standard naming (e.g. H2 2) report ordinary tables.
+     *
+     * @param catalog          The catalog, "" for tables without catalog
+     * @param schemaPattern    The schema name pattern
+     * @param tableNamePattern The table name pattern
+     * @param types            The table types, e.g. TABLE and VIEW
+     */
+    public record TableQuery(String catalog, String schemaPattern, String tableNamePattern, List<String> types) {
+
+        public TableQuery {
+            Objects.requireNonNull(tableNamePattern, "tableNamePattern");
+            types = List.copyOf(types);
+        }
+
+        /**
+         * Selects all tables and views.
+         *
+         * @return The query
+         */
+        public static TableQuery tablesAndViews() {
+            return new TableQuery(null, null, "%", List.of("TABLE", "VIEW"));
+        }
+
+        /**
+         * Selects all tables and views of the schemas matching a pattern.
+         *
+         * @param schemaPattern The schema name pattern
+         * @return The query
+         */
+        public static TableQuery tablesAndViews(String schemaPattern) {
+            return new TableQuery(null, schemaPattern, "%", List.of("TABLE", "VIEW"));
+        }
+    }
+
+    /**
+     * A file or schema that could not be generated.
+     *
+     * @param table  The table, or a table without name if listing a schema
+     *               failed
+     * @param target The target path, or null if it was not determined
+     * @param error  The cause of the failure
+     */
+    public record Failure(Table table, Path target, Exception error) {
+    }
+
+    /**
+     * Summary of a run.
+     *
+     * @param files    Number of files written
+     * @param bytes    Number of bytes written
+     * @param elapsed  Wall clock time of the run
+     * @param failures Files or schemas that could not be generated
+     */
+    public record Result(long files, long bytes, Duration elapsed, List<Failure> failures) {
+
+        /**
+         * Checks whether all files were written.
+         *
+         * @return true if nothing failed
+         */
+        public boolean isSuccessful() {
+            return failures.isEmpty();
+        }
+    }
+
+    /** Rows fetched per round trip, a hint for drivers that buffer results. */
+    private static final int FETCH_SIZE = 1000;
+
+    private final OdcWriter writer;
+
+    private final ConnectionType type;
+
+    private final String connectionString;
+
+    private final int maxConcurrency;
+
+    /**
+     * Creates a generator with a default writer and at most one schema per
+     * available processor in flight.
+     *
+     * @param type             The connection type of the generated files
+     * @param connectionString The connection string of the generated files
+     */
+    public OdcJdbcGenerator(ConnectionType type, String connectionString) {
+        this(new OdcWriter(), type, connectionString, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param writer           The writer used to render the files
+     * @param type             The connection type of the generated files
+     * @param connectionString The connection string of the generated files
+     * @param maxConcurrency   The maximum number of schemas read in parallel,
+     *                         which is also the number of JDBC connections
+     *                         used in addition to the one listing the schemas
+     */
+    public OdcJdbcGenerator(OdcWriter writer, ConnectionType type, String connectionString, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.writer = Objects.requireNonNull(writer, "writer");
+        this.type = Objects.requireNonNull(type, "type");
+        this.connectionString = Objects.requireNonNull(connectionString, "connectionString");
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Returns a target function that places the files in a directory tree by
+     * catalog and schema, named after the table. Characters that are not
+     * allowed in file names are replaced by '_'.
+     *
+     * @param directory The root directory
+     * @return The target function
+     */
+    public static Function<Table, Path> byDirectory(Path directory) {
+        Objects.requireNonNull(directory, "directory");
+        return table -> {
+            Path path = directory;
+            if (table.catalog() != null && !table.catalog().isEmpty()) {
+                path = path.resolve(fileName(table.catalog()));
+            }
+            if (table.schema() != null && !table.schema().isEmpty()) {
+                path = path.resolve(fileName(table.schema()));
+            }
+            return path.resolve(fileName(table.name()) + ".odc");
+        };
+    }
+
+    /**
+     * Generates the files of all selected tables on the calling thread.
+     *
+     * @param jdbc   The JDBC connection, not closed
+     * @param query  Selects the tables
+     * @param target Determines the target path of each file
+     * @return The summary of the run
+     * @throws SQLException if the metadata cannot be read
+     */
+    public Result generate(java.sql.Connection jdbc, TableQuery query, Function<? super Table, Path> target)
+            throws SQLException {
+        long start = System.nanoTime();
+        Counters counters = new Counters();
+        generate(jdbc, query.catalog(), query.schemaPattern(), query, target, counters);
+        return counters.result(start);
+    }
+
+    /**
+     * Generates the files of all selected tables, reading the schemas in
+     * parallel. If the database reports no schemas, the tables are read on the
+     * calling thread.
+     *
+     * @param dataSource Provides one connection to list the schemas and one per
+     *                   schema in flight
+     * @param query      Selects the tables
+     * @param target     Determines the target path of each file
+     * @return The summary of the run
+     * @throws SQLException         if the schemas cannot be listed
+     * @throws InterruptedException if the calling thread is interrupted while
+     *                              waiting for a free slot
+     */
+    public Result generateParallel(DataSource dataSource, TableQuery query, Function<? super Table, Path> target)
+            throws SQLException, InterruptedException {
+        long start = System.nanoTime();
+        Semaphore slots = new Semaphore(maxConcurrency);
+        Counters counters = new Counters();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+                java.sql.Connection jdbc = dataSource.getConnection()) {
+            DatabaseMetaData metaData = jdbc.getMetaData();
+            String escape = metaData.getSearchStringEscape();
+            boolean hasSchemas = false;
+            try (ResultSet schemas = metaData.getSchemas(query.catalog(), query.schemaPattern())) {
+                while (schemas.next()) {
+                    hasSchemas = true;
+                    String schema = schemas.getString(1);
+                    String schemaCatalog = schemas.getString(2);
+                    String catalog = schemaCatalog != null ? schemaCatalog : query.catalog();
+                    slots.acquire();
+                    executor.execute(() -> {
+                        try (java.sql.Connection schemaJdbc = dataSource.getConnection()) {
+                            generate(schemaJdbc, catalog, escape(schema, escape), query, target, counters);
+                        } catch (SQLException | RuntimeException e) {
+                            counters.failures.add(new Failure(new Table(catalog, schema, null, null, null), null, e));
+                        } finally {
+                            slots.release();
+                        }
+                    });
+                }
+            }
+            if (!hasSchemas) {
+                generate(jdbc, query.catalog(), query.schemaPattern(), query, target, counters);
+            }
+        }
+        return counters.result(start);
+    }
+
+    /**
+     * Creates the ODC file of a table.
+     *
+     * @param table           The table
+     * @param identifierQuote The identifier quote of the database, " " if
+     *                        identifiers are not quoted
+     * @return The ODC file model
+     */
+    public OdcFile odcFile(Table table, String identifierQuote) {
+        StringBuilder title = new StringBuilder();
+        StringBuilder commandText = new StringBuilder();
+        for (String part : new String[] { table.catalog(), table.schema(), table.name() }) {
+            if (part == null || part.isEmpty()) {
+                continue;
+            }
+            if (!title.isEmpty()) {
+                title.append(' ');
+                commandText.append('.');
+            }
+            title.append(part);
+            quote(commandText, part, identifierQuote);
+        }
+        Optional<String> remarks = Optional.ofNullable(table.remarks()).filter(r -> !r.isBlank());
+        Connection connection = new Connection(type, connectionString, Optional.of(CommandType.Table), List.of(),
+                Optional.of(TextSource.of(commandText.toString())), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty());
+        return new OdcFile(Optional.of(title.toString()),
+                new DocumentProperties(remarks, Optional.of(title.toString()), Optional.empty()),
+                OfficeDataConnection.of(connection), Optional.ofNullable(table.catalog()),
+                Optional.ofNullable(table.schema()), Optional.of(table.name()));
+    }
+
+    private void generate(java.sql.Connection jdbc, String catalog, String schemaPattern, TableQuery query,
+            Function<? super Table, Path> target, Counters counters) throws SQLException {
+        DatabaseMetaData metaData = jdbc.getMetaData();
+        String identifierQuote = metaData.getIdentifierQuoteString();
+        String[] types = types(query.types());
+        try (ResultSet tables = metaData.getTables(catalog, schemaPattern, query.tableNamePattern(), types)) {
+            try {
+                tables.setFetchSize(FETCH_SIZE);
+            } catch (SQLException e) {
+                // only a hint
+            }
+            while (tables.next()) {
+                Table table = new Table(tables.getString(1), tables.getString(2), tables.getString(3),
+                        tables.getString(4), tables.getString(5));
+                Path path = null;
+                try {
+                    path = target.apply(table);
+                    counters.bytes.add(writeFile(odcFile(table, identifierQuote), path));
+                    counters.files.increment();
+                } catch (IOException | RuntimeException e) {
+                    counters.failures.add(new Failure(table, path, e));
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a single file, creating missing parent directories.
+     *
+     * @return The number of bytes written
+     */
+    private long writeFile(OdcFile odcFile, Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writer.write(odcFile, channel);
+            return channel.position();
+        }
+    }
+
+    private static String[] types(List<String> types) {
+        if (types.isEmpty()) {
+            return null;
+        }
+        List<String> resolved = new ArrayList<>(types);
+        if (resolved.contains("TABLE") && !resolved.contains("BASE TABLE")) {
+            resolved.add("BASE TABLE");
+        }
+        return resolved.toArray(String[]::new);
+    }
+
+    private static void quote(StringBuilder sb, String identifier, String quote) {
+        if (quote == null || quote.isBlank()) {
+            sb.append(identifier);
+            return;
+        }
+        sb.append(quote).append(identifier.replace(quote, quote + quote)).append(quote);
+    }
+
+    /** Escapes the wildcards of a name so it can be passed as a pattern. */
+    private static String escape(String name, String escape) {
+        if (name == null || escape == null || escape.isEmpty()) {
+            return name;
+        }
+        StringBuilder sb = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '_' || c == '%' || escape.indexOf(c) >= 0) {
+                sb.append(escape);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static String fileName(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            sb.append(c < 0x20 || "<>:\"/\\|?*".indexOf(c) >= 0 ? '_' : c);
+        }
+        String fileName = sb.toString();
+        return fileName.isBlank() || fileName.equals(".") || fileName.equals("..") ? "_" : fileName;
+    }
+
+    /** Counters shared by the threads of a run. */
+    private static final class Counters {
+
+        private final LongAdder files = new LongAdder();
+
+        private final LongAdder bytes = new LongAdder();
+
+        private final List<Failure> failures = Collections.synchronizedList(new ArrayList<>());
+
+        private Result result(long start) {
+            return new Result(files.sum(), bytes.sum(), Duration.ofNanos(System.nanoTime() - start),
+                    List.copyOf(failures));
+        }
+    }
+}
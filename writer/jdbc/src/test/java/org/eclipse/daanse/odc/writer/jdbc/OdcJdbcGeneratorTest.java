@@ -0,0 +1,101 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.writer.jdbc.OdcJdbcGenerator.TableQuery;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OdcJdbcGeneratorTest {
+
+    private final OdcJdbcGenerator generator = new OdcJdbcGenerator(ConnectionType.OLEDB,
+            "Provider=SQLOLEDB;Data Source=warehouse;Initial Catalog=ODC");
+
+    @TempDir
+    Path tempDir;
+
+    private static void execute(String url, String... statements) throws Exception {
+        try (java.sql.Connection jdbc = DriverManager.getConnection(url);
+                Statement statement = jdbc.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private List<Path> files() throws Exception {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            return paths.filter(Files::isRegularFile).sorted().toList();
+        }
+    }
+
+    @Test
+    void testGeneratesOneTableFilePerTableAndView() throws Exception {
+        String url = "jdbc:h2:mem:sequential;DB_CLOSE_DELAY=-1";
+        execute(url, "CREATE SCHEMA SALES", "CREATE TABLE SALES.ORDERS(ID INT)",
+                "CREATE TABLE SALES.\"Order \"\"Lines\"\"\"(ID INT)", "COMMENT ON TABLE SALES.ORDERS IS 'All orders'",
+                "CREATE VIEW SALES.BIG_ORDERS AS SELECT * FROM SALES.ORDERS WHERE ID > 100",
+                "CREATE TABLE PUBLIC.OTHER(ID INT)");
+
+        OdcJdbcGenerator.Result result;
+        try (java.sql.Connection jdbc = DriverManager.getConnection(url)) {
+            result = generator.generate(jdbc, TableQuery.tablesAndViews("SALES"),
+                    OdcJdbcGenerator.byDirectory(tempDir));
+        }
+
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(result.files()).isEqualTo(3L);
+        assertThat(files()).hasSize(3);
+        String orders = Files.readString(tempDir.resolve("SEQUENTIAL/SALES/ORDERS.odc"));
+        assertThat(orders).contains("<meta name=ProgId content=ODC.Table>");
+        assertThat(orders).contains("<meta name=Catalog content=\"SEQUENTIAL\">");
+        assertThat(orders).contains("<meta name=Schema content=\"SALES\">");
+        assertThat(orders).contains("<meta name=Table content=\"ORDERS\">");
+        assertThat(orders).contains("<o:Description>All orders</o:Description>");
+        assertThat(orders).contains("&quot;SEQUENTIAL&quot;.&quot;SALES&quot;.&quot;ORDERS&quot;");
+        String lines = Files.readString(tempDir.resolve("SEQUENTIAL/SALES/Order _Lines_.odc"));
+        assertThat(lines).contains("&quot;Order &quot;&quot;Lines&quot;&quot;&quot;");
+        assertThat(Files.exists(tempDir.resolve("SEQUENTIAL/SALES/BIG_ORDERS.odc"))).isTrue();
+    }
+
+    @Test
+    void testGeneratesSchemasInParallel() throws Exception {
+        String url = "jdbc:h2:mem:parallel;DB_CLOSE_DELAY=-1";
+        execute(url, "CREATE SCHEMA S_A", "CREATE SCHEMA SXA", "CREATE SCHEMA S_B",
+                "CREATE TABLE S_A.T1(ID INT)", "CREATE TABLE S_A.T2(ID INT)", "CREATE TABLE SXA.T1(ID INT)",
+                "CREATE TABLE S_B.T1(ID INT)");
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(url);
+
+        OdcJdbcGenerator.Result result = generator.generateParallel(dataSource, TableQuery.tablesAndViews("S%"),
+                OdcJdbcGenerator.byDirectory(tempDir));
+
+        assertThat(result.failures()).isEmpty();
+        assertThat(result.files()).isEqualTo(4L);
+        assertThat(files()).containsExactly(tempDir.resolve("PARALLEL/SXA/T1.odc"),
+                tempDir.resolve("PARALLEL/S_A/T1.odc"), tempDir.resolve("PARALLEL/S_A/T2.odc"),
+                tempDir.resolve("PARALLEL/S_B/T1.odc"));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import java.io.IOException;
+
+/**
+ * Sink on an {@link Appendable}. Fragments are appended as text.
+ */
+final class AppendableSink implements MarkupSink {
+
+    private final Appendable out;
+
+    /**
+     * Creates a sink.
+     *
+     * @param out The target to append to
+     */
+    AppendableSink(Appendable out) {
+        this.out = out;
+    }
+
+    @Override
+    public void append(Fragment fragment) throws IOException {
+        out.append(fragment.text());
+    }
+
+    @Override
+    public void appendText(CharSequence text) throws IOException {
+        out.append(text);
+    }
+
+    @Override
+    public void appendEscaped(CharSequence text) throws IOException {
+        XmlEscaper.escape(text, out);
+    }
+}
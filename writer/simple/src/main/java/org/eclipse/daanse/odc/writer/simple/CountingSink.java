@@ -0,0 +1,159 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Sink that counts the UTF-8 encoded size and the escaped characters of the
+ * markup passed to another sink, or of the markup alone. The size is exactly
+ * the number of bytes a {@link Utf8Sink} produces for the same markup,
+ * including the {@code '?'} that replaces a malformed surrogate.
+ */
+final class CountingSink implements MarkupSink {
+
+    private final MarkupSink delegate;
+
+    private long bytes;
+
+    private long escapedCharacters;
+
+    /** High surrogate at the end of the last text, or 0. */
+    private char pendingHighSurrogate;
+
+    /**
+     * Creates a sink that only counts.
+     */
+    CountingSink() {
+        this(null);
+    }
+
+    /**
+     * Creates a sink.
+     *
+     * @param delegate The sink to pass the markup to, or null to only count
+     */
+    CountingSink(MarkupSink delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void append(Fragment fragment) throws IOException {
+        completeSurrogate();
+        bytes += fragment.utf8().length;
+        if (delegate != null) {
+            delegate.append(fragment);
+        }
+    }
+
+    @Override
+    public void appendText(CharSequence text) throws IOException {
+        count(text, false);
+        if (delegate != null) {
+            delegate.appendText(text);
+        }
+    }
+
+    @Override
+    public void appendEscaped(CharSequence text) throws IOException {
+        count(text, true);
+        if (delegate != null) {
+            delegate.appendEscaped(text);
+        }
+    }
+
+    /**
+     * Counts the content of a UTF-8 encoded file that a {@link Utf8Sink} copies
+     * without decoding.
+     *
+     * @param path The file
+     * @throws IOException if the size of the file cannot be read
+     */
+    void transferFrom(Path path) throws IOException {
+        completeSurrogate();
+        bytes += Files.size(path);
+    }
+
+    /**
+     * @return Whether the sink only counts and passes the markup nowhere
+     */
+    boolean isCountOnly() {
+        return delegate == null;
+    }
+
+    private void count(CharSequence text, boolean escape) {
+        int length = text.length();
+        if (length == 0) {
+            return;
+        }
+        int i = 0;
+        if (pendingHighSurrogate != 0) {
+            pendingHighSurrogate = 0;
+            if (Character.isLowSurrogate(text.charAt(0))) {
+                bytes += 4;
+                i = 1;
+            } else {
+                bytes++;
+            }
+        }
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                byte[] replacement = escape ? XmlEscaper.utf8Replacement(c) : null;
+                if (replacement == null) {
+                    bytes++;
+                } else {
+                    bytes += replacement.length;
+                    escapedCharacters++;
+                }
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (!Character.isSurrogate(c)) {
+                bytes += 3;
+            } else if (Character.isLowSurrogate(c)) {
+                bytes++;
+            } else if (i + 1 == length) {
+                pendingHighSurrogate = c;
+            } else if (Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes++;
+            }
+        }
+    }
+
+    private void completeSurrogate() {
+        if (pendingHighSurrogate != 0) {
+            pendingHighSurrogate = 0;
+            bytes++;
+        }
+    }
+
+    /**
+     * @return The UTF-8 encoded size of the markup in bytes
+     */
+    long bytes() {
+        return pendingHighSurrogate != 0 ? bytes + 1 : bytes;
+    }
+
+    /**
+     * @return The number of characters replaced by an XML reference
+     */
+    long escapedCharacters() {
+        return escapedCharacters;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * A constant piece of markup. The text is kept together with its UTF-8
+ * encoding, so that byte targets copy the encoded form instead of encoding the
+ * same markup on every write.
+ */
+final class Fragment {
+
+    private final String text;
+
+    private final byte[] utf8;
+
+    private Fragment(String text) {
+        this.text = text;
+        this.utf8 = text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a fragment.
+     *
+     * @param text The markup
+     * @return The fragment
+     */
+    static Fragment of(String text) {
+        return new Fragment(text);
+    }
+
+    /**
+     * Creates one fragment per enum constant, indexed by the ordinal.
+     *
+     * @param <E>       The enum type
+     * @param constants The enum constants in ordinal order
+     * @param markup    The markup of a constant
+     * @return The fragments
+     */
+    static <E extends Enum<E>> Fragment[] of(E[] constants, Function<E, String> markup) {
+        Fragment[] fragments = new Fragment[constants.length];
+        for (E constant : constants) {
+            fragments[constant.ordinal()] = new Fragment(markup.apply(constant));
+        }
+        return fragments;
+    }
+
+    /**
+     * @return The markup as text
+     */
+    String text() {
+        return text;
+    }
+
+    /**
+     * @return The UTF-8 encoded markup, must not be modified
+     */
+    byte[] utf8() {
+        return utf8;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
+
+/**
+ * The constant markup of an ODC file. Adjacent constant parts are joined into a
+ * single fragment, markup that only depends on an enum value is kept as one
+ * fragment per constant.
+ */
+final class Markup {
+
+    private static final String OFFICE_NAMESPACE = " xmlns:o=\"urn:schemas-microsoft-com:office:office\"";
+
+    private static final String ODC_NAMESPACE = " xmlns:odc=\"urn:schemas-microsoft-com:office:odc\"";
+
+    private static final String HTML_NAMESPACE = " xmlns=\"http://www.w3.org/TR/REC-html40\">";
+
+    static final Fragment HTML_START = Fragment.of("<html" + OFFICE_NAMESPACE + HTML_NAMESPACE + "\n<head>");
+
+    static final Fragment HTML_END = Fragment.of("\n</head>\n</html>");
+
+    static final Fragment CONTENT_TYPE_META = Fragment
+            .of("\n<meta http-equiv=Content-Type content=\"text/x-ms-odc; charset=utf-8\">");
+
+    static final Fragment PROG_ID_CUBE_META = Fragment.of("\n<meta name=ProgId content=ODC.Cube>");
+
+    static final Fragment PROG_ID_TABLE_META = Fragment.of("\n<meta name=ProgId content=ODC.Table>");
+
+    static final Fragment PROG_ID_TABLE_COLLECTION_META = Fragment
+            .of("\n<meta name=ProgId content=ODC.TableCollection>");
+
+    static final Fragment PROG_ID_DATABASE_META = Fragment.of("\n<meta name=ProgId content=ODC.Database>");
+
+    private static final Fragment[] SOURCE_TYPE_META = Fragment.of(ConnectionType.values(),
+            type -> "\n<meta name=SourceType content=" + type.name() + ">");
+
+    static final Fragment CATALOG_META_START = Fragment.of("\n<meta name=Catalog content=\"");
+
+    static final Fragment SCHEMA_META_START = Fragment.of("\n<meta name=Schema content=\"");
+
+    static final Fragment TABLE_META_START = Fragment.of("\n<meta name=Table content=\"");
+
+    static final Fragment META_END = Fragment.of("\">");
+
+    static final Fragment TITLE_START = Fragment.of("\n<title>");
+
+    static final Fragment TITLE_END = Fragment.of("</title>");
+
+    static final Fragment DOCUMENT_PROPERTIES_START = Fragment
+            .of("\n<xml id=docprops><o:DocumentProperties" + OFFICE_NAMESPACE + HTML_NAMESPACE);
+
+    static final Fragment DOCUMENT_PROPERTIES_END = Fragment.of("\n</o:DocumentProperties>\n</xml>");
+
+    static final Fragment DESCRIPTION_START = Fragment.of("\n <o:Description>");
+
+    static final Fragment DESCRIPTION_END = Fragment.of("</o:Description>");
+
+    static final Fragment NAME_START = Fragment.of("\n <o:Name>");
+
+    static final Fragment NAME_END = Fragment.of("</o:Name>");
+
+    static final Fragment KEYWORDS_START = Fragment.of("\n <o:Keywords>");
+
+    static final Fragment KEYWORDS_END = Fragment.of("</o:Keywords>");
+
+    static final Fragment OFFICE_DATA_CONNECTION_START = Fragment
+            .of("<xml id=msodc><odc:OfficeDataConnection" + ODC_NAMESPACE + HTML_NAMESPACE);
+
+    static final Fragment OFFICE_DATA_CONNECTION_END = Fragment.of("\n</odc:OfficeDataConnection>\n</xml>");
+
+    static final Fragment SOURCE_FILE_START = Fragment.of("\n <odc:SourceFile>");
+
+    static final Fragment SOURCE_FILE_END = Fragment.of("</odc:SourceFile>");
+
+    private static final Fragment[] CONNECTION_START = Fragment.of(ConnectionType.values(),
+            type -> "\n <odc:Connection odc:Type=\"" + type.name() + "\">");
+
+    static final Fragment CONNECTION_END = Fragment.of("\n </odc:Connection>");
+
+    private static final Fragment[] POWER_QUERY_CONNECTION_START = Fragment.of(ConnectionType.values(),
+            type -> "\n <odc:PowerQueryConnection odc:Type=\"" + type.name() + "\">");
+
+    static final Fragment POWER_QUERY_CONNECTION_END = Fragment.of("\n </odc:PowerQueryConnection>");
+
+    static final Fragment CONNECTION_STRING_START = Fragment.of("\n <odc:ConnectionString>");
+
+    static final Fragment CONNECTION_STRING_END = Fragment.of("</odc:ConnectionString>");
+
+    private static final Fragment[] COMMAND_TYPE = Fragment.of(CommandType.values(),
+            type -> "\n <odc:CommandType>" + type.name() + "</odc:CommandType>");
+
+    static final Fragment PARAMETER_START = Fragment.of("\n <odc:Parameter>");
+
+    static final Fragment PARAMETER_END = Fragment.of("\n </odc:Parameter>");
+
+    static final Fragment PARAMETER_NAME_START = Fragment.of("\n  <odc:Name>");
+
+    static final Fragment PARAMETER_NAME_END = Fragment.of("</odc:Name>");
+
+    static final Fragment DATA_TYPE_START = Fragment.of("\n  <odc:DataType>");
+
+    static final Fragment DATA_TYPE_END = Fragment.of("</odc:DataType>");
+
+    static final Fragment COMMAND_TEXT_START = Fragment.of("\n <odc:CommandText>");
+
+    static final Fragment COMMAND_TEXT_END = Fragment.of("</odc:CommandText>");
+
+    static final Fragment SSO_APPLICATION_ID_START = Fragment.of("\n <odc:SSOApplicationID>");
+
+    static final Fragment SSO_APPLICATION_ID_END = Fragment.of("</odc:SSOApplicationID>");
+
+    private static final Fragment[] CREDENTIALS_METHOD = Fragment.of(CredentialsMethod.values(),
+            method -> "\n <odc:CredentialsMethod>" + method.name() + "</odc:CredentialsMethod>");
+
+    static final Fragment ALWAYS_USE_CONNECTION_FILE = Fragment.of("\n <odc:AlwaysUseConnectionFile/>");
+
+    static final Fragment NOT_ALWAYS_USE_CONNECTION_FILE = Fragment
+            .of("\n <odc:AlwaysUseConnectionFile>false</odc:AlwaysUseConnectionFile>");
+
+    static final Fragment CULTURE_START = Fragment.of("\n <odc:Culture>");
+
+    static final Fragment CULTURE_END = Fragment.of("</odc:Culture>");
+
+    static final Fragment POWER_QUERY_MASHUP_DATA_START = Fragment.of("\n <odc:PowerQueryMashupData>");
+
+    static final Fragment POWER_QUERY_MASHUP_DATA_END = Fragment.of("</odc:PowerQueryMashupData>");
+
+    private Markup() {
+    }
+
+    /**
+     * @param type The connection type
+     * @return The SourceType meta tag
+     */
+    static Fragment sourceTypeMeta(ConnectionType type) {
+        return SOURCE_TYPE_META[type.ordinal()];
+    }
+
+    /**
+     * @param type The connection type
+     * @return The start tag of a connection element
+     */
+    static Fragment connectionStart(ConnectionType type) {
+        return CONNECTION_START[type.ordinal()];
+    }
+
+    /**
+     * @param type The connection type
+     * @return The start tag of a Power Query connection element
+     */
+    static Fragment powerQueryConnectionStart(ConnectionType type) {
+        return POWER_QUERY_CONNECTION_START[type.ordinal()];
+    }
+
+    /**
+     * @param type The command type
+     * @return The CommandType element
+     */
+    static Fragment commandType(CommandType type) {
+        return COMMAND_TYPE[type.ordinal()];
+    }
+
+    /**
+     * @param method The credentials method
+     * @return The CredentialsMethod element
+     */
+    static Fragment credentialsMethod(CredentialsMethod method) {
+        return CREDENTIALS_METHOD[method.ordinal()];
+    }
+}
@@ -0,0 +1,47 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import java.io.IOException;
+
+/**
+ * Target of the rendered markup. Constant markup is passed as pre-encoded
+ * fragments, variable values as text.
+ */
+interface MarkupSink {
+
+    /**
+     * Appends constant markup.
+     *
+     * @param fragment The markup
+     * @throws IOException if the target fails
+     */
+    void append(Fragment fragment) throws IOException;
+
+    /**
+     * Appends text as is.
+     *
+     * @param text The text, markup or already escaped
+     * @throws IOException if the target fails
+     */
+    void appendText(CharSequence text) throws IOException;
+
+    /**
+     * Appends text, escaping XML special characters.
+     *
+     * @param text The text to escape
+     * @throws IOException if the target fails
+     */
+    void appendEscaped(CharSequence text) throws IOException;
+}
@@ -0,0 +1,180 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+
+/**
+ * Writes many ODC files concurrently. Each file is rendered and written on its
+ * own virtual thread. The number of files in flight is bounded; when the bound
+ * is reached, the source of files is not consumed further until a file is
+ * done. Failures of single files are collected and do not stop the batch.
+ */
+public class OdcBatchWriter {
+
+    /**
+     * A file that could not be written.
+     *
+     * @param odcFile The ODC file model
+     * @param target  The target path, or null if the target could not be
+     *                determined
+     * @param error   The cause of the failure
+     */
+    public record Failure(OdcFile odcFile, Path target, Exception error) {
+    }
+
+    /**
+     * Summary of a batch run.
+     *
+     * @param files    Number of files written
+     * @param bytes    Number of bytes written
+     * @param elapsed  Wall clock time of the batch
+     * @param failures Files that could not be written
+     */
+    public record Result(long files, long bytes, Duration elapsed, List<Failure> failures) {
+
+        /**
+         * Checks whether all files were written.
+         *
+         * @return true if no file failed
+         */
+        public boolean isSuccessful() {
+            return failures.isEmpty();
+        }
+    }
+
+    private final OdcWriter writer;
+
+    private final int maxConcurrency;
+
+    /**
+     * Creates a batch writer with a default writer and at most four files per
+     * available processor in flight.
+     */
+    public OdcBatchWriter() {
+        this(new OdcWriter(), Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Creates a batch writer.
+     *
+     * @param writer         The writer used to render the files
+     * @param maxConcurrency The maximum number of files in flight
+     */
+    public OdcBatchWriter(OdcWriter writer, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.writer = Objects.requireNonNull(writer, "writer");
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Writes all files of a stream. The stream is consumed on the calling thread
+     * and closed afterwards.
+     *
+     * @param odcFiles The files to write
+     * @param target   Determines the target path of each file
+     * @return The summary of the batch
+     * @throws InterruptedException if the calling thread is interrupted while
+     *                              waiting for a free slot
+     */
+    public Result writeAll(Stream<OdcFile> odcFiles, Function<? super OdcFile, Path> target)
+            throws InterruptedException {
+        try (odcFiles) {
+            return writeAll(odcFiles.iterator(), target);
+        }
+    }
+
+    /**
+     * Writes all files of an iterable.
+     *
+     * @param odcFiles The files to write
+     * @param target   Determines the target path of each file
+     * @return The summary of the batch
+     * @throws InterruptedException if the calling thread is interrupted while
+     *                              waiting for a free slot
+     */
+    public Result writeAll(Iterable<OdcFile> odcFiles, Function<? super OdcFile, Path> target)
+            throws InterruptedException {
+        return writeAll(odcFiles.iterator(), target);
+    }
+
+    private Result writeAll(Iterator<OdcFile> odcFiles, Function<? super OdcFile, Path> target)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        Semaphore slots = new Semaphore(maxConcurrency);
+        LongAdder files = new LongAdder();
+        LongAdder bytes = new LongAdder();
+        List<Failure> failures = Collections.synchronizedList(new ArrayList<>());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (odcFiles.hasNext()) {
+                OdcFile odcFile = odcFiles.next();
+                slots.acquire();
+                executor.execute(() -> {
+                    Path path = null;
+                    try {
+                        path = target.apply(odcFile);
+                        bytes.add(writeFile(odcFile, path));
+                        files.increment();
+                    } catch (Exception e) {
+                        failures.add(new Failure(odcFile, path, e));
+                    } finally {
+                        slots.release();
+                    }
+                });
+            }
+        }
+        return new Result(files.sum(), bytes.sum(), Duration.ofNanos(System.nanoTime() - start), List.copyOf(failures));
+    }
+
+    /**
+     * Writes a single file, creating missing parent directories.
+     *
+     * @param odcFile The ODC file model
+     * @param path    The target path
+     * @return The number of bytes written
+     * @throws IOException if the file cannot be written
+     */
+    private long writeFile(OdcFile odcFile, Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writer.write(odcFile, channel);
+            return channel.position();
+        }
+    }
+}
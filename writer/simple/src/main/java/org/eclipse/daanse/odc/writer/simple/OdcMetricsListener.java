@@ -0,0 +1,70 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+/**
+ * Receives the metrics of an {@link OdcWriter}, e.g. to feed them into a
+ * metrics library. Implementations must be thread-safe when the writer is
+ * shared. A writer without a listener does not measure anything.
+ */
+public interface OdcMetricsListener {
+
+    /**
+     * Counters, incremented once per written file.
+     */
+    enum Counter {
+        /** Files written. */
+        FILES,
+        /** Files that failed while being written. */
+        FAILURES,
+        /** UTF-8 encoded bytes written. */
+        BYTES,
+        /** Characters replaced by an XML reference. */
+        ESCAPED_CHARACTERS
+    }
+
+    /**
+     * Histograms, recorded once per written file. Durations are in nanoseconds.
+     */
+    enum Histogram {
+        /** Duration of the whole file. */
+        WRITE_NANOS,
+        /** Duration of the meta tags and the title. */
+        META_TAGS_NANOS,
+        /** Duration of the document properties. */
+        DOCUMENT_PROPERTIES_NANOS,
+        /** Duration of the source file and the connections. */
+        CONNECTIONS_NANOS,
+        /** Duration of the Power Query mashup data. */
+        MASHUP_DATA_NANOS,
+        /** UTF-8 encoded size of the file in bytes. */
+        FILE_BYTES
+    }
+
+    /**
+     * Increments a counter.
+     *
+     * @param counter The counter
+     * @param delta   The amount to add
+     */
+    void increment(Counter counter, long delta);
+
+    /**
+     * Records a value.
+     *
+     * @param histogram The histogram
+     * @param value     The value
+     */
+    void record(Histogram histogram, long value);
+}
@@ -0,0 +1,205 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+
+/**
+ * Bounded cache of rendered ODC files, keyed by the model value. The model
+ * records are immutable and compare by value, so an equal model renders to the
+ * same bytes and a repeated render costs a map lookup. The least recently used
+ * entries are evicted when either the number of entries or the total number of
+ * cached bytes exceeds its limit.
+ * <p>
+ * Only models whose text values are all {@link TextSource.Literal literals}
+ * are cached. Suppliers, readers and files may deliver different text on every
+ * render, such models are rendered on each call and counted as bypassed.
+ * <p>
+ * The cache is thread-safe. Rendering happens outside of the lock, so
+ * concurrent misses for the same model may render it more than once.
+ */
+public class OdcRenderCache {
+
+    /**
+     * Statistics of a cache.
+     *
+     * @param hits      Number of renders served from the cache
+     * @param misses    Number of renders that were cached afterwards
+     * @param bypassed  Number of renders of models that cannot be cached
+     * @param evictions Number of entries evicted to stay within the limits
+     * @param entries   Number of cached entries
+     * @param bytes     Number of cached bytes
+     */
+    public record Stats(long hits, long misses, long bypassed, long evictions, int entries, long bytes) {
+
+        /**
+         * Returns the share of cacheable renders served from the cache.
+         *
+         * @return The hit rate between 0 and 1, 0 if nothing was rendered
+         */
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+
+    private final OdcWriter writer;
+
+    private final int maxEntries;
+
+    private final long maxBytes;
+
+    private final LinkedHashMap<OdcFile, RenderedOdc> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long bytes;
+
+    private long evictions;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder bypassed = new LongAdder();
+
+    /**
+     * Creates a cache with a default writer.
+     *
+     * @param maxEntries The maximum number of cached files
+     * @param maxBytes   The maximum number of cached bytes
+     */
+    public OdcRenderCache(int maxEntries, long maxBytes) {
+        this(new OdcWriter(), maxEntries, maxBytes);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param writer     The writer used to render files
+     * @param maxEntries The maximum number of cached files
+     * @param maxBytes   The maximum number of cached bytes, files larger than this
+     *                   are never cached
+     */
+    public OdcRenderCache(OdcWriter writer, int maxEntries, long maxBytes) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("maxBytes must be positive: " + maxBytes);
+        }
+        this.writer = writer;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the rendered file of a model, rendering it on a miss.
+     *
+     * @param odcFile The ODC file model
+     * @return The rendered file
+     * @throws java.io.UncheckedIOException if a streamed text value cannot be
+     *                                      read
+     */
+    public RenderedOdc render(OdcFile odcFile) {
+        if (!isCacheable(odcFile)) {
+            bypassed.increment();
+            return RenderedOdc.of(writer.writeBytes(odcFile));
+        }
+        RenderedOdc rendered;
+        synchronized (entries) {
+            rendered = entries.get(odcFile);
+        }
+        if (rendered != null) {
+            hits.increment();
+            return rendered;
+        }
+        misses.increment();
+        rendered = RenderedOdc.of(writer.writeBytes(odcFile));
+        if (rendered.length() <= maxBytes) {
+            put(odcFile, rendered);
+        }
+        return rendered;
+    }
+
+    /**
+     * Returns the cached file of a model without rendering it.
+     *
+     * @param odcFile The ODC file model
+     * @return The rendered file, or empty if it is not cached
+     */
+    public Optional<RenderedOdc> getIfPresent(OdcFile odcFile) {
+        synchronized (entries) {
+            return Optional.ofNullable(entries.get(odcFile));
+        }
+    }
+
+    /**
+     * Removes all entries. The statistics are kept.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            bytes = 0;
+        }
+    }
+
+    /**
+     * @return A snapshot of the statistics
+     */
+    public Stats stats() {
+        synchronized (entries) {
+            return new Stats(hits.sum(), misses.sum(), bypassed.sum(), evictions, entries.size(), bytes);
+        }
+    }
+
+    private void put(OdcFile odcFile, RenderedOdc rendered) {
+        synchronized (entries) {
+            RenderedOdc previous = entries.put(odcFile, rendered);
+            if (previous != null) {
+                bytes -= previous.length();
+            }
+            bytes += rendered.length();
+            Iterator<RenderedOdc> eldest = entries.values().iterator();
+            while (entries.size() > maxEntries || bytes > maxBytes) {
+                bytes -= eldest.next().length();
+                eldest.remove();
+                evictions++;
+            }
+        }
+    }
+
+    private static boolean isCacheable(OdcFile odcFile) {
+        OfficeDataConnection odc = odcFile.officeDataConnection();
+        for (Connection connection : odc.connections()) {
+            if (!isLiteral(connection.commandText())) {
+                return false;
+            }
+        }
+        return odc.powerQueryConnection().map(PowerQueryConnection::commandText).map(OdcRenderCache::isLiteral)
+                .orElse(true) && isLiteral(odc.powerQueryMashupData());
+    }
+
+    private static boolean isLiteral(Optional<TextSource> text) {
+        return text.isEmpty() || text.get() instanceof TextSource.Literal;
+    }
+}
@@ -0,0 +1,418 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import java.util.List;
+
+import org.eclipse.daanse.odc.simple.compact.CompactConnection;
+import org.eclipse.daanse.odc.simple.compact.CompactOdcFile;
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.Parameter;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+
+/**
+ * Read access to the values the {@link OdcWriter} renders, so that the record
+ * model and the compact model are written by the same code. Absent values are
+ * null. The views wrap the models without copying them, one view is created
+ * per write.
+ */
+interface OdcSource {
+
+    String title();
+
+    String description();
+
+    String name();
+
+    String keywords();
+
+    String catalog();
+
+    String schema();
+
+    String table();
+
+    String sourceFile();
+
+    int connectionCount();
+
+    /**
+     * Selects a database connection. The returned view is reused, it is only
+     * valid until the next connection is selected.
+     *
+     * @param index The index of the connection
+     * @return The selected connection
+     */
+    ConnectionSource connection(int index);
+
+    /**
+     * Selects the Power Query connection. The returned view is reused, it is
+     * only valid until the next connection is selected.
+     *
+     * @return The Power Query connection, or null if absent
+     */
+    ConnectionSource powerQueryConnection();
+
+    TextSource powerQueryMashupData();
+
+    /**
+     * Read access to a database or Power Query connection. A Power Query
+     * connection has no parameters and no culture.
+     */
+    interface ConnectionSource {
+
+        ConnectionType type();
+
+        String connectionString();
+
+        CommandType commandType();
+
+        int parameterCount();
+
+        String parameterName(int index);
+
+        boolean hasParameterDataType(int index);
+
+        int parameterDataType(int index);
+
+        TextSource commandText();
+
+        String ssoApplicationId();
+
+        CredentialsMethod credentialsMethod();
+
+        Boolean alwaysUseConnectionFile();
+
+        String culture();
+    }
+
+    /**
+     * @param odcFile The record model
+     * @return A view of the record model
+     */
+    static OdcSource of(OdcFile odcFile) {
+        return new RecordSource(odcFile);
+    }
+
+    /**
+     * @param odcFile The compact model
+     * @return A view of the compact model
+     */
+    static OdcSource of(CompactOdcFile odcFile) {
+        return new CompactSource(odcFile);
+    }
+
+    /**
+     * A record model, the view is also the view of the selected connection.
+     */
+    final class RecordSource implements OdcSource, ConnectionSource {
+
+        private final OdcFile odcFile;
+
+        private Connection connection;
+
+        private PowerQueryConnection powerQuery;
+
+        RecordSource(OdcFile odcFile) {
+            this.odcFile = odcFile;
+        }
+
+        @Override
+        public String title() {
+            return odcFile.title().orElse(null);
+        }
+
+        @Override
+        public String description() {
+            return odcFile.documentProperties().description().orElse(null);
+        }
+
+        @Override
+        public String name() {
+            return odcFile.documentProperties().name().orElse(null);
+        }
+
+        @Override
+        public String keywords() {
+            return odcFile.documentProperties().keywords().orElse(null);
+        }
+
+        @Override
+        public String catalog() {
+            return odcFile.catalog().orElse(null);
+        }
+
+        @Override
+        public String schema() {
+            return odcFile.schema().orElse(null);
+        }
+
+        @Override
+        public String table() {
+            return odcFile.table().orElse(null);
+        }
+
+        @Override
+        public String sourceFile() {
+            return odcFile.officeDataConnection().sourceFile().orElse(null);
+        }
+
+        @Override
+        public int connectionCount() {
+            return odcFile.officeDataConnection().connections().size();
+        }
+
+        @Override
+        public ConnectionSource connection(int index) {
+            connection = odcFile.officeDataConnection().connections().get(index);
+            powerQuery = null;
+            return this;
+        }
+
+        @Override
+        public ConnectionSource powerQueryConnection() {
+            OfficeDataConnection odc = odcFile.officeDataConnection();
+            if (odc.powerQueryConnection().isEmpty()) {
+                return null;
+            }
+            connection = null;
+            powerQuery = odc.powerQueryConnection().get();
+            return this;
+        }
+
+        @Override
+        public TextSource powerQueryMashupData() {
+            return odcFile.officeDataConnection().powerQueryMashupData().orElse(null);
+        }
+
+        @Override
+        public ConnectionType type() {
+            return connection != null ? connection.type() : powerQuery.type();
+        }
+
+        @Override
+        public String connectionString() {
+            return connection != null ? connection.connectionString() : powerQuery.connectionString();
+        }
+
+        @Override
+        public CommandType commandType() {
+            return (connection != null ? connection.commandType() : powerQuery.commandType()).orElse(null);
+        }
+
+        @Override
+        public int parameterCount() {
+            return connection != null ? connection.parameters().size() : 0;
+        }
+
+        @Override
+        public String parameterName(int index) {
+            return parameter(index).name();
+        }
+
+        @Override
+        public boolean hasParameterDataType(int index) {
+            return parameter(index).dataType().isPresent();
+        }
+
+        @Override
+        public int parameterDataType(int index) {
+            return parameter(index).dataType().orElse(0);
+        }
+
+        private Parameter parameter(int index) {
+            List<Parameter> parameters = connection != null ? connection.parameters() : List.of();
+            return parameters.get(index);
+        }
+
+        @Override
+        public TextSource commandText() {
+            return (connection != null ? connection.commandText() : powerQuery.commandText()).orElse(null);
+        }
+
+        @Override
+        public String ssoApplicationId() {
+            return (connection != null ? connection.ssoApplicationId() : powerQuery.ssoApplicationId()).orElse(null);
+        }
+
+        @Override
+        public CredentialsMethod credentialsMethod() {
+            return (connection != null ? connection.credentialsMethod() : powerQuery.credentialsMethod())
+                    .orElse(null);
+        }
+
+        @Override
+        public Boolean alwaysUseConnectionFile() {
+            return (connection != null ? connection.alwaysUseConnectionFile()
+                    : powerQuery.alwaysUseConnectionFile()).orElse(null);
+        }
+
+        @Override
+        public String culture() {
+            return connection != null ? connection.culture().orElse(null) : null;
+        }
+    }
+
+    /**
+     * A compact model, the view is also the view of the selected connection.
+     * The parameters and culture of a compact Power Query connection are hidden
+     * like in {@link CompactConnection#toPowerQueryConnection()}.
+     */
+    final class CompactSource implements OdcSource, ConnectionSource {
+
+        private final CompactOdcFile odcFile;
+
+        private CompactConnection connection;
+
+        private boolean powerQuery;
+
+        CompactSource(CompactOdcFile odcFile) {
+            this.odcFile = odcFile;
+        }
+
+        @Override
+        public String title() {
+            return odcFile.title();
+        }
+
+        @Override
+        public String description() {
+            return odcFile.description();
+        }
+
+        @Override
+        public String name() {
+            return odcFile.name();
+        }
+
+        @Override
+        public String keywords() {
+            return odcFile.keywords();
+        }
+
+        @Override
+        public String catalog() {
+            return odcFile.catalog();
+        }
+
+        @Override
+        public String schema() {
+            return odcFile.schema();
+        }
+
+        @Override
+        public String table() {
+            return odcFile.table();
+        }
+
+        @Override
+        public String sourceFile() {
+            return odcFile.sourceFile();
+        }
+
+        @Override
+        public int connectionCount() {
+            return odcFile.connectionCount();
+        }
+
+        @Override
+        public ConnectionSource connection(int index) {
+            connection = odcFile.connection(index);
+            powerQuery = false;
+            return this;
+        }
+
+        @Override
+        public ConnectionSource powerQueryConnection() {
+            CompactConnection pq = odcFile.powerQueryConnection();
+            if (pq == null) {
+                return null;
+            }
+            connection = pq;
+            powerQuery = true;
+            return this;
+        }
+
+        @Override
+        public TextSource powerQueryMashupData() {
+            return odcFile.powerQueryMashupData();
+        }
+
+        @Override
+        public ConnectionType type() {
+            return connection.type();
+        }
+
+        @Override
+        public String connectionString() {
+            return connection.connectionString();
+        }
+
+        @Override
+        public CommandType commandType() {
+            return connection.commandType();
+        }
+
+        @Override
+        public int parameterCount() {
+            return powerQuery ? 0 : connection.parameterCount();
+        }
+
+        @Override
+        public String parameterName(int index) {
+            return connection.parameter(index).name();
+        }
+
+        @Override
+        public boolean hasParameterDataType(int index) {
+            return connection.parameter(index).hasDataType();
+        }
+
+        @Override
+        public int parameterDataType(int index) {
+            return connection.parameter(index).dataType();
+        }
+
+        @Override
+        public TextSource commandText() {
+            return connection.commandText();
+        }
+
+        @Override
+        public String ssoApplicationId() {
+            return connection.ssoApplicationId();
+        }
+
+        @Override
+        public CredentialsMethod credentialsMethod() {
+            return connection.credentialsMethod();
+        }
+
+        @Override
+        public Boolean alwaysUseConnectionFile() {
+            return connection.alwaysUseConnectionFile();
+        }
+
+        @Override
+        public String culture() {
+            return powerQuery ? null : connection.culture();
+        }
+    }
+}
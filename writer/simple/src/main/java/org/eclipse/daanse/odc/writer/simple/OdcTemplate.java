@@ -0,0 +1,291 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+
+/**
+ * A compiled ODC file with named placeholders. Placeholders have the form
+ * {@code ${name}} and may appear in the title, the document name, the catalog,
+ * the connection strings, literal command texts and the culture of a
+ * connection. The template is rendered once into UTF-8 segments; rendering an
+ * instance escapes each value once and copies segments and values into a
+ * single array.
+ * <p>
+ * Other text values are taken as they are when the template is compiled, text
+ * sources that are not literals are read at that time. Templates are immutable
+ * and thread-safe.
+ *
+ * <pre>
+ * OdcTemplate template = OdcTemplate.compile(OdcFile.of("${cube}",
+ *         OfficeDataConnection.of(Connection.of(ConnectionType.OLEDB, "Data Source=${server}"))));
+ * byte[] odc = template.render(Map.of("cube", "Sales", "server", "olap01"));
+ * </pre>
+ */
+public final class OdcTemplate {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([A-Za-z_][A-Za-z0-9_.-]*)}");
+
+    /** Marks the start of a placeholder index in the pre-rendered document. */
+    private static final char MARKER_START = '\uE000';
+
+    /** Marks the end of a placeholder index in the pre-rendered document. */
+    private static final char MARKER_END = '\uE001';
+
+    private static final byte[] MARKER_START_UTF8 = String.valueOf(MARKER_START).getBytes(StandardCharsets.UTF_8);
+
+    private static final int MARKER_END_LENGTH = String.valueOf(MARKER_END).getBytes(StandardCharsets.UTF_8).length;
+
+    private final List<String> names;
+
+    /** Constant parts, one more than there are placeholder occurrences. */
+    private final byte[][] segments;
+
+    /** Index into {@link #names} per placeholder occurrence. */
+    private final int[] placeholders;
+
+    private final int constantLength;
+
+    private OdcTemplate(List<String> names, byte[][] segments, int[] placeholders) {
+        this.names = names;
+        this.segments = segments;
+        this.placeholders = placeholders;
+        int length = 0;
+        for (byte[] segment : segments) {
+            length += segment.length;
+        }
+        this.constantLength = length;
+    }
+
+    /**
+     * Compiles a template with a default writer.
+     *
+     * @param template The ODC file with placeholders
+     * @return The compiled template
+     * @throws IllegalArgumentException if the file contains the private use
+     *                                  character U+E000
+     * @throws UncheckedIOException     if a text source cannot be read
+     */
+    public static OdcTemplate compile(OdcFile template) {
+        return compile(template, new OdcWriter());
+    }
+
+    /**
+     * Compiles a template.
+     *
+     * @param template The ODC file with placeholders
+     * @param writer   The writer used to pre-render the template
+     * @return The compiled template
+     * @throws IllegalArgumentException if the file contains the private use
+     *                                  character U+E000
+     * @throws UncheckedIOException     if a text source cannot be read
+     */
+    public static OdcTemplate compile(OdcFile template, OdcWriter writer) {
+        if (indexOf(writer.writeBytes(template), MARKER_START_UTF8, 0) >= 0) {
+            throw new IllegalArgumentException("Template must not contain the character U+E000");
+        }
+        Compiler compiler = new Compiler();
+        byte[] rendered = writer.writeBytes(compiler.mark(template));
+
+        List<byte[]> segments = new ArrayList<>();
+        List<Integer> occurrences = new ArrayList<>();
+        int start = 0;
+        int marker;
+        while ((marker = indexOf(rendered, MARKER_START_UTF8, start)) >= 0) {
+            segments.add(Arrays.copyOfRange(rendered, start, marker));
+            int index = 0;
+            int i = marker + MARKER_START_UTF8.length;
+            while (rendered[i] >= '0' && rendered[i] <= '9') {
+                index = index * 10 + rendered[i++] - '0';
+            }
+            occurrences.add(index);
+            start = i + MARKER_END_LENGTH;
+        }
+        segments.add(Arrays.copyOfRange(rendered, start, rendered.length));
+
+        return new OdcTemplate(List.copyOf(compiler.names), segments.toArray(byte[][]::new),
+                occurrences.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * @return The names of the placeholders in order of first appearance
+     */
+    public Set<String> placeholders() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(names));
+    }
+
+    /**
+     * Renders an instance of the template.
+     *
+     * @param values The value per placeholder name, as plain text
+     * @return The UTF-8 encoded ODC file
+     * @throws IllegalArgumentException if a placeholder has no value
+     */
+    public byte[] render(Map<String, String> values) {
+        byte[][] encoded = encode(values);
+        int length = constantLength;
+        for (int placeholder : placeholders) {
+            length += encoded[placeholder].length;
+        }
+        byte[] result = new byte[length];
+        int position = 0;
+        for (int i = 0; i < placeholders.length; i++) {
+            byte[] segment = segments[i];
+            System.arraycopy(segment, 0, result, position, segment.length);
+            position += segment.length;
+            byte[] value = encoded[placeholders[i]];
+            System.arraycopy(value, 0, result, position, value.length);
+            position += value.length;
+        }
+        byte[] last = segments[placeholders.length];
+        System.arraycopy(last, 0, result, position, last.length);
+        return result;
+    }
+
+    /**
+     * Renders an instance of the template to a stream. The stream is neither
+     * flushed nor closed.
+     *
+     * @param values The value per placeholder name, as plain text
+     * @param out    The stream to write to
+     * @throws IOException              if writing to the stream fails
+     * @throws IllegalArgumentException if a placeholder has no value
+     */
+    public void render(Map<String, String> values, OutputStream out) throws IOException {
+        byte[][] encoded = encode(values);
+        for (int i = 0; i < placeholders.length; i++) {
+            out.write(segments[i]);
+            out.write(encoded[placeholders[i]]);
+        }
+        out.write(segments[placeholders.length]);
+    }
+
+    private byte[][] encode(Map<String, String> values) {
+        byte[][] encoded = new byte[names.size()][];
+        for (int i = 0; i < encoded.length; i++) {
+            String name = names.get(i);
+            String value = values.get(name);
+            if (value == null) {
+                throw new IllegalArgumentException("No value for placeholder " + name);
+            }
+            encoded[i] = escape(value);
+        }
+        return encoded;
+    }
+
+    private static byte[] escape(String value) {
+        if (XmlEscaper.indexOfSpecial(value, 0, value.length()) < 0) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+        StringBuilder escaped = new StringBuilder(value.length() + 16);
+        try {
+            XmlEscaper.escape(value, escaped);
+        } catch (IOException e) {
+            // a StringBuilder never throws
+            throw new UncheckedIOException(e);
+        }
+        return escaped.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int indexOf(byte[] bytes, byte[] pattern, int from) {
+        outer: for (int i = from; i <= bytes.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (bytes[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Replaces the placeholders of a template by markers holding the index of the
+     * placeholder name.
+     */
+    private static final class Compiler {
+
+        private final List<String> names = new ArrayList<>();
+
+        OdcFile mark(OdcFile template) {
+            DocumentProperties properties = template.documentProperties();
+            OfficeDataConnection odc = template.officeDataConnection();
+            return new OdcFile(mark(template.title()),
+                    new DocumentProperties(properties.description(), mark(properties.name()), properties.keywords()),
+                    new OfficeDataConnection(odc.sourceFile(), odc.connections().stream().map(this::mark).toList(),
+                            odc.powerQueryConnection().map(this::mark), odc.powerQueryMashupData()),
+                    mark(template.catalog()), template.schema(), template.table());
+        }
+
+        private Connection mark(Connection c) {
+            return new Connection(c.type(), mark(c.connectionString()), c.commandType(), c.parameters(),
+                    markText(c.commandText()), c.ssoApplicationId(), c.credentialsMethod(),
+                    c.alwaysUseConnectionFile(), mark(c.culture()));
+        }
+
+        private PowerQueryConnection mark(PowerQueryConnection c) {
+            return new PowerQueryConnection(c.type(), mark(c.connectionString()), c.commandType(),
+                    markText(c.commandText()), c.ssoApplicationId(), c.credentialsMethod(),
+                    c.alwaysUseConnectionFile());
+        }
+
+        private Optional<TextSource> markText(Optional<TextSource> text) {
+            return text.map(source -> source instanceof TextSource.Literal literal
+                    ? new TextSource.Literal(mark(literal.text()), literal.escaped())
+                    : source);
+        }
+
+        private Optional<String> mark(Optional<String> value) {
+            return value.map(this::mark);
+        }
+
+        private String mark(String value) {
+            Matcher matcher = PLACEHOLDER.matcher(value);
+            if (!matcher.find()) {
+                return value;
+            }
+            StringBuilder marked = new StringBuilder(value.length());
+            do {
+                int index = names.indexOf(matcher.group(1));
+                if (index < 0) {
+                    index = names.size();
+                    names.add(matcher.group(1));
+                }
+                matcher.appendReplacement(marked, "");
+                marked.append(MARKER_START).append(index).append(MARKER_END);
+            } while (matcher.find());
+            return matcher.appendTail(marked).toString();
+        }
+    }
+}
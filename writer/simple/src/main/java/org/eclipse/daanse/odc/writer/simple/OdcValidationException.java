@@ -0,0 +1,52 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import java.util.List;
+
+import org.eclipse.daanse.odc.writer.simple.OdcValidator.Violation;
+
+/**
+ * Thrown by a validating {@link OdcWriter} for a model that violates the ODC
+ * schema constraints. Nothing has been written when it is thrown.
+ */
+public class OdcValidationException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Violation[] violations;
+
+    /**
+     * Creates an exception for the violations of a model.
+     *
+     * @param violations The violations, not empty
+     */
+    public OdcValidationException(List<Violation> violations) {
+        super(message(violations));
+        this.violations = violations.toArray(Violation[]::new);
+    }
+
+    /**
+     * @return The unmodifiable violations in document order
+     */
+    public List<Violation> violations() {
+        return List.of(violations);
+    }
+
+    private static String message(List<Violation> violations) {
+        Violation first = violations.get(0);
+        String message = first.path() + ": " + first.message();
+        return violations.size() == 1 ? message : message + " (and " + (violations.size() - 1) + " more)";
+    }
+}
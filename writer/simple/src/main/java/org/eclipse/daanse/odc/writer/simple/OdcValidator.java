@@ -0,0 +1,224 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.Parameter;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+
+/**
+ * Checks an ODC file model against the constraints of the schemas in
+ * {@code model/xsd}: required elements and attributes, the maximum number of
+ * connections and characters that XML 1.0 does not allow.
+ * <p>
+ * The records are checked directly in a single pass, nothing is rendered. A
+ * valid model is checked without allocating, paths and messages are only
+ * created for violations. Text that is not a {@link TextSource.Literal
+ * literal} is not read and therefore not checked for characters.
+ */
+public final class OdcValidator {
+
+    /** maxOccurs of {@code Connection} in {@code OfficeDataConnection}. */
+    public static final int MAX_CONNECTIONS = 2;
+
+    /**
+     * Kind of a violated constraint.
+     */
+    public enum Constraint {
+        /** A required element or attribute is missing. */
+        REQUIRED,
+        /** An element occurs more often than allowed. */
+        MAX_OCCURS,
+        /** A text contains a character that is not allowed in XML 1.0. */
+        INVALID_CHARACTER
+    }
+
+    /**
+     * A violated constraint.
+     *
+     * @param path       Path of the offending value, built from the record
+     *                   component names, e.g.
+     *                   {@code officeDataConnection.connections[0].connectionString}
+     * @param constraint The violated constraint
+     * @param message    A human readable description
+     */
+    public record Violation(String path, Constraint constraint, String message) implements Serializable {
+    }
+
+    private OdcValidator() {
+    }
+
+    /**
+     * Checks an ODC file model.
+     *
+     * @param odcFile The ODC file model to check
+     * @return The violations in the order the values appear in the written
+     *         document, empty if the model is valid
+     */
+    public static List<Violation> validate(OdcFile odcFile) {
+        List<Violation> violations = List.of();
+        // the meta tags precede the title in the document
+        violations = checkText(violations, "catalog", odcFile.catalog());
+        violations = checkText(violations, "schema", odcFile.schema());
+        violations = checkText(violations, "table", odcFile.table());
+        violations = checkText(violations, "title", odcFile.title());
+
+        DocumentProperties properties = odcFile.documentProperties();
+        if (properties == null) {
+            violations = required(violations, "documentProperties");
+        } else {
+            violations = checkText(violations, "documentProperties.description", properties.description());
+            violations = checkText(violations, "documentProperties.name", properties.name());
+            violations = checkText(violations, "documentProperties.keywords", properties.keywords());
+        }
+
+        OfficeDataConnection odc = odcFile.officeDataConnection();
+        if (odc == null) {
+            return required(violations, "officeDataConnection");
+        }
+        violations = checkText(violations, "officeDataConnection.sourceFile", odc.sourceFile());
+        List<Connection> connections = odc.connections();
+        if (connections.size() > MAX_CONNECTIONS) {
+            violations = add(violations, new Violation("officeDataConnection.connections", Constraint.MAX_OCCURS,
+                    connections.size() + " connections, at most " + MAX_CONNECTIONS + " are allowed"));
+        }
+        for (int i = 0; i < connections.size(); i++) {
+            violations = checkConnection(violations, i, connections.get(i));
+        }
+        if (odc.powerQueryConnection().isPresent()) {
+            violations = checkPowerQueryConnection(violations, odc.powerQueryConnection().get());
+        }
+        return checkSource(violations, "officeDataConnection.powerQueryMashupData", odc.powerQueryMashupData());
+    }
+
+    /**
+     * Checks an ODC file model and fails if it is not valid.
+     *
+     * @param odcFile The ODC file model to check
+     * @throws OdcValidationException if the model is not valid
+     */
+    public static void requireValid(OdcFile odcFile) {
+        List<Violation> violations = validate(odcFile);
+        if (!violations.isEmpty()) {
+            throw new OdcValidationException(violations);
+        }
+    }
+
+    private static List<Violation> checkConnection(List<Violation> violations, int index, Connection conn) {
+        if (conn.type() == null) {
+            violations = required(violations, connectionPath(index, "type"));
+        }
+        if (conn.connectionString() == null) {
+            violations = required(violations, connectionPath(index, "connectionString"));
+        } else if (!isValidText(conn.connectionString())) {
+            violations = invalidCharacter(violations, connectionPath(index, "connectionString"));
+        }
+        List<Parameter> parameters = conn.parameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            Parameter param = parameters.get(i);
+            if (param.name() == null) {
+                violations = required(violations, connectionPath(index, "parameters[" + i + "].name"));
+            } else if (!isValidText(param.name())) {
+                violations = invalidCharacter(violations, connectionPath(index, "parameters[" + i + "].name"));
+            }
+            if (param.dataType().isEmpty()) {
+                violations = required(violations, connectionPath(index, "parameters[" + i + "].dataType"));
+            }
+        }
+        if (conn.commandText().isPresent() && !isValidText(conn.commandText().get())) {
+            violations = invalidCharacter(violations, connectionPath(index, "commandText"));
+        }
+        if (conn.ssoApplicationId().isPresent() && !isValidText(conn.ssoApplicationId().get())) {
+            violations = invalidCharacter(violations, connectionPath(index, "ssoApplicationId"));
+        }
+        if (conn.culture().isPresent() && !isValidText(conn.culture().get())) {
+            violations = invalidCharacter(violations, connectionPath(index, "culture"));
+        }
+        return violations;
+    }
+
+    private static List<Violation> checkPowerQueryConnection(List<Violation> violations, PowerQueryConnection conn) {
+        String path = "officeDataConnection.powerQueryConnection.";
+        if (conn.type() == null) {
+            violations = required(violations, path + "type");
+        }
+        if (conn.connectionString() == null) {
+            violations = required(violations, path + "connectionString");
+        } else if (!isValidText(conn.connectionString())) {
+            violations = invalidCharacter(violations, path + "connectionString");
+        }
+        if (conn.commandText().isPresent() && !isValidText(conn.commandText().get())) {
+            violations = invalidCharacter(violations, path + "commandText");
+        }
+        if (conn.ssoApplicationId().isPresent() && !isValidText(conn.ssoApplicationId().get())) {
+            violations = invalidCharacter(violations, path + "ssoApplicationId");
+        }
+        return violations;
+    }
+
+    private static String connectionPath(int index, String component) {
+        return "officeDataConnection.connections[" + index + "]." + component;
+    }
+
+    private static List<Violation> checkText(List<Violation> violations, String path, Optional<String> value) {
+        return value.isEmpty() || isValidText(value.get()) ? violations : invalidCharacter(violations, path);
+    }
+
+    private static List<Violation> checkSource(List<Violation> violations, String path,
+            Optional<TextSource> value) {
+        return value.isEmpty() || isValidText(value.get()) ? violations : invalidCharacter(violations, path);
+    }
+
+    private static boolean isValidText(TextSource source) {
+        return !(source instanceof TextSource.Literal literal) || isValidText(literal.text());
+    }
+
+    /**
+     * Checks that a text only contains characters allowed by XML 1.0. Unpaired
+     * surrogates are not reported, the writer replaces them.
+     */
+    private static boolean isValidText(CharSequence text) {
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x20 ? c != '\t' && c != '\n' && c != '\r' : c >= 0xFFFE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Violation> required(List<Violation> violations, String path) {
+        return add(violations, new Violation(path, Constraint.REQUIRED, "required value is missing"));
+    }
+
+    private static List<Violation> invalidCharacter(List<Violation> violations, String path) {
+        return add(violations,
+                new Violation(path, Constraint.INVALID_CHARACTER, "contains a character not allowed in XML"));
+    }
+
+    private static List<Violation> add(List<Violation> violations, Violation violation) {
+        List<Violation> result = violations.isEmpty() ? new ArrayList<>() : violations;
+        result.add(violation);
+        return result;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event of a single {@link OdcWriter} write, with the duration
+ * of each section of the document. The event is disabled by default and is
+ * enabled by name in the settings of a recording.
+ */
+@Name(OdcWriteEvent.NAME)
+@Label("ODC Write")
+@Category({ "Daanse", "ODC" })
+@Description("Rendering of an Office Data Connection file")
+@StackTrace(false)
+@Enabled(false)
+final class OdcWriteEvent extends Event {
+
+    /** Name of the event in recordings and settings. */
+    static final String NAME = "org.eclipse.daanse.odc.Write";
+
+    @Label("Title")
+    String title;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Escaped Characters")
+    @Description("Characters replaced by an XML reference")
+    long escapedCharacters;
+
+    @Label("Meta Tags")
+    @Timespan
+    long metaTags;
+
+    @Label("Document Properties")
+    @Timespan
+    long documentProperties;
+
+    @Label("Connections")
+    @Timespan
+    long connections;
+
+    @Label("Mashup Data")
+    @Timespan
+    long mashupData;
+}
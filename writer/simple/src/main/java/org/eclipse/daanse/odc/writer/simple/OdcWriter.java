@@ -13,15 +13,88 @@
 */
 package org.eclipse.daanse.odc.writer.simple;
 
+import static org.eclipse.daanse.odc.writer.simple.Markup.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.daanse.odc.simple.compact.CompactOdcFile;
 import org.eclipse.daanse.odc.simple.model.*;
+import org.eclipse.daanse.odc.writer.simple.OdcSource.ConnectionSource;
+
+import jdk.jfr.EventType;
 
 /**
  * Writer class for generating Office Data Connection (ODC) files. This class
  * converts ODC file model objects into their HTML/XML representation that can
  * be saved as .odc files for use with Microsoft Office applications.
+ * <p>
+ * The constant markup is kept pre-encoded as UTF-8. Byte targets copy it as is
+ * and only encode the variable values, character targets append it as text.
+ * Both produce the same document.
+ * <p>
+ * A writer created with validation enabled checks each model against the
+ * schema constraints first and writes nothing for an invalid model.
+ * <p>
+ * Writes are measured only while the flight recorder event
+ * {@code org.eclipse.daanse.odc.Write} is enabled or a
+ * {@link OdcMetricsListener} is set; otherwise the document is rendered
+ * without any timing or counting.
+ * <p>
+ * A {@link CompactOdcFile} is written directly from its nullable fields by the
+ * same code as the record model and produces the same document. Validation
+ * works on the record model, with it enabled a compact file is converted for
+ * the check.
  */
 public class OdcWriter {
 
+    /** Size of the buffer used to read streamed text values. */
+    private static final int TEXT_BUFFER_SIZE = 8192;
+
+    /** Type of the flight recorder event, checked before any measurement. */
+    private static final EventType WRITE_EVENT = EventType.getEventType(OdcWriteEvent.class);
+
+    private final boolean validate;
+
+    private final OdcMetricsListener metrics;
+
+    /**
+     * Creates a writer that writes models as they are.
+     */
+    public OdcWriter() {
+        this(false);
+    }
+
+    /**
+     * Creates a writer.
+     *
+     * @param validate Whether every model is checked with the
+     *                 {@link OdcValidator} before anything is written. An
+     *                 invalid model fails with an {@link OdcValidationException}
+     */
+    public OdcWriter(boolean validate) {
+        this(validate, null);
+    }
+
+    /**
+     * Creates a writer that reports the metrics of every write.
+     *
+     * @param validate Whether every model is checked with the
+     *                 {@link OdcValidator} before anything is written
+     * @param metrics  The listener to report to, or null to not measure
+     */
+    public OdcWriter(boolean validate, OdcMetricsListener metrics) {
+        this.validate = validate;
+        this.metrics = metrics;
+    }
+
     /**
      * Converts an ODC file model to its HTML/XML string representation.
      *
@@ -30,273 +103,638 @@ public class OdcWriter {
      */
     public String write(OdcFile odcFile) {
         StringBuilder sb = new StringBuilder();
-
-        sb.append("<html xmlns:o=\"urn:schemas-microsoft-com:office:office\"");
-        sb.append(" xmlns=\"http://www.w3.org/TR/REC-html40\">");
-        sb.append("\n<head>");
-
-        writeMetaTags(sb, odcFile);
-        writeTitle(sb, odcFile);
-        writeDocumentProperties(sb, odcFile);
-        writeOfficeDataConnection(sb, odcFile);
-
-        sb.append("\n</head>");
-        sb.append("\n</html>");
-
+        try {
+            write(odcFile, sb);
+        } catch (IOException e) {
+            // a StringBuilder never throws
+            throw new UncheckedIOException(e);
+        }
         return sb.toString();
     }
 
     /**
-     * Writes the HTML meta tags section for the ODC file.
+     * Converts an ODC file model to its UTF-8 encoded HTML/XML representation.
+     * This is the fastest way to render a file in memory, the constant markup is
+     * copied pre-encoded and no intermediate string is created.
      *
-     * @param sb      The StringBuilder to append to
-     * @param odcFile The ODC file containing the metadata
+     * @param odcFile The ODC file model to convert
+     * @return The UTF-8 encoded representation of the ODC file
+     * @throws UncheckedIOException if a streamed text value cannot be read
      */
-    private void writeMetaTags(StringBuilder sb, OdcFile odcFile) {
-        sb.append("\n<meta http-equiv=Content-Type content=\"text/x-ms-odc; charset=utf-8\">");
-
-        OfficeDataConnection odc = odcFile.officeDataConnection();
-        if (!odc.connections().isEmpty()) {
-            Connection conn = odc.connections().get(0);
-            writeProgIdMeta(sb, conn);
-        } else if (odc.powerQueryConnection().isPresent()) {
-            writeProgIdMeta(sb, odc.powerQueryConnection().get());
+    public byte[] writeBytes(OdcFile odcFile) {
+        Utf8Sink.ArraySink sink = Utf8Sink.toArray();
+        try {
+            render(odcFile, sink);
+            sink.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+        return sink.toByteArray();
+    }
 
-        if (odcFile.catalog().isPresent()) {
-            sb.append("\n<meta name=Catalog content=\"").append(escapeXml(odcFile.catalog().get())).append("\">");
+    /**
+     * Computes the exact number of bytes of the UTF-8 encoded representation of
+     * an ODC file, as written by {@link #writeBytes(OdcFile)} and the byte
+     * targets, including the expansion of escaped characters. Nothing is
+     * encoded; the size of already escaped UTF-8 text files is taken from the
+     * file system. Supplied and streamed text values are read, they have to
+     * deliver the same text when the file is written afterwards.
+     *
+     * @param odcFile The ODC file model to measure
+     * @return The length of the encoded representation in bytes
+     * @throws UncheckedIOException if a streamed text value cannot be read
+     */
+    public long utf8Length(OdcFile odcFile) {
+        if (validate) {
+            OdcValidator.requireValid(odcFile);
         }
-        if (odcFile.schema().isPresent()) {
-            sb.append("\n<meta name=Schema content=\"").append(escapeXml(odcFile.schema().get())).append("\">");
+        return utf8Length(OdcSource.of(odcFile));
+    }
+
+    /**
+     * Counts the encoded bytes of an already validated document.
+     *
+     * @param source The values to measure
+     * @return The length of the encoded representation in bytes
+     */
+    private long utf8Length(OdcSource source) {
+        CountingSink sink = new CountingSink();
+        try {
+            renderDocument(source, sink);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        if (odcFile.table().isPresent()) {
-            sb.append("\n<meta name=Table content=\"").append(escapeXml(odcFile.table().get())).append("\">");
+        return sink.bytes();
+    }
+
+    /**
+     * Writes the UTF-8 encoded representation of an ODC file into a byte buffer,
+     * starting at its position. The position is advanced by the number of bytes
+     * written, the limit is not changed. Nothing is resized and no intermediate
+     * string is created: a heap buffer is written in place, a direct buffer is
+     * filled with bulk copies. Use {@link #utf8Length(OdcFile)} to size the
+     * buffer.
+     *
+     * @param odcFile The ODC file model to write
+     * @param target  The buffer to write to
+     * @throws BufferOverflowException if the remaining space is too small, the
+     *                                 position of the buffer is left unchanged
+     * @throws UncheckedIOException    if a streamed text value cannot be read
+     */
+    public void write(OdcFile odcFile, ByteBuffer target) {
+        if (validate) {
+            OdcValidator.requireValid(odcFile);
         }
+        write(OdcSource.of(odcFile), target);
     }
 
     /**
-     * Writes the ProgId and SourceType meta tags for a database connection.
+     * Writes an already validated document into a byte buffer, the position is
+     * left unchanged if writing fails.
      *
-     * @param sb   The StringBuilder to append to
-     * @param conn The connection to write metadata for
+     * @param source The values to write
+     * @param target The buffer to write to
      */
-    private void writeProgIdMeta(StringBuilder sb, Connection conn) {
-        sb.append("\n<meta name=ProgId content=");
-        if (conn.commandType().isPresent()) {
-            CommandType cmdType = conn.commandType().get();
-            switch (cmdType) {
-            case Cube -> sb.append("ODC.Cube");
-            case Table -> sb.append("ODC.Table");
-            case TableCollection -> sb.append("ODC.TableCollection");
-            default -> sb.append("ODC.Database");
-            }
-        } else {
-            sb.append("ODC.Database");
+    private void write(OdcSource source, ByteBuffer target) {
+        int start = target.position();
+        Utf8Sink sink = Utf8Sink.of(target);
+        try {
+            render(source, sink);
+            sink.flush();
+        } catch (BufferOverflowException e) {
+            target.position(start);
+            throw e;
+        } catch (IOException e) {
+            target.position(start);
+            throw new UncheckedIOException(e);
         }
-        sb.append(">");
+    }
 
-        sb.append("\n<meta name=SourceType content=").append(conn.type().name()).append(">");
+    /**
+     * Writes the UTF-8 encoded representation of an ODC file into a new buffer of
+     * exactly its length, e.g. to set the content length of a response before
+     * handing the buffer to a socket. The file is validated once, but its
+     * values are rendered twice, first to count the bytes and then to fill the
+     * buffer: supplied and streamed text values are read twice and have to
+     * deliver the same text both times, text files are opened twice. Use
+     * {@link #writeBytes(OdcFile)} if a source can only be read once.
+     *
+     * @param odcFile The ODC file model to write
+     * @param direct  Whether to allocate a direct buffer
+     * @return The buffer, flipped for reading
+     * @throws IllegalArgumentException if the representation is larger than a
+     *                                  buffer can be
+     * @throws UncheckedIOException     if a streamed text value cannot be read
+     */
+    public ByteBuffer writeByteBuffer(OdcFile odcFile, boolean direct) {
+        if (validate) {
+            OdcValidator.requireValid(odcFile);
+        }
+        OdcSource source = OdcSource.of(odcFile);
+        long length = utf8Length(source);
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("File too large for a buffer: " + length + " bytes");
+        }
+        ByteBuffer buffer = direct ? ByteBuffer.allocateDirect((int) length) : ByteBuffer.allocate((int) length);
+        write(source, buffer);
+        return buffer.flip();
     }
 
     /**
-     * Writes the ProgId and SourceType meta tags for a Power Query connection.
+     * Writes the HTML/XML representation of an ODC file to an appendable target.
+     * The document is appended piece by piece, it is never materialized as a
+     * whole.
      *
-     * @param sb   The StringBuilder to append to
-     * @param conn The Power Query connection to write metadata for
+     * @param odcFile The ODC file model to write
+     * @param out     The target to append to
+     * @throws IOException if the target fails to append
      */
-    private void writeProgIdMeta(StringBuilder sb, PowerQueryConnection conn) {
-        sb.append("\n<meta name=ProgId content=ODC.Table>");
-        sb.append("\n<meta name=SourceType content=").append(conn.type().name()).append(">");
+    public void write(OdcFile odcFile, Appendable out) throws IOException {
+        render(odcFile, new AppendableSink(out));
     }
 
     /**
-     * Writes the HTML title element for the ODC file.
+     * Writes the UTF-8 encoded representation of an ODC file to an output stream.
+     * The stream is flushed but not closed. Already escaped UTF-8 text files are
+     * copied to the stream without decoding.
      *
-     * @param sb      The StringBuilder to append to
-     * @param odcFile The ODC file containing the title
+     * @param odcFile The ODC file model to write
+     * @param out     The stream to write to
+     * @throws IOException if writing to the stream fails
      */
-    private void writeTitle(StringBuilder sb, OdcFile odcFile) {
-        if (odcFile.title().isPresent()) {
-            sb.append("\n<title>").append(escapeXml(odcFile.title().get())).append("</title>");
-        }
+    public void write(OdcFile odcFile, OutputStream out) throws IOException {
+        Utf8Sink sink = Utf8Sink.of(out);
+        render(odcFile, sink);
+        sink.flush();
     }
 
     /**
-     * Writes the document properties XML section.
+     * Writes the UTF-8 encoded representation of an ODC file to a byte channel.
+     * The channel is not closed. Already escaped UTF-8 text files are transferred
+     * to the channel without decoding.
      *
-     * @param sb      The StringBuilder to append to
-     * @param odcFile The ODC file containing document properties
+     * @param odcFile The ODC file model to write
+     * @param channel The channel to write to
+     * @throws IOException if writing to the channel fails
      */
-    private void writeDocumentProperties(StringBuilder sb, OdcFile odcFile) {
-        DocumentProperties props = odcFile.documentProperties();
-        if (hasDocumentProperties(props)) {
-            sb.append("\n<xml id=docprops><o:DocumentProperties");
-            sb.append(" xmlns:o=\"urn:schemas-microsoft-com:office:office\"");
-            sb.append(" xmlns=\"http://www.w3.org/TR/REC-html40\">");
+    public void write(OdcFile odcFile, WritableByteChannel channel) throws IOException {
+        Utf8Sink sink = Utf8Sink.of(channel);
+        render(odcFile, sink);
+        sink.flush();
+    }
 
-            if (props.description().isPresent()) {
-                sb.append("\n <o:Description>").append(escapeXml(props.description().get())).append("</o:Description>");
-            }
-            if (props.name().isPresent()) {
-                sb.append("\n <o:Name>").append(escapeXml(props.name().get())).append("</o:Name>");
-            }
-            if (props.keywords().isPresent()) {
-                sb.append("\n <o:Keywords>").append(escapeXml(props.keywords().get())).append("</o:Keywords>");
-            }
+    /**
+     * Converts a compact ODC file to its HTML/XML string representation.
+     *
+     * @param odcFile The compact ODC file to convert
+     * @return The HTML/XML string representation of the ODC file
+     */
+    public String write(CompactOdcFile odcFile) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            write(odcFile, sb);
+        } catch (IOException e) {
+            // a StringBuilder never throws
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
 
-            sb.append("\n</o:DocumentProperties>");
-            sb.append("\n</xml>");
+    /**
+     * Converts a compact ODC file to its UTF-8 encoded HTML/XML representation.
+     *
+     * @param odcFile The compact ODC file to convert
+     * @return The UTF-8 encoded representation of the ODC file
+     * @throws UncheckedIOException if a streamed text value cannot be read
+     */
+    public byte[] writeBytes(CompactOdcFile odcFile) {
+        Utf8Sink.ArraySink sink = Utf8Sink.toArray();
+        try {
+            render(odcFile, sink);
+            sink.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+        return sink.toByteArray();
     }
 
     /**
-     * Checks if the document properties contain any non-empty values.
+     * Writes the HTML/XML representation of a compact ODC file to an appendable
+     * target.
      *
-     * @param props The document properties to check
-     * @return true if any property has a value, false otherwise
+     * @param odcFile The compact ODC file to write
+     * @param out     The target to append to
+     * @throws IOException if the target fails to append
      */
-    private boolean hasDocumentProperties(DocumentProperties props) {
-        return props.description().isPresent() || props.name().isPresent() || props.keywords().isPresent();
+    public void write(CompactOdcFile odcFile, Appendable out) throws IOException {
+        render(odcFile, new AppendableSink(out));
     }
 
     /**
-     * Writes the main Office Data Connection XML section.
+     * Writes the UTF-8 encoded representation of a compact ODC file to an output
+     * stream. The stream is flushed but not closed.
      *
-     * @param sb      The StringBuilder to append to
-     * @param odcFile The ODC file containing the office data connection
+     * @param odcFile The compact ODC file to write
+     * @param out     The stream to write to
+     * @throws IOException if writing to the stream fails
      */
-    private void writeOfficeDataConnection(StringBuilder sb, OdcFile odcFile) {
-        sb.append("<xml id=msodc><odc:OfficeDataConnection");
-        sb.append(" xmlns:odc=\"urn:schemas-microsoft-com:office:odc\"");
-        sb.append(" xmlns=\"http://www.w3.org/TR/REC-html40\">");
+    public void write(CompactOdcFile odcFile, OutputStream out) throws IOException {
+        Utf8Sink sink = Utf8Sink.of(out);
+        render(odcFile, sink);
+        sink.flush();
+    }
 
-        OfficeDataConnection odc = odcFile.officeDataConnection();
+    /**
+     * Writes the UTF-8 encoded representation of a compact ODC file to a byte
+     * channel. The channel is not closed.
+     *
+     * @param odcFile The compact ODC file to write
+     * @param channel The channel to write to
+     * @throws IOException if writing to the channel fails
+     */
+    public void write(CompactOdcFile odcFile, WritableByteChannel channel) throws IOException {
+        Utf8Sink sink = Utf8Sink.of(channel);
+        render(odcFile, sink);
+        sink.flush();
+    }
 
-        if (odc.sourceFile().isPresent()) {
-            sb.append("\n <odc:SourceFile>").append(escapeXml(odc.sourceFile().get())).append("</odc:SourceFile>");
+    /**
+     * Renders the complete document.
+     *
+     * @param odcFile The ODC file model to write
+     * @param out     The target to render to
+     * @throws OdcValidationException if validation is enabled and the model is not
+     *                                valid
+     */
+    private void render(OdcFile odcFile, MarkupSink out) throws IOException {
+        if (validate) {
+            OdcValidator.requireValid(odcFile);
         }
+        render(OdcSource.of(odcFile), out);
+    }
 
-        for (Connection conn : odc.connections()) {
-            writeConnection(sb, conn);
+    /**
+     * Renders the complete document of a compact file. The validator works on
+     * the record model, so a compact file is converted for the check only.
+     *
+     * @param odcFile The compact ODC file to write
+     * @param out     The target to render to
+     * @throws OdcValidationException if validation is enabled and the model is not
+     *                                valid
+     */
+    private void render(CompactOdcFile odcFile, MarkupSink out) throws IOException {
+        if (validate) {
+            OdcValidator.requireValid(odcFile.toOdcFile());
         }
+        render(OdcSource.of(odcFile), out);
+    }
 
-        if (odc.powerQueryConnection().isPresent()) {
-            writePowerQueryConnection(sb, odc.powerQueryConnection().get());
+    /**
+     * Renders the complete document, measured if a listener is set or the flight
+     * recorder event is enabled.
+     *
+     * @param source The values to write
+     * @param out    The target to render to
+     */
+    private void render(OdcSource source, MarkupSink out) throws IOException {
+        if (metrics != null || WRITE_EVENT.isEnabled()) {
+            renderInstrumented(source, out);
+            return;
         }
+        renderDocument(source, out);
+    }
 
-        if (odc.powerQueryMashupData().isPresent()) {
-            sb.append("\n <odc:PowerQueryMashupData>");
-            sb.append(escapeXml(odc.powerQueryMashupData().get()));
-            sb.append("</odc:PowerQueryMashupData>");
-        }
+    /**
+     * Renders the complete document without validation and measurement.
+     *
+     * @param source The values to write
+     * @param out    The target to render to
+     */
+    private void renderDocument(OdcSource source, MarkupSink out) throws IOException {
+        out.append(HTML_START);
 
-        sb.append("\n</odc:OfficeDataConnection>");
-        sb.append("\n</xml>");
+        writeMetaTags(out, source);
+        writeTitle(out, source);
+        writeDocumentProperties(out, source);
+        writeConnections(out, source);
+        writeMashupData(out, source);
+        out.append(OFFICE_DATA_CONNECTION_END);
+
+        out.append(HTML_END);
     }
 
     /**
-     * Writes a database connection XML element.
+     * Renders the complete document like
+     * {@link #renderDocument(OdcSource, MarkupSink)} and measures each section
+     * for the flight recorder event and the metrics listener. Escaped files are
+     * not transferred without decoding, as the output is counted.
      *
-     * @param sb   The StringBuilder to append to
-     * @param conn The connection to write
+     * @param source The values to write
+     * @param target The target to render to
      */
-    private void writeConnection(StringBuilder sb, Connection conn) {
-        sb.append("\n <odc:Connection odc:Type=\"").append(conn.type().name()).append("\">");
+    private void renderInstrumented(OdcSource source, MarkupSink target) throws IOException {
+        OdcWriteEvent event = new OdcWriteEvent();
+        event.begin();
+        CountingSink out = new CountingSink(target);
+        long start = System.nanoTime();
+        long metaTagsEnd;
+        long documentPropertiesEnd;
+        long connectionsEnd;
+        long end;
+        try {
+            out.append(HTML_START);
+            writeMetaTags(out, source);
+            writeTitle(out, source);
+            metaTagsEnd = System.nanoTime();
+            writeDocumentProperties(out, source);
+            documentPropertiesEnd = System.nanoTime();
+            writeConnections(out, source);
+            connectionsEnd = System.nanoTime();
+            writeMashupData(out, source);
+            out.append(OFFICE_DATA_CONNECTION_END);
+            out.append(HTML_END);
+            end = System.nanoTime();
+        } catch (IOException | RuntimeException e) {
+            if (metrics != null) {
+                metrics.increment(OdcMetricsListener.Counter.FAILURES, 1);
+            }
+            throw e;
+        }
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.title = source.title();
+            event.bytes = out.bytes();
+            event.escapedCharacters = out.escapedCharacters();
+            event.metaTags = metaTagsEnd - start;
+            event.documentProperties = documentPropertiesEnd - metaTagsEnd;
+            event.connections = connectionsEnd - documentPropertiesEnd;
+            event.mashupData = end - connectionsEnd;
+            event.commit();
+        }
+        if (metrics != null) {
+            metrics.increment(OdcMetricsListener.Counter.FILES, 1);
+            metrics.increment(OdcMetricsListener.Counter.BYTES, out.bytes());
+            metrics.increment(OdcMetricsListener.Counter.ESCAPED_CHARACTERS, out.escapedCharacters());
+            metrics.record(OdcMetricsListener.Histogram.WRITE_NANOS, end - start);
+            metrics.record(OdcMetricsListener.Histogram.META_TAGS_NANOS, metaTagsEnd - start);
+            metrics.record(OdcMetricsListener.Histogram.DOCUMENT_PROPERTIES_NANOS,
+                    documentPropertiesEnd - metaTagsEnd);
+            metrics.record(OdcMetricsListener.Histogram.CONNECTIONS_NANOS, connectionsEnd - documentPropertiesEnd);
+            metrics.record(OdcMetricsListener.Histogram.MASHUP_DATA_NANOS, end - connectionsEnd);
+            metrics.record(OdcMetricsListener.Histogram.FILE_BYTES, out.bytes());
+        }
+    }
 
-        sb.append("\n <odc:ConnectionString>").append(escapeXml(conn.connectionString()))
-                .append("</odc:ConnectionString>");
+    /**
+     * Writes the HTML meta tags section for the ODC file.
+     *
+     * @param out    The target to render to
+     * @param source The ODC file containing the metadata
+     */
+    private void writeMetaTags(MarkupSink out, OdcSource source) throws IOException {
+        out.append(CONTENT_TYPE_META);
 
-        if (conn.commandType().isPresent()) {
-            sb.append("\n <odc:CommandType>").append(conn.commandType().get().name()).append("</odc:CommandType>");
+        if (source.connectionCount() > 0) {
+            writeProgIdMeta(out, source.connection(0), false);
+        } else {
+            ConnectionSource pq = source.powerQueryConnection();
+            if (pq != null) {
+                writeProgIdMeta(out, pq, true);
+            }
         }
 
-        for (Parameter param : conn.parameters()) {
-            sb.append("\n <odc:Parameter>");
-            sb.append("\n  <odc:Name>").append(escapeXml(param.name())).append("</odc:Name>");
-            if (param.dataType().isPresent()) {
-                sb.append("\n  <odc:DataType>").append(param.dataType().get()).append("</odc:DataType>");
+        writeOptional(out, CATALOG_META_START, source.catalog(), META_END);
+        writeOptional(out, SCHEMA_META_START, source.schema(), META_END);
+        writeOptional(out, TABLE_META_START, source.table(), META_END);
+    }
+
+    /**
+     * Writes the ProgId and SourceType meta tags for a connection. A Power Query
+     * connection is always a table.
+     *
+     * @param out        The target to render to
+     * @param conn       The connection to write metadata for
+     * @param powerQuery Whether the connection is the Power Query connection
+     */
+    private void writeProgIdMeta(MarkupSink out, ConnectionSource conn, boolean powerQuery) throws IOException {
+        CommandType cmdType = powerQuery ? CommandType.Table : conn.commandType();
+        if (cmdType != null) {
+            switch (cmdType) {
+            case Cube -> out.append(PROG_ID_CUBE_META);
+            case Table -> out.append(PROG_ID_TABLE_META);
+            case TableCollection -> out.append(PROG_ID_TABLE_COLLECTION_META);
+            default -> out.append(PROG_ID_DATABASE_META);
             }
-            sb.append("\n </odc:Parameter>");
+        } else {
+            out.append(PROG_ID_DATABASE_META);
         }
 
-        if (conn.commandText().isPresent()) {
-            sb.append("\n <odc:CommandText>").append(escapeXml(conn.commandText().get())).append("</odc:CommandText>");
-        }
+        out.append(sourceTypeMeta(conn.type()));
+    }
 
-        if (conn.ssoApplicationId().isPresent()) {
-            sb.append("\n <odc:SSOApplicationID>").append(escapeXml(conn.ssoApplicationId().get()))
-                    .append("</odc:SSOApplicationID>");
-        }
+    /**
+     * Writes the HTML title element for the ODC file.
+     *
+     * @param out    The target to render to
+     * @param source The ODC file containing the title
+     */
+    private void writeTitle(MarkupSink out, OdcSource source) throws IOException {
+        writeOptional(out, TITLE_START, source.title(), TITLE_END);
+    }
 
-        if (conn.credentialsMethod().isPresent()) {
-            sb.append("\n <odc:CredentialsMethod>").append(conn.credentialsMethod().get().name())
-                    .append("</odc:CredentialsMethod>");
+    /**
+     * Writes the document properties XML section, if any property has a value.
+     *
+     * @param out    The target to render to
+     * @param source The ODC file containing document properties
+     */
+    private void writeDocumentProperties(MarkupSink out, OdcSource source) throws IOException {
+        String description = source.description();
+        String name = source.name();
+        String keywords = source.keywords();
+        if (description != null || name != null || keywords != null) {
+            out.append(DOCUMENT_PROPERTIES_START);
+
+            writeOptional(out, DESCRIPTION_START, description, DESCRIPTION_END);
+            writeOptional(out, NAME_START, name, NAME_END);
+            writeOptional(out, KEYWORDS_START, keywords, KEYWORDS_END);
+
+            out.append(DOCUMENT_PROPERTIES_END);
         }
+    }
 
-        if (conn.alwaysUseConnectionFile().isPresent()) {
-            if (conn.alwaysUseConnectionFile().get()) {
-                sb.append("\n <odc:AlwaysUseConnectionFile/>");
-            } else {
-                sb.append("\n <odc:AlwaysUseConnectionFile>false</odc:AlwaysUseConnectionFile>");
-            }
+    /**
+     * Writes the start of the Office Data Connection XML section up to the Power
+     * Query mashup data: the source file and the connections.
+     *
+     * @param out    The target to render to
+     * @param source The ODC file containing the office data connection
+     */
+    private void writeConnections(MarkupSink out, OdcSource source) throws IOException {
+        out.append(OFFICE_DATA_CONNECTION_START);
+
+        writeOptional(out, SOURCE_FILE_START, source.sourceFile(), SOURCE_FILE_END);
+
+        int count = source.connectionCount();
+        for (int i = 0; i < count; i++) {
+            writeConnection(out, source.connection(i), false);
         }
 
-        if (conn.culture().isPresent()) {
-            sb.append("\n <odc:Culture>").append(escapeXml(conn.culture().get())).append("</odc:Culture>");
+        ConnectionSource pq = source.powerQueryConnection();
+        if (pq != null) {
+            writeConnection(out, pq, true);
         }
+    }
 
-        sb.append("\n </odc:Connection>");
+    /**
+     * Writes the Power Query mashup data element, if present.
+     *
+     * @param out    The target to render to
+     * @param source The ODC file containing the office data connection
+     */
+    private void writeMashupData(MarkupSink out, OdcSource source) throws IOException {
+        TextSource mashupData = source.powerQueryMashupData();
+        if (mashupData != null) {
+            writeText(out, POWER_QUERY_MASHUP_DATA_START, mashupData, POWER_QUERY_MASHUP_DATA_END);
+        }
     }
 
     /**
-     * Writes a Power Query connection XML element.
+     * Writes a database connection or Power Query connection XML element.
+     * Parameters and culture are only part of a database connection.
      *
-     * @param sb   The StringBuilder to append to
-     * @param conn The Power Query connection to write
+     * @param out        The target to render to
+     * @param conn       The connection to write
+     * @param powerQuery Whether to write the Power Query connection element
      */
-    private void writePowerQueryConnection(StringBuilder sb, PowerQueryConnection conn) {
-        sb.append("\n <odc:PowerQueryConnection odc:Type=\"").append(conn.type().name()).append("\">");
+    private void writeConnection(MarkupSink out, ConnectionSource conn, boolean powerQuery) throws IOException {
+        out.append(powerQuery ? powerQueryConnectionStart(conn.type()) : connectionStart(conn.type()));
 
-        sb.append("\n <odc:ConnectionString>").append(escapeXml(conn.connectionString()))
-                .append("</odc:ConnectionString>");
+        writeEscaped(out, CONNECTION_STRING_START, conn.connectionString(), CONNECTION_STRING_END);
 
-        if (conn.commandType().isPresent()) {
-            sb.append("\n <odc:CommandType>").append(conn.commandType().get().name()).append("</odc:CommandType>");
+        CommandType cmdType = conn.commandType();
+        if (cmdType != null) {
+            out.append(commandType(cmdType));
         }
 
-        if (conn.commandText().isPresent()) {
-            sb.append("\n <odc:CommandText>").append(escapeXml(conn.commandText().get())).append("</odc:CommandText>");
+        int parameters = conn.parameterCount();
+        for (int i = 0; i < parameters; i++) {
+            out.append(PARAMETER_START);
+            writeEscaped(out, PARAMETER_NAME_START, conn.parameterName(i), PARAMETER_NAME_END);
+            if (conn.hasParameterDataType(i)) {
+                out.append(DATA_TYPE_START);
+                out.appendText(Integer.toString(conn.parameterDataType(i)));
+                out.append(DATA_TYPE_END);
+            }
+            out.append(PARAMETER_END);
         }
 
-        if (conn.ssoApplicationId().isPresent()) {
-            sb.append("\n <odc:SSOApplicationID>").append(escapeXml(conn.ssoApplicationId().get()))
-                    .append("</odc:SSOApplicationID>");
+        TextSource commandText = conn.commandText();
+        if (commandText != null) {
+            writeText(out, COMMAND_TEXT_START, commandText, COMMAND_TEXT_END);
         }
 
-        if (conn.credentialsMethod().isPresent()) {
-            sb.append("\n <odc:CredentialsMethod>").append(conn.credentialsMethod().get().name())
-                    .append("</odc:CredentialsMethod>");
+        writeOptional(out, SSO_APPLICATION_ID_START, conn.ssoApplicationId(), SSO_APPLICATION_ID_END);
+
+        CredentialsMethod credentials = conn.credentialsMethod();
+        if (credentials != null) {
+            out.append(credentialsMethod(credentials));
         }
 
-        if (conn.alwaysUseConnectionFile().isPresent()) {
-            if (conn.alwaysUseConnectionFile().get()) {
-                sb.append("\n <odc:AlwaysUseConnectionFile/>");
-            } else {
-                sb.append("\n <odc:AlwaysUseConnectionFile>false</odc:AlwaysUseConnectionFile>");
-            }
+        Boolean alwaysUse = conn.alwaysUseConnectionFile();
+        if (alwaysUse != null) {
+            out.append(alwaysUse ? ALWAYS_USE_CONNECTION_FILE : NOT_ALWAYS_USE_CONNECTION_FILE);
         }
 
-        sb.append("\n </odc:PowerQueryConnection>");
+        if (powerQuery) {
+            out.append(POWER_QUERY_CONNECTION_END);
+        } else {
+            writeOptional(out, CULTURE_START, conn.culture(), CULTURE_END);
+            out.append(CONNECTION_END);
+        }
     }
 
     /**
-     * Escapes special XML characters in text content.
+     * Writes a text value between a prefix and a suffix like
+     * {@link #writeEscaped(MarkupSink, Fragment, CharSequence, Fragment)}, but
+     * nothing if the value is null.
      *
-     * @param text The text to escape
-     * @return The escaped text safe for XML content
+     * @param out    The target to render to
+     * @param prefix The markup before the value
+     * @param text   The text value to escape, or null
+     * @param suffix The markup after the value
      */
-    private String escapeXml(String text) {
-        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;").replace("'",
-                "&apos;");
+    private void writeOptional(MarkupSink out, Fragment prefix, CharSequence text, Fragment suffix)
+            throws IOException {
+        if (text != null) {
+            writeEscaped(out, prefix, text, suffix);
+        }
+    }
+
+    /**
+     * Writes a text value between a prefix and a suffix, escaping XML special
+     * characters in the value.
+     *
+     * @param out    The target to render to
+     * @param prefix The markup before the value
+     * @param text   The text value to escape
+     * @param suffix The markup after the value
+     */
+    private void writeEscaped(MarkupSink out, Fragment prefix, CharSequence text, Fragment suffix)
+            throws IOException {
+        out.append(prefix);
+        out.appendEscaped(text);
+        out.append(suffix);
+    }
+
+    /**
+     * Writes a text source between a prefix and a suffix. Plain text is escaped
+     * while it is read from the source, already escaped text is written as is.
+     * Escaped UTF-8 files are copied without decoding when writing to a byte
+     * target, when counting only their size is read.
+     *
+     * @param out    The target to render to
+     * @param prefix The markup before the value
+     * @param text   The source of the text value
+     * @param suffix The markup after the value
+     */
+    private void writeText(MarkupSink out, Fragment prefix, TextSource text, Fragment suffix) throws IOException {
+        out.append(prefix);
+        if (text instanceof TextSource.Literal literal) {
+            writeContent(out, literal.text(), literal.escaped());
+        } else if (text instanceof TextSource.Supplied supplied) {
+            writeContent(out, supplied.supplier().get(), supplied.escaped());
+        } else if (text instanceof TextSource.FromFile file && file.escaped() && out instanceof Utf8Sink target
+                && StandardCharsets.UTF_8.equals(file.charset())) {
+            target.transferFrom(file.path());
+        } else if (text instanceof TextSource.FromFile file && file.escaped() && out instanceof CountingSink counting
+                && counting.isCountOnly() && StandardCharsets.UTF_8.equals(file.charset())) {
+            counting.transferFrom(file.path());
+        } else {
+            try (Reader reader = text.openReader()) {
+                char[] buffer = new char[TEXT_BUFFER_SIZE];
+                int read;
+                while ((read = reader.read(buffer)) >= 0) {
+                    writeContent(out, CharBuffer.wrap(buffer, 0, read), text.escaped());
+                }
+            }
+        }
+        out.append(suffix);
+    }
+
+    /**
+     * Writes text content, escaping it unless it is already escaped.
+     *
+     * @param out     The target to render to
+     * @param text    The text to write
+     * @param escaped Whether the text is already escaped
+     */
+    private void writeContent(MarkupSink out, CharSequence text, boolean escaped) throws IOException {
+        if (escaped) {
+            out.appendText(text);
+        } else {
+            out.appendEscaped(text);
+        }
     }
 }
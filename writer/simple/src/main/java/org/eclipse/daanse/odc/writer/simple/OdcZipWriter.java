@@ -0,0 +1,458 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipException;
+
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+
+/**
+ * Writes many ODC files as one ZIP archive to a stream. The files are rendered
+ * and deflated in parallel and the entries are written in the order of the
+ * source, so the archive is the same as a sequential one.
+ * <p>
+ * Only a bounded window of entries is in flight: when it is full, the source is
+ * not consumed further until the oldest entry has been written. The first
+ * entries reach the stream while later ones are still being compressed, and
+ * memory does not grow with the number of files apart from the entry names
+ * and the central directory of a few dozen bytes per entry. Archives with more
+ * than 65535 entries or of more than 4 GiB are written in the ZIP64 format.
+ */
+public class OdcZipWriter {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+
+    private static final int END_SIGNATURE = 0x06054b50;
+
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+
+    private static final int LOCAL_HEADER_SIZE = 30;
+
+    private static final int CENTRAL_HEADER_SIZE = 46;
+
+    private static final int ZIP64_EXTRA_SIZE = 12;
+
+    private static final int ZIP64_END_SIZE = 56;
+
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+
+    private static final int END_SIZE = 22;
+
+    private static final int VERSION = 20;
+
+    private static final int ZIP64_VERSION = 45;
+
+    /** General purpose flag: the entry name is UTF-8 encoded. */
+    private static final int FLAG_UTF8 = 0x0800;
+
+    private static final int STORED = 0;
+
+    private static final int DEFLATED = 8;
+
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+
+    /**
+     * A rendered and compressed entry, ready to be written.
+     *
+     * @param name   The UTF-8 encoded entry name
+     * @param method {@link #STORED} or {@link #DEFLATED}
+     * @param crc    CRC-32 of the uncompressed data
+     * @param size   Size of the uncompressed data
+     * @param data   The entry data, only the first {@code length} bytes are used
+     * @param length Size of the compressed data
+     */
+    private record Compressed(byte[] name, int method, long crc, int size, byte[] data, int length) {
+    }
+
+    private final OdcWriter writer;
+
+    private final int parallelism;
+
+    private final int level;
+
+    /**
+     * Creates an archive writer with a default writer, one compressing thread per
+     * available processor and the default compression level.
+     */
+    public OdcZipWriter() {
+        this(new OdcWriter(), Runtime.getRuntime().availableProcessors(), Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Creates an archive writer. At most twice {@code parallelism} entries are in
+     * flight.
+     *
+     * @param writer      The writer used to render the files
+     * @param parallelism The number of threads rendering and compressing entries
+     * @param level       The compression level, 0-9 or
+     *                    {@link Deflater#DEFAULT_COMPRESSION}
+     */
+    public OdcZipWriter(OdcWriter writer, int parallelism, int level) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("invalid compression level: " + level);
+        }
+        this.writer = Objects.requireNonNull(writer, "writer");
+        this.parallelism = parallelism;
+        this.level = level;
+    }
+
+    /**
+     * Writes all files of a stream as an archive. The stream is consumed on the
+     * calling thread and closed afterwards. The output stream is flushed but not
+     * closed.
+     *
+     * @param odcFiles  The files to write
+     * @param entryName Determines the entry name of each file, e.g.
+     *                  {@code "Northwind/Customers.odc"}
+     * @param out       The stream to write the archive to
+     * @return The number of entries written
+     * @throws IOException          if a file cannot be rendered, an entry name
+     *                              is used twice or is too long, or writing to
+     *                              the stream fails
+     * @throws InterruptedException if the calling thread is interrupted while
+     *                              waiting for an entry
+     */
+    public long write(Stream<OdcFile> odcFiles, Function<? super OdcFile, String> entryName, OutputStream out)
+            throws IOException, InterruptedException {
+        try (odcFiles) {
+            return write(odcFiles.iterator(), entryName, out);
+        }
+    }
+
+    /**
+     * Writes all files of an iterable as an archive. The output stream is
+     * flushed but not closed.
+     *
+     * @param odcFiles  The files to write
+     * @param entryName Determines the entry name of each file, e.g.
+     *                  {@code "Northwind/Customers.odc"}
+     * @param out       The stream to write the archive to
+     * @return The number of entries written
+     * @throws IOException          if a file cannot be rendered, an entry name
+     *                              is used twice or is too long, or writing to
+     *                              the stream fails
+     * @throws InterruptedException if the calling thread is interrupted while
+     *                              waiting for an entry
+     */
+    public long write(Iterable<OdcFile> odcFiles, Function<? super OdcFile, String> entryName, OutputStream out)
+            throws IOException, InterruptedException {
+        return write(odcFiles.iterator(), entryName, out);
+    }
+
+    private long write(Iterator<OdcFile> odcFiles, Function<? super OdcFile, String> entryName, OutputStream out)
+            throws IOException, InterruptedException {
+        ArchiveOutput archive = new ArchiveOutput(out);
+        Set<String> names = new HashSet<>();
+        DeflaterPool deflaters = new DeflaterPool(parallelism, level);
+        ArrayDeque<Future<Compressed>> window = new ArrayDeque<>(2 * parallelism);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            while (odcFiles.hasNext()) {
+                OdcFile odcFile = odcFiles.next();
+                String name = entryName.apply(odcFile);
+                if (!names.add(name)) {
+                    throw new ZipException("duplicate entry: " + name);
+                }
+                byte[] encodedName = name.getBytes(StandardCharsets.UTF_8);
+                if (encodedName.length > 0xFFFF) {
+                    throw new ZipException("entry name too long: " + name);
+                }
+                if (window.size() == 2 * parallelism) {
+                    archive.writeEntry(await(window.removeFirst()));
+                }
+                window.addLast(executor.submit(() -> compress(encodedName, odcFile, deflaters)));
+            }
+            while (!window.isEmpty()) {
+                archive.writeEntry(await(window.removeFirst()));
+            }
+            archive.finish();
+            return archive.entries;
+        } finally {
+            for (Future<Compressed> pending : window) {
+                pending.cancel(true);
+            }
+            executor.shutdownNow();
+            // workers still running after a failure end their own deflater
+            deflaters.close();
+        }
+    }
+
+    private static Compressed await(Future<Compressed> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException unchecked) {
+                throw unchecked.getCause();
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Renders and compresses a file. Runs on a worker thread. Data that does not
+     * shrink is stored uncompressed.
+     */
+    private Compressed compress(byte[] encodedName, OdcFile odcFile, DeflaterPool deflaters) {
+        byte[] data = writer.writeBytes(odcFile);
+        CRC32 crc = new CRC32();
+        crc.update(data);
+
+        Deflater deflater = deflaters.acquire();
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            byte[] buffer = new byte[Math.max(64, data.length / 2)];
+            int length = 0;
+            while (!deflater.finished() && length < data.length) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, Math.min(buffer.length * 2, data.length + 64));
+                }
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            if (!deflater.finished() || length >= data.length) {
+                return new Compressed(encodedName, STORED, crc.getValue(), data.length, data, data.length);
+            }
+            return new Compressed(encodedName, DEFLATED, crc.getValue(), data.length, buffer, length);
+        } finally {
+            deflaters.release(deflater);
+        }
+    }
+
+    /**
+     * The deflaters shared by the workers of one archive. Once the pool is
+     * closed every pooled deflater is ended, and a deflater released afterwards
+     * by a worker that was still running is ended by that worker, so no native
+     * memory is left behind without waiting for the workers.
+     */
+    private static final class DeflaterPool {
+
+        private final BlockingQueue<Deflater> deflaters;
+
+        private final int level;
+
+        private volatile boolean closed;
+
+        private DeflaterPool(int capacity, int level) {
+            this.deflaters = new ArrayBlockingQueue<>(capacity);
+            this.level = level;
+        }
+
+        private Deflater acquire() {
+            Deflater deflater = deflaters.poll();
+            return deflater != null ? deflater : new Deflater(level, true);
+        }
+
+        private void release(Deflater deflater) {
+            deflater.reset();
+            if (closed || !deflaters.offer(deflater)) {
+                deflater.end();
+            } else if (closed) {
+                // closed between the check and the offer, the pool may already be drained
+                endPooled();
+            }
+        }
+
+        private void close() {
+            closed = true;
+            endPooled();
+        }
+
+        private void endPooled() {
+            Deflater deflater;
+            while ((deflater = deflaters.poll()) != null) {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * The sequential part of writing an archive: local headers and data in entry
+     * order, followed by the central directory.
+     */
+    private static final class ArchiveOutput {
+
+        private final OutputStream out;
+
+        private final int dosTime;
+
+        private final int dosDate;
+
+        private byte[] centralDirectory = new byte[4096];
+
+        private int centralDirectoryLength;
+
+        private final byte[] header = new byte[LOCAL_HEADER_SIZE];
+
+        private long offset;
+
+        private long entries;
+
+        private ArchiveOutput(OutputStream out) {
+            this.out = out;
+            LocalDateTime now = LocalDateTime.now();
+            dosTime = now.getHour() << 11 | now.getMinute() << 5 | now.getSecond() >> 1;
+            dosDate = (Math.max(now.getYear(), 1980) - 1980) << 9 | now.getMonthValue() << 5 | now.getDayOfMonth();
+        }
+
+        private void writeEntry(Compressed entry) throws IOException {
+            putInt(header, 0, LOCAL_HEADER_SIGNATURE);
+            putShort(header, 4, VERSION);
+            putFields(header, 6, entry);
+            putShort(header, 28, 0);
+            out.write(header);
+            out.write(entry.name());
+            out.write(entry.data(), 0, entry.length());
+
+            boolean zip64 = offset >= ZIP64_MAGIC;
+            int recordSize = CENTRAL_HEADER_SIZE + entry.name().length + (zip64 ? ZIP64_EXTRA_SIZE : 0);
+            byte[] cd = reserve(recordSize);
+            int at = centralDirectoryLength;
+            putInt(cd, at, CENTRAL_HEADER_SIGNATURE);
+            putShort(cd, at + 4, zip64 ? ZIP64_VERSION : VERSION);
+            putShort(cd, at + 6, zip64 ? ZIP64_VERSION : VERSION);
+            putFields(cd, at + 8, entry);
+            putShort(cd, at + 30, zip64 ? ZIP64_EXTRA_SIZE : 0);
+            putShort(cd, at + 32, 0);
+            putShort(cd, at + 34, 0);
+            putShort(cd, at + 36, 0);
+            putInt(cd, at + 38, 0);
+            putInt(cd, at + 42, (int) Math.min(offset, ZIP64_MAGIC));
+            System.arraycopy(entry.name(), 0, cd, at + CENTRAL_HEADER_SIZE, entry.name().length);
+            if (zip64) {
+                int extra = at + CENTRAL_HEADER_SIZE + entry.name().length;
+                putShort(cd, extra, 0x0001);
+                putShort(cd, extra + 2, 8);
+                putLong(cd, extra + 4, offset);
+            }
+            centralDirectoryLength += recordSize;
+
+            offset += LOCAL_HEADER_SIZE + entry.name().length + entry.length();
+            entries++;
+        }
+
+        /**
+         * Puts the fields shared by local and central headers, from the flags to
+         * the name length.
+         */
+        private void putFields(byte[] b, int at, Compressed entry) {
+            putShort(b, at, FLAG_UTF8);
+            putShort(b, at + 2, entry.method());
+            putShort(b, at + 4, dosTime);
+            putShort(b, at + 6, dosDate);
+            putInt(b, at + 8, (int) entry.crc());
+            putInt(b, at + 12, entry.length());
+            putInt(b, at + 16, entry.size());
+            putShort(b, at + 20, entry.name().length);
+        }
+
+        private byte[] reserve(int size) {
+            if (centralDirectoryLength + size > centralDirectory.length) {
+                centralDirectory = Arrays.copyOf(centralDirectory,
+                        Math.max(centralDirectory.length * 2, centralDirectoryLength + size));
+            }
+            return centralDirectory;
+        }
+
+        private void finish() throws IOException {
+            long centralDirectoryOffset = offset;
+            out.write(centralDirectory, 0, centralDirectoryLength);
+            long end = centralDirectoryOffset + centralDirectoryLength;
+
+            boolean zip64 = entries >= ZIP64_MAGIC_COUNT || centralDirectoryOffset >= ZIP64_MAGIC
+                    || centralDirectoryLength >= ZIP64_MAGIC;
+            byte[] b = new byte[(zip64 ? ZIP64_END_SIZE + ZIP64_LOCATOR_SIZE : 0) + END_SIZE];
+            int at = 0;
+            if (zip64) {
+                putInt(b, 0, ZIP64_END_SIGNATURE);
+                putLong(b, 4, ZIP64_END_SIZE - 12);
+                putShort(b, 12, ZIP64_VERSION);
+                putShort(b, 14, ZIP64_VERSION);
+                putInt(b, 16, 0);
+                putInt(b, 20, 0);
+                putLong(b, 24, entries);
+                putLong(b, 32, entries);
+                putLong(b, 40, centralDirectoryLength);
+                putLong(b, 48, centralDirectoryOffset);
+                putInt(b, 56, ZIP64_LOCATOR_SIGNATURE);
+                putInt(b, 60, 0);
+                putLong(b, 64, end);
+                putInt(b, 72, 1);
+                at = ZIP64_END_SIZE + ZIP64_LOCATOR_SIZE;
+            }
+            int count = (int) Math.min(entries, ZIP64_MAGIC_COUNT);
+            putInt(b, at, END_SIGNATURE);
+            putShort(b, at + 4, 0);
+            putShort(b, at + 6, 0);
+            putShort(b, at + 8, count);
+            putShort(b, at + 10, count);
+            putInt(b, at + 12, (int) Math.min(centralDirectoryLength, ZIP64_MAGIC));
+            putInt(b, at + 16, (int) Math.min(centralDirectoryOffset, ZIP64_MAGIC));
+            putShort(b, at + 20, 0);
+            out.write(b);
+            out.flush();
+        }
+    }
+
+    private static void putShort(byte[] b, int at, int value) {
+        b[at] = (byte) value;
+        b[at + 1] = (byte) (value >>> 8);
+    }
+
+    private static void putInt(byte[] b, int at, int value) {
+        putShort(b, at, value);
+        putShort(b, at + 2, value >>> 16);
+    }
+
+    private static void putLong(byte[] b, int at, long value) {
+        putInt(b, at, (int) value);
+        putInt(b, at + 4, (int) (value >>> 32));
+    }
+}
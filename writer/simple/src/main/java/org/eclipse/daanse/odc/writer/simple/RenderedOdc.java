@@ -0,0 +1,103 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * A rendered ODC file: the UTF-8 encoded document and its strong entity tag.
+ * The entity tag is derived from a SHA-256 digest of the bytes, so equal
+ * documents have equal tags. Instances are immutable and can be shared between
+ * threads; the bytes are only exposed as read-only views or copies.
+ */
+public final class RenderedOdc {
+
+    /** Number of digest bytes used for the entity tag. */
+    private static final int ETAG_DIGEST_LENGTH = 16;
+
+    private final byte[] bytes;
+
+    private final String etag;
+
+    private RenderedOdc(byte[] bytes, String etag) {
+        this.bytes = bytes;
+        this.etag = etag;
+    }
+
+    /**
+     * Creates a rendered file from the encoded document. The array is owned by the
+     * new instance and must not be modified afterwards.
+     *
+     * @param bytes The UTF-8 encoded document
+     * @return The rendered file
+     */
+    static RenderedOdc of(byte[] bytes) {
+        return new RenderedOdc(bytes, etagOf(bytes));
+    }
+
+    /**
+     * @return The strong entity tag including the quotes, e.g.
+     *         {@code "1f3a..."}
+     */
+    public String etag() {
+        return etag;
+    }
+
+    /**
+     * @return The length of the encoded document in bytes
+     */
+    public int length() {
+        return bytes.length;
+    }
+
+    /**
+     * @return A read-only view of the encoded document
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    /**
+     * @return A copy of the encoded document
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, bytes.length);
+    }
+
+    /**
+     * Writes the encoded document to a stream. The stream is not flushed.
+     *
+     * @param out The stream to write to
+     * @throws IOException if writing to the stream fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes);
+    }
+
+    private static String etagOf(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            return '"' + HexFormat.of().formatHex(digest, 0, ETAG_DIGEST_LENGTH) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,451 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Sink that encodes UTF-8 into a byte buffer. Fragments are copied in their
+ * pre-encoded form, text is encoded and escaped in a single pass without
+ * intermediate strings. Malformed surrogates are replaced by {@code '?'} like
+ * the UTF-8 encoder of the JDK does, also when a surrogate pair is split across
+ * two calls.
+ */
+abstract sealed class Utf8Sink implements MarkupSink {
+
+    /** Size of the buffer of sinks on a channel or stream. */
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final byte REPLACEMENT = '?';
+
+    byte[] buffer;
+
+    int position;
+
+    /** End of the writable region of the buffer. */
+    int limit;
+
+    /** High surrogate at the end of the last text, or 0. */
+    private char pendingHighSurrogate;
+
+    private Utf8Sink(int capacity) {
+        this(new byte[capacity], 0, capacity);
+    }
+
+    private Utf8Sink(byte[] buffer, int position, int limit) {
+        this.buffer = buffer;
+        this.position = position;
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a sink on a channel. The channel is not closed by the sink.
+     *
+     * @param channel The channel to write to
+     * @return The sink
+     */
+    static Utf8Sink of(WritableByteChannel channel) {
+        return new ChannelSink(channel);
+    }
+
+    /**
+     * Creates a sink on a stream. The stream is not closed by the sink.
+     *
+     * @param out The stream to write to
+     * @return The sink
+     */
+    static Utf8Sink of(OutputStream out) {
+        return new StreamSink(out);
+    }
+
+    /**
+     * Creates a sink that writes into a byte buffer from its position up to its
+     * limit. The position of the buffer is advanced on {@link #flush()}. Writing
+     * more bytes than remain in the buffer fails with a
+     * {@link java.nio.BufferOverflowException}, some bytes may have been written
+     * by then.
+     *
+     * @param target The buffer to write to
+     * @return The sink
+     */
+    static Utf8Sink of(ByteBuffer target) {
+        return target.hasArray() ? new HeapBufferSink(target) : new DirectBufferSink(target);
+    }
+
+    /**
+     * Creates a sink that collects the bytes in memory.
+     *
+     * @return The sink
+     */
+    static ArraySink toArray() {
+        return new ArraySink();
+    }
+
+    @Override
+    public void append(Fragment fragment) throws IOException {
+        completeSurrogate();
+        byte[] bytes = fragment.utf8();
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    @Override
+    public void appendText(CharSequence text) throws IOException {
+        encode(text, false);
+    }
+
+    @Override
+    public void appendEscaped(CharSequence text) throws IOException {
+        encode(text, true);
+    }
+
+    /**
+     * Copies the content of a UTF-8 encoded file without decoding it.
+     *
+     * @param path The file to copy
+     * @throws IOException if the file cannot be read or the target fails
+     */
+    void transferFrom(Path path) throws IOException {
+        completeSurrogate();
+        copy(path);
+    }
+
+    /**
+     * Writes the buffered bytes to the target.
+     *
+     * @throws IOException if the target fails
+     */
+    void flush() throws IOException {
+        completeSurrogate();
+    }
+
+    /**
+     * Makes room for at least the given number of bytes in the buffer.
+     *
+     * @param length The number of bytes, at most {@link #BUFFER_SIZE}
+     * @throws IOException if the target fails
+     */
+    abstract void makeRoom(int length) throws IOException;
+
+    /**
+     * Copies the content of a file to the target.
+     *
+     * @param path The file to copy
+     * @throws IOException if the file cannot be read or the target fails
+     */
+    abstract void copy(Path path) throws IOException;
+
+    private void ensure(int length) throws IOException {
+        if (limit - position < length) {
+            makeRoom(length);
+        }
+    }
+
+    private void encode(CharSequence text, boolean escape) throws IOException {
+        int length = text.length();
+        if (length == 0) {
+            return;
+        }
+        int i = 0;
+        if (pendingHighSurrogate != 0) {
+            char high = pendingHighSurrogate;
+            pendingHighSurrogate = 0;
+            char low = text.charAt(0);
+            if (Character.isLowSurrogate(low)) {
+                putCodePoint(Character.toCodePoint(high, low));
+                i = 1;
+            } else {
+                putReplacement();
+            }
+        }
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                byte[] replacement = escape ? XmlEscaper.utf8Replacement(c) : null;
+                if (replacement == null) {
+                    ensure(1);
+                    buffer[position++] = (byte) c;
+                } else {
+                    ensure(replacement.length);
+                    System.arraycopy(replacement, 0, buffer, position, replacement.length);
+                    position += replacement.length;
+                }
+            } else if (c < 0x800) {
+                ensure(2);
+                buffer[position++] = (byte) (0xC0 | c >> 6);
+                buffer[position++] = (byte) (0x80 | c & 0x3F);
+            } else if (!Character.isSurrogate(c)) {
+                ensure(3);
+                buffer[position++] = (byte) (0xE0 | c >> 12);
+                buffer[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                buffer[position++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isLowSurrogate(c)) {
+                putReplacement();
+            } else if (i + 1 == length) {
+                pendingHighSurrogate = c;
+            } else if (Character.isLowSurrogate(text.charAt(i + 1))) {
+                putCodePoint(Character.toCodePoint(c, text.charAt(++i)));
+            } else {
+                putReplacement();
+            }
+        }
+    }
+
+    private void putCodePoint(int codePoint) throws IOException {
+        ensure(4);
+        buffer[position++] = (byte) (0xF0 | codePoint >> 18);
+        buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+        buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+        buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+    }
+
+    private void putReplacement() throws IOException {
+        ensure(1);
+        buffer[position++] = REPLACEMENT;
+    }
+
+    private void completeSurrogate() throws IOException {
+        if (pendingHighSurrogate != 0) {
+            pendingHighSurrogate = 0;
+            putReplacement();
+        }
+    }
+
+    /**
+     * Sink that writes to a channel whenever the buffer is full.
+     */
+    private static final class ChannelSink extends Utf8Sink {
+
+        private final WritableByteChannel channel;
+
+        private ChannelSink(WritableByteChannel channel) {
+            super(BUFFER_SIZE);
+            this.channel = channel;
+        }
+
+        @Override
+        void makeRoom(int length) throws IOException {
+            drain();
+        }
+
+        @Override
+        void flush() throws IOException {
+            super.flush();
+            drain();
+        }
+
+        @Override
+        void copy(Path path) throws IOException {
+            drain();
+            try (FileChannel source = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = source.size();
+                long transferred = 0;
+                while (transferred < size) {
+                    transferred += source.transferTo(transferred, size - transferred, channel);
+                }
+            }
+        }
+
+        private void drain() throws IOException {
+            ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, position);
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            position = 0;
+        }
+    }
+
+    /**
+     * Sink that writes to a stream whenever the buffer is full.
+     */
+    private static final class StreamSink extends Utf8Sink {
+
+        private final OutputStream out;
+
+        private StreamSink(OutputStream out) {
+            super(BUFFER_SIZE);
+            this.out = out;
+        }
+
+        @Override
+        void makeRoom(int length) throws IOException {
+            drain();
+        }
+
+        @Override
+        void flush() throws IOException {
+            super.flush();
+            drain();
+            out.flush();
+        }
+
+        @Override
+        void copy(Path path) throws IOException {
+            drain();
+            Files.copy(path, out);
+        }
+
+        private void drain() throws IOException {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    /**
+     * Sink that writes into the backing array of a heap byte buffer.
+     */
+    private static final class HeapBufferSink extends Utf8Sink {
+
+        private final ByteBuffer target;
+
+        private HeapBufferSink(ByteBuffer target) {
+            super(target.array(), target.arrayOffset() + target.position(), target.arrayOffset() + target.limit());
+            this.target = target;
+        }
+
+        @Override
+        void makeRoom(int length) {
+            throw new BufferOverflowException();
+        }
+
+        @Override
+        void flush() throws IOException {
+            super.flush();
+            target.position(position - target.arrayOffset());
+        }
+
+        @Override
+        void copy(Path path) throws IOException {
+            try (FileChannel source = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = source.size();
+                if (size > limit - position) {
+                    throw new BufferOverflowException();
+                }
+                ByteBuffer region = ByteBuffer.wrap(buffer, position, (int) size);
+                while (region.hasRemaining() && source.read(region) >= 0) {
+                    // read until the file is copied
+                }
+                position = region.position();
+            }
+        }
+    }
+
+    /**
+     * Sink that fills a direct byte buffer with bulk puts from its own buffer.
+     */
+    private static final class DirectBufferSink extends Utf8Sink {
+
+        private final ByteBuffer target;
+
+        private DirectBufferSink(ByteBuffer target) {
+            super(BUFFER_SIZE);
+            this.target = target;
+        }
+
+        @Override
+        void makeRoom(int length) {
+            drain();
+        }
+
+        @Override
+        void flush() throws IOException {
+            super.flush();
+            drain();
+        }
+
+        @Override
+        void copy(Path path) throws IOException {
+            drain();
+            try (FileChannel source = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = source.size();
+                if (size > target.remaining()) {
+                    throw new BufferOverflowException();
+                }
+                ByteBuffer region = target.slice(target.position(), (int) size);
+                while (region.hasRemaining() && source.read(region) >= 0) {
+                    // read until the file is copied
+                }
+                target.position(target.position() + region.position());
+            }
+        }
+
+        private void drain() {
+            target.put(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    /**
+     * Sink that grows its buffer and keeps all bytes in memory.
+     */
+    static final class ArraySink extends Utf8Sink {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+        private ArraySink() {
+            super(INITIAL_CAPACITY);
+        }
+
+        @Override
+        void makeRoom(int length) {
+            grow(length);
+        }
+
+        @Override
+        void copy(Path path) throws IOException {
+            try (FileChannel source = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = source.size();
+                if (size > Integer.MAX_VALUE - position) {
+                    throw new IOException("File too large to be written into an array: " + path);
+                }
+                grow((int) size);
+                ByteBuffer target = ByteBuffer.wrap(buffer, position, (int) size);
+                while (target.hasRemaining() && source.read(target) >= 0) {
+                    // read until the file is copied
+                }
+                position = target.position();
+            }
+        }
+
+        /**
+         * Returns the bytes written up to the last {@link #flush()}.
+         *
+         * @return A copy of the written bytes
+         */
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void grow(int length) {
+            int required = position + length;
+            if (required > buffer.length) {
+                long doubled = 2L * buffer.length;
+                buffer = Arrays.copyOf(buffer, (int) Math.max(required, Math.min(doubled, MAX_CAPACITY)));
+                limit = buffer.length;
+            }
+        }
+    }
+}
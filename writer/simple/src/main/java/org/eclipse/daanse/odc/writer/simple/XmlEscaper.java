@@ -0,0 +1,102 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Single-pass escaping of XML special characters. Unescaped runs are copied to
+ * the target as ranges of the source text, so no intermediate strings are
+ * created. Text without special characters is appended as a whole after a
+ * single scan.
+ */
+final class XmlEscaper {
+
+    /** Highest character that needs escaping ('&gt;'). */
+    private static final char MAX_SPECIAL = '>';
+
+    /** Replacement per special character, indexed by the character value. */
+    private static final String[] REPLACEMENTS = new String[MAX_SPECIAL + 1];
+
+    /** Encoded replacement per special character, indexed by the character value. */
+    private static final byte[][] UTF8_REPLACEMENTS = new byte[MAX_SPECIAL + 1][];
+
+    static {
+        REPLACEMENTS['&'] = "&amp;";
+        REPLACEMENTS['<'] = "&lt;";
+        REPLACEMENTS['>'] = "&gt;";
+        REPLACEMENTS['"'] = "&quot;";
+        REPLACEMENTS['\''] = "&apos;";
+        for (int c = 0; c <= MAX_SPECIAL; c++) {
+            if (REPLACEMENTS[c] != null) {
+                UTF8_REPLACEMENTS[c] = REPLACEMENTS[c].getBytes(StandardCharsets.US_ASCII);
+            }
+        }
+    }
+
+    private XmlEscaper() {
+    }
+
+    /**
+     * Appends the text to the target, escaping XML special characters.
+     *
+     * @param text The text to escape
+     * @param out  The target to append to
+     * @throws IOException if the target fails to append
+     */
+    static void escape(CharSequence text, Appendable out) throws IOException {
+        int next = indexOfSpecial(text, 0, text.length());
+        if (next < 0) {
+            out.append(text);
+            return;
+        }
+        int start = 0;
+        do {
+            out.append(text, start, next).append(REPLACEMENTS[text.charAt(next)]);
+            start = next + 1;
+            next = indexOfSpecial(text, start, text.length());
+        } while (next >= 0);
+        out.append(text, start, text.length());
+    }
+
+    /**
+     * Finds the next character that needs escaping.
+     *
+     * @param text The text to scan
+     * @param from The index to start at (inclusive)
+     * @param to   The index to stop at (exclusive)
+     * @return The index of the next special character, or -1 if there is none
+     */
+    static int indexOfSpecial(CharSequence text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c <= MAX_SPECIAL && REPLACEMENTS[c] != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the encoded replacement of a character.
+     *
+     * @param c The character
+     * @return The UTF-8 encoded replacement, must not be modified, or null if the
+     *         character needs no escaping
+     */
+    static byte[] utf8Replacement(char c) {
+        return c <= MAX_SPECIAL ? UTF8_REPLACEMENTS[c] : null;
+    }
+}
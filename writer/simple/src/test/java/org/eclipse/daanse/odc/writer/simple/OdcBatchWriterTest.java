@@ -0,0 +1,83 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OdcBatchWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static OdcFile cube(int i) {
+        Connection connection = Connection.of(ConnectionType.OLEDB,
+                "Provider=MSOLAP;Data Source=server;Initial Catalog=Catalog" + i);
+        return OdcFile.of("Cube " + i, OfficeDataConnection.of(connection));
+    }
+
+    @Test
+    void testWritesAllFiles() throws InterruptedException, IOException {
+        OdcWriter writer = new OdcWriter();
+        OdcBatchWriter batchWriter = new OdcBatchWriter(writer, 8);
+
+        Stream<OdcFile> files = IntStream.range(0, 500).mapToObj(OdcBatchWriterTest::cube);
+        OdcBatchWriter.Result result = batchWriter.writeAll(files,
+                odcFile -> tempDir.resolve("nested").resolve(odcFile.title().get() + ".odc"));
+
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(result.files()).isEqualTo(500L);
+
+        long bytes = 0;
+        for (int i = 0; i < 500; i++) {
+            Path path = tempDir.resolve("nested").resolve("Cube " + i + ".odc");
+            assertThat(Files.readString(path, StandardCharsets.UTF_8)).isEqualTo(writer.write(cube(i)));
+            bytes += Files.size(path);
+        }
+        assertThat(result.bytes()).isEqualTo(bytes);
+    }
+
+    @Test
+    void testCollectsFailuresPerFile() throws InterruptedException {
+        OdcBatchWriter batchWriter = new OdcBatchWriter();
+
+        OdcBatchWriter.Result result = batchWriter.writeAll(List.of(cube(1), cube(2), cube(3)), odcFile -> {
+            if (odcFile.title().get().endsWith("2")) {
+                throw new IllegalStateException("no target");
+            }
+            return tempDir.resolve(odcFile.title().get() + ".odc");
+        });
+
+        assertThat(result.isSuccessful()).isFalse();
+        assertThat(result.files()).isEqualTo(2L);
+        assertThat(result.failures()).hasSize(1);
+        assertThat(result.failures().get(0).odcFile()).isEqualTo(cube(2));
+        assertThat(result.failures().get(0).target()).isNull();
+        assertThat(result.failures().get(0).error()).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+import org.junit.jupiter.api.Test;
+
+class OdcRenderCacheTest {
+
+    private final OdcWriter writer = new OdcWriter();
+
+    private static OdcFile cube(int i) {
+        Connection connection = Connection.of(ConnectionType.OLEDB,
+                "Provider=MSOLAP;Data Source=server;Initial Catalog=Catalog" + i);
+        return OdcFile.of("Cube " + i, OfficeDataConnection.of(connection));
+    }
+
+    @Test
+    void testEqualModelsAreServedFromCache() {
+        OdcRenderCache cache = new OdcRenderCache(writer, 10, 1 << 20);
+
+        RenderedOdc first = cache.render(cube(1));
+        RenderedOdc second = cache.render(cube(1));
+        RenderedOdc other = cache.render(cube(2));
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(writer.write(cube(1)));
+        assertThat(first.etag()).startsWith("\"").endsWith("\"")
+                .isEqualTo(RenderedOdc.of(writer.writeBytes(cube(1))).etag());
+        assertThat(other.etag()).isNotEqualTo(first.etag());
+
+        OdcRenderCache.Stats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(1L);
+        assertThat(stats.misses()).isEqualTo(2L);
+        assertThat(stats.entries()).isEqualTo(2);
+        assertThat(stats.bytes()).isEqualTo((long) first.length() + other.length());
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        OdcRenderCache cache = new OdcRenderCache(writer, 2, 1 << 20);
+
+        cache.render(cube(1));
+        cache.render(cube(2));
+        cache.render(cube(1));
+        cache.render(cube(3));
+
+        assertThat(cache.getIfPresent(cube(1))).isPresent();
+        assertThat(cache.getIfPresent(cube(2))).isEmpty();
+        assertThat(cache.getIfPresent(cube(3))).isPresent();
+        assertThat(cache.stats().evictions()).isEqualTo(1L);
+
+        int length = cache.render(cube(1)).length();
+        OdcRenderCache bySize = new OdcRenderCache(writer, 100, length + length / 2);
+        bySize.render(cube(1));
+        bySize.render(cube(2));
+        assertThat(bySize.stats().entries()).isEqualTo(1);
+        assertThat(bySize.getIfPresent(cube(2))).isPresent();
+    }
+
+    @Test
+    void testBypassesNonLiteralText() {
+        OdcRenderCache cache = new OdcRenderCache(writer, 10, 1 << 20);
+        PowerQueryConnection connection = new PowerQueryConnection(ConnectionType.OLEDB, "Provider=Microsoft.Mashup",
+                Optional.empty(), Optional.of(TextSource.of(() -> "SELECT 1")), Optional.empty(), Optional.empty(),
+                Optional.empty());
+        OdcFile odcFile = new OdcFile(Optional.empty(), DocumentProperties.empty(), OfficeDataConnection.of(connection),
+                Optional.empty(), Optional.empty(), Optional.empty());
+
+        cache.render(odcFile);
+        cache.render(odcFile);
+
+        assertThat(cache.stats().bypassed()).isEqualTo(2L);
+        assertThat(cache.stats().entries()).isEqualTo(0);
+    }
+}
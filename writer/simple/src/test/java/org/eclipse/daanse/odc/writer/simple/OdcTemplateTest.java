@@ -0,0 +1,86 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+import org.junit.jupiter.api.Test;
+
+class OdcTemplateTest {
+
+    private final OdcWriter writer = new OdcWriter();
+
+    private static OdcFile cube(String title, String server, String catalog, String cube, String culture) {
+        Connection connection = new Connection(ConnectionType.OLEDB,
+                "Provider=MSOLAP;Data Source=" + server + ";Initial Catalog=" + catalog,
+                Optional.of(CommandType.Cube), List.of(), Optional.of(TextSource.of(cube)), Optional.empty(),
+                Optional.of(CredentialsMethod.Integrated), Optional.empty(), Optional.of(culture));
+        return new OdcFile(Optional.of(title), DocumentProperties.of(title), OfficeDataConnection.of(connection),
+                Optional.of(catalog), Optional.empty(), Optional.empty());
+    }
+
+    @Test
+    void testRendersLikeTheWriter() throws IOException {
+        OdcTemplate template = OdcTemplate
+                .compile(cube("${cube} on ${server}", "${server}", "${catalog}", "${cube}", "${culture}"));
+
+        assertThat(template.placeholders()).containsExactly("cube", "server", "catalog", "culture");
+
+        Map<String, String> values = Map.of("server", "olap\u00fc01", "catalog", "Sales & <Marketing>", "cube",
+                "\"Q1\"", "culture", "de-DE");
+        byte[] expected = writer.writeBytes(cube("\"Q1\" on olap\u00fc01", "olap\u00fc01", "Sales & <Marketing>",
+                "\"Q1\"", "de-DE"));
+
+        assertThat(template.render(values)).isEqualTo(expected);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        template.render(values, out);
+        assertThat(out.toByteArray()).isEqualTo(expected);
+        assertThat(new String(expected, StandardCharsets.UTF_8))
+                .contains("<meta name=Catalog content=\"Sales &amp; &lt;Marketing&gt;\">");
+    }
+
+    @Test
+    void testRejectsMissingValue() {
+        OdcTemplate template = OdcTemplate.compile(cube("Cube", "${server}", "Adventure Works", "Sales", "en-US"));
+
+        assertThatThrownBy(() -> template.render(Map.of("catalog", "x"))).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("server");
+    }
+
+    @Test
+    void testTemplateWithoutPlaceholders() {
+        OdcFile odcFile = cube("Cube", "olap01", "Adventure Works", "Sales ${not a placeholder", "en-US");
+
+        OdcTemplate template = OdcTemplate.compile(odcFile);
+
+        assertThat(template.placeholders()).isEmpty();
+        assertThat(template.render(Map.of())).isEqualTo(writer.writeBytes(odcFile));
+    }
+}
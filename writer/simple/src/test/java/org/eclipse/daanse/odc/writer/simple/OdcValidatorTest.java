@@ -0,0 +1,97 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.Parameter;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+import org.eclipse.daanse.odc.writer.simple.OdcValidator.Constraint;
+import org.eclipse.daanse.odc.writer.simple.OdcValidator.Violation;
+import org.junit.jupiter.api.Test;
+
+class OdcValidatorTest {
+
+    private static Connection sql(List<Parameter> parameters, String commandText) {
+        return new Connection(ConnectionType.ODBC, "DRIVER=SQL Server;SERVER=mysqlserver", Optional.of(CommandType.SQL),
+                parameters, Optional.of(TextSource.of(commandText)), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty());
+    }
+
+    private static OdcFile odcFile(Connection... connections) {
+        return OdcFile.of("Northwind", new OfficeDataConnection(Optional.empty(), List.of(connections),
+                Optional.empty(), Optional.empty()));
+    }
+
+    @Test
+    void testValidModelHasNoViolations() {
+        Connection connection = sql(List.of(Parameter.of("Country", 12)), "SELECT * FROM Customers WHERE Country = ?");
+        OdcFile odcFile = odcFile(connection, Connection.of(ConnectionType.OLEDB, "Provider=MSOLAP"));
+
+        assertThat(OdcValidator.validate(odcFile)).isEmpty();
+    }
+
+    @Test
+    void testReportsSchemaViolations() {
+        Connection connection = sql(List.of(Parameter.of("Country"), Parameter.of("City", 12)), "SELECT\u0000");
+        OdcFile odcFile = odcFile(connection, Connection.of(ConnectionType.OLEDB, null), connection);
+
+        assertThat(OdcValidator.validate(odcFile)).containsExactly(
+                new Violation("officeDataConnection.connections", Constraint.MAX_OCCURS,
+                        "3 connections, at most 2 are allowed"),
+                new Violation("officeDataConnection.connections[0].parameters[0].dataType", Constraint.REQUIRED,
+                        "required value is missing"),
+                new Violation("officeDataConnection.connections[0].commandText", Constraint.INVALID_CHARACTER,
+                        "contains a character not allowed in XML"),
+                new Violation("officeDataConnection.connections[1].connectionString", Constraint.REQUIRED,
+                        "required value is missing"),
+                new Violation("officeDataConnection.connections[2].parameters[0].dataType", Constraint.REQUIRED,
+                        "required value is missing"),
+                new Violation("officeDataConnection.connections[2].commandText", Constraint.INVALID_CHARACTER,
+                        "contains a character not allowed in XML"));
+    }
+
+    @Test
+    void testReportsViolationsInDocumentOrder() {
+        OdcFile odcFile = new OdcFile(Optional.of("North\u0001wind"), DocumentProperties.of("Northwind"),
+                OfficeDataConnection.of(Connection.of(ConnectionType.OLEDB, "Provider=MSOLAP")),
+                Optional.of("Cube\u0001"), Optional.empty(), Optional.empty());
+
+        assertThat(OdcValidator.validate(odcFile).stream().map(Violation::path).toList()).containsExactly("catalog",
+                "title");
+    }
+
+    @Test
+    void testValidatingWriterFailsBeforeWriting() {
+        OdcFile invalid = odcFile(Connection.of(ConnectionType.OLEDB, null));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> new OdcWriter(true).write(invalid, out)).isInstanceOf(OdcValidationException.class)
+                .hasMessageContaining("officeDataConnection.connections[0].connectionString");
+        assertThat(out.size()).isZero();
+        assertThat(new OdcWriter(true).write(odcFile(Connection.of(ConnectionType.OLEDB, "Provider=MSOLAP"))))
+                .isEqualTo(new OdcWriter().write(odcFile(Connection.of(ConnectionType.OLEDB, "Provider=MSOLAP"))));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.daanse.odc.simple.model.CommandType;
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.DocumentProperties;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
+import org.eclipse.daanse.odc.writer.simple.OdcMetricsListener.Counter;
+import org.eclipse.daanse.odc.writer.simple.OdcMetricsListener.Histogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class OdcWriterInstrumentationTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static final class RecordingListener implements OdcMetricsListener {
+
+        private final Map<Counter, Long> counters = new EnumMap<>(Counter.class);
+
+        private final Map<Histogram, Long> histograms = new EnumMap<>(Histogram.class);
+
+        @Override
+        public synchronized void increment(Counter counter, long delta) {
+            counters.merge(counter, delta, Long::sum);
+        }
+
+        @Override
+        public synchronized void record(Histogram histogram, long value) {
+            histograms.put(histogram, value);
+        }
+    }
+
+    private static OdcFile salesAndMarketing() {
+        Connection connection = new Connection(ConnectionType.ODBC, "DRIVER=SQL Server;SERVER=mysqlserver",
+                Optional.of(CommandType.SQL), List.of(),
+                Optional.of(TextSource.of("SELECT * FROM Sales WHERE Region <> 'Nörd'")), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty());
+        return new OdcFile(Optional.of("Sales & Marketing"), DocumentProperties.of("Sales"),
+                OfficeDataConnection.of(connection), Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    @Test
+    void testListenerReceivesCountersAndTimings() {
+        RecordingListener listener = new RecordingListener();
+        OdcWriter writer = new OdcWriter(false, listener);
+
+        byte[] bytes = writer.writeBytes(salesAndMarketing());
+
+        assertThat(bytes).isEqualTo(new OdcWriter().writeBytes(salesAndMarketing()));
+        assertThat(listener.counters.get(Counter.FILES)).isEqualTo(1L);
+        assertThat(listener.counters.get(Counter.BYTES)).isEqualTo((long) bytes.length);
+        assertThat(listener.counters.get(Counter.ESCAPED_CHARACTERS)).isEqualTo(5L);
+        assertThat(listener.counters.containsKey(Counter.FAILURES)).isFalse();
+        assertThat(listener.histograms.get(Histogram.FILE_BYTES)).isEqualTo((long) bytes.length);
+        assertThat(listener.histograms.get(Histogram.WRITE_NANOS))
+                .isGreaterThanOrEqualTo(listener.histograms.get(Histogram.CONNECTIONS_NANOS));
+    }
+
+    @Test
+    void testFailureIsCounted() {
+        RecordingListener listener = new RecordingListener();
+        OdcWriter writer = new OdcWriter(false, listener);
+        OdcFile odcFile = OdcFile.of("Broken", OfficeDataConnection.of(new Connection(ConnectionType.OLEDB,
+                "Provider=MSOLAP", Optional.empty(), List.of(), Optional.of(TextSource.ofReader(() -> {
+                    throw new IOException("gone");
+                })), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty())));
+
+        try {
+            writer.writeBytes(odcFile);
+        } catch (RuntimeException expected) {
+            // counted below
+        }
+
+        assertThat(listener.counters.get(Counter.FAILURES)).isEqualTo(1L);
+        assertThat(listener.counters.containsKey(Counter.FILES)).isFalse();
+    }
+
+    @Test
+    void testFlightRecorderEvent() throws IOException {
+        Path file = tempDir.resolve("write.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(OdcWriteEvent.NAME);
+            recording.start();
+            new OdcWriter().write(salesAndMarketing());
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(OdcWriteEvent.NAME)).toList();
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("title")).isEqualTo("Sales & Marketing");
+        assertThat(event.getLong("bytes")).isEqualTo((long) new OdcWriter().writeBytes(salesAndMarketing()).length);
+        assertThat(event.getLong("escapedCharacters")).isEqualTo(5L);
+    }
+}
@@ -14,10 +14,26 @@
 package org.eclipse.daanse.odc.writer.simple;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.eclipse.daanse.odc.simple.compact.CompactOdcFile;
 import org.eclipse.daanse.odc.simple.model.CommandType;
 import org.eclipse.daanse.odc.simple.model.Connection;
 import org.eclipse.daanse.odc.simple.model.ConnectionType;
@@ -25,19 +41,34 @@ import org.eclipse.daanse.odc.simple.model.CredentialsMethod;
 import org.eclipse.daanse.odc.simple.model.DocumentProperties;
 import org.eclipse.daanse.odc.simple.model.OdcFile;
 import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.eclipse.daanse.odc.simple.model.Parameter;
 import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class OdcWriterTest {
 
     private final OdcWriter writer = new OdcWriter();
 
+    @TempDir
+    Path tempDir;
+
+    private static OdcFile powerQueryFile(TextSource mashupData) {
+        PowerQueryConnection pqConnection = PowerQueryConnection.of(ConnectionType.OLEDB,
+                "Provider=Microsoft.Mashup.OleDb.1;Data Source=$Workbook$;Location=DimCustomer");
+        OfficeDataConnection odc = new OfficeDataConnection(Optional.empty(), List.of(), Optional.of(pqConnection),
+                Optional.of(mashupData));
+        return OdcFile.of("Query - DimCustomer", odc);
+    }
+
     @Test
     void testSqlSourceExample() {
         Connection connection = new Connection(ConnectionType.ODBC,
                 "DRIVER=SQL Server;SERVER=mysqlserver;APP=2007 Microsoft Office system;Trusted_Connection=Yes",
-                Optional.empty(), List.of(), Optional.of("SELECT * FROM Northwind.dbo.Invoices Invoices"),
-                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+                Optional.empty(), List.of(),
+                Optional.of(TextSource.of("SELECT * FROM Northwind.dbo.Invoices Invoices")), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty());
 
         OfficeDataConnection odc = OfficeDataConnection.of(connection);
         OdcFile odcFile = OdcFile.of("Northwind", odc);
@@ -56,8 +87,9 @@ class OdcWriterTest {
     void testOlapExample() {
         Connection connection = new Connection(ConnectionType.OLEDB,
                 "Provider=MSOLAP.3;Integrated Security=SSPI;Persist Security Info=True;Data Source=myolapserver;Initial Catalog=Adventure Works DW",
-                Optional.of(CommandType.Cube), List.of(), Optional.of("Adventure Works"), Optional.of("Application1"),
-                Optional.of(CredentialsMethod.Stored), Optional.of(true), Optional.empty());
+                Optional.of(CommandType.Cube), List.of(), Optional.of(TextSource.of("Adventure Works")),
+                Optional.of("Application1"), Optional.of(CredentialsMethod.Stored), Optional.of(true),
+                Optional.empty());
 
         DocumentProperties props = new DocumentProperties(Optional.empty(), Optional.of("Adventure Works"),
                 Optional.empty());
@@ -83,8 +115,8 @@ class OdcWriterTest {
     void testPowerQueryExample() {
         PowerQueryConnection pqConnection = new PowerQueryConnection(ConnectionType.OLEDB,
                 "Provider=Microsoft.Mashup.OleDb.1;Data Source=$Workbook$;Location=DimCustomer",
-                Optional.of(CommandType.SQL), Optional.of("SELECT * FROM [DimCustomer]"), Optional.empty(),
-                Optional.empty(), Optional.empty());
+                Optional.of(CommandType.SQL), Optional.of(TextSource.of("SELECT * FROM [DimCustomer]")),
+                Optional.empty(), Optional.empty(), Optional.empty());
 
         DocumentProperties props = new DocumentProperties(
                 Optional.of("Connection to the 'DimCustomer' query in the workbook."),
@@ -108,8 +140,8 @@ class OdcWriterTest {
     @Test
     void testXmlEscaping() {
         Connection connection = new Connection(ConnectionType.ODBC, "DRIVER=SQL Server;SERVER=test<>&\"'server",
-                Optional.empty(), List.of(), Optional.of("SELECT * FROM table WHERE col = '<test>'"), Optional.empty(),
-                Optional.empty(), Optional.empty(), Optional.empty());
+                Optional.empty(), List.of(), Optional.of(TextSource.of("SELECT * FROM table WHERE col = '<test>'")),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
 
         OfficeDataConnection odc = OfficeDataConnection.of(connection);
         OdcFile odcFile = OdcFile.of("Test & <Escaping>", odc);
@@ -121,4 +153,234 @@ class OdcWriterTest {
             .contains("Test &amp; &lt;Escaping&gt;")
             .contains("SELECT * FROM table WHERE col = &apos;&lt;test&gt;&apos;");
     }
+
+    @Test
+    void testStreamingTargetsMatchStringOutput() throws IOException {
+        Connection connection = new Connection(ConnectionType.OLEDB, "Provider=MSOLAP;Data Source=s\u00fcrver\u20ac",
+                Optional.of(CommandType.Cube), List.of(), Optional.of(TextSource.of("Adventure Works")),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.of("de-DE"));
+        OdcFile odcFile = OdcFile.of("Gr\u00fc\u00dfe & <Cube>", OfficeDataConnection.of(connection));
+
+        String expected = writer.write(odcFile);
+
+        StringWriter appendable = new StringWriter();
+        writer.write(odcFile, appendable);
+        assertThat(appendable.toString()).isEqualTo(expected);
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        writer.write(odcFile, stream);
+        assertThat(stream.toByteArray()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8));
+
+        ByteArrayOutputStream channelTarget = new ByteArrayOutputStream();
+        writer.write(odcFile, Channels.newChannel(channelTarget));
+        assertThat(channelTarget.toByteArray()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(writer.writeBytes(odcFile)).isEqualTo(expected.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The example documents of the specification, as written by
+     * {@link SpecDocumentExampleTest}.
+     */
+    private static List<OdcFile> specExamples() {
+        Connection northwind = new Connection(ConnectionType.ODBC,
+                "DRIVER=SQL Server;SERVER=mysqlserver;APP=2007 Microsoft Office system;Trusted_Connection=Yes",
+                Optional.empty(), List.of(),
+                Optional.of(TextSource.of("SELECT * FROM Northwind.dbo.Invoices Invoices")), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty());
+        Connection adventureWorks = new Connection(ConnectionType.OLEDB,
+                "Provider=MSOLAP.3;Integrated Security=SSPI;Persist Security Info=True;Data Source=myolapserver;"
+                        + "Initial Catalog=Adventure Works DW",
+                Optional.of(CommandType.Cube), List.of(), Optional.of(TextSource.of("Adventure Works")),
+                Optional.of("Application1"), Optional.of(CredentialsMethod.Stored), Optional.of(true),
+                Optional.empty());
+        Connection backwardCompat = new Connection(ConnectionType.OLEDB,
+                "Provider=SQLOLEDB;Data Source=mysqlserver;Initial Catalog=mysqldatabase;",
+                Optional.of(CommandType.Table), List.of(),
+                Optional.of(TextSource.of("\"mysqldatabase\".\"dbo\".\"DimCustomer\"")), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty());
+        PowerQueryConnection pqConnection = new PowerQueryConnection(ConnectionType.OLEDB,
+                "Provider=Microsoft.Mashup.OleDb.1;Data Source=$Workbook$;Location=DimCustomer",
+                Optional.of(CommandType.SQL), Optional.of(TextSource.of("SELECT * FROM [DimCustomer]")),
+                Optional.empty(), Optional.empty(), Optional.empty());
+        String mashupData = "&lt;?xml version=&quot;1.0&quot; encoding=&quot;utf-16&quot;?&gt;"
+                + "&lt;Mashup xmlns=&quot;http://schemas.microsoft.com/DataMashup&quot;&gt;"
+                + "&lt;Client&gt;excel&lt;/Client&gt;" + "&lt;Version&gt;2.32.0.0&lt;/Version&gt;"
+                + "&lt;Query Name=&quot;DimCustomer&quot;&gt;"
+                + "&lt;Formula&gt;let Source = Sql.Databases(&quot;mysqlserver&quot;) in Source&lt;/Formula&gt;"
+                + "&lt;/Query&gt;" + "&lt;/Mashup&gt;";
+        DocumentProperties queryProps = new DocumentProperties(
+                Optional.of("Connection to the 'DimCustomer' query in the workbook."),
+                Optional.of("Query - DimCustomer"), Optional.empty());
+
+        return List.of(
+                new OdcFile(Optional.of("Northwind"), new DocumentProperties(Optional.empty(),
+                        Optional.of("Northwind"), Optional.empty()), OfficeDataConnection.of(northwind),
+                        Optional.empty(), Optional.empty(), Optional.empty()),
+                new OdcFile(Optional.of("Adventure Works"), new DocumentProperties(Optional.empty(),
+                        Optional.of("Adventure Works"), Optional.empty()), OfficeDataConnection.of(adventureWorks),
+                        Optional.of("Adventure Works DW"), Optional.empty(), Optional.of("Adventure Works")),
+                new OdcFile(Optional.of("Query - DimCustomer"), queryProps, new OfficeDataConnection(Optional.empty(),
+                        List.of(), Optional.of(pqConnection), Optional.of(TextSource.of(mashupData))),
+                        Optional.empty(), Optional.empty(), Optional.empty()),
+                new OdcFile(Optional.of("Query - DimCustomer"), queryProps, new OfficeDataConnection(Optional.empty(),
+                        List.of(backwardCompat), Optional.of(pqConnection),
+                        Optional.of(TextSource.of("&lt;Mashup&gt;...&lt;/Mashup&gt;"))), Optional.empty(),
+                        Optional.empty(), Optional.empty()));
+    }
+
+    @Test
+    void testCompactFileMatchesRecordOutput() throws IOException {
+        Connection connection = new Connection(ConnectionType.OLEDB, "Provider=MSOLAP;Data Source=s\u00fcrver",
+                Optional.of(CommandType.Cube), List.of(Parameter.of("year", 3), Parameter.of("a<b")),
+                Optional.of(TextSource.of("Adventure Works")), Optional.of("app"),
+                Optional.of(CredentialsMethod.Stored), Optional.of(false), Optional.of("de-DE"));
+        PowerQueryConnection pqConnection = new PowerQueryConnection(ConnectionType.OLEDB,
+                "Provider=Microsoft.Mashup.OleDb.1;Location=Cube", Optional.of(CommandType.SQL), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.of(true));
+        OfficeDataConnection odc = new OfficeDataConnection(Optional.of("cube.odc"), List.of(connection),
+                Optional.of(pqConnection), Optional.of(TextSource.of("<Mashup/>")));
+        List<OdcFile> files = new ArrayList<>(List.of(
+                new OdcFile(Optional.of("Gr\u00fc\u00dfe & <Cube>"), new DocumentProperties(Optional.of("All"),
+                        Optional.empty(), Optional.of("cube")), odc, Optional.of("DW"), Optional.empty(),
+                        Optional.of("Fact")),
+                powerQueryFile(TextSource.of("<Mashup/>")),
+                new OdcFile(Optional.empty(), DocumentProperties.empty(), new OfficeDataConnection(Optional.empty(),
+                        List.of(), Optional.empty(), Optional.empty()), Optional.empty(), Optional.of("dbo"),
+                        Optional.empty())));
+        for (CommandType type : CommandType.values()) {
+            files.add(OdcFile.of(type.name(), OfficeDataConnection.of(new Connection(ConnectionType.DATAFEED, "cs",
+                    Optional.of(type), List.of(), Optional.empty(), Optional.empty(),
+                    Optional.of(CredentialsMethod.None), Optional.of(true), Optional.empty()))));
+        }
+        files.addAll(specExamples());
+
+        for (OdcFile odcFile : files) {
+            CompactOdcFile compact = CompactOdcFile.of(odcFile);
+            String expected = writer.write(odcFile);
+
+            assertThat(writer.write(compact)).isEqualTo(expected);
+            assertThat(writer.writeBytes(compact)).isEqualTo(expected.getBytes(StandardCharsets.UTF_8));
+            assertThat(writer.writeBytes(compact.toOdcFile())).isEqualTo(expected.getBytes(StandardCharsets.UTF_8));
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            writer.write(compact, stream);
+            assertThat(stream.toByteArray()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8));
+            ByteArrayOutputStream channelTarget = new ByteArrayOutputStream();
+            writer.write(compact, Channels.newChannel(channelTarget));
+            assertThat(channelTarget.toByteArray()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8));
+        }
+
+        OdcWriter validating = new OdcWriter(true);
+        assertThatThrownBy(() -> validating.write(CompactOdcFile.of(files.get(0))))
+            .isInstanceOf(OdcValidationException.class);
+        assertThat(validating.write(CompactOdcFile.of(files.get(1)))).isEqualTo(writer.write(files.get(1)));
+    }
+
+    @Test
+    void testSurrogatePairSplitAcrossReadsIsEncoded() throws IOException {
+        String mashup = "x".repeat(8191) + "\uD83D\uDE00 <&> \uD800 \uDC00 \u00fc\u20ac";
+        OdcFile odcFile = powerQueryFile(TextSource.ofReader(() -> new StringReader(mashup)));
+
+        byte[] expected = writer.write(odcFile).getBytes(StandardCharsets.UTF_8);
+
+        assertThat(new String(expected, StandardCharsets.UTF_8))
+                .contains("\uD83D\uDE00 &lt;&amp;&gt; ? ? \u00fc\u20ac");
+        assertThat(writer.writeBytes(odcFile)).isEqualTo(expected);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        writer.write(odcFile, stream);
+        assertThat(stream.toByteArray()).isEqualTo(expected);
+    }
+
+    @Test
+    void testStreamedTextSources() throws IOException {
+        String mashup = "<Mashup>let Source = \"a\" & 'b' in Source</Mashup>\u20ac".repeat(2000);
+        Path mashupFile = tempDir.resolve("mashup.xml");
+        Files.writeString(mashupFile, mashup, StandardCharsets.UTF_8);
+
+        String expected = writer.write(powerQueryFile(TextSource.of(mashup)));
+
+        assertThat(expected).contains("&lt;Mashup&gt;let Source = &quot;a&quot; &amp; &apos;b&apos; in Source");
+        assertThat(writer.write(powerQueryFile(TextSource.of(() -> new StringBuilder(mashup))))).isEqualTo(expected);
+        assertThat(writer.write(powerQueryFile(TextSource.ofReader(() -> new StringReader(mashup)))))
+                .isEqualTo(expected);
+        assertThat(writer.write(powerQueryFile(TextSource.of(mashupFile)))).isEqualTo(expected);
+    }
+
+    @Test
+    void testEscapedFileIsTransferredToChannel() throws IOException {
+        String escaped = "&lt;Mashup&gt;\u00e4&lt;/Mashup&gt;".repeat(5000);
+        Path mashupFile = tempDir.resolve("mashup.escaped");
+        Files.writeString(mashupFile, escaped, StandardCharsets.UTF_8);
+        OdcFile odcFile = powerQueryFile(TextSource.ofEscaped(mashupFile));
+
+        String expected = writer.write(odcFile);
+        assertThat(expected).contains("<odc:PowerQueryMashupData>" + escaped + "</odc:PowerQueryMashupData>");
+
+        Path target = tempDir.resolve("target.odc");
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            writer.write(odcFile, channel);
+        }
+        assertThat(Files.readString(target, StandardCharsets.UTF_8)).isEqualTo(expected);
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        writer.write(odcFile, stream);
+        assertThat(stream.toByteArray()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] remaining(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    @Test
+    void testExactLengthAndByteBufferTargets() throws IOException {
+        Path mashupFile = tempDir.resolve("mashup.escaped");
+        Files.writeString(mashupFile, "&lt;Mashup&gt;\u00e4\uD83D\uDE00".repeat(3000), StandardCharsets.UTF_8);
+        String mashup = "x".repeat(8191) + "\uD83D\uDE00 <&> \uD800 \uDC00 \u00fc\u20ac";
+        Connection connection = Connection.of(ConnectionType.OLEDB, "Provider=MSOLAP;Data Source=s\u00fcrver\u20ac");
+        List<OdcFile> files = List.of(OdcFile.of("Gr\u00fc\u00dfe & <Cube>", OfficeDataConnection.of(connection)),
+                powerQueryFile(TextSource.ofReader(() -> new StringReader(mashup))),
+                powerQueryFile(TextSource.ofEscaped(mashupFile)));
+
+        for (OdcFile odcFile : files) {
+            byte[] expected = writer.writeBytes(odcFile);
+            assertThat(writer.utf8Length(odcFile)).isEqualTo((long) expected.length);
+
+            assertThat(remaining(writer.writeByteBuffer(odcFile, false))).isEqualTo(expected);
+            assertThat(remaining(writer.writeByteBuffer(odcFile, true))).isEqualTo(expected);
+
+            ByteBuffer slice = ByteBuffer.allocate(expected.length + 20).position(7).slice();
+            slice.position(3);
+            writer.write(odcFile, slice);
+            assertThat(slice.position()).isEqualTo(expected.length + 3);
+            assertThat(remaining(slice.flip().position(3))).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testByteBufferReadsSuppliedValuesTwice() {
+        AtomicInteger reads = new AtomicInteger();
+        OdcFile odcFile = powerQueryFile(TextSource.of(() -> {
+            reads.incrementAndGet();
+            return "<Mashup/>";
+        }));
+
+        ByteBuffer buffer = writer.writeByteBuffer(odcFile, false);
+
+        assertThat(reads.get()).isEqualTo(2);
+        assertThat(remaining(buffer)).isEqualTo(writer.writeBytes(odcFile));
+    }
+
+    @Test
+    void testByteBufferOverflowKeepsPosition() {
+        OdcFile odcFile = powerQueryFile(TextSource.of("x".repeat(20000)));
+        int length = (int) writer.utf8Length(odcFile);
+
+        for (ByteBuffer buffer : List.of(ByteBuffer.allocate(length - 1), ByteBuffer.allocateDirect(length - 1))) {
+            buffer.position(0);
+            assertThatThrownBy(() -> writer.write(odcFile, buffer)).isInstanceOf(BufferOverflowException.class);
+            assertThat(buffer.position()).isZero();
+        }
+    }
 }
@@ -0,0 +1,115 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import org.eclipse.daanse.odc.simple.model.Connection;
+import org.eclipse.daanse.odc.simple.model.ConnectionType;
+import org.eclipse.daanse.odc.simple.model.OdcFile;
+import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OdcZipWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final OdcWriter writer = new OdcWriter();
+
+    private static OdcFile cube(int i) {
+        Connection connection = Connection.of(ConnectionType.OLEDB,
+                "Provider=MSOLAP;Data Source=server;Initial Catalog=Catalog" + i);
+        return OdcFile.of("Cube " + i, OfficeDataConnection.of(connection));
+    }
+
+    private static String entryName(OdcFile odcFile) {
+        return "catalogs/" + odcFile.title().orElseThrow() + ".odc";
+    }
+
+    @Test
+    void testEntriesAreWrittenInSourceOrder() throws Exception {
+        List<OdcFile> odcFiles = IntStream.range(0, 200).mapToObj(OdcZipWriterTest::cube).toList();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long entries = new OdcZipWriter(writer, 4, 6).write(odcFiles, OdcZipWriterTest::entryName, out);
+
+        assertThat(entries).isEqualTo(200L);
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                OdcFile odcFile = odcFiles.get(names.size());
+                names.add(entry.getName());
+                assertThat(entry.getName()).isEqualTo(entryName(odcFile));
+                assertThat(in.readAllBytes()).isEqualTo(writer.writeBytes(odcFile));
+            }
+        }
+        assertThat(names).hasSize(200);
+        assertThat(out.size()).isLessThan(odcFiles.stream().mapToInt(f -> writer.writeBytes(f).length).sum());
+    }
+
+    @Test
+    void testDuplicateEntryNameFails() {
+        List<OdcFile> odcFiles = List.of(cube(1), cube(2), cube(1));
+
+        assertThatThrownBy(() -> new OdcZipWriter().write(odcFiles, OdcZipWriterTest::entryName,
+                OutputStream.nullOutputStream())).isInstanceOf(ZipException.class)
+                .hasMessageContaining("catalogs/Cube 1.odc");
+    }
+
+    @Test
+    void testTooLongEntryNameFails() {
+        List<OdcFile> odcFiles = List.of(cube(1), cube(2));
+
+        assertThatThrownBy(() -> new OdcZipWriter().write(odcFiles,
+                odcFile -> odcFile.title().orElseThrow().equals("Cube 2") ? "\u20ac".repeat(0x5556) : "cube.odc",
+                OutputStream.nullOutputStream())).isInstanceOf(ZipException.class)
+                .hasMessageContaining("entry name too long");
+    }
+
+    @Test
+    void testManyEntriesUseZip64() throws IOException, InterruptedException {
+        Path archive = tempDir.resolve("catalog.zip");
+        try (OutputStream out = Files.newOutputStream(archive)) {
+            new OdcZipWriter().write(IntStream.range(0, 70_000).mapToObj(OdcZipWriterTest::cube),
+                    OdcZipWriterTest::entryName, out);
+        }
+
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            assertThat(zip.size()).isEqualTo(70_000);
+            ZipEntry last = zip.getEntry(entryName(cube(69_999)));
+            try (InputStream in = zip.getInputStream(last)) {
+                assertThat(in.readAllBytes()).isEqualTo(writer.writeBytes(cube(69_999)));
+            }
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.eclipse.daanse.odc.simple.model.DocumentProperties;
 import org.eclipse.daanse.odc.simple.model.OdcFile;
 import org.eclipse.daanse.odc.simple.model.OfficeDataConnection;
 import org.eclipse.daanse.odc.simple.model.PowerQueryConnection;
+import org.eclipse.daanse.odc.simple.model.TextSource;
 import org.junit.jupiter.api.Test;
 
 class SpecDocumentExampleTest {
@@ -36,8 +37,9 @@ class SpecDocumentExampleTest {
     void testNorthwindSqlExample() {
         Connection connection = new Connection(ConnectionType.ODBC,
                 "DRIVER=SQL Server;SERVER=mysqlserver;APP=2007 Microsoft Office system;Trusted_Connection=Yes",
-                Optional.empty(), List.of(), Optional.of("SELECT * FROM Northwind.dbo.Invoices Invoices"),
-                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+                Optional.empty(), List.of(),
+                Optional.of(TextSource.of("SELECT * FROM Northwind.dbo.Invoices Invoices")), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty());
 
         DocumentProperties props = new DocumentProperties(Optional.empty(), Optional.of("Northwind"), Optional.empty());
 
@@ -60,8 +62,9 @@ class SpecDocumentExampleTest {
     void testAdventureWorksOlapExample() {
         Connection connection = new Connection(ConnectionType.OLEDB,
                 "Provider=MSOLAP.3;Integrated Security=SSPI;Persist Security Info=True;Data Source=myolapserver;Initial Catalog=Adventure Works DW",
-                Optional.of(CommandType.Cube), List.of(), Optional.of("Adventure Works"), Optional.of("Application1"),
-                Optional.of(CredentialsMethod.Stored), Optional.of(true), Optional.empty());
+                Optional.of(CommandType.Cube), List.of(), Optional.of(TextSource.of("Adventure Works")),
+                Optional.of("Application1"), Optional.of(CredentialsMethod.Stored), Optional.of(true),
+                Optional.empty());
 
         DocumentProperties props = new DocumentProperties(Optional.empty(), Optional.of("Adventure Works"),
                 Optional.empty());
@@ -87,8 +90,8 @@ class SpecDocumentExampleTest {
     void testPowerQueryGetTransformExample() {
         PowerQueryConnection pqConnection = new PowerQueryConnection(ConnectionType.OLEDB,
                 "Provider=Microsoft.Mashup.OleDb.1;Data Source=$Workbook$;Location=DimCustomer",
-                Optional.of(CommandType.SQL), Optional.of("SELECT * FROM [DimCustomer]"), Optional.empty(),
-                Optional.empty(), Optional.empty());
+                Optional.of(CommandType.SQL), Optional.of(TextSource.of("SELECT * FROM [DimCustomer]")),
+                Optional.empty(), Optional.empty(), Optional.empty());
 
         String mashupData = "&lt;?xml version=&quot;1.0&quot; encoding=&quot;utf-16&quot;?&gt;"
                 + "&lt;Mashup xmlns=&quot;http://schemas.microsoft.com/DataMashup&quot;&gt;"
@@ -102,7 +105,7 @@ class SpecDocumentExampleTest {
                 Optional.of("Query - DimCustomer"), Optional.empty());
 
         OfficeDataConnection odc = new OfficeDataConnection(Optional.empty(), List.of(), Optional.of(pqConnection),
-                Optional.of(mashupData));
+                Optional.of(TextSource.of(mashupData)));
 
         OdcFile odcFile = new OdcFile(Optional.of("Query - DimCustomer"), props, odc, Optional.empty(),
                 Optional.empty(), Optional.empty());
@@ -124,20 +127,21 @@ class SpecDocumentExampleTest {
     void testDualModeExample() {
         Connection backwardCompatConnection = new Connection(ConnectionType.OLEDB,
                 "Provider=SQLOLEDB;Data Source=mysqlserver;Initial Catalog=mysqldatabase;",
-                Optional.of(CommandType.Table), List.of(), Optional.of("\"mysqldatabase\".\"dbo\".\"DimCustomer\""),
-                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+                Optional.of(CommandType.Table), List.of(),
+                Optional.of(TextSource.of("\"mysqldatabase\".\"dbo\".\"DimCustomer\"")), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty());
 
         PowerQueryConnection pqConnection = new PowerQueryConnection(ConnectionType.OLEDB,
                 "Provider=Microsoft.Mashup.OleDb.1;Data Source=$Workbook$;Location=DimCustomer",
-                Optional.of(CommandType.SQL), Optional.of("SELECT * FROM [DimCustomer]"), Optional.empty(),
-                Optional.empty(), Optional.empty());
+                Optional.of(CommandType.SQL), Optional.of(TextSource.of("SELECT * FROM [DimCustomer]")),
+                Optional.empty(), Optional.empty(), Optional.empty());
 
         DocumentProperties props = new DocumentProperties(
                 Optional.of("Connection to the 'DimCustomer' query in the workbook."),
                 Optional.of("Query - DimCustomer"), Optional.empty());
 
         OfficeDataConnection odc = new OfficeDataConnection(Optional.empty(), List.of(backwardCompatConnection),
-                Optional.of(pqConnection), Optional.of("&lt;Mashup&gt;...&lt;/Mashup&gt;"));
+                Optional.of(pqConnection), Optional.of(TextSource.of("&lt;Mashup&gt;...&lt;/Mashup&gt;")));
 
         OdcFile odcFile = new OdcFile(Optional.of("Query - DimCustomer"), props, odc, Optional.empty(),
                 Optional.empty(), Optional.empty());
@@ -0,0 +1,53 @@
+/*
+* Copyright (c) 2025 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*   Stefan Bischof (bipolis.org) - initial
+*/
+package org.eclipse.daanse.odc.writer.simple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+class XmlEscaperTest {
+
+    private static String escape(String text) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        XmlEscaper.escape(text, sb);
+        return sb.toString();
+    }
+
+    @Test
+    void testTextWithoutSpecialCharactersIsUnchanged() throws IOException {
+        assertThat(escape("")).isEmpty();
+        assertThat(escape("Provider=MSOLAP;Data Source=server;ä€")).isEqualTo(
+                "Provider=MSOLAP;Data Source=server;ä€");
+    }
+
+    @Test
+    void testAllSpecialCharactersAreEscaped() throws IOException {
+        assertThat(escape("&<>\"'")).isEqualTo("&amp;&lt;&gt;&quot;&apos;");
+        assertThat(escape("a&b")).isEqualTo("a&amp;b");
+        assertThat(escape("<start and end>")).isEqualTo("&lt;start and end&gt;");
+        assertThat(escape("&amp;")).isEqualTo("&amp;amp;");
+    }
+
+    @Test
+    void testMatchesChainedReplace() throws IOException {
+        String text = "SELECT [Measures].[Sales] ON 0 FROM [Cube] WHERE a < 'b' && c > \"d\" ".repeat(100);
+        String expected = text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;")
+                .replace("'", "&apos;");
+
+        assertThat(escape(text)).isEqualTo(expected);
+    }
+}